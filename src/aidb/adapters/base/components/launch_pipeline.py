@@ -0,0 +1,327 @@
+"""Dependency-aware launch pipeline for debug adapters.
+
+Launching a debug session is a chain of stages (compile, start a language server,
+resolve a classpath, ...) of which only some depend on each other. This module runs
+the stages as a task graph: every stage starts as soon as the stages it depends on
+have finished, so independent stages overlap. Each stage is timed and the critical
+path, the chain of stages that determined the total launch time, is reported.
+"""
+
+import asyncio
+import contextvars
+import time
+from collections.abc import Awaitable, Callable
+from dataclasses import dataclass, field
+from typing import TYPE_CHECKING, Any, Optional
+
+from aidb.patterns.base import Obj
+from aidb_common.metrics import (
+    LAUNCH_PHASE_DURATION,
+    OUTCOME_ERROR,
+    MetricsRegistry,
+    get_metrics_registry,
+)
+
+if TYPE_CHECKING:
+    from aidb.interfaces.context import IContext
+
+# Stage outcomes
+STAGE_PENDING = "pending"
+STAGE_OK = "ok"
+STAGE_FAILED = "failed"
+STAGE_SKIPPED = "skipped"
+STAGE_CANCELLED = "cancelled"
+
+_current_stage: contextvars.ContextVar[Optional["LaunchStage"]] = (
+    contextvars.ContextVar("launch_stage", default=None)
+)
+
+
+@dataclass
+class LaunchStage:
+    """One stage of a launch pipeline and its timing.
+
+    ``start_ms`` and ``end_ms`` are offsets from the start of the pipeline run.
+    """
+
+    name: str
+    fn: Callable[[], Awaitable[Any]]
+    after: list[str] = field(default_factory=list)
+    start_ms: float = 0.0
+    end_ms: float = 0.0
+    outcome: str = STAGE_PENDING
+
+    @property
+    def duration_ms(self) -> float:
+        """Get the time the stage itself ran, excluding waits for dependencies."""
+        return max(self.end_ms - self.start_ms, 0.0)
+
+
+class LaunchPipeline(Obj):
+    """Run launch stages concurrently in dependency order.
+
+    Stages are added with the stages they depend on, which must have been added
+    before. A stage may also wait for another stage's result while running via
+    :meth:`wait`, for dependencies that are only known at run time; such waits
+    count as dependencies when computing the critical path.
+
+    The first failing stage cancels every stage still running and its exception
+    is re-raised by :meth:`run`; stages depending on it are skipped.
+
+    Parameters
+    ----------
+    language : str
+        Language label recorded with the stage durations
+    ctx : IContext, optional
+        Context for logging
+    metrics : MetricsRegistry, optional
+        Registry stage durations are recorded in (``LAUNCH_PHASE_DURATION``
+        with the stage name as ``phase``); defaults to the process-wide one
+    """
+
+    def __init__(
+        self,
+        language: str,
+        ctx: Optional["IContext"] = None,
+        metrics: MetricsRegistry | None = None,
+    ) -> None:
+        super().__init__(ctx)
+        self.language = language
+        self._metrics = metrics or get_metrics_registry()
+        self._stages: dict[str, LaunchStage] = {}
+        self._tasks: dict[str, asyncio.Task] = {}
+        self._t0 = 0.0
+        self.total_ms = 0.0
+        self.failed_stage: str | None = None
+
+    def add_stage(
+        self,
+        name: str,
+        fn: Callable[[], Awaitable[Any]],
+        *,
+        after: tuple[str, ...] = (),
+    ) -> None:
+        """Add a stage.
+
+        Parameters
+        ----------
+        name : str
+            Unique stage name, also used as the ``phase`` metric label
+        fn : Callable[[], Awaitable[Any]]
+            Coroutine function running the stage; its return value is the
+            stage result
+        after : tuple[str, ...]
+            Stages that must finish before this one starts
+
+        Raises
+        ------
+        ValueError
+            If the name is taken or a dependency has not been added yet
+        """
+        if name in self._stages:
+            msg = f"Duplicate launch stage: {name}"
+            raise ValueError(msg)
+        unknown = [dep for dep in after if dep not in self._stages]
+        if unknown:
+            msg = f"Launch stage {name} depends on unknown stages: {unknown}"
+            raise ValueError(msg)
+        self._stages[name] = LaunchStage(name=name, fn=fn, after=list(after))
+
+    def __contains__(self, name: str) -> bool:
+        return name in self._stages
+
+    def result(self, name: str) -> Any:
+        """Get the result of a finished stage.
+
+        Parameters
+        ----------
+        name : str
+            Stage name
+
+        Returns
+        -------
+        Any
+            Value returned by the stage
+        """
+        return self._tasks[name].result()
+
+    async def wait(self, name: str) -> Any:
+        """Wait for another stage from inside a running stage.
+
+        Parameters
+        ----------
+        name : str
+            Stage to wait for
+
+        Returns
+        -------
+        Any
+            Value returned by that stage
+        """
+        stage = _current_stage.get()
+        if stage is not None and name not in stage.after:
+            stage.after.append(name)
+        return await asyncio.shield(self._tasks[name])
+
+    async def _run_stage(self, stage: LaunchStage) -> Any:
+        _current_stage.set(stage)
+        if stage.after:
+            try:
+                await asyncio.gather(*(self._tasks[dep] for dep in stage.after))
+            except asyncio.CancelledError:
+                stage.outcome = STAGE_CANCELLED
+                raise
+            except Exception:
+                stage.outcome = STAGE_SKIPPED
+                return None
+
+        stage.start_ms = self._elapsed_ms()
+        try:
+            result = await stage.fn()
+        except asyncio.CancelledError:
+            stage.outcome = STAGE_CANCELLED
+            raise
+        except Exception:
+            stage.outcome = STAGE_FAILED
+            if self.failed_stage is None:
+                self.failed_stage = stage.name
+            raise
+        finally:
+            stage.end_ms = self._elapsed_ms()
+        stage.outcome = STAGE_OK
+        return result
+
+    def _elapsed_ms(self) -> float:
+        return (time.perf_counter() - self._t0) * 1000
+
+    async def run(self) -> dict[str, Any]:
+        """Run all stages.
+
+        Returns
+        -------
+        dict[str, Any]
+            Result of every stage by name
+
+        Raises
+        ------
+        Exception
+            The exception of the first stage that failed
+        """
+        self._t0 = time.perf_counter()
+        for stage in self._stages.values():
+            self._tasks[stage.name] = asyncio.create_task(
+                self._run_stage(stage),
+                name=f"launch-{self.language}-{stage.name}",
+            )
+
+        tasks = list(self._tasks.values())
+        try:
+            done, pending = await asyncio.wait(
+                tasks,
+                return_when=asyncio.FIRST_EXCEPTION,
+            )
+            failed = next(
+                (t for t in done if not t.cancelled() and t.exception() is not None),
+                None,
+            )
+            if failed is not None:
+                for task in pending:
+                    task.cancel()
+                await asyncio.gather(*pending, return_exceptions=True)
+                if self.failed_stage:
+                    failed = self._tasks[self.failed_stage]
+                raise failed.exception()  # type: ignore[misc]
+        except asyncio.CancelledError:
+            for task in tasks:
+                task.cancel()
+            await asyncio.gather(*tasks, return_exceptions=True)
+            raise
+        finally:
+            self.total_ms = self._elapsed_ms()
+            self._record()
+
+        return {name: task.result() for name, task in self._tasks.items()}
+
+    def critical_path(self) -> list[str]:
+        """Get the chain of stages that determined the launch time.
+
+        Starting from the stage that finished last, repeatedly follows the
+        dependency that finished last.
+
+        Returns
+        -------
+        list[str]
+            Stage names in execution order
+        """
+        ran = {
+            name: stage
+            for name, stage in self._stages.items()
+            if stage.outcome in (STAGE_OK, STAGE_FAILED)
+        }
+        if not ran:
+            return []
+
+        path: list[str] = []
+        stage: LaunchStage | None = max(ran.values(), key=lambda s: s.end_ms)
+        while stage is not None:
+            path.append(stage.name)
+            deps = [ran[dep] for dep in stage.after if dep in ran]
+            stage = max(deps, key=lambda s: s.end_ms) if deps else None
+        path.reverse()
+        return path
+
+    def summary(self) -> dict[str, Any]:
+        """Summarize the last run.
+
+        Returns
+        -------
+        dict[str, Any]
+            Total time, critical path and per-stage timing in milliseconds
+        """
+        return {
+            "total_ms": round(self.total_ms, 1),
+            "critical_path": self.critical_path(),
+            "stages": {
+                name: {
+                    "after": list(stage.after),
+                    "start_ms": round(stage.start_ms, 1),
+                    "end_ms": round(stage.end_ms, 1),
+                    "duration_ms": round(stage.duration_ms, 1),
+                    "outcome": stage.outcome,
+                }
+                for name, stage in self._stages.items()
+            },
+        }
+
+    def _record(self) -> None:
+        for stage in self._stages.values():
+            if stage.outcome == STAGE_OK:
+                self._metrics.observe(
+                    LAUNCH_PHASE_DURATION,
+                    stage.duration_ms,
+                    language=self.language,
+                    phase=stage.name,
+                )
+            elif stage.outcome == STAGE_FAILED:
+                self._metrics.observe(
+                    LAUNCH_PHASE_DURATION,
+                    stage.duration_ms,
+                    language=self.language,
+                    phase=stage.name,
+                    outcome=OUTCOME_ERROR,
+                )
+
+        path = " -> ".join(
+            f"{name} ({self._stages[name].duration_ms:.0f}ms)"
+            for name in self.critical_path()
+        )
+        self.ctx.info(
+            f"{self.language} launch pipeline took {self.total_ms:.0f}ms; "
+            f"critical path: {path or 'none'}",
+        )
+        for stage in self._stages.values():
+            self.ctx.debug(
+                f"Launch stage {stage.name}: {stage.outcome}, "
+                f"{stage.start_ms:.0f}-{stage.end_ms:.0f}ms "
+                f"(after {', '.join(stage.after) or 'none'})",
+            )
@@ -12,6 +12,8 @@ from aidb.common.errors import AidbError, CompilationError
 from aidb.patterns.base import Obj
 from aidb_common.config import config
 
+from .tooling.class_cache import get_java_class_cache
+
 
 class JavaCompilationManager(Obj):
     """Manages Java source compilation for debugging.
@@ -96,6 +98,20 @@ class JavaCompilationManager(Obj):
                 },
             )
 
+        # Reuse output of an identical earlier compile (any session/agent).
+        # The key ignores the output directory, so probe before creating one.
+        class_cache = get_java_class_cache()
+        cache_key = None
+        if class_cache:
+            cache_key = class_cache.make_key(
+                target,
+                self._build_javac_command(target, ""),
+            )
+            cached = class_cache.lookup(cache_key, Path(target).stem)
+            if cached:
+                self.ctx.info(f"Using cached compiled class: {cached}")
+                return cached
+
         # Prepare compilation environment
         temp_dir, class_file = self._prepare_compilation_environment(target)
 
@@ -105,26 +121,15 @@ class JavaCompilationManager(Obj):
         self.ctx.info(f"Compiling Java source: {' '.join(cmd)}")
 
         try:
-            # Use asyncio to run subprocess
-            proc = await asyncio.create_subprocess_exec(
-                *cmd,
-                stdout=subprocess.PIPE,
-                stderr=subprocess.PIPE,
-            )
-            stdout_bytes, stderr_bytes = await asyncio.wait_for(
-                proc.communicate(),
-                timeout=JAVA_COMPILATION_TIMEOUT_S,
-            )
-            stdout = stdout_bytes.decode("utf-8") if stdout_bytes else ""
-            stderr = stderr_bytes.decode("utf-8") if stderr_bytes else ""
+            returncode, stdout, stderr = await self._run_javac(cmd)
 
-            if proc.returncode != 0:
+            if returncode != 0:
                 msg = f"Java compilation failed:\n{stderr}"
                 raise CompilationError(
                     msg,
                     details={
                         "command": " ".join(cmd),
-                        "returncode": proc.returncode,
+                        "returncode": returncode,
                         "stderr": stderr,
                         "stdout": stdout,
                         "target": target,
@@ -143,6 +148,8 @@ class JavaCompilationManager(Obj):
                 )
 
             self.ctx.info(f"Successfully compiled to: {class_file}")
+            if class_cache and cache_key:
+                class_cache.store(cache_key, temp_dir)
             return class_file
 
         except subprocess.TimeoutExpired as e:
@@ -164,6 +171,51 @@ class JavaCompilationManager(Obj):
                 },
             ) from e
 
+    async def _run_javac(self, cmd: list[str]) -> tuple[int, str, str]:
+        """Run a javac command, preferring the warm compile server.
+
+        The compile server is only bypassed when it is disabled or unavailable;
+        compile errors it reports are returned like javac's own output.
+
+        Parameters
+        ----------
+        cmd : list[str]
+            Full javac command (executable, options, then the source file)
+
+        Returns
+        -------
+        tuple[int, str, str]
+            (returncode, stdout, stderr) as javac would produce them
+        """
+        if config.is_java_compile_server_enabled():
+            from .tooling.compile_server import get_java_compile_server
+
+            try:
+                server = await get_java_compile_server(cmd[0], self.ctx)
+                success, diagnostics = await server.compile(
+                    options=cmd[1:-1],
+                    sources=[cmd[-1]],
+                    timeout=JAVA_COMPILATION_TIMEOUT_S,
+                )
+                return (0 if success else 1), "", diagnostics
+            except AidbError as e:
+                self.ctx.warning(
+                    f"Java compile server unavailable, falling back to javac: {e}",
+                )
+
+        proc = await asyncio.create_subprocess_exec(
+            *cmd,
+            stdout=subprocess.PIPE,
+            stderr=subprocess.PIPE,
+        )
+        stdout_bytes, stderr_bytes = await asyncio.wait_for(
+            proc.communicate(),
+            timeout=JAVA_COMPILATION_TIMEOUT_S,
+        )
+        stdout = stdout_bytes.decode("utf-8") if stdout_bytes else ""
+        stderr = stderr_bytes.decode("utf-8") if stderr_bytes else ""
+        return proc.returncode or 0, stdout, stderr
+
     def _check_if_compilation_needed(
         self,
         target: str,
@@ -244,11 +296,10 @@ class JavaCompilationManager(Obj):
             temp_dir,  # -d for output dir
         ]
 
-        # Add classpath if specified
-        if self.adapter.classpath:
-            separator = ";" if sys.platform == "win32" else ":"
-            cp = separator.join(self.adapter.classpath)
-            cmd.extend(["-cp", cp])
+        # Always pass the classpath, empty if none is configured, so a compile
+        # never picks up the environment's or the compile server's classpath
+        separator = ";" if sys.platform == "win32" else ":"
+        cmd.extend(["-classpath", separator.join(self.adapter.classpath or [])])
 
         cmd.append(target)
         return cmd
@@ -207,55 +207,9 @@ class JDTLSSetupHooks:
             self.adapter.ctx.debug("LSP-DAP bridge already initialized")
             return
 
-        # Get necessary paths using binary locator
-        from aidb.adapters.utils.binary_locator import AdapterBinaryLocator
-
         from ..lsp.lsp_bridge import JavaLSPDAPBridge
 
-        locator = AdapterBinaryLocator(ctx=self.adapter.ctx)
-        java_debug_jar = locator.locate(Language.JAVA.value)
-
-        # Locate JDT LS - check in priority order:
-        # 1. AIDB_JDT_LS_HOME environment variable (explicit override)
-        # 2. Bundled with adapter (in ~/.aidb/adapters/java/jdtls/)
-        # 3. System installation (/opt/jdtls)
-
-        jdtls_home_env = reader.read_str("AIDB_JDT_LS_HOME", default=None)
-
-        if jdtls_home_env:
-            # User specified explicit path via environment variable
-            jdtls_path = Path(jdtls_home_env)
-            self.adapter.ctx.debug(
-                f"Using JDT LS from AIDB_JDT_LS_HOME: {jdtls_path}",
-            )
-        else:
-            # Check bundled location (in adapter directory)
-            try:
-                adapter_dir = locator.get_adapter_dir(Language.JAVA.value)
-                bundled_jdtls = adapter_dir / "jdtls"
-
-                if bundled_jdtls.exists():
-                    jdtls_path = bundled_jdtls
-                    self.adapter.ctx.debug(f"Using bundled JDT LS: {jdtls_path}")
-                else:
-                    # Fallback to system location
-                    jdtls_path = Path("/opt/jdtls")
-                    self.adapter.ctx.debug(f"Using system JDT LS: {jdtls_path}")
-            except Exception as e:
-                # Adapter directory not found, try system location
-                self.adapter.ctx.debug(f"Could not locate adapter directory: {e}")
-                jdtls_path = Path("/opt/jdtls")
-                self.adapter.ctx.debug(f"Using system JDT LS: {jdtls_path}")
-
-        if not jdtls_path.exists():
-            msg = (
-                "JDT LS not found. Java debugging requires JDT LS. "
-                "Set AIDB_JDT_LS_HOME or install adapter with bundled JDT LS."
-            )
-            self.adapter.ctx.error(msg)
-            raise AidbError(msg)
-
-        java_cmd = await self.adapter._get_java_executable()
+        jdtls_path, java_debug_jar, java_cmd = await self.locate_bridge_binaries()
 
         # Try test pool first (test isolation, doesn't need workspace_folders)
         use_test_pool = reader.read_bool("AIDB_TEST_JAVA_LSP_POOL", default=False)
@@ -304,6 +258,67 @@ class JDTLSSetupHooks:
             "LSP-DAP bridge initialized successfully",
         )
 
+    async def locate_bridge_binaries(self) -> tuple[Path, Path, str]:
+        """Locate JDT LS, the java-debug plugin and the java executable.
+
+        Returns
+        -------
+        tuple[Path, Path, str]
+            JDT LS installation, java-debug plugin jar and java command
+
+        Raises
+        ------
+        AidbError
+            If JDT LS cannot be found
+        """
+        from aidb.adapters.utils.binary_locator import AdapterBinaryLocator
+
+        locator = AdapterBinaryLocator(ctx=self.adapter.ctx)
+        java_debug_jar = locator.locate(Language.JAVA.value)
+
+        # Locate JDT LS - check in priority order:
+        # 1. AIDB_JDT_LS_HOME environment variable (explicit override)
+        # 2. Bundled with adapter (in ~/.aidb/adapters/java/jdtls/)
+        # 3. System installation (/opt/jdtls)
+
+        jdtls_home_env = reader.read_str("AIDB_JDT_LS_HOME", default=None)
+
+        if jdtls_home_env:
+            # User specified explicit path via environment variable
+            jdtls_path = Path(jdtls_home_env)
+            self.adapter.ctx.debug(
+                f"Using JDT LS from AIDB_JDT_LS_HOME: {jdtls_path}",
+            )
+        else:
+            # Check bundled location (in adapter directory)
+            try:
+                adapter_dir = locator.get_adapter_dir(Language.JAVA.value)
+                bundled_jdtls = adapter_dir / "jdtls"
+
+                if bundled_jdtls.exists():
+                    jdtls_path = bundled_jdtls
+                    self.adapter.ctx.debug(f"Using bundled JDT LS: {jdtls_path}")
+                else:
+                    # Fallback to system location
+                    jdtls_path = Path("/opt/jdtls")
+                    self.adapter.ctx.debug(f"Using system JDT LS: {jdtls_path}")
+            except Exception as e:
+                # Adapter directory not found, try system location
+                self.adapter.ctx.debug(f"Could not locate adapter directory: {e}")
+                jdtls_path = Path("/opt/jdtls")
+                self.adapter.ctx.debug(f"Using system JDT LS: {jdtls_path}")
+
+        if not jdtls_path.exists():
+            msg = (
+                "JDT LS not found. Java debugging requires JDT LS. "
+                "Set AIDB_JDT_LS_HOME or install adapter with bundled JDT LS."
+            )
+            self.adapter.ctx.error(msg)
+            raise AidbError(msg)
+
+        java_cmd = await self.adapter._get_java_executable()
+        return jdtls_path, java_debug_jar, java_cmd
+
 
 class JDTLSReadinessHooks:
     """Post-launch hooks for JDT LS readiness and configuration."""
@@ -527,7 +542,12 @@ class JDTLSCleanupHooks:
                     )
                     await asyncio.sleep(delay)
 
-                # Just clear our reference, don't stop the pooled bridge
+                # Release this session's java-debug state and just clear our
+                # reference; other sessions may still use the pooled bridge
+                with contextlib.suppress(Exception):
+                    self.adapter._lsp_dap_bridge.end_debug_session(
+                        self.adapter.session.id,
+                    )
                 self.adapter._lsp_dap_bridge = None
                 return
 
@@ -1,5 +1,7 @@
 """Java debug adapter - refactored to use component architecture."""
 
+import asyncio
+from dataclasses import dataclass
 from pathlib import Path
 from typing import TYPE_CHECKING, Any, Optional
 
@@ -10,25 +12,51 @@ from aidb.common.constants import (
     SECONDS_PER_DAY,
 )
 from aidb.common.errors import AidbError
+from aidb_common.config import config as env_config
+from aidb_common.constants import Language
 from aidb_common.env import reader
+from aidb_common.metrics import (
+    PHASE_BRIDGE_START,
+    PHASE_BRIDGE_WARMUP,
+    PHASE_CLASSPATH,
+    PHASE_COMPILE,
+    PHASE_PORT_ACQUIRE,
+    PHASE_PRE_LAUNCH,
+    PHASE_RESOLVE_PROJECT,
+    PHASE_START_DEBUG_SESSION,
+)
 
 from ...base import DebugAdapter
+from ...base.components.launch_pipeline import LaunchPipeline
 from ...base.hooks import LifecycleHook
 from ...base.target_resolver import TargetResolver
 from .compilation import JavaCompilationManager
 from .config import JavaAdapterConfig
 from .target_resolver import JavaTargetResolver
 from .tooling import JavaBuildSystemDetector, JavaClasspathBuilder, JavaToolchain
+from .tooling.classpath_cache import get_java_classpath_cache
 
 if TYPE_CHECKING:
-    import asyncio
-
     from aidb.adapters.base.source_path_resolver import SourcePathResolver
     from aidb.interfaces import ISession
 
     from .lsp import JavaLSPDAPBridge
 
 
+@dataclass
+class _JavaLaunchProject:
+    """Project layout of a launch target, resolved once per launch."""
+
+    target: str
+    build_root: Path | None
+    project_root: Path | None
+    workspace_folders: list[tuple[Path, str]] | None
+    main_class: str
+    project_name: str
+    target_dir: Path | None
+    is_maven_gradle_project: bool
+
+
 class JavaAdapter(DebugAdapter):
     """Java debug adapter using component architecture.
 
@@ -110,11 +138,13 @@ class JavaAdapter(DebugAdapter):
         self._jdtls_workspace_dir: Path | None = None
         self._lsp_dap_bridge: JavaLSPDAPBridge | None = None
         self._compilation_manager: JavaCompilationManager | None = None
-        self._dummy_process: asyncio.subprocess.Process | None = None  # type: ignore[name-defined]
+        self._dummy_process: asyncio.subprocess.Process | None = None
         self._target_cwd: str | None = None
         self._launch_config: dict[str, Any] | None = (
             None  # Stored during launch for DAP request
         )
+        # Stage timing and critical path of the last launch
+        self.launch_timeline: dict[str, Any] | None = None
 
         # Initialize tooling utilities
         self._toolchain = JavaToolchain(jdk_home=self.config.jdk_home)
@@ -300,136 +330,170 @@ class JavaAdapter(DebugAdapter):
         """
         # Store original source file before compilation
         original_source = target if target.endswith(".java") else None
+        source_target = target
+        language = Language.JAVA.value
 
-        # Compile if needed
-        target = await self._compile_if_needed(target)
+        # Stages run as soon as their dependencies finish: javac, port
+        # acquisition and a speculative JDT LS start overlap, and a standalone
+        # classpath is built while the bridge starts.
+        pipeline = LaunchPipeline(language=language, ctx=self.ctx)
 
-        # Store target for later use
-        self.target = target
+        async def compile_target() -> str:
+            compiled = await self._compile_if_needed(source_target)
+            # Store target for later use
+            self.target = compiled
+            return compiled
 
-        context = await self.execute_hook(
-            LifecycleHook.PRE_LAUNCH,
-            data={
-                "target": target,
-                "port": port,
-                "args": args,
-                "env": env or {},
-                "cwd": cwd,
-            },
-        )
+        async def run_pre_launch_hooks() -> None:
+            context = await self.execute_hook(
+                LifecycleHook.PRE_LAUNCH,
+                data={
+                    "target": pipeline.result(PHASE_COMPILE),
+                    "port": port,
+                    "args": args,
+                    "env": env or {},
+                    "cwd": cwd,
+                },
+            )
 
-        if context.cancelled:
-            msg = context.result if context.result else "Launch cancelled by hook"
-            raise RuntimeError(msg)
+            if context.cancelled:
+                msg = context.result if context.result else "Launch cancelled by hook"
+                raise RuntimeError(msg)
 
-        # Bridge MUST exist - if not, initialization failed
-        if not self._lsp_dap_bridge:
-            msg = "JDT LS bridge not available - cannot debug Java programs"
-            raise AidbError(msg)
+            # Bridge MUST exist - if not, initialization failed
+            if not self._lsp_dap_bridge:
+                msg = "JDT LS bridge not available - cannot debug Java programs"
+                raise AidbError(msg)
 
-        if port is None:
-            port = await self._port_manager.acquire(
+        async def acquire_port() -> int:
+            return await self._port_manager.acquire(
                 fallback_start=DEFAULT_JAVA_DEBUG_PORT,
             )
 
-        # Start LSP-DAP bridge and get the actual DAP port
-        try:
-            # Detect build root (Maven/Gradle) using fallback chain
-            build_root = JavaBuildSystemDetector.detect_build_root_with_fallbacks(
+        async def warm_up_bridge() -> None:
+            await self._warm_up_pooled_bridge(source_target, workspace_root, cwd)
+
+        async def resolve_project() -> _JavaLaunchProject:
+            return self._resolve_launch_project(
+                pipeline.result(PHASE_COMPILE),
                 workspace_root,
                 cwd,
-                target,
             )
 
-            # Build workspace folders for JDT LS initialization
-            workspace_folders: list[tuple[Path, str]] | None = None
-            if build_root:
-                project_name = self.config.projectName or build_root.name
-                workspace_folders = [(build_root, project_name)]
-                self.ctx.info(
-                    f"Detected Maven/Gradle project: {build_root} "
-                    f"(name: {project_name})",
-                )
-
-            # Determine project root using toolchain helper
-            # This must be done before the if-block so it's available for both
-            # pooled and non-pooled paths
-            project_root = JavaToolchain.resolve_project_root(target, cwd)
-            if project_root:
-                self.ctx.debug(f"Resolved project root: {project_root}")
-
-            # Start or reuse the LSP-DAP bridge
+        async def start_bridge() -> None:
+            project = pipeline.result(PHASE_RESOLVE_PROJECT)
             await self._ensure_bridge_started(
-                build_root=build_root,
-                project_root=project_root,
+                build_root=project.build_root,
+                project_root=project.project_root,
                 workspace_root=workspace_root,
                 cwd=cwd,
-                workspace_folders=workspace_folders,
+                workspace_folders=project.workspace_folders,
             )
 
-            # Determine main class
-            main_class = self._get_main_class(target)
-
-            # Determine project name and detect if this is a Maven/Gradle project
-            # For Maven/Gradle projects, JDT LS uses artifactId from pom.xml,
-            # NOT the directory name. Use configured project name or default.
-            project_name = (
-                self.config.projectName or JavaAdapterConfig.DEFAULT_PROJECT_NAME
-            )
-
-            # Resolve target directory for Maven/Gradle detection
-            target_dir = JavaBuildSystemDetector.resolve_target_directory(
-                target,
-                build_root,
-                cwd,
-            )
-            is_maven_gradle_project = JavaBuildSystemDetector.is_maven_gradle_project(
-                target_dir,
-            )
-
-            # Resolve classpath based on project type
-            if is_maven_gradle_project:
-                classpath = await self._resolve_maven_gradle_classpath(
-                    main_class=main_class,
-                    project_name=project_name,
+        async def resolve_classpath() -> list[str]:
+            project = pipeline.result(PHASE_RESOLVE_PROJECT)
+            if project.is_maven_gradle_project:
+                # JDT LS resolves Maven/Gradle classpaths, so wait for the bridge
+                await pipeline.wait(PHASE_BRIDGE_START)
+                return await self._resolve_maven_gradle_classpath(
+                    main_class=project.main_class,
+                    project_name=project.project_name,
                     original_source=original_source,
-                    target_dir=target_dir,
+                    target_dir=project.target_dir,
+                    build_root=project.build_root,
                 )
-            else:
-                # Standalone .java file - use simple classpath (no JDT LS resolution)
-                self.ctx.debug("Standalone .java file - using simple classpath")
-                classpath = self._build_classpath(target)
+            # Standalone .java file - use simple classpath (no JDT LS resolution)
+            self.ctx.debug("Standalone .java file - using simple classpath")
+            return self._build_classpath(project.target)
+
+        async def start_debug_session() -> int:
+            project = pipeline.result(PHASE_RESOLVE_PROJECT)
+            bridge = self._lsp_dap_bridge
+            if bridge is None:
+                msg = "LSP-DAP bridge not initialized"
+                raise AidbError(msg)
 
             # Start debug session through JDT LS and get DAP port
             self.ctx.info("Starting debug session through JDT LS...")
-
-            dap_port = await self._lsp_dap_bridge.start_debug_session(
-                main_class=main_class,
-                classpath=classpath,
+            return await bridge.start_debug_session(
+                main_class=project.main_class,
+                classpath=pipeline.result(PHASE_CLASSPATH),
                 # Pass original .java file, not compiled .class
                 target=original_source,
-                project_name=project_name,
+                project_name=project.project_name,
                 vmargs=self.config.vmargs,
                 args=args or [],
                 # Skip reset/file opening for Maven/Gradle (already done above)
-                skip_file_opening=is_maven_gradle_project,
+                skip_file_opening=project.is_maven_gradle_project,
+                session_id=self.session.id,
             )
 
+        pipeline.add_stage(PHASE_COMPILE, compile_target)
+        if port is None:
+            pipeline.add_stage(PHASE_PORT_ACQUIRE, acquire_port)
+        pipeline.add_stage(PHASE_BRIDGE_WARMUP, warm_up_bridge)
+        pipeline.add_stage(
+            PHASE_PRE_LAUNCH,
+            run_pre_launch_hooks,
+            after=(PHASE_COMPILE,),
+        )
+        pipeline.add_stage(
+            PHASE_RESOLVE_PROJECT,
+            resolve_project,
+            after=(PHASE_COMPILE,),
+        )
+        pipeline.add_stage(
+            PHASE_BRIDGE_START,
+            start_bridge,
+            after=(PHASE_PRE_LAUNCH, PHASE_RESOLVE_PROJECT, PHASE_BRIDGE_WARMUP),
+        )
+        pipeline.add_stage(
+            PHASE_CLASSPATH,
+            resolve_classpath,
+            after=(PHASE_RESOLVE_PROJECT,),
+        )
+        pipeline.add_stage(
+            PHASE_START_DEBUG_SESSION,
+            start_debug_session,
+            after=(PHASE_BRIDGE_START, PHASE_CLASSPATH),
+        )
+
+        try:
+            await pipeline.run()
+        except Exception as e:
+            self.launch_timeline = pipeline.summary()
+            self._port_manager.release()
+            # Target and hook failures surface unchanged, as they did before the
+            # bridge was involved
+            if pipeline.failed_stage in (
+                PHASE_COMPILE,
+                PHASE_PORT_ACQUIRE,
+                PHASE_PRE_LAUNCH,
+            ):
+                raise
+            self.ctx.error(f"Failed to set up LSP-DAP bridge: {e}")
+            msg = f"Failed to set up LSP-DAP bridge: {e}"
+            raise AidbError(msg) from e
+        self.launch_timeline = pipeline.summary()
+
+        project = pipeline.result(PHASE_RESOLVE_PROJECT)
+        dap_port = pipeline.result(PHASE_START_DEBUG_SESSION)
+        try:
             # Update adapter port
             self.adapter_port = dap_port
 
             # Add test-classes to classpath for JUnit tests
             classpath = JavaClasspathBuilder.add_test_classes(
-                classpath,
-                project_root,
-                main_class,
+                pipeline.result(PHASE_CLASSPATH),
+                project.project_root,
+                project.main_class,
             )
 
             # Store launch configuration
             self._launch_config = self._build_launch_config(
-                main_class=main_class,
+                main_class=project.main_class,
                 classpath=classpath,
-                project_name=project_name,
+                project_name=project.project_name,
                 args=args,
                 env=env,
                 cwd=cwd,
@@ -441,7 +505,7 @@ class JavaAdapter(DebugAdapter):
 
             self.ctx.info(f"Java debug session ready on DAP port {dap_port}")
 
-            context = await self.execute_hook(
+            await self.execute_hook(
                 LifecycleHook.POST_LAUNCH,
                 data={"process": proc, "port": dap_port},
             )
@@ -453,6 +517,151 @@ class JavaAdapter(DebugAdapter):
             msg = f"Failed to set up LSP-DAP bridge: {e}"
             raise AidbError(msg) from e
 
+    def _resolve_launch_project(
+        self,
+        target: str,
+        workspace_root: str | None,
+        cwd: str | None,
+    ) -> "_JavaLaunchProject":
+        """Work out the project layout of a (compiled) launch target.
+
+        Parameters
+        ----------
+        target : str
+            Compiled target (.class file, JAR or class name)
+        workspace_root : str | None
+            Root directory from the launch configuration
+        cwd : str | None
+            Working directory for the target process
+
+        Returns
+        -------
+        _JavaLaunchProject
+            Build root, JDT LS workspace folders, main class and project type
+        """
+        # Detect build root (Maven/Gradle) using fallback chain
+        build_root = JavaBuildSystemDetector.detect_build_root_with_fallbacks(
+            workspace_root,
+            cwd,
+            target,
+        )
+
+        # Build workspace folders for JDT LS initialization
+        workspace_folders: list[tuple[Path, str]] | None = None
+        if build_root:
+            folder_name = self.config.projectName or build_root.name
+            workspace_folders = [(build_root, folder_name)]
+            self.ctx.info(
+                f"Detected Maven/Gradle project: {build_root} (name: {folder_name})",
+            )
+
+        # Determine project root using toolchain helper
+        project_root = JavaToolchain.resolve_project_root(target, cwd)
+        if project_root:
+            self.ctx.debug(f"Resolved project root: {project_root}")
+
+        # For Maven/Gradle projects, JDT LS uses artifactId from pom.xml,
+        # NOT the directory name. Use configured project name or default.
+        project_name = self.config.projectName or JavaAdapterConfig.DEFAULT_PROJECT_NAME
+
+        # Resolve target directory for Maven/Gradle detection
+        target_dir = JavaBuildSystemDetector.resolve_target_directory(
+            target,
+            build_root,
+            cwd,
+        )
+
+        return _JavaLaunchProject(
+            target=target,
+            build_root=build_root,
+            project_root=project_root,
+            workspace_folders=workspace_folders,
+            main_class=self._get_main_class(target),
+            project_name=project_name,
+            target_dir=target_dir,
+            is_maven_gradle_project=JavaBuildSystemDetector.is_maven_gradle_project(
+                target_dir,
+            ),
+        )
+
+    async def _warm_up_pooled_bridge(
+        self,
+        target: str,
+        workspace_root: str | None,
+        cwd: str | None,
+    ) -> Path | None:
+        """Start the pooled JDT LS for the project while the target compiles.
+
+        Speculative: the bridge stage later looks the project up in the same
+        pool and finds the JDT LS started (or starting) here. Only done when the
+        build root does not depend on the compiled target, because compiling
+        moves .java targets to a temporary directory. Failures are ignored; the
+        bridge stage starts JDT LS itself.
+
+        Parameters
+        ----------
+        target : str
+            Launch target before compilation
+        workspace_root : str | None
+            Root directory from the launch configuration
+        cwd : str | None
+            Working directory for the target process
+
+        Returns
+        -------
+        Path | None
+            Build root the JDT LS was started for, or None if skipped
+        """
+        if (
+            self._lsp_dap_bridge is not None
+            or not env_config.is_java_speculative_bridge_enabled()
+            or not env_config.is_java_lsp_pool_enabled()
+            or reader.read_bool("AIDB_TEST_JAVA_LSP_POOL", default=False)
+        ):
+            return None
+
+        build_root = JavaBuildSystemDetector.detect_build_root_with_fallbacks(
+            workspace_root,
+            cwd,
+            None if target.endswith(".java") else target,
+        )
+        if not build_root:
+            return None
+
+        from .hooks import JDTLSSetupHooks
+        from .jdtls_project_pool import get_jdtls_project_pool
+
+        project_name = self.config.projectName or build_root.name
+        self.ctx.debug(f"Speculatively starting pooled JDT LS for {build_root}")
+        try:
+            setup_hooks = JDTLSSetupHooks(self)
+            jdtls_path, java_debug_jar, java_cmd = (
+                await setup_hooks.locate_bridge_binaries()
+            )
+            pool = await get_jdtls_project_pool(ctx=self.ctx)
+            start = asyncio.ensure_future(
+                pool.get_or_start_bridge(
+                    project_path=build_root,
+                    project_name=project_name,
+                    jdtls_path=jdtls_path,
+                    java_debug_jar=java_debug_jar,
+                    java_command=java_cmd,
+                    workspace_folders=[(build_root, project_name)],
+                ),
+            )
+            # Let a started JDT LS finish booting into the pool even if the
+            # launch fails meanwhile; it serves the next launch
+            start.add_done_callback(
+                lambda t: t.cancelled() or t.exception(),
+            )
+            await asyncio.shield(start)
+        except asyncio.CancelledError:
+            raise
+        except Exception as e:
+            self.ctx.debug(f"Speculative JDT LS start failed: {e}")
+            return None
+        return build_root
+
     async def attach_remote(
         self,
         host: str,
@@ -512,6 +721,7 @@ class JavaAdapter(DebugAdapter):
             port=port,
             project_name=project_name,
             timeout=timeout,
+            session_id=self.session.id,
         )
 
         # Store attach config for DAP attach request (used by get_launch_configuration).
@@ -779,6 +989,7 @@ class JavaAdapter(DebugAdapter):
         project_name: str,
         original_source: str | None,
         target_dir: Path,
+        build_root: Path | None = None,
     ) -> list[str]:
         """Resolve classpath for Maven/Gradle projects via JDT LS.
 
@@ -786,7 +997,7 @@ class JavaAdapter(DebugAdapter):
         1. Reset LSP session state (skip for pooled)
         2. Open target file in JDT LS
         3. Wait for compilation diagnostics
-        4. Resolve classpath via JDT LS
+        4. Resolve classpath via JDT LS, unless cached for the current build files
         5. Flatten and augment classpath
 
         Parameters
@@ -799,6 +1010,9 @@ class JavaAdapter(DebugAdapter):
             Original .java source file path
         target_dir : Path
             Target directory for Maven/Gradle project
+        build_root : Path | None
+            Maven/Gradle build root whose build files key the classpath cache;
+            defaults to ``target_dir``
 
         Returns
         -------
@@ -848,21 +1062,37 @@ class JavaAdapter(DebugAdapter):
                 else:
                     self.ctx.debug("JDT LS compilation complete")
 
-        # Resolve classpath through JDT LS
-        try:
-            classpath = await self._lsp_dap_bridge.resolve_classpath(
-                main_class=main_class,
-                project_name=project_name,
+        # Reuse the classpath resolved for the same build files, if any
+        cache_root = build_root or target_dir
+        classpath_cache = get_java_classpath_cache()
+        cached = (
+            classpath_cache.lookup(cache_root, main_class, project_name)
+            if classpath_cache
+            else None
+        )
+        if cached:
+            self.ctx.debug(
+                f"Using cached classpath for {main_class} ({len(cached)} entries)",
             )
-            if not classpath:
-                msg = f"Failed to resolve classpath for {main_class}"
-                raise AidbError(msg)
-        except Exception as e:
-            msg = f"Failed to resolve classpath through JDT LS: {e}"
-            raise AidbError(msg) from e
-
-        # Flatten classpath (JDT LS returns nested lists)
-        classpath = JavaClasspathBuilder.flatten_classpath(classpath)
+            classpath = cached
+        else:
+            # Resolve classpath through JDT LS
+            try:
+                resolved = await self._lsp_dap_bridge.resolve_classpath(
+                    main_class=main_class,
+                    project_name=project_name,
+                )
+                if not resolved:
+                    msg = f"Failed to resolve classpath for {main_class}"
+                    raise AidbError(msg)
+            except Exception as e:
+                msg = f"Failed to resolve classpath through JDT LS: {e}"
+                raise AidbError(msg) from e
+
+            # Flatten classpath (JDT LS returns nested lists)
+            classpath = JavaClasspathBuilder.flatten_classpath(resolved)
+            if classpath_cache:
+                classpath_cache.store(cache_root, main_class, project_name, classpath)
 
         # Add target/classes for Maven/Gradle projects
         classpath = JavaClasspathBuilder.add_target_classes(classpath, target_dir)
@@ -4,14 +4,28 @@ This module manages a pool of Eclipse JDT LS instances keyed by project path. Ea
 unique Maven/Gradle project gets its own dedicated JDT LS process, which is reused
 across sessions for that project. The pool enforces an LRU eviction policy to bound
 memory usage.
+
+Eviction is LRU by count (``capacity``) and, when a memory budget is configured, by
+the measured RSS of the pooled and standby JDT LS processes: least-recently used
+projects are evicted until the pool fits the budget. RSS is sampled when the budget
+is checked on a cache miss, or when stats are requested with ``include_memory``.
+Each project's JDT LS heap (``-Xmx``) is sized from the shape of the project rather
+than a fixed 1G. Evicted processes are killed outright, unless their imported
+workspace has no snapshot yet: those exit gracefully so the snapshot can be saved.
+
+Optionally, the pool keeps a number of idle, already-initialized standby JDT LS
+processes. On a cache miss a standby is bound to the project through
+``register_workspace_folders`` instead of paying the full Equinox boot, and the pool
+replenishes standbys in the background.
 """
 
 from __future__ import annotations
 
 import asyncio
+import contextlib
 import time
 from collections import OrderedDict
-from dataclasses import dataclass
+from dataclasses import dataclass, field
 from pathlib import Path
 from typing import TYPE_CHECKING, Any
 
@@ -29,18 +43,62 @@ class _PoolEntry:
     bridge: JavaLSPDAPBridge
     last_used: float
     loop_id: int  # id(loop) when bridge was created
+    created_at: float = field(default_factory=time.time)
+
+
+@dataclass
+class _KeyStats:
+    """Per-project counters, kept across evictions of the project's bridge."""
+
+    hits: int = 0
+    misses: int = 0
+    evictions: int = 0
+
+
+@dataclass
+class _StandbyEntry:
+    bridge: JavaLSPDAPBridge
+    loop_id: int  # id(loop) when bridge was created
+
+
+@dataclass(frozen=True)
+class _BridgeLaunchArgs:
+    jdtls_path: Path
+    java_debug_jar: Path
+    java_command: str
 
 
 class JDTLSProjectPool:
     """LRU pool of JDT LS instances keyed by project path."""
 
-    def __init__(self, ctx: IContext, capacity: int = 5):
+    def __init__(
+        self,
+        ctx: IContext,
+        capacity: int = 5,
+        standby: int = 0,
+        memory_budget_mb: int = 0,
+        heap_mb: int = 1024,
+    ):
         self.ctx = ctx
         self.capacity = max(1, int(capacity))
+        self.standby_target = max(0, int(standby))
+        # 0 disables RSS-based eviction (count-based LRU only)
+        self.memory_budget_mb = max(0, int(memory_budget_mb))
+        self.heap_mb = max(256, int(heap_mb))
         self._entries: OrderedDict[str, _PoolEntry] = OrderedDict()
         self._lock = asyncio.Lock()
         self._created = 0
         self._evicted = 0
+        self._key_stats: dict[str, _KeyStats] = {}
+        # Idle initialized bridges not yet bound to a project
+        self._standby: list[_StandbyEntry] = []
+        self._standby_task: asyncio.Task | None = None
+        self._launch_args: _BridgeLaunchArgs | None = None
+        self._standby_used = 0
+        # Last RSS sample per pool key and for all standbys, in megabytes
+        self._rss_mb: dict[str, float] = {}
+        self._standby_rss_mb = 0.0
+        self._rss_sampled_at: float | None = None
 
     def _make_key(self, project_path: Path) -> str:
         try:
@@ -106,6 +164,7 @@ class JDTLSProjectPool:
                     # Same loop - safe to reuse without restarting
                     entry.last_used = time.time()
                     self._entries[key] = entry
+                    self._stats_for(key).hits += 1
                     self.ctx.info(
                         f"[POOL] Reusing JDT LS for project: {project_name} "
                         f"({project_path}) on loop {current_loop_id} - saved ~10s!",
@@ -114,32 +173,36 @@ class JDTLSProjectPool:
                     self.ctx.info(f"[POOL] Pool stats: {self.get_pool_stats()}")
                     return entry.bridge
 
-            # Create new bridge
-            self.ctx.debug(f"[POOL] Cache MISS for {key} - creating new bridge")
-            bridge = JavaLSPDAPBridge(
+            self._stats_for(key).misses += 1
+            self._launch_args = _BridgeLaunchArgs(
                 jdtls_path=jdtls_path,
                 java_debug_jar=java_debug_jar,
                 java_command=java_command,
-                ctx=self.ctx,
             )
-            # Set _is_pooled flag - SINGLE SOURCE OF TRUTH for pool detection.
-            # Check via bridge.is_pooled() rather than:
-            # - Querying pool registries (expensive)
-            # - Checking bridge.process state (ambiguous)
-            # Flag propagates to children (debug_session_manager, lsp_client).
-            bridge._is_pooled = True
 
-            self.ctx.info(
-                f"Starting JDT LS for project: {project_name} ({project_path})",
-            )
-            await bridge.start(
-                project_root=project_path,
-                session_id=f"jdtls-project-{project_name}",
-                extra_env={
-                    ProcessTags.IS_POOL_RESOURCE: "true",
-                },
+            # Prefer binding a pre-warmed standby over a cold start
+            bridge = await self._bind_standby(
+                project_path=project_path,
+                project_name=project_name,
                 workspace_folders=workspace_folders,
             )
+            from_standby = bridge is not None
+            if bridge is None:
+                self.ctx.debug(f"[POOL] Cache MISS for {key} - creating new bridge")
+                heap = self._heap_for_project(project_path)
+                bridge = self._new_bridge(self._launch_args, max_heap=heap)
+                self.ctx.info(
+                    f"Starting JDT LS for project: {project_name} ({project_path}) "
+                    f"with -Xmx{heap}",
+                )
+                await bridge.start(
+                    project_root=project_path,
+                    session_id=f"jdtls-project-{project_name}",
+                    extra_env={
+                        ProcessTags.IS_POOL_RESOURCE: "true",
+                    },
+                    workspace_folders=workspace_folders,
+                )
 
             # Capture current event loop ID for this bridge
             current_loop = asyncio.get_event_loop()
@@ -152,7 +215,9 @@ class JDTLSProjectPool:
                 last_used=time.time(),
                 loop_id=current_loop_id,  # Track which loop created this bridge
             )
-            self._created += 1
+            if not from_standby:
+                # Standbys are counted when they are booted
+                self._created += 1
             stats = self.get_pool_stats()
             self.ctx.info(
                 f"JDTLSProjectPool created on loop {current_loop_id} -> {stats}",
@@ -161,30 +226,244 @@ class JDTLSProjectPool:
             # Evict if over capacity
             await self._evict_if_needed(skip_key=key)
 
+            self._schedule_standby_replenish()
             return bridge
 
-    async def _evict_if_needed(self, *, skip_key: str | None = None) -> None:
-        while len(self._entries) > self.capacity:
-            # Pop least-recently used
-            old_key, entry = next(iter(self._entries.items()))
-            if skip_key and old_key == skip_key:
-                # Move current and continue
-                self._entries.move_to_end(old_key)
+    def _stats_for(self, key: str) -> _KeyStats:
+        return self._key_stats.setdefault(key, _KeyStats())
+
+    def _heap_for_project(self, project_path: Path) -> str:
+        """Size the JDT LS heap for a project.
+
+        Standalone sources (no build file) get half the configured heap, single
+        Maven/Gradle projects the configured heap, and multi-module builds (three
+        or more build files within two directory levels) double it. The result is
+        capped at half the memory budget when one is set.
+
+        Returns
+        -------
+        str
+            ``-Xmx`` value in megabytes (e.g. "1024m")
+        """
+        build_files = ("pom.xml", "build.gradle", "build.gradle.kts")
+        try:
+            modules = sum(
+                1
+                for pattern in ("", "*/", "*/*/")
+                for name in build_files
+                for _ in project_path.glob(f"{pattern}{name}")
+            )
+        except OSError:
+            modules = 0
+
+        if modules == 0:
+            heap = self.heap_mb // 2
+        elif modules >= 3:
+            heap = self.heap_mb * 2
+        else:
+            heap = self.heap_mb
+
+        if self.memory_budget_mb:
+            heap = min(heap, max(256, self.memory_budget_mb // 2))
+        return f"{max(256, heap)}m"
+
+    @staticmethod
+    def _measure_rss_mb(bridge: JavaLSPDAPBridge) -> float:
+        """Measure the resident memory of a bridge's JDT LS process.
+
+        Returns
+        -------
+        float
+            RSS in megabytes, or 0.0 if the process is gone or psutil is missing
+        """
+        process = bridge.process
+        pid = getattr(process, "pid", None)
+        if pid is None or getattr(process, "returncode", None) is not None:
+            return 0.0
+        try:
+            import psutil
+
+            return psutil.Process(pid).memory_info().rss / (1024 * 1024)
+        except Exception:
+            return 0.0
+
+    def _new_bridge(
+        self,
+        launch_args: _BridgeLaunchArgs,
+        max_heap: str | None = None,
+    ) -> JavaLSPDAPBridge:
+        """Create an unstarted pooled bridge."""
+        bridge = JavaLSPDAPBridge(
+            jdtls_path=launch_args.jdtls_path,
+            java_debug_jar=launch_args.java_debug_jar,
+            java_command=launch_args.java_command,
+            ctx=self.ctx,
+            max_heap=max_heap or f"{self.heap_mb}m",
+        )
+        # Set _is_pooled flag - SINGLE SOURCE OF TRUTH for pool detection.
+        # Check via bridge.is_pooled() rather than:
+        # - Querying pool registries (expensive)
+        # - Checking bridge.process state (ambiguous)
+        # Flag propagates to children (debug_session_manager, lsp_client).
+        bridge._is_pooled = True
+        return bridge
+
+    async def _bind_standby(
+        self,
+        *,
+        project_path: Path,
+        project_name: str,
+        workspace_folders: list[tuple[Path, str]] | None,
+    ) -> JavaLSPDAPBridge | None:
+        """Bind an idle standby bridge to a project, if one is available.
+
+        Must be called with ``self._lock`` held. Standbys created on another
+        event loop, or whose process died, are discarded.
+
+        Returns
+        -------
+        JavaLSPDAPBridge | None
+            The bound bridge, or None if no usable standby exists
+        """
+        current_loop_id = id(asyncio.get_event_loop())
+        while self._standby:
+            standby = self._standby.pop(0)
+            process = standby.bridge.process
+            if standby.loop_id != current_loop_id or (
+                process is None or process.returncode is not None
+            ):
+                self.ctx.debug("[POOL] Discarding unusable standby JDT LS")
+                await terminate_bridge_process_safe(process, self.ctx)
                 continue
 
-            self._entries.pop(old_key)
+            self.ctx.info(
+                f"[POOL] Binding standby JDT LS to project: {project_name} "
+                f"({project_path})",
+            )
+            try:
+                # Without detected build roots the project itself is the folder,
+                # as in a cold start
+                await standby.bridge.register_workspace_folders(
+                    workspace_folders or [(project_path, project_name)],
+                )
+            except Exception as e:
+                self.ctx.warning(f"Failed to bind standby JDT LS: {e}")
+                await terminate_bridge_process_safe(process, self.ctx)
+                continue
+            self._standby_used += 1
+            return standby.bridge
+        return None
+
+    def _schedule_standby_replenish(self) -> None:
+        """Start a background task that tops up the standby set."""
+        if self.standby_target <= 0 or self._launch_args is None:
+            return
+        if self._standby_task and not self._standby_task.done():
+            return
+        self._standby_task = asyncio.create_task(self._replenish_standby())
+
+    async def _replenish_standby(self) -> None:
+        """Start standby bridges until the standby target is reached.
+
+        Bridges are booted outside the pool lock so lookups are never blocked
+        by a standby start.
+        """
+        while len(self._standby) < self.standby_target and self._launch_args:
+            bridge = self._new_bridge(self._launch_args)
+            try:
+                await bridge.start(
+                    project_root=None,
+                    session_id=f"jdtls-standby-{self._created + 1}",
+                    extra_env={ProcessTags.IS_POOL_RESOURCE: "true"},
+                )
+            except Exception as e:
+                self.ctx.warning(f"Failed to start standby JDT LS: {e}")
+                await terminate_bridge_process_safe(bridge.process, self.ctx)
+                return
+
+            async with self._lock:
+                self._created += 1
+                self._standby.append(
+                    _StandbyEntry(
+                        bridge=bridge,
+                        loop_id=id(asyncio.get_event_loop()),
+                    ),
+                )
+            self.ctx.info(f"[POOL] Standby JDT LS ready -> {self.get_pool_stats()}")
+
+    def _sample_memory(self) -> float:
+        """Measure the RSS of every pooled and standby JDT LS process.
+
+        Returns
+        -------
+        float
+            Total RSS in megabytes
+        """
+        self._rss_mb = {
+            key: self._measure_rss_mb(entry.bridge)
+            for key, entry in self._entries.items()
+        }
+        self._standby_rss_mb = sum(
+            self._measure_rss_mb(standby.bridge) for standby in self._standby
+        )
+        self._rss_sampled_at = time.time()
+        return sum(self._rss_mb.values()) + self._standby_rss_mb
+
+    def _over_memory_budget(self) -> bool:
+        if not self.memory_budget_mb:
+            return False
+        return self._sample_memory() > self.memory_budget_mb
+
+    async def _evict_if_needed(self, *, skip_key: str | None = None) -> None:
+        while len(self._entries) > self.capacity or (
+            self._over_memory_budget()
+            and any(k != skip_key for k in self._entries)
+        ):
+            # Pop least-recently used, sparing the current key and bridges that
+            # still serve debug sessions (stopping them would kill the debuggees)
+            old_key = next(
+                (
+                    k
+                    for k, e in self._entries.items()
+                    if k != skip_key
+                    and not getattr(e.bridge, "active_session_count", 0)
+                ),
+                None,
+            )
+            if old_key is None:
+                self.ctx.debug(
+                    "JDTLSProjectPool over limit but every other bridge is busy",
+                )
+                break
+
+            entry = self._entries.pop(old_key)
             try:
                 self.ctx.info(f"Evicting JDT LS for project: {old_key}")
-                await entry.bridge.stop(force=True)
+                # Kill outright unless the workspace still needs snapshotting,
+                # which requires JDT LS to flush it on a graceful exit
+                await entry.bridge.stop(
+                    force=not entry.bridge.needs_workspace_snapshot(),
+                )
             except Exception as e:
                 self.ctx.warning(f"Error stopping evicted JDT LS ({old_key}): {e}")
             finally:
                 self._evicted += 1
+                self._stats_for(old_key).evictions += 1
                 self.ctx.info(f"JDTLSProjectPool evicted -> {self.get_pool_stats()}")
 
     async def shutdown(self) -> None:
         """Shut down all pooled JDT LS instances."""
+        if self._standby_task and not self._standby_task.done():
+            self._standby_task.cancel()
+            with contextlib.suppress(asyncio.CancelledError, Exception):
+                await self._standby_task
         async with self._lock:
+            while self._standby:
+                standby = self._standby.pop()
+                try:
+                    await standby.bridge.stop(force=True)
+                except Exception as e:
+                    self.ctx.warning(f"Error stopping standby JDT LS: {e}")
             while self._entries:
                 _key, entry = self._entries.popitem(last=False)
                 try:
@@ -192,8 +471,23 @@ class JDTLSProjectPool:
                 except Exception as e:
                     self.ctx.warning(f"Error stopping JDT LS during shutdown: {e}")
 
-    def get_pool_stats(self) -> dict[str, Any]:
-        """Return current pool statistics including event loop tracking."""
+    def get_pool_stats(self, *, include_memory: bool = False) -> dict[str, Any]:
+        """Return current pool statistics including event loop tracking.
+
+        Parameters
+        ----------
+        include_memory : bool
+            Sample the RSS of every JDT LS process now. Otherwise memory figures
+            are those of the last sample, so frequent calls stay cheap.
+
+        Returns
+        -------
+        dict[str, Any]
+            Pool counters; ``entries`` is keyed by project path
+        """
+        if include_memory:
+            self._sample_memory()
+
         projects = [Path(k).name for k in self._entries]
         # Get current loop ID for comparison
         try:
@@ -210,11 +504,41 @@ class JDTLSProjectPool:
             else:
                 diff_loop_count += 1
 
+        # Per-project hit/miss/eviction counters and last sampled memory
+        now = time.time()
+        entries: dict[str, dict[str, Any]] = {}
+        total_rss_mb = self._standby_rss_mb
+        for key, key_stats in self._key_stats.items():
+            entry = self._entries.get(key)
+            rss_mb = self._rss_mb.get(key, 0.0) if entry else 0.0
+            total_rss_mb += rss_mb
+            entries[key] = {
+                "active": entry is not None,
+                "hits": key_stats.hits,
+                "misses": key_stats.misses,
+                "evictions": key_stats.evictions,
+                "rss_mb": round(rss_mb, 1),
+                "max_heap": getattr(entry.bridge, "max_heap", None) if entry else None,
+                "age_s": round(now - entry.created_at, 1) if entry else None,
+            }
+
         return {
             "capacity": self.capacity,
             "active": len(self._entries),
             "created": self._created,
             "evicted": self._evicted,
+            "standby": len(self._standby),
+            "standby_target": self.standby_target,
+            "standby_used": self._standby_used,
+            "hits": sum(k.hits for k in self._key_stats.values()),
+            "misses": sum(k.misses for k in self._key_stats.values()),
+            "memory_budget_mb": self.memory_budget_mb,
+            "memory_rss_mb": round(total_rss_mb, 1),
+            "standby_rss_mb": round(self._standby_rss_mb, 1),
+            "memory_sampled_age_s": (
+                round(now - self._rss_sampled_at, 1) if self._rss_sampled_at else None
+            ),
+            "entries": entries,
             "projects": projects,
             "current_loop_id": current_loop_id,
             "same_loop_count": same_loop_count,
@@ -251,9 +575,17 @@ async def get_jdtls_project_pool(
             from aidb_common.config import config
 
             cap = capacity if capacity is not None else config.get_java_lsp_pool_max()
-            _project_pool = JDTLSProjectPool(ctx=ctx, capacity=cap)
+            _project_pool = JDTLSProjectPool(
+                ctx=ctx,
+                capacity=cap,
+                standby=config.get_java_lsp_pool_standby(),
+                memory_budget_mb=config.get_java_lsp_pool_memory_mb(),
+                heap_mb=config.get_java_lsp_heap_mb(),
+            )
             ctx.info(
-                f"Created per-project JDT LS pool (capacity={_project_pool.capacity})",
+                f"Created per-project JDT LS pool (capacity={_project_pool.capacity}, "
+                f"standby={_project_pool.standby_target}, "
+                f"memory_budget_mb={_project_pool.memory_budget_mb})",
             )
         return _project_pool
 
@@ -2,11 +2,28 @@
 
 This module manages debug session creation through JDT LS, including launch
 configuration, attach operations, and DAP port management.
+
+A pooled bridge serves every concurrent debug session of its project: each
+startDebugSession call makes java-debug accept one more DAP connection, and each
+connection gets its own ProtocolServer (and debuggee JVM) inside the shared JDT LS.
+The manager keeps one record per aidb session so sessions never read or clear
+each other's state.
 """
 
+import asyncio
 import json
+import time
+from dataclasses import dataclass, field
+from pathlib import Path
 from typing import Any
+from urllib.parse import unquote, urlparse
 
+from aidb.adapters.lang.java.tooling.build_system_detector import (
+    JavaBuildSystemDetector,
+)
+from aidb.adapters.lang.java.tooling.main_class_index import (
+    get_java_main_class_index,
+)
 from aidb.common.constants import (
     DEFAULT_WAIT_TIMEOUT_S,
     INIT_CONFIGURATION_DONE_JAVA_S,
@@ -21,6 +38,17 @@ from aidb_common.env import reader
 from ..config import JavaAdapterConfig
 
 
+@dataclass
+class JavaDebugSession:
+    """java-debug state owned by one aidb debug session."""
+
+    session_id: str
+    dap_port: int
+    request: str
+    main_class: str | None = None
+    started_at: float = field(default_factory=time.time)
+
+
 class DebugSessionManager(Obj):
     """Manager for debug session delegation to java-debug plugin.
 
@@ -29,6 +57,7 @@ class DebugSessionManager(Obj):
     - Remote JVM attach operations
     - Classpath and main class resolution
     - DAP port caching for pooled bridges (CRITICAL pooling logic)
+    - Per-session state for concurrent sessions on one JDT LS
     - Debug settings configuration
     """
 
@@ -41,9 +70,73 @@ class DebugSessionManager(Obj):
             Context for logging
         """
         super().__init__(ctx)
+        # Port returned by the most recent startDebugSession (any session)
         self.dap_port: int | None = None
         self._is_pooled = False
         self._java_debug_initialized = False
+        self._sessions: dict[str, JavaDebugSession] = {}
+        # Serializes plugin initialization and startDebugSession requests
+        self._start_lock = asyncio.Lock()
+
+    @property
+    def active_session_count(self) -> int:
+        """Get the number of debug sessions currently using this JDT LS."""
+        return len(self._sessions)
+
+    def get_session(self, session_id: str) -> JavaDebugSession | None:
+        """Get the java-debug state of one session.
+
+        Parameters
+        ----------
+        session_id : str
+            The aidb session ID
+
+        Returns
+        -------
+        JavaDebugSession | None
+            The session's state, or None if it is not registered
+        """
+        return self._sessions.get(session_id)
+
+    def _register_session(
+        self,
+        session_id: str | None,
+        dap_port: int,
+        request: str,
+        main_class: str | None = None,
+    ) -> None:
+        if not session_id:
+            return
+        self._sessions[session_id] = JavaDebugSession(
+            session_id=session_id,
+            dap_port=dap_port,
+            request=request,
+            main_class=main_class,
+        )
+        self.ctx.debug(
+            f"Registered java-debug session {session_id} on DAP port {dap_port} "
+            f"({self.active_session_count} active)",
+        )
+
+    def end_debug_session(self, session_id: str | None) -> int:
+        """Forget a session's java-debug state when the session ends.
+
+        Parameters
+        ----------
+        session_id : str, optional
+            The aidb session ID
+
+        Returns
+        -------
+        int
+            Number of sessions still active on this JDT LS
+        """
+        if session_id and self._sessions.pop(session_id, None):
+            self.ctx.debug(
+                f"Ended java-debug session {session_id} "
+                f"({self.active_session_count} still active)",
+            )
+        return self.active_session_count
 
     async def _ensure_java_debug_ready(self, lsp_client) -> None:
         """Trigger java-debug plugin initialization by calling resolveClasspath.
@@ -77,7 +170,7 @@ class DebugSessionManager(Obj):
             self._java_debug_initialized = True
             self.ctx.debug(f"java-debug init trigger completed (error expected): {e}")
 
-    async def start_debug_session(  # noqa: C901
+    async def start_debug_session(
         self,
         lsp_client,
         main_class: str,
@@ -87,6 +180,7 @@ class DebugSessionManager(Obj):
         vmargs: list[str] | None = None,
         args: list[str] | None = None,
         skip_file_opening: bool = False,
+        session_id: str | None = None,
     ) -> int:
         """Start a debug session through JDT LS and get the DAP port.
 
@@ -98,6 +192,10 @@ class DebugSessionManager(Obj):
         reuses its ServerSocket), but each session gets its own debuggee process
         and isolated ProtocolServer instance.
 
+        Concurrent calls are safe: file opening and compilation waits run in
+        parallel, while plugin initialization and the startDebugSession request
+        itself are serialized per JDT LS.
+
         Parameters
         ----------
         lsp_client : LSPClient
@@ -116,6 +214,8 @@ class DebugSessionManager(Obj):
             Program arguments
         skip_file_opening : bool
             If True, skip session reset and file opening
+        session_id : str, optional
+            The aidb session ID the java-debug session belongs to
 
         Returns
         -------
@@ -127,16 +227,18 @@ class DebugSessionManager(Obj):
         AidbError
             If debug session creation fails
         """
-        # For pooled bridges: do NOT reuse cached DAP port. Always request a fresh
-        # java-debug session via startDebugSession, but avoid resetting the LSP
-        # client session state (which can desynchronize LSP/JDT LS on long-lived
-        # connections). Simply clear the cached port and proceed.
+        # For pooled bridges: do NOT reuse a cached DAP port. Always request a
+        # fresh java-debug session via startDebugSession, but avoid resetting the
+        # LSP client session state (which can desynchronize LSP/JDT LS on
+        # long-lived connections and would break concurrent sessions). The cached
+        # port is left in place for concurrent sessions; each session records the
+        # port it was given.
         if self._is_pooled and self.dap_port:
             self.ctx.info(
-                f"[POOLED] Clearing cached DAP port {self.dap_port} and requesting "
-                "fresh java-debug session",
+                f"[POOLED] Requesting fresh java-debug session "
+                f"(last DAP port {self.dap_port}, "
+                f"{self.active_session_count} active sessions)",
             )
-            self.dap_port = None
 
         # For standalone .java files, reset state and open file here
         # For Maven/Gradle projects, this was already done in launch()
@@ -198,12 +300,43 @@ class DebugSessionManager(Obj):
         )
         self.ctx.debug(f"Debug configuration: {json.dumps(debug_config, indent=2)}")
 
-        # Trigger java-debug plugin initialization before startDebugSession
-        # The java-debug plugin is lazily loaded by JDT LS. Calling resolveClasspath
-        # (even with dummy args) triggers the plugin to initialize, ensuring
-        # startDebugSession has a ready handler.
-        await self._ensure_java_debug_ready(lsp_client)
+        async with self._start_lock:
+            # Trigger java-debug plugin initialization before startDebugSession
+            # The java-debug plugin is lazily loaded by JDT LS. Calling
+            # resolveClasspath (even with dummy args) triggers the plugin to
+            # initialize, ensuring startDebugSession has a ready handler.
+            await self._ensure_java_debug_ready(lsp_client)
+            dap_port = await self._request_debug_port(lsp_client, debug_config)
+
+        self._register_session(session_id, dap_port, "launch", main_class)
+        return dap_port
+
+    async def _request_debug_port(  # noqa: C901
+        self,
+        lsp_client,
+        debug_config: dict[str, Any],
+    ) -> int:
+        """Send startDebugSession for a launch configuration.
+
+        Must be called with ``_start_lock`` held.
+
+        Parameters
+        ----------
+        lsp_client : LSPClient
+            The LSP client for communication
+        debug_config : dict[str, Any]
+            Launch configuration
+
+        Returns
+        -------
+        int
+            The DAP port to connect to
 
+        Raises
+        ------
+        AidbError
+            If debug session creation fails
+        """
         try:
             # Execute the startDebugSession command
             # Use shorter timeout for pooled bridges to fast-fail and trigger
@@ -358,6 +491,7 @@ class DebugSessionManager(Obj):
         port: int,
         project_name: str | None = None,
         timeout: int = 10000,
+        session_id: str | None = None,
     ) -> int:
         """Attach to a remote JVM through JDT LS and get the DAP port.
 
@@ -373,6 +507,8 @@ class DebugSessionManager(Obj):
             The project name for evaluation context
         timeout : int
             Connection timeout in milliseconds
+        session_id : str, optional
+            The aidb session ID the java-debug session belongs to
 
         Returns
         -------
@@ -386,9 +522,6 @@ class DebugSessionManager(Obj):
         """
         self.ctx.info(f"Requesting attach session to {host}:{port}")
 
-        # Trigger java-debug plugin initialization before startDebugSession
-        await self._ensure_java_debug_ready(lsp_client)
-
         # Build attach configuration
         default_project = JavaAdapterConfig.DEFAULT_PROJECT_NAME
         attach_config = {
@@ -404,15 +537,19 @@ class DebugSessionManager(Obj):
 
         # Request DAP port from java-debug plugin for attach
         try:
-            result = await lsp_client.execute_command(
-                "vscode.java.startDebugSession",
-                [json.dumps(attach_config)],
-            )
+            async with self._start_lock:
+                # Trigger java-debug plugin initialization before startDebugSession
+                await self._ensure_java_debug_ready(lsp_client)
+                result = await lsp_client.execute_command(
+                    "vscode.java.startDebugSession",
+                    [json.dumps(attach_config)],
+                )
 
             # The result should be the DAP port
             if isinstance(result, int):
                 self.dap_port = result
                 self.ctx.info(f"Attach session ready on DAP port: {self.dap_port}")
+                self._register_session(session_id, result, "attach")
                 return self.dap_port or 0
             msg = f"Unexpected response from startDebugSession: {result}"
             raise AidbError(msg)
@@ -483,6 +620,10 @@ class DebugSessionManager(Obj):
         Optional[str]
             The fully qualified main class name if found
         """
+        indexed = self._resolve_indexed_main_class(uri)
+        if indexed:
+            return indexed
+
         try:
             # Try to resolve main class
             result = await lsp_client.execute_command(
@@ -492,17 +633,88 @@ class DebugSessionManager(Obj):
 
             if isinstance(result, str):
                 return result
-            if isinstance(result, list) and result:
-                # Return first main class found
-                return result[0]
             if isinstance(result, dict) and "mainClass" in result:
                 return result["mainClass"]
+            if isinstance(result, list) and result:
+                return self._pick_main_class(result, uri)
             return None
 
         except Exception as e:
             self.ctx.warning(f"Failed to resolve main class: {e}")
             return None
 
+    def _pick_main_class(self, candidates: list[Any], uri: str | None) -> str | None:
+        """Pick the main class of a file, or the only one, from JDT LS results.
+
+        Parameters
+        ----------
+        candidates : list[Any]
+            Class names or ``{"mainClass", "filePath"}`` items from JDT LS
+        uri : Optional[str]
+            File URI the lookup was made for
+
+        Returns
+        -------
+        Optional[str]
+            Fully qualified class name, or None if the choice is ambiguous
+        """
+        names: list[str] = []
+        path = unquote(urlparse(uri).path) if uri else None
+        for item in candidates:
+            if isinstance(item, str):
+                names.append(item)
+            elif isinstance(item, dict) and "mainClass" in item:
+                if path and item.get("filePath") == path:
+                    return item["mainClass"]
+                names.append(item["mainClass"])
+        if len(names) == 1:
+            return names[0]
+        self.ctx.warning(
+            f"Ambiguous main class for {uri or 'project'}: {', '.join(names)}",
+        )
+        return None
+
+    def _resolve_indexed_main_class(self, uri: str | None) -> str | None:
+        """Look up the main class of a source file in the main class index.
+
+        If the file declares no main method, the only main class of its
+        Maven/Gradle project is used instead.
+
+        Parameters
+        ----------
+        uri : Optional[str]
+            File URI of a .java source
+
+        Returns
+        -------
+        Optional[str]
+            Fully qualified class name, or None to fall back to JDT LS when the
+            index has no unambiguous answer
+        """
+        if not uri or not uri.endswith(".java"):
+            return None
+        index = get_java_main_class_index()
+        if index is None:
+            return None
+        parsed = urlparse(uri)
+        if parsed.scheme not in ("", "file"):
+            return None
+        source = Path(unquote(parsed.path))
+        try:
+            indexed = index.classify_source(source)
+            if indexed is not None and indexed.is_main:
+                name = indexed.name
+            else:
+                root = JavaBuildSystemDetector.find_build_root(source)
+                mains = index.main_classes(root) if root else []
+                name = mains[0] if len(mains) == 1 else None
+        except OSError as e:
+            self.ctx.debug(f"Main class index lookup failed for {uri}: {e}")
+            return None
+        if name:
+            self.ctx.debug(f"Resolved main class {name} from index")
+        return name
+
     async def update_debug_settings(self, lsp_client) -> bool:
         """Update JDT LS debug settings to enable trace logging.
 
@@ -577,6 +789,14 @@ class DebugSessionManager(Obj):
         """
         self.ctx.info("Resetting DAP state for pooled bridge...")
 
+        if self.active_session_count:
+            # Resetting the LSP client would break the other sessions' requests
+            self.ctx.warning(
+                f"Not resetting DAP state: {self.active_session_count} debug "
+                "sessions still use this JDT LS",
+            )
+            return False
+
         try:
             # Clear cached DAP port - forces fresh startDebugSession call
             old_port = self.dap_port
@@ -615,6 +835,7 @@ class DebugSessionManager(Obj):
         return {
             "dap_port": self.dap_port,
             "is_pooled": self._is_pooled,
+            "active_sessions": sorted(self._sessions),
             "process_running": process_manager.process is not None
             and process_manager.process.returncode is None,
             "workspace": str(process_manager.workspace)
@@ -35,6 +35,7 @@ class JDTLSProcessManager(Obj):
         jdtls_path: Path,
         java_command: str = "java",
         ctx=None,
+        max_heap: str = "1G",
     ):
         """Initialize the JDT LS process manager.
 
@@ -46,12 +47,18 @@ class JDTLSProcessManager(Obj):
             Java executable command
         ctx : optional
             Context for logging
+        max_heap : str
+            JVM maximum heap size for JDT LS (``-Xmx`` value, e.g. "1G", "768m")
         """
         super().__init__(ctx)
         self.jdtls_path = jdtls_path
         self.java_command = java_command
+        self.max_heap = max_heap
         self.process: asyncio.subprocess.Process | None = None
         self.workspace: Path | None = None
+        # Workspace snapshot state (see tooling.workspace_snapshots)
+        self.snapshot_key: str | None = None
+        self.workspace_imported = False
 
     async def start_jdtls(
         self,
@@ -59,6 +66,7 @@ class JDTLSProcessManager(Obj):
         java_debug_jar: Path,
         session_id: str | None = None,
         extra_env: dict[str, str] | None = None,
+        project_root: Path | None = None,
     ) -> asyncio.subprocess.Process:
         """Start the JDT LS process.
 
@@ -72,6 +80,9 @@ class JDTLSProcessManager(Obj):
             Session ID for process tagging
         extra_env : Optional[Dict[str, str]]
             Additional environment variables
+        project_root : Optional[Path]
+            Maven/Gradle project the workspace belongs to; enables restoring a
+            workspace snapshot keyed by its build files
 
         Returns
         -------
@@ -84,6 +95,10 @@ class JDTLSProcessManager(Obj):
             If JDT LS fails to start
         """
         self.workspace = workspace
+        self.workspace_imported = False
+        self.snapshot_key = None
+        if project_root:
+            await self._restore_workspace_snapshot(workspace, project_root)
 
         # Build JDT LS command
         command = self._build_jdtls_command(workspace, java_debug_jar)
@@ -238,6 +253,10 @@ class JDTLSProcessManager(Obj):
             except Exception as e:
                 self.ctx.warning(f"Error terminating JDT LS process: {e}")
 
+        # Snapshot the imported workspace once JDT LS has flushed it on exit
+        if not force and self.workspace_imported:
+            await self._save_workspace_snapshot()
+
         # Cleanup temporary workspace if created
         if self.workspace and str(self.workspace).startswith(tempfile.gettempdir()):
             try:
@@ -382,7 +401,7 @@ class JDTLSProcessManager(Obj):
             # Add java-debug plugin to bundles - critical!
             f"-Dosgi.bundles.extra=reference:file:{java_debug_jar}",
             # JVM options for better performance
-            "-Xmx1G",
+            f"-Xmx{self.max_heap}",
             "--add-modules=ALL-SYSTEM",
             "--add-opens",
             "java.base/java.util=ALL-UNNAMED",
@@ -470,6 +489,133 @@ class JDTLSProcessManager(Obj):
 
         return self.jdtls_path / config_name
 
+    async def mark_workspace_imported(self, project_root: Path | None = None) -> None:
+        """Record that the project import completed in this workspace.
+
+        Only imported workspaces are snapshotted on graceful stop.
+
+        Parameters
+        ----------
+        project_root : Optional[Path]
+            Project imported into a workspace started without one (e.g. a pool
+            standby); keys the snapshot saved on stop
+        """
+        self.workspace_imported = True
+        if self.snapshot_key is None and project_root:
+            from aidb.adapters.lang.java.tooling.workspace_snapshots import (
+                get_jdtls_workspace_snapshots,
+            )
+
+            snapshots = get_jdtls_workspace_snapshots()
+            if snapshots is not None:
+                self.snapshot_key = await self._compute_snapshot_key(
+                    snapshots,
+                    project_root,
+                )
+
+    def needs_workspace_snapshot(self) -> bool:
+        """Check whether stopping should snapshot the workspace first.
+
+        Returns
+        -------
+        bool
+            True if the workspace is imported and no snapshot exists for its key
+        """
+        if not self.workspace_imported or not self.snapshot_key:
+            return False
+
+        from aidb.adapters.lang.java.tooling.workspace_snapshots import (
+            get_jdtls_workspace_snapshots,
+        )
+
+        snapshots = get_jdtls_workspace_snapshots()
+        return snapshots is not None and not snapshots.has_snapshot(self.snapshot_key)
+
+    async def _compute_snapshot_key(self, snapshots, project_root: Path) -> str | None:
+        """Compute the snapshot key of a project off the event loop.
+
+        Returns
+        -------
+        str | None
+            The key, or None if the project has no build files or hashing failed
+        """
+        try:
+            return await asyncio.get_event_loop().run_in_executor(
+                None,
+                snapshots.make_key,
+                project_root,
+                self.jdtls_path,
+            )
+        except Exception as e:
+            self.ctx.warning(f"JDT LS workspace snapshot key failed: {e}")
+            return None
+
+    async def _restore_workspace_snapshot(
+        self,
+        workspace: Path,
+        project_root: Path,
+    ) -> None:
+        """Restore a workspace snapshot matching the project's build files.
+
+        Parameters
+        ----------
+        workspace : Path
+            The workspace directory about to be used by JDT LS
+        project_root : Path
+            The Maven/Gradle project root
+        """
+        from aidb.adapters.lang.java.tooling.workspace_snapshots import (
+            get_jdtls_workspace_snapshots,
+        )
+
+        snapshots = get_jdtls_workspace_snapshots()
+        if snapshots is None:
+            return
+
+        key = await self._compute_snapshot_key(snapshots, project_root)
+        if key is None:
+            return
+        self.snapshot_key = key
+        try:
+            restored = await asyncio.get_event_loop().run_in_executor(
+                None,
+                snapshots.restore,
+                key,
+                workspace,
+            )
+        except Exception as e:
+            self.ctx.warning(f"JDT LS workspace snapshot restore failed: {e}")
+            return
+
+        if restored:
+            self.ctx.info(
+                f"Restored JDT LS workspace snapshot {key[:8]} for {project_root}",
+            )
+
+    async def _save_workspace_snapshot(self) -> None:
+        """Snapshot the current workspace if no snapshot exists for its key."""
+        from aidb.adapters.lang.java.tooling.workspace_snapshots import (
+            get_jdtls_workspace_snapshots,
+        )
+
+        snapshots = get_jdtls_workspace_snapshots()
+        if snapshots is None or not self.snapshot_key or not self.workspace:
+            return
+
+        try:
+            saved = await asyncio.get_event_loop().run_in_executor(
+                None,
+                snapshots.save,
+                self.snapshot_key,
+                self.workspace,
+            )
+        except Exception as e:
+            self.ctx.warning(f"JDT LS workspace snapshot failed: {e}")
+            return
+
+        if saved:
+            self.ctx.info(f"Saved JDT LS workspace snapshot {self.snapshot_key[:8]}")
+
     def get_workspace_path(self) -> Path | None:
         """Get the workspace path used by JDT LS.
 
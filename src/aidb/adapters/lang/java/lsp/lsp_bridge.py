@@ -14,13 +14,17 @@ from typing import Any
 
 from aidb.common.constants import (
     LSP_HEALTH_CHECK_TIMEOUT_S,
-    LSP_MAVEN_IMPORT_TIMEOUT_S,
     LSP_PROJECT_IMPORT_TIMEOUT_S,
     LSP_SERVICE_READY_TIMEOUT_S,
 )
 from aidb.patterns.base import Obj
 from aidb_common.constants import Language
 from aidb_common.env import reader
+from aidb_common.metrics import (
+    LAUNCH_PHASE_DURATION,
+    PHASE_IMPORT_WAIT,
+    get_metrics_registry,
+)
 
 from .debug_session_manager import DebugSessionManager
 from .jdtls_process_manager import JDTLSProcessManager
@@ -50,6 +54,7 @@ class JavaLSPDAPBridge(Obj):
         java_debug_jar: Path,
         java_command: str = "java",
         ctx=None,
+        max_heap: str = "1G",
     ):
         """Initialize the LSP-DAP bridge.
 
@@ -63,17 +68,21 @@ class JavaLSPDAPBridge(Obj):
             Java executable command
         ctx : optional
             Context for logging and storage
+        max_heap : str
+            JVM maximum heap size for JDT LS (``-Xmx`` value)
         """
         super().__init__(ctx)
         self.jdtls_path = jdtls_path
         self.java_debug_jar = java_debug_jar
         self.java_command = java_command
+        self.max_heap = max_heap
 
         # Create all component managers upfront
         self.process_manager = JDTLSProcessManager(
             jdtls_path=jdtls_path,
             java_command=java_command,
             ctx=ctx,
+            max_heap=max_heap,
         )
         self.initialization = LSPInitialization(
             java_debug_jar=java_debug_jar,
@@ -88,6 +97,9 @@ class JavaLSPDAPBridge(Obj):
         self._last_workspace_folders: list[tuple[Path, str]] | None = None
         # Track pooled failures to allow proactive restart
         self._pooled_failures: int = 0
+        # Concurrent sessions that fail together restart JDT LS only once
+        self._restart_lock = asyncio.Lock()
+        self._restart_generation = 0
 
     def __setattr__(self, name: str, value: Any) -> None:
         """Propagate _is_pooled flag to child components."""
@@ -181,6 +193,7 @@ class JavaLSPDAPBridge(Obj):
             java_debug_jar=self.java_debug_jar,
             session_id=session_id,
             extra_env=extra_env,
+            project_root=workspace_folders[0][0] if workspace_folders else None,
         )
 
         # Create LSP client
@@ -197,6 +210,13 @@ class JavaLSPDAPBridge(Obj):
         root_uri = workspace.as_uri()
         self.ctx.info(f"Initializing JDT LS with workspace: {root_uri}")
 
+        # Subscribe before initialize: the initial import starts right away
+        import_future = None
+        if workspace_folders:
+            import_future = self.lsp_client.project_import_future(
+                workspace_folders[0][0],
+            )
+
         try:
             await self.lsp_client.initialize(root_uri, init_options)
             self.ctx.debug("JDT LS capabilities received")
@@ -220,37 +240,37 @@ class JavaLSPDAPBridge(Obj):
                     f"Waiting for Maven/Gradle import for {project_name}...",
                 )
 
-                # Try progress-based wait first
-                progress_ready = False
-                if hasattr(self.lsp_client, "wait_for_maven_import_complete"):
-                    try:
-                        progress_ready = (
-                            await self.lsp_client.wait_for_maven_import_complete(
-                                timeout=LSP_MAVEN_IMPORT_TIMEOUT_S,
-                            )
-                        )
-                    except Exception as e:
-                        self.ctx.debug(f"Progress wait unavailable: {e}")
-
-                # Fall back to polling
-                if not progress_ready:
+                with get_metrics_registry().timer(
+                    LAUNCH_PHASE_DURATION,
+                    language=Language.JAVA.value,
+                    phase=PHASE_IMPORT_WAIT,
+                ):
                     import_ready = await self.workspace_manager.wait_for_project_import(
                         lsp_client=self.lsp_client,
                         project_name=project_name,
                         project_root=project_root_path,
                         timeout=LSP_PROJECT_IMPORT_TIMEOUT_S,
+                        import_future=import_future,
+                    )
+                if import_ready:
+                    await self.process_manager.mark_workspace_imported()
+                else:
+                    self.ctx.warning(
+                        f"Maven/Gradle import incomplete for {project_name}. "
+                        "Classpath may fail.",
                     )
-                    if not import_ready:
-                        self.ctx.warning(
-                            f"Maven/Gradle import incomplete for {project_name}. "
-                            "Classpath may fail.",
-                        )
 
         except Exception as e:
             from aidb.common.errors import AidbError
 
             msg = f"Failed to initialize JDT LS: {e}"
             raise AidbError(msg) from e
+        finally:
+            if import_future is not None and workspace_folders:
+                self.lsp_client.discard_project_import_future(
+                    workspace_folders[0][0],
+                    import_future,
+                )
 
     async def register_workspace_folders(
         self,
@@ -265,10 +285,12 @@ class JavaLSPDAPBridge(Obj):
         # Remember last workspace folders for potential restart scenarios
         with contextlib.suppress(Exception):
             self._last_workspace_folders = workspace_folders
-        await self.workspace_manager.register_workspace_folders(
+        import_ready = await self.workspace_manager.register_workspace_folders(
             self.lsp_client,
             workspace_folders,
         )
+        if import_ready:
+            await self.process_manager.mark_workspace_imported(workspace_folders[0][0])
 
     async def wait_for_project_import(
         self,
@@ -288,6 +310,26 @@ class JavaLSPDAPBridge(Obj):
             timeout,
         )
 
+    @property
+    def active_session_count(self) -> int:
+        """Get the number of debug sessions currently using this bridge."""
+        return self.debug_session_manager.active_session_count
+
+    def end_debug_session(self, session_id: str | None) -> int:
+        """Forget a debug session that no longer uses this bridge.
+
+        Parameters
+        ----------
+        session_id : str, optional
+            The aidb session ID
+
+        Returns
+        -------
+        int
+            Number of sessions still using this bridge
+        """
+        return self.debug_session_manager.end_debug_session(session_id)
+
     async def start_debug_session(
         self,
         main_class: str,
@@ -297,18 +339,21 @@ class JavaLSPDAPBridge(Obj):
         vmargs: list[str] | None = None,
         args: list[str] | None = None,
         skip_file_opening: bool = False,
+        session_id: str | None = None,
     ) -> int:
         """Start a debug session through JDT LS and get the DAP port.
 
         Includes a pooled-bridge fallback: if startDebugSession fails after
         local retries in DebugSessionManager, forcibly restart JDT LS and retry
-        once more.
+        once more. JDT LS is never restarted while other debug sessions are
+        running on it, since that would terminate their debuggees.
         """
         if not self.lsp_client:
             from aidb.common.errors import AidbError
 
             msg = "LSP client not initialized"
             raise AidbError(msg)
+        generation = self._restart_generation
         try:
             # Proactive restart for unhealthy pooled bridges
             if self.is_pooled():
@@ -319,7 +364,10 @@ class JavaLSPDAPBridge(Obj):
                     )
                     or 1
                 )
-                if self._pooled_failures >= threshold:
+                if (
+                    self._pooled_failures >= threshold
+                    and not self.active_session_count
+                ):
                     self.ctx.warning(
                         f"Pooled bridge has {self._pooled_failures} consecutive failures; "
                         "restarting JDT LS proactively before startDebugSession",
@@ -337,6 +385,8 @@ class JavaLSPDAPBridge(Obj):
                         workspace_folders=self._last_workspace_folders,
                     )
                     self._pooled_failures = 0
+                    self._restart_generation += 1
+            generation = self._restart_generation
             return await self.debug_session_manager.start_debug_session(
                 self.lsp_client,
                 main_class,
@@ -346,32 +396,45 @@ class JavaLSPDAPBridge(Obj):
                 vmargs,
                 args,
                 skip_file_opening,
+                session_id=session_id,
             )
         except Exception as e:
             # Final fallback for pooled bridges: restart JDT LS and retry once.
             if self.is_pooled():
                 from aidb.common.errors import AidbError
 
+                if self.active_session_count:
+                    self.ctx.warning(
+                        f"Pooled startDebugSession failed: {e}. Not restarting "
+                        f"JDT LS: {self.active_session_count} other debug "
+                        "sessions are running on it",
+                    )
+                    raise
+
                 self.ctx.warning(
                     f"Pooled startDebugSession failed: {e}. Restarting JDT LS and retrying...",
                 )
                 try:
                     self._pooled_failures += 1
-                    # Force stop and restart JDT LS
-                    await self.process_manager.stop_jdtls(force=True)
-                    # Clear LSP client
-                    self.lsp_client = None
-                    # Restart with last-known workspace folders (if any)
-                    await self.start(
-                        project_root=(
-                            self._last_workspace_folders[0][0]
-                            if self._last_workspace_folders
-                            else None
-                        ),
-                        session_id="jdtls-restart",
-                        extra_env=None,
-                        workspace_folders=self._last_workspace_folders,
-                    )
+                    async with self._restart_lock:
+                        # A concurrent launch may already have restarted JDT LS
+                        if self._restart_generation == generation:
+                            # Force stop and restart JDT LS
+                            await self.process_manager.stop_jdtls(force=True)
+                            # Clear LSP client
+                            self.lsp_client = None
+                            # Restart with last-known workspace folders (if any)
+                            await self.start(
+                                project_root=(
+                                    self._last_workspace_folders[0][0]
+                                    if self._last_workspace_folders
+                                    else None
+                                ),
+                                session_id="jdtls-restart",
+                                extra_env=None,
+                                workspace_folders=self._last_workspace_folders,
+                            )
+                            self._restart_generation += 1
                     if not self.lsp_client:
                         msg = "LSP client not initialized after restart"
                         raise AidbError(msg)
@@ -385,6 +448,7 @@ class JavaLSPDAPBridge(Obj):
                         vmargs,
                         args,
                         skip_file_opening,
+                        session_id=session_id,
                     )
                     # Success resets failure counter
                     self._pooled_failures = 0
@@ -400,6 +464,7 @@ class JavaLSPDAPBridge(Obj):
         port: int,
         project_name: str | None = None,
         timeout: int = 10000,
+        session_id: str | None = None,
     ) -> int:
         """Attach to a remote JVM through JDT LS and get the DAP port."""
         if not self.lsp_client:
@@ -413,6 +478,7 @@ class JavaLSPDAPBridge(Obj):
             port,
             project_name,
             timeout,
+            session_id=session_id,
         )
 
     async def resolve_classpath(
@@ -426,7 +492,8 @@ class JavaLSPDAPBridge(Obj):
             return []
 
         # For pooled bridges, proactively check LSP health and restart if unresponsive
-        if self.is_pooled():
+        # (only when no other debug session is running on this JDT LS)
+        if self.is_pooled() and not self.active_session_count:
             try:
                 _ = await self.lsp_client.execute_command(
                     "java.project.getAll",
@@ -521,6 +588,10 @@ class JavaLSPDAPBridge(Obj):
         """Get diagnostic info about DAP connection state."""
         return self.debug_session_manager.get_dap_connection_info(self.process_manager)
 
+    def needs_workspace_snapshot(self) -> bool:
+        """Check whether a graceful stop would save a new workspace snapshot."""
+        return self.process_manager.needs_workspace_snapshot()
+
     async def stop(self, *, force: bool = False) -> None:
         """Stop the JDT LS process and cleanup resources."""
         if not force and self.lsp_client:
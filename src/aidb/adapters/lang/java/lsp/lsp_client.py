@@ -199,20 +199,36 @@ class LSPClient(Obj):
         """
         return await self.message_handler.wait_for_diagnostics(file_path, timeout)
 
-    async def wait_for_maven_import_complete(self, timeout: float = 60.0) -> bool:
-        """Wait until an "Importing Maven project(s)" progress completes.
+    def project_import_future(self, project_root: Path) -> asyncio.Future[bool]:
+        """Get a future resolved when JDT LS reports the project imported.
 
         Parameters
         ----------
-        timeout : float
-            Maximum time to wait in seconds
+        project_root : Path
+            Project root folder
 
         Returns
         -------
-        bool
-            True if Maven import completed, False if timeout
+        asyncio.Future[bool]
+            Future resolved with True on import completion
+        """
+        return self.message_handler.project_import_future(project_root.as_uri())
+
+    def discard_project_import_future(
+        self,
+        project_root: Path,
+        future: asyncio.Future[bool],
+    ) -> None:
+        """Stop tracking a future from :meth:`project_import_future`.
+
+        Parameters
+        ----------
+        project_root : Path
+            Project root folder the future was created for
+        future : asyncio.Future[bool]
+            Future to discard
         """
-        return await self.message_handler.wait_for_maven_import_complete(timeout)
+        self.message_handler.discard_import_future(project_root.as_uri(), future)
 
     async def open_file(self, file_path: str, language_id: str = "java") -> None:
         """Open a file in the language server via textDocument/didOpen.
@@ -12,9 +12,55 @@ from typing import Any
 
 from aidb.common.constants import EVENT_QUEUE_POLL_TIMEOUT_S, THREAD_JOIN_TIMEOUT_S
 from aidb.patterns.base import Obj
+from aidb_common.io import FrameDecoder, FramingError
 
 from .lsp_protocol import LSPMessage, LSPProtocol
 
+# Bytes requested per stdout read; large reads keep big responses to few chunks
+LSP_READ_CHUNK_SIZE = 64 * 1024
+
+# language/eventNotification eventType for ProjectsImported (JDT LS EventType)
+PROJECTS_IMPORTED_EVENT = 200
+
+
+def normalize_file_uri(uri: str) -> str:
+    """Normalize file URI for cross-platform comparison.
+
+    JDT LS may return URIs with varying formats:
+    - Linux: file:/path (1 slash)
+    - Standard RFC 8089: file:///path (3 slashes)
+    - Trailing slashes may vary
+
+    This normalizes to RFC 8089 format for consistent comparison.
+
+    Parameters
+    ----------
+    uri : str
+        File URI to normalize
+
+    Returns
+    -------
+    str
+        Normalized URI in file:/// format without trailing slash
+    """
+    # Remove trailing slash
+    uri = uri.rstrip("/")
+
+    # Normalize file:/ or file:// to file:/// for consistency
+    if uri.startswith("file:/"):
+        # Count slashes after file:
+        if uri.startswith("file:///"):
+            # Already normalized (3 slashes)
+            pass
+        elif uri.startswith("file://"):
+            # 2 slashes - add one more
+            uri = "file:///" + uri[7:]
+        else:
+            # 1 slash - convert to 3
+            uri = "file:///" + uri[6:]
+
+    return uri
+
 
 class LSPMessageHandler(Obj):
     """Message handler for reading and routing LSP messages.
@@ -23,7 +69,7 @@ class LSPMessageHandler(Obj):
     - Message reading loop from stdout
     - LSP wire format parsing (Content-Length headers)
     - Message routing (responses, requests, notifications)
-    - Special event handling (ServiceReady, progress, diagnostics)
+    - Special event handling (ServiceReady, progress, diagnostics, project import)
     """
 
     def __init__(self, protocol: LSPProtocol, ctx=None):
@@ -41,17 +87,21 @@ class LSPMessageHandler(Obj):
         self._reader_task: asyncio.Task | None = None
         self._stderr_drain_task: asyncio.Task | None = None
         self._stop_reader = asyncio.Event()
+        self._decoder = FrameDecoder()
         self._initialized = asyncio.Event()
         self._service_ready = asyncio.Event()
         self._notifications: list[LSPMessage] = []
 
         # Work-done progress tracking
         self._progress_by_token: dict[Any, dict[str, Any]] = {}
-        self._progress_update = asyncio.Event()
 
         # Diagnostics tracking for compilation completion
         self._diagnostics_by_uri: dict[str, asyncio.Event] = {}
 
+        # Project import tracking (normalized project URI -> pending futures)
+        self._imported_projects: set[str] = set()
+        self._import_waiters: dict[str, list[asyncio.Future[bool]]] = {}
+
     async def start(self):
         """Start the message reading loop and stderr drain."""
         if self._reader_task is None or self._reader_task.done():
@@ -90,8 +140,6 @@ class LSPMessageHandler(Obj):
 
     async def _read_messages(self):
         """Read and process LSP messages from stdout."""
-        buffer = b""
-
         while not self._stop_reader.is_set():
             try:
                 # Read available data
@@ -100,7 +148,7 @@ class LSPMessageHandler(Obj):
 
                 try:
                     chunk = await asyncio.wait_for(
-                        self.protocol.process.stdout.read(1024),
+                        self.protocol.process.stdout.read(LSP_READ_CHUNK_SIZE),
                         timeout=EVENT_QUEUE_POLL_TIMEOUT_S,
                     )
                 except asyncio.TimeoutError:
@@ -110,16 +158,15 @@ class LSPMessageHandler(Obj):
                 if not chunk:
                     break
 
-                buffer += chunk
+                self._decoder.feed(chunk)
 
                 # Process complete messages
                 while True:
-                    message, remaining = self._extract_message(buffer)
-                    if message is None:
+                    message, complete = self._extract_message()
+                    if not complete:
                         break
-
-                    buffer = remaining
-                    self._handle_message(message)
+                    if message is not None:
+                        self._handle_message(message)
 
             except Exception as e:
                 self.ctx.error(f"Error reading LSP messages: {e}")
@@ -179,53 +226,30 @@ class LSPMessageHandler(Obj):
         finally:
             self.ctx.debug("Stopped JDTLS stderr drain")
 
-    def _extract_message(self, buffer: bytes) -> tuple[dict[str, Any] | None, bytes]:
-        """Extract a complete LSP message from the buffer.
+    def _extract_message(self) -> tuple[dict[str, Any] | None, bool]:
+        """Extract the next complete LSP message from the decoder.
 
         LSP messages use HTTP-like headers with Content-Length.
 
-        Parameters
-        ----------
-        buffer : bytes
-            The current buffer of data
-
         Returns
         -------
-        tuple[Optional[Dict[str, Any]], bytes]
-            The extracted message (if complete) and remaining buffer
+        tuple[Optional[Dict[str, Any]], bool]
+            The parsed message (None if it was malformed and skipped) and whether
+            a frame was consumed; False means more data is needed
         """
-        # Look for Content-Length header
-        header_end = buffer.find(b"\r\n\r\n")
-        if header_end == -1:
-            return None, buffer
-
-        headers = buffer[:header_end].decode("utf-8")
-        content_length = None
-
-        for line in headers.split("\r\n"):
-            if line.startswith("Content-Length:"):
-                content_length = int(line.split(":")[1].strip())
-                break
-
-        if content_length is None:
-            self.ctx.error("No Content-Length header found")
-            return None, buffer[header_end + 4 :]
-
-        # Check if we have the complete message
-        content_start = header_end + 4
-        content_end = content_start + content_length
-
-        if len(buffer) < content_end:
-            return None, buffer  # Need more data
+        try:
+            body = self._decoder.next_body()
+        except FramingError as e:
+            self.ctx.error(str(e))
+            return None, True
+        if body is None:
+            return None, False
 
-        # Extract and parse the JSON content
-        content = buffer[content_start:content_end].decode("utf-8")
         try:
-            message = json.loads(content)
-            return message, buffer[content_end:]
-        except json.JSONDecodeError as e:
+            return json.loads(body), True
+        except (json.JSONDecodeError, UnicodeDecodeError) as e:
             self.ctx.error(f"Failed to parse LSP message: {e}")
-            return None, buffer[content_end:]
+            return None, True
 
     def _handle_message(self, data: dict[str, Any]):
         """Handle an incoming LSP message.
@@ -277,11 +301,7 @@ class LSPMessageHandler(Obj):
             params = message.params or {}
             token = params.get("token")
             if token is not None and token not in self._progress_by_token:
-                self._progress_by_token[token] = {
-                    "title": None,
-                    "active": False,
-                    "ended": asyncio.Event(),
-                }
+                self._progress_by_token[token] = {"title": None, "active": False}
             result = None
         elif message.method == "workspace/applyEdit":
             # Server wants to apply an edit - not supported
@@ -317,6 +337,26 @@ class LSPMessageHandler(Obj):
             if params.get("type") == "ServiceReady":
                 self._service_ready.set()
                 self.ctx.debug("JDT LS ServiceReady notification received")
+            elif params.get("type") == "ProjectStatus" and params.get(
+                "message",
+            ) in ("OK", "WARNING"):
+                # Build status settled for the workspace
+                self._resolve_import_waiters(None)
+
+        # ProjectsImported event (JDT LS specific, data = imported project URIs)
+        if message.method == "language/eventNotification":
+            params = message.params or {}
+            if params.get("eventType") == PROJECTS_IMPORTED_EVENT:
+                data = params.get("data")
+                uris = [uri for uri in data or [] if isinstance(uri, str)]
+                self._resolve_import_waiters(uris)
+
+        # Legacy progress reports (extendedClientCapabilities.progressReportProvider)
+        if message.method == "language/progressReport":
+            params = message.params or {}
+            task = (params.get("task") or "").lower()
+            if params.get("complete") and "import" in task:
+                self._resolve_import_waiters(None)
 
         # Handle $/progress notifications (LSP work-done progress)
         if message.method == "$/progress":
@@ -328,7 +368,7 @@ class LSPMessageHandler(Obj):
             if token is not None:
                 entry = self._progress_by_token.setdefault(
                     token,
-                    {"title": None, "active": False, "ended": asyncio.Event()},
+                    {"title": None, "active": False},
                 )
             # Update entry based on kind
             if entry is not None:
@@ -339,12 +379,8 @@ class LSPMessageHandler(Obj):
                     pass  # Nothing to do for minimal handler
                 elif kind == "end":
                     entry["active"] = False
-                    ended: asyncio.Event = entry["ended"]
-                    if not ended.is_set():
-                        ended.set()
-            # Notify waiters
-            if not self._progress_update.is_set():
-                self._progress_update.set()
+                    if "import" in (entry.get("title") or "").lower():
+                        self._resolve_import_waiters(None)
 
         # Handle textDocument/publishDiagnostics (compilation complete)
         if message.method == "textDocument/publishDiagnostics":
@@ -422,77 +458,117 @@ class LSPMessageHandler(Obj):
             if file_uri in self._diagnostics_by_uri:
                 del self._diagnostics_by_uri[file_uri]
 
-    async def wait_for_maven_import_complete(self, timeout: float = 60.0) -> bool:
-        """Wait until an "Importing Maven project(s)" progress completes.
+    def project_import_future(self, project_uri: str) -> asyncio.Future[bool]:
+        """Get a future that resolves when JDT LS reports a project imported.
 
-        This uses LSP $/progress notifications if available.
+        Create the future before registering the workspace folder so that no
+        import notification can be missed. Futures belong to the caller's event
+        loop and are resolved thread-safely from the reader task.
 
         Parameters
         ----------
-        timeout : float
-            Maximum time to wait in seconds
+        project_uri : str
+            File URI of the project root
+
+        Returns
+        -------
+        asyncio.Future[bool]
+            Future resolved with True once the import is reported
+        """
+        uri = normalize_file_uri(project_uri)
+        future: asyncio.Future[bool] = asyncio.get_running_loop().create_future()
+        if uri in self._imported_projects:
+            future.set_result(True)
+        else:
+            self._import_waiters.setdefault(uri, []).append(future)
+        return future
+
+    def discard_import_future(
+        self,
+        project_uri: str,
+        future: asyncio.Future[bool],
+    ) -> None:
+        """Stop tracking an import future once its caller is done waiting.
+
+        Futures whose wait timed out would otherwise pile up until a later
+        import event resolves them.
+
+        Parameters
+        ----------
+        project_uri : str
+            File URI the future was created for
+        future : asyncio.Future[bool]
+            Future returned by :meth:`project_import_future`
+        """
+        uri = normalize_file_uri(project_uri)
+        waiters = self._import_waiters.get(uri)
+        if waiters is None:
+            return
+        if future in waiters:
+            waiters.remove(future)
+        if not waiters:
+            del self._import_waiters[uri]
+
+    def is_project_imported(self, project_uri: str) -> bool:
+        """Check whether JDT LS already reported a project as imported.
+
+        Parameters
+        ----------
+        project_uri : str
+            File URI of the project root
 
         Returns
         -------
         bool
-            True if Maven import completed, False if timeout
+            True if a ProjectsImported event covered the project
         """
-        import time
-
-        title_sub = "importing maven project"
-        end_time = time.time() + timeout
-
-        # Helper to find matching token entry
-        def _find_matching_entry() -> tuple[Any | None, dict[str, Any] | None]:
-            for token, entry in self._progress_by_token.items():
-                title = (entry.get("title") or "").lower()
-                if title_sub in title:
-                    return token, entry
-            return None, None
-
-        # Fast path: already seen and ended
-        _, entry = _find_matching_entry()
-        if entry:
-            ended_event = entry.get("ended")
-            if (
-                entry.get("active") is False
-                and ended_event is not None
-                and ended_event.is_set()
-            ):
-                return True
-
-        # Wait until begin/end observed or timeout
-        while time.time() < end_time:
-            # Check for a matching entry
-            token, entry = _find_matching_entry()
-            if entry:
-                ended_event = entry.get("ended")
-                if (
-                    entry.get("active") is False
-                    and ended_event is not None
-                    and ended_event.is_set()
-                ):
-                    return True
-                # Wait for this specific token to end
-                remaining = max(0.0, end_time - time.time())
-                try:
-                    await asyncio.wait_for(entry["ended"].wait(), timeout=remaining)
-                    return True
-                except asyncio.TimeoutError:
-                    return False
+        return normalize_file_uri(project_uri) in self._imported_projects
 
-            # Otherwise wait for any progress update and retry
-            remaining = max(0.0, end_time - time.time())
-            try:
-                await asyncio.wait_for(self._progress_update.wait(), timeout=remaining)
-            except asyncio.TimeoutError:
-                return False
-            finally:
-                # Reset the update flag for subsequent waits
-                if self._progress_update.is_set():
-                    self._progress_update.clear()
+    def _resolve_import_waiters(self, project_uris: list[str] | None) -> None:
+        """Resolve pending import futures.
 
-        return False
+        Parameters
+        ----------
+        project_uris : list[str] | None
+            Imported project URIs, or None for a workspace-wide completion
+            signal (import progress ended, build status settled) which resolves
+            every pending waiter
+        """
+        if project_uris is None:
+            resolved = list(self._import_waiters)
+        else:
+            imported = {normalize_file_uri(uri) for uri in project_uris}
+            self._imported_projects.update(imported)
+            # Sub-projects of a registered folder count towards its import
+            resolved = [
+                uri
+                for uri in self._import_waiters
+                if any(uri == i or i.startswith(uri + "/") for i in imported)
+            ]
+
+        for uri in resolved:
+            for future in self._import_waiters.pop(uri, []):
+                self._set_future_result(future, True)
+            self.ctx.debug(f"Project import reported for {uri}")
+
+    @staticmethod
+    def _set_future_result(future: asyncio.Future[bool], result: bool) -> None:
+        """Resolve a future from whichever loop the reader task runs on."""
+
+        def _set() -> None:
+            if not future.done():
+                future.set_result(result)
+
+        loop = future.get_loop()
+        try:
+            running = asyncio.get_running_loop()
+        except RuntimeError:
+            running = None
+        if running is loop:
+            _set()
+        else:
+            with contextlib.suppress(RuntimeError):
+                loop.call_soon_threadsafe(_set)
 
     async def reset_session_state(self) -> None:
         """Reset session-specific state for a new debug session.
@@ -15,6 +15,14 @@ from typing import Any
 from aidb.common.constants import LSP_SHUTDOWN_TIMEOUT_S
 from aidb.common.errors import AidbError
 from aidb.patterns.base import Obj
+from aidb_common.metrics import (
+    LSP_REQUEST_DURATION,
+    OUTCOME_ERROR,
+    OUTCOME_FAILED,
+    OUTCOME_OK,
+    OUTCOME_TIMEOUT,
+    get_metrics_registry,
+)
 
 
 @dataclass
@@ -138,13 +146,18 @@ class LSPProtocol(Obj):
             self.ctx.info(f"[LSP] -> {method} (id={request_id}) start")
 
         # Send the request
-        await self._send_message(message)
+        try:
+            await self._send_message(message)
+        except Exception:
+            self._observe(method, start_ts, OUTCOME_ERROR)
+            raise
 
         # Wait for response
         try:
             await asyncio.wait_for(event.wait(), timeout=effective_timeout)
         except asyncio.TimeoutError as e:
             del self._pending_requests[request_id]
+            self._observe(method, start_ts, OUTCOME_TIMEOUT)
             elapsed = time.monotonic() - start_ts
             msg = (
                 f"LSP request '{method}' timed out after "
@@ -157,6 +170,9 @@ class LSPProtocol(Obj):
         response = self._responses.pop(request_id)
         del self._pending_requests[request_id]
 
+        outcome = OUTCOME_FAILED if response.error else OUTCOME_OK
+        self._observe(method, start_ts, outcome)
+
         if response.error:
             msg = (
                 f"LSP request failed: {response.error.get('message', 'Unknown error')}"
@@ -173,6 +189,26 @@ class LSPProtocol(Obj):
 
         return response.result
 
+    @staticmethod
+    def _observe(method: str, start_ts: float, outcome: str) -> None:
+        """Record the latency of an LSP request in the metrics registry.
+
+        Parameters
+        ----------
+        method : str
+            The LSP method name
+        start_ts : float
+            ``time.monotonic()`` when the request was sent
+        outcome : str
+            One of the ``OUTCOME_*`` labels
+        """
+        get_metrics_registry().observe(
+            LSP_REQUEST_DURATION,
+            (time.monotonic() - start_ts) * 1000,
+            method=method,
+            outcome=outcome,
+        )
+
     async def send_notification(
         self,
         method: str,
@@ -13,19 +13,21 @@ from aidb.adapters.lang.java.tooling import JavaBuildSystemDetector
 from aidb.common.constants import (
     DEFAULT_WAIT_TIMEOUT_S,
     LSP_EXECUTE_COMMAND_TIMEOUT_S,
-    LSP_MAVEN_IMPORT_TIMEOUT_S,
+    LSP_PROJECT_IMPORT_EVENT_TIMEOUT_S,
     LSP_PROJECT_IMPORT_TIMEOUT_S,
     PROCESS_TERMINATE_TIMEOUT_S,
 )
 from aidb.patterns.base import Obj
 
+from .lsp_message_handler import normalize_file_uri
+
 
 class WorkspaceManager(Obj):
     """Manager for JDT LS workspace and project management.
 
     Handles:
     - Workspace folder registration with JDT LS
-    - Maven/Gradle project import polling (CRITICAL timing logic)
+    - Maven/Gradle project import detection (notifications, polling fallback)
     - URI normalization for cross-platform compatibility
     - Project registration tracking
     """
@@ -45,7 +47,7 @@ class WorkspaceManager(Obj):
         self,
         lsp_client,
         workspace_folders: list[tuple[Path, str]],
-    ) -> None:
+    ) -> bool:
         """Register workspace folders with JDT LS and wait for Maven/Gradle import.
 
         Parameters
@@ -55,13 +57,18 @@ class WorkspaceManager(Obj):
         workspace_folders : List[Tuple[Path, str]]
             List of (path, name) tuples for workspace folders
 
+        Returns
+        -------
+        bool
+            True if the project import completed
+
         Raises
         ------
         AidbError
             If workspace folder registration or import fails
         """
         if not workspace_folders:
-            return
+            return False
 
         # Determine which folders actually need to be added
         to_add: list[tuple[Path, str]] = []
@@ -84,54 +91,45 @@ class WorkspaceManager(Obj):
                 f"Registering {len(to_add)} workspace folder(s) with JDT LS...",
             )
 
-        # Register each new workspace folder dynamically
-        for folder_path, folder_name in to_add:
-            self.ctx.info(f"Adding workspace folder: {folder_name} ({folder_path})")
-            await lsp_client.add_workspace_folder(folder_path, folder_name)
-            self._workspace_folders.add(str(folder_path.resolve()))
-
-        # Wait for Maven/Gradle project import to complete
         project_root = (to_add or workspace_folders)[0][0]
         project_name = (to_add or workspace_folders)[0][1]
-        self.ctx.info(
-            f"Waiting for Maven/Gradle import to complete for {project_name}...",
-        )
 
-        # Lightweight health check to catch unresponsive LSP early (e.g., after reuse)
+        # Subscribe before adding folders so the import notification can't be missed
+        import_future = lsp_client.project_import_future(project_root)
+
         try:
-            _ = await lsp_client.execute_command(
-                "java.project.getAll",
-                [],
-                timeout=PROCESS_TERMINATE_TIMEOUT_S,
-            )
-            self.ctx.debug("LSP health check (java.project.getAll) succeeded")
-        except Exception as e:
-            self.ctx.warning(
-                f"LSP health check failed (getAll): {e}. Continuing with import wait",
+            # Register each new workspace folder dynamically
+            for folder_path, folder_name in to_add:
+                self.ctx.info(f"Adding workspace folder: {folder_name} ({folder_path})")
+                await lsp_client.add_workspace_folder(folder_path, folder_name)
+                self._workspace_folders.add(str(folder_path.resolve()))
+
+            # Wait for Maven/Gradle project import to complete
+            self.ctx.info(
+                f"Waiting for Maven/Gradle import to complete for {project_name}...",
             )
 
-        # Skip progress wait for pooled bridges (Events bound to pool loop,
-        # not caller loop). Pooled bridges fall back to polling-based wait
-        # which works correctly
-        progress_ready = False
-        if (
-            not lsp_client.is_pooled()
-            and lsp_client
-            and hasattr(lsp_client, "wait_for_maven_import_complete")
-        ):
+            # Lightweight health check to catch unresponsive LSP early (e.g., after
+            # reuse)
             try:
-                progress_ready = await lsp_client.wait_for_maven_import_complete(
-                    timeout=LSP_MAVEN_IMPORT_TIMEOUT_S,
+                _ = await lsp_client.execute_command(
+                    "java.project.getAll",
+                    [],
+                    timeout=PROCESS_TERMINATE_TIMEOUT_S,
                 )
+                self.ctx.debug("LSP health check (java.project.getAll) succeeded")
             except Exception as e:
-                self.ctx.debug(f"Progress-based wait unavailable: {e}")
+                self.ctx.warning(
+                    f"LSP health check failed (getAll): {e}. "
+                    "Continuing with import wait",
+                )
 
-        if not progress_ready:
             import_ready = await self.wait_for_project_import(
                 lsp_client=lsp_client,
                 project_name=project_name,
                 project_root=project_root,
                 timeout=LSP_PROJECT_IMPORT_TIMEOUT_S,
+                import_future=import_future,
             )
 
             if not import_ready:
@@ -140,6 +138,9 @@ class WorkspaceManager(Obj):
                     f"Maven/Gradle import did not complete within {timeout_msg} "
                     f"for {project_name}. Classpath resolution may fail.",
                 )
+            return import_ready
+        finally:
+            lsp_client.discard_project_import_future(project_root, import_future)
 
     async def wait_for_project_import(  # noqa: C901
         self,
@@ -148,14 +149,16 @@ class WorkspaceManager(Obj):
         project_root: Path | None = None,
         test_class: str = "Object",
         timeout: float = 60.0,
+        import_future: asyncio.Future[bool] | None = None,
     ) -> bool:
         """Wait for Maven/Gradle project import to complete.
 
-        CRITICAL: This method has fragile timing logic that must be preserved exactly.
-
         JDT LS sends ServiceReady notification before Maven import completes.
-        This method polls java.project.getAll to detect when the project appears,
-        then verifies classpath resolution is ready.
+        When ``import_future`` is given, this method first waits for JDT LS to
+        report the import (ProjectsImported event, import progress end or build
+        status) and verifies the classpath once. Otherwise, or if no report
+        arrives in time, it polls java.project.getAll to detect when the project
+        appears, then verifies classpath resolution is ready.
 
         Parameters
         ----------
@@ -169,6 +172,9 @@ class WorkspaceManager(Obj):
             A class name to test resolution with
         timeout : float
             Maximum time to wait in seconds
+        import_future : asyncio.Future[bool], optional
+            Future from ``LSPClient.project_import_future``, created before the
+            project was registered
 
         Returns
         -------
@@ -177,7 +183,7 @@ class WorkspaceManager(Obj):
 
         Notes
         -----
-        This is necessary because:
+        Polling remains necessary as a fallback because:
         - ServiceReady fires when LSP server is ready
         - Maven import happens asynchronously in background
         - No standard notification for Maven import completion
@@ -187,6 +193,18 @@ class WorkspaceManager(Obj):
         start_time = time.time()
         attempt = 0
 
+        if import_future is not None:
+            if await self._wait_for_import_event(
+                lsp_client,
+                import_future,
+                project_name,
+                test_class,
+                min(timeout, LSP_PROJECT_IMPORT_EVENT_TIMEOUT_S),
+            ):
+                return True
+            timeout = max(0.0, timeout - (time.time() - start_time))
+            start_time = time.time()
+
         # Build expected URI from project root for matching
         expected_uri = None
         if project_root:
@@ -241,7 +259,7 @@ class WorkspaceManager(Obj):
                         f"Attempt {attempt}: Project '{project_name}' not present "
                         f"(elapsed: {elapsed:.1f}s). URIs: {proj_list}",
                     )
-                    await asyncio.sleep(random.uniform(1.0, 2.0))  # noqa: S311
+                    await self._poll_delay(import_future)
                     continue
 
                 # Project found! Log and proceed to classpath verification
@@ -252,7 +270,7 @@ class WorkspaceManager(Obj):
             except Exception as e:
                 # Log error but continue with classpath probe
                 self.ctx.debug(f"Attempt {attempt}: getAll failed: {e}")
-                await asyncio.sleep(random.uniform(1.0, 2.0))  # noqa: S311
+                await self._poll_delay(import_future)
                 continue
 
             try:
@@ -294,7 +312,7 @@ class WorkspaceManager(Obj):
                 )
 
             # Wait before next attempt with small jitter (1-2s)
-            await asyncio.sleep(random.uniform(1.0, 2.0))  # noqa: S311
+            await self._poll_delay(import_future)
 
         # Timeout reached
         elapsed = time.time() - start_time
@@ -304,6 +322,80 @@ class WorkspaceManager(Obj):
         )
         return False
 
+    async def _wait_for_import_event(
+        self,
+        lsp_client,
+        import_future: asyncio.Future[bool],
+        project_name: str,
+        test_class: str,
+        timeout: float,
+    ) -> bool:
+        """Wait for JDT LS to report the import, then verify the classpath once.
+
+        Parameters
+        ----------
+        lsp_client : LSPClient
+            The LSP client for communication
+        import_future : asyncio.Future[bool]
+            Future resolved by the message handler on import completion
+        project_name : str
+            The project name to test
+        test_class : str
+            A class name to test resolution with
+        timeout : float
+            Maximum time to wait for the notification in seconds
+
+        Returns
+        -------
+        bool
+            True if the import was reported and the classpath resolves
+        """
+        start_time = time.time()
+        try:
+            await asyncio.wait_for(asyncio.shield(import_future), timeout=timeout)
+        except asyncio.TimeoutError:
+            self.ctx.debug(
+                f"No import notification within {timeout}s, falling back to polling",
+            )
+            return False
+
+        try:
+            classpath = await lsp_client.execute_command(
+                "vscode.java.resolveClasspath",
+                [test_class, project_name or ""],
+                timeout=LSP_EXECUTE_COMMAND_TIMEOUT_S,
+            )
+        except Exception as e:
+            self.ctx.debug(f"Classpath failed after import notification: {e}")
+            return False
+
+        if isinstance(classpath, dict):
+            classpath = classpath.get("classpaths")
+        if not classpath:
+            # Notification may have been for another project; keep polling
+            self.ctx.debug("Empty classpath after import notification")
+            return False
+
+        self.ctx.info(
+            f"Maven/Gradle import complete after {time.time() - start_time:.1f}s "
+            f"(import notification, {len(classpath)} classpath entries)",
+        )
+        return True
+
+    async def _poll_delay(self, import_future: asyncio.Future[bool] | None) -> None:
+        """Sleep between polling attempts, waking early on an import notification.
+
+        Parameters
+        ----------
+        import_future : asyncio.Future[bool], optional
+            Pending import future, if any
+        """
+        delay = random.uniform(1.0, 2.0)  # noqa: S311
+        if import_future is None or import_future.done():
+            await asyncio.sleep(delay)
+            return
+        await asyncio.wait({import_future}, timeout=delay)
+
     async def register_project(
         self,
         lsp_client,
@@ -366,13 +458,6 @@ class WorkspaceManager(Obj):
     def _normalize_file_uri(self, uri: str) -> str:
         """Normalize file URI for cross-platform comparison.
 
-        JDT LS may return URIs with varying formats:
-        - Linux: file:/path (1 slash)
-        - Standard RFC 8089: file:///path (3 slashes)
-        - Trailing slashes may vary
-
-        This normalizes to RFC 8089 format for consistent comparison.
-
         Parameters
         ----------
         uri : str
@@ -383,20 +468,4 @@ class WorkspaceManager(Obj):
         str
             Normalized URI in file:/// format without trailing slash
         """
-        # Remove trailing slash
-        uri = uri.rstrip("/")
-
-        # Normalize file:/ or file:// to file:/// for consistency
-        if uri.startswith("file:/"):
-            # Count slashes after file:
-            if uri.startswith("file:///"):
-                # Already normalized (3 slashes)
-                pass
-            elif uri.startswith("file://"):
-                # 2 slashes - add one more
-                uri = "file:///" + uri[7:]
-            else:
-                # 1 slash - convert to 3
-                uri = "file:///" + uri[6:]
-
-        return uri
+        return normalize_file_uri(uri)
@@ -2,15 +2,36 @@
 
 This module provides utilities to automatically discover source directories in Maven and
 Gradle projects, supporting nested multi-module structures.
+
+Directories are listed concurrently and pruned as early as possible: build output,
+hidden directories, directories a ``.gitignore`` excludes (negations included) and
+the inside of source roots are never entered. The directory tree of each workspace is
+cached in memory with the mtime of every directory, so a repeat scan re-lists only
+directories whose entries changed and otherwise costs one ``stat`` per directory.
 """
 
 from __future__ import annotations
 
+import fnmatch
+import os
+import threading
+import time
+from concurrent.futures import ThreadPoolExecutor
+from dataclasses import dataclass, field
 from pathlib import Path
 
 from aidb.adapters.lang.java.tooling import JavaBuildSystemDetector
+from aidb.common.constants import JAVA_SOURCE_SCAN_WORKERS
+from aidb_logging import get_logger
+
+__all__ = [
+    "JavaSourceRootIndex",
+    "detect_java_source_paths",
+    "expand_java_source_paths",
+    "get_java_source_root_index",
+]
 
-__all__ = ["detect_java_source_paths"]
+logger = get_logger(__name__)
 
 # Standard source directory names in Maven/Gradle projects
 _SOURCE_DIRS = [
@@ -22,6 +43,9 @@ _SOURCE_DIRS = [
     "src/test/scala",
 ]
 
+# Source roots as path tails, for pruning them during the scan
+_SOURCE_DIR_TAILS = frozenset(tuple(src_dir.split("/")) for src_dir in _SOURCE_DIRS)
+
 # Directories to skip during recursive scanning
 _SKIP_DIRS = {
     ".git",
@@ -36,6 +60,12 @@ _SKIP_DIRS = {
     ".settings",
 }
 
+GITIGNORE = ".gitignore"
+
+# Directories modified this recently are re-listed even if their mtime is unchanged,
+# since a second change within the filesystem's timestamp granularity would be missed
+_RACY_WINDOW_NS = 2_000_000_000
+
 
 def _is_build_root(path: Path) -> bool:
     """Check if path is a Maven/Gradle project root.
@@ -71,34 +101,284 @@ def _collect_source_paths(project_root: Path, source_paths: list[str]) -> None:
                 source_paths.append(path_str)
 
 
-def _scan_recursive(directory: Path, source_paths: list[str]) -> None:
-    """Recursively scan for Maven/Gradle modules.
+def parse_gitignore(text: str) -> list[str]:
+    """Extract the directory patterns of a .gitignore file.
 
     Parameters
     ----------
-    directory : Path
-        Directory to scan
-    source_paths : list[str]
-        List to append discovered source paths to
+    text : str
+        File contents
+
+    Returns
+    -------
+    list[str]
+        Patterns in file order, without trailing slashes; negated patterns keep
+        their leading ``!``, and patterns containing a slash are relative to the
+        directory of the .gitignore
+    """
+    patterns: list[str] = []
+    for raw in text.splitlines():
+        line = raw.strip()
+        if not line or line.startswith("#"):
+            continue
+        negated = line.startswith("!")
+        if negated:
+            line = line[1:]
+        elif line.startswith(("\\!", "\\#")):
+            line = line[1:]
+        line = line.rstrip("/")
+        if line.startswith("**/") and "/" not in line[3:]:
+            line = line[3:]
+        if line:
+            patterns.append(f"!{line}" if negated else line)
+    return patterns
+
+
+# .gitignore patterns in effect, with the directory each is relative to
+_IgnoreRules = tuple[tuple[Path, tuple[str, ...]], ...]
+
+
+def _is_ignored(directory: Path, rules: _IgnoreRules) -> bool:
+    """Apply .gitignore rules the way git does: the last matching pattern wins.
+
+    Rules of deeper .gitignore files come later and so take precedence. A
+    directory excluded here is never entered, matching git, which cannot
+    re-include anything below an excluded directory.
     """
-    if not directory.is_dir():
-        return
+    ignored = False
+    for base, patterns in rules:
+        rel: str | None = None
+        for pattern in patterns:
+            negated = pattern.startswith("!")
+            if negated != ignored:
+                # Cannot change the outcome so far
+                continue
+            body = pattern[1:] if negated else pattern
+            if "/" not in body:
+                matched = fnmatch.fnmatchcase(directory.name, body)
+            else:
+                if rel is None:
+                    rel = directory.relative_to(base).as_posix()
+                matched = fnmatch.fnmatchcase(rel, body.lstrip("/"))
+            if matched:
+                ignored = not negated
+    return ignored
+
+
+@dataclass
+class _DirNode:
+    """Cached listing of one directory."""
 
-    # Skip hidden directories and common non-source directories
-    if directory.name in _SKIP_DIRS or directory.name.startswith("."):
-        return
+    mtime_ns: int
+    gitignore_mtime_ns: int | None
+    listed_at_ns: int
+    is_build_root: bool
+    subdirs: list[str]
+    ignore_patterns: tuple[str, ...]
+    children: dict[str, _DirNode] = field(default_factory=dict)
 
-    # If this directory is a build root, collect its source paths
-    if _is_build_root(directory):
-        _collect_source_paths(directory, source_paths)
+    def is_current(self, path: Path) -> bool:
+        """Check whether the directory is unchanged since it was listed."""
+        try:
+            mtime_ns = path.stat().st_mtime_ns
+        except OSError:
+            return False
+        if mtime_ns != self.mtime_ns or mtime_ns >= self.listed_at_ns - _RACY_WINDOW_NS:
+            return False
+        try:
+            gitignore_mtime_ns: int | None = (path / GITIGNORE).stat().st_mtime_ns
+        except OSError:
+            gitignore_mtime_ns = None
+        return gitignore_mtime_ns == self.gitignore_mtime_ns
 
-    # Recurse into subdirectories
+
+def _list_directory(path: Path) -> _DirNode | None:
+    """List a directory's subdirectories, build files and ignore rules."""
+    listed_at_ns = time.time_ns()
     try:
-        for child in directory.iterdir():
-            if child.is_dir():
-                _scan_recursive(child, source_paths)
-    except PermissionError:
-        pass  # Skip directories we can't read
+        mtime_ns = path.stat().st_mtime_ns
+        subdirs: list[str] = []
+        names: set[str] = set()
+        with os.scandir(path) as entries:
+            for entry in entries:
+                names.add(entry.name)
+                if (
+                    entry.name in _SKIP_DIRS
+                    or entry.name.startswith(".")
+                    or not entry.is_dir(follow_symlinks=False)
+                ):
+                    continue
+                subdirs.append(entry.name)
+    except OSError:
+        return None  # Skip directories we can't read
+
+    gitignore_mtime_ns = None
+    patterns: list[str] = []
+    if GITIGNORE in names:
+        gitignore = path / GITIGNORE
+        try:
+            gitignore_mtime_ns = gitignore.stat().st_mtime_ns
+            patterns = parse_gitignore(gitignore.read_text(errors="replace"))
+        except OSError as e:
+            logger.debug("Unreadable %s: %s", gitignore, e)
+
+    build_files = JavaBuildSystemDetector.BUILD_FILES
+    return _DirNode(
+        mtime_ns=mtime_ns,
+        gitignore_mtime_ns=gitignore_mtime_ns,
+        listed_at_ns=listed_at_ns,
+        is_build_root=any(name in names for name in build_files),
+        subdirs=sorted(subdirs),
+        ignore_patterns=tuple(patterns),
+    )
+
+
+# Directory to visit: path, cached node, ignore rules, parent node
+_ScanItem = tuple[Path, "_DirNode | None", _IgnoreRules, "_DirNode | None"]
+
+
+def _refresh_node(path: Path, cached: _DirNode | None) -> _DirNode | None:
+    if cached is not None and cached.is_current(path):
+        return cached
+    node = _list_directory(path)
+    if node is not None and cached is not None:
+        # Subtrees of directories that still exist are revalidated, not re-listed
+        node.children = {
+            name: child
+            for name, child in cached.children.items()
+            if name in node.subdirs
+        }
+    return node
+
+
+class JavaSourceRootIndex:
+    """Cache of the Maven/Gradle source roots found under workspace roots.
+
+    Thread-safe; one instance is shared per process via
+    :func:`get_java_source_root_index`.
+
+    Parameters
+    ----------
+    workers : int
+        Threads listing directories concurrently
+    """
+
+    def __init__(self, workers: int = JAVA_SOURCE_SCAN_WORKERS) -> None:
+        self.workers = workers
+        self._lock = threading.Lock()
+        self._trees: dict[str, _DirNode] = {}
+        self._results: dict[str, tuple[float, list[str]]] = {}
+        self._pool: ThreadPoolExecutor | None = None
+        self.listed_dirs = 0
+
+    def source_roots(
+        self,
+        workspace_root: str | Path,
+        max_age_s: float = 0.0,
+    ) -> list[str]:
+        """Get the source roots of every module under a workspace root.
+
+        Parameters
+        ----------
+        workspace_root : str | Path
+            Root directory of the workspace; must be a Maven/Gradle project
+        max_age_s : float
+            Return the previous result without re-checking any directory if it
+            is at most this old
+
+        Returns
+        -------
+        list[str]
+            Existing source directories, modules in depth-first order
+        """
+        root = Path(workspace_root)
+        key = str(root)
+        with self._lock:
+            previous = self._results.get(key)
+            if previous and time.monotonic() - previous[0] <= max_age_s:
+                return list(previous[1])
+
+            if not _is_build_root(root):
+                self._trees.pop(key, None)
+                self._results.pop(key, None)
+                return []
+
+            build_roots = self._scan(root, key)
+            source_paths: list[str] = []
+            for build_root in build_roots:
+                _collect_source_paths(build_root, source_paths)
+            self._results[key] = (time.monotonic(), source_paths)
+            return list(source_paths)
+
+    def _scan(self, root: Path, key: str) -> list[Path]:
+        """Revalidate the cached tree of a workspace level by level."""
+        build_roots: list[Path] = []
+        level: list[_ScanItem] = [(root, self._trees.get(key), (), None)]
+        if self._pool is None:
+            # Kept for the life of the index; idle workers cost nothing
+            self._pool = ThreadPoolExecutor(
+                max_workers=self.workers,
+                thread_name_prefix="java-source-scan",
+            )
+        while level:
+            nodes = list(self._pool.map(lambda item: _refresh_node(*item[:2]), level))
+            next_level: list[_ScanItem] = []
+            for (path, cached, rules, parent), node in zip(level, nodes, strict=True):
+                if node is not cached:
+                    self.listed_dirs += 1
+                if parent is None:
+                    if node is None:
+                        self._trees.pop(key, None)
+                        return []
+                    self._trees[key] = node
+                elif node is None:
+                    parent.children.pop(path.name, None)
+                    continue
+                else:
+                    parent.children[path.name] = node
+
+                if node.is_build_root:
+                    build_roots.append(path)
+                if node.ignore_patterns:
+                    rules = (*rules, (path, node.ignore_patterns))
+                for name in node.subdirs:
+                    child = path / name
+                    if tuple(child.parts[-3:]) in _SOURCE_DIR_TAILS or (
+                        rules and _is_ignored(child, rules)
+                    ):
+                        node.children.pop(name, None)
+                        continue
+                    next_level.append((child, node.children.get(name), rules, node))
+            level = next_level
+
+        return sorted(build_roots, key=lambda p: p.parts)
+
+    def clear(self) -> None:
+        """Drop every cached tree."""
+        with self._lock:
+            self._trees.clear()
+            self._results.clear()
+
+
+_index: JavaSourceRootIndex | None = None
+_index_lock = threading.Lock()
+
+
+def get_java_source_root_index() -> JavaSourceRootIndex:
+    """Get the process-wide source root index.
+
+    Returns
+    -------
+    JavaSourceRootIndex
+        Shared index
+    """
+    global _index
+
+    if _index is None:
+        with _index_lock:
+            if _index is None:
+                _index = JavaSourceRootIndex()
+    return _index
 
 
 def detect_java_source_paths(workspace_root: str | Path) -> list[str]:
@@ -106,7 +386,8 @@ def detect_java_source_paths(workspace_root: str | Path) -> list[str]:
 
     Recursively scans for Maven/Gradle modules and collects standard source
     directories. Handles nested multi-module projects like Trino
-    (core/trino-main, plugin/trino-hive, etc.).
+    (core/trino-main, plugin/trino-hive, etc.). Repeat calls for the same
+    workspace only re-list directories that changed.
 
     Parameters
     ----------
@@ -125,12 +406,36 @@ def detect_java_source_paths(workspace_root: str | Path) -> list[str]:
     >>> # ['/path/to/trino/core/trino-main/src/main/java',
     >>> #  '/path/to/trino/core/trino-spi/src/main/java', ...]
     """
-    root = Path(workspace_root)
+    return get_java_source_root_index().source_roots(workspace_root)
+
 
-    # Only proceed if workspace_root is a Maven/Gradle project
-    if not _is_build_root(root):
-        return []
+def expand_java_source_paths(
+    source_paths: list[str],
+    max_age_s: float = 0.0,
+) -> list[str]:
+    """Follow each Maven/Gradle project root in a source path list by its source roots.
 
-    source_paths: list[str] = []
-    _scan_recursive(root, source_paths)
-    return source_paths
+    Project roots are kept, so files outside the standard source layouts still
+    resolve against them.
+
+    Parameters
+    ----------
+    source_paths : list[str]
+        Source directories and/or project roots
+    max_age_s : float
+        Maximum age of cached scan results to reuse without re-checking
+
+    Returns
+    -------
+    list[str]
+        Source directories without duplicates, in the original order, each
+        project root followed by its source roots
+    """
+    index = get_java_source_root_index()
+    expanded: list[str] = []
+    for path in source_paths:
+        roots = [path]
+        if _is_build_root(Path(path)):
+            roots.extend(index.source_roots(path, max_age_s=max_age_s))
+        expanded.extend(root for root in roots if root not in expanded)
+    return expanded
@@ -2,7 +2,11 @@
 
 from __future__ import annotations
 
+from pathlib import Path
+
 from aidb.adapters.base.source_path_resolver import SourcePathResolver
+from aidb.adapters.lang.java.source_detection import expand_java_source_paths
+from aidb.common.constants import JAVA_SOURCE_SCAN_REVALIDATE_S
 
 
 class JavaSourcePathResolver(SourcePathResolver):
@@ -13,8 +17,34 @@ class JavaSourcePathResolver(SourcePathResolver):
     - Maven source layouts: '/src/main/java/', '/src/test/java/'
     - Gradle source layouts: '/src/main/kotlin/', '/src/test/scala/'
     - Common package prefixes: io/, com/, org/, net/, java/, javax/
+
+    Maven/Gradle project roots given as source paths are expanded to the source
+    roots of their modules, using the cached source root index.
     """
 
+    def resolve(self, file_path: str, source_paths: list[str]) -> Path | None:
+        """Resolve a file path, expanding project roots to their source roots.
+
+        Parameters
+        ----------
+        file_path : str
+            Path from debug adapter
+        source_paths : list[str]
+            Local source directories and/or Maven/Gradle project roots
+
+        Returns
+        -------
+        Path | None
+            Resolved local path if found, None otherwise
+        """
+        return super().resolve(
+            file_path,
+            expand_java_source_paths(
+                source_paths,
+                max_age_s=JAVA_SOURCE_SCAN_REVALIDATE_S,
+            ),
+        )
+
     def extract_relative_path(self, file_path: str) -> str | None:
         """Extract the Java class path from various path formats.
 
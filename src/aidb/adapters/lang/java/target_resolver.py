@@ -5,17 +5,24 @@ Handles detection and normalization of Java debug targets including:
 - Compiled classes: "Main.class" → CLASS type
 - JAR files: "app.jar" → EXECUTABLE type
 - Qualified class names: "com.example.Main" → CLASS type
+
+Source and JAR targets are looked up in the main class index, which adds their
+main class (and, for sources, whether they hold JUnit tests) to the metadata.
 """
 
 from __future__ import annotations
 
-from typing import TYPE_CHECKING
+from pathlib import Path
+from typing import TYPE_CHECKING, Any
 
 from aidb.adapters.base.target_resolver import (
     ResolvedTarget,
     TargetResolver,
     TargetType,
 )
+from aidb.adapters.lang.java.tooling.main_class_index import (
+    get_java_main_class_index,
+)
 
 if TYPE_CHECKING:
     from aidb.adapters.lang.java.java import JavaAdapter
@@ -54,7 +61,7 @@ class JavaTargetResolver(TargetResolver):
                 target=target,
                 target_type=TargetType.FILE,
                 original_target=target,
-                metadata={"needs_compilation": True},
+                metadata={"needs_compilation": True, **self._source_metadata(target)},
             )
 
         # 2. Compiled class file
@@ -72,7 +79,7 @@ class JavaTargetResolver(TargetResolver):
                 target=target,
                 target_type=TargetType.EXECUTABLE,
                 original_target=target,
-                metadata={},
+                metadata=self._jar_metadata(target),
             )
 
         # 4. File path with separators
@@ -101,3 +108,25 @@ class JavaTargetResolver(TargetResolver):
             original_target=target,
             metadata={},
         )
+
+    def _source_metadata(self, target: str) -> dict[str, Any]:
+        """Get the indexed main class and test status of a source target."""
+        index = get_java_main_class_index()
+        if index is None:
+            return {}
+        try:
+            indexed = index.classify_source(Path(target))
+        except OSError:
+            return {}
+        if indexed is None:
+            return {}
+        metadata: dict[str, Any] = {"junit_test": indexed.is_test}
+        if indexed.is_main:
+            metadata["main_class"] = indexed.name
+        return metadata
+
+    def _jar_metadata(self, target: str) -> dict[str, Any]:
+        """Get the indexed manifest main class of a JAR target."""
+        index = get_java_main_class_index()
+        main_class = index.jar_main_class(target) if index is not None else None
+        return {"main_class": main_class} if main_class else {}
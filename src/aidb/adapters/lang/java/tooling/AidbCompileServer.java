@@ -0,0 +1,146 @@
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.StringWriter;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.SocketTimeoutException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+
+/**
+ * Long-lived javac daemon used by aidb's JavaCompileServer.
+ *
+ * <p>Listens on a loopback port (printed as "PORT n" on stdout) and compiles
+ * one job per connection with the in-process javax.tools compiler. Each job
+ * gets its own standard file manager, so no classpath or cached archive
+ * contents leak from one job into the next; the JIT-warmed compiler and the
+ * JDK's shared platform class index stay warm between jobs.
+ *
+ * <p>Request (UTF-8 lines): "COMPILE", then "OPT\t&lt;javac option&gt;" and
+ * "SRC\t&lt;source path&gt;" lines, then "END". "PING" and "SHUTDOWN" are
+ * also accepted. Response: "OK" or "FAIL" on the first line followed by the
+ * javac diagnostics; the server closes the connection when done.
+ *
+ * <p>The daemon exits when stdin reaches EOF (parent process gone) or after
+ * the idle timeout (first argument, seconds) elapses without a connection.
+ */
+public final class AidbCompileServer {
+
+    private AidbCompileServer() {}
+
+    public static void main(String[] args) throws IOException {
+        int idleTimeoutSeconds = args.length > 0 ? Integer.parseInt(args[0]) : 600;
+
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        if (compiler == null) {
+            System.out.println("ERROR no system Java compiler (JRE instead of JDK?)");
+            System.out.flush();
+            System.exit(2);
+        }
+        ServerSocket server = new ServerSocket(0, 50, InetAddress.getLoopbackAddress());
+        server.setSoTimeout(idleTimeoutSeconds * 1000);
+
+        Thread parentWatch = new Thread(() -> {
+            try {
+                while (System.in.read() != -1) {
+                    // Drain until the parent closes our stdin
+                }
+            } catch (IOException ignored) {
+                // Treat read errors as parent death
+            }
+            System.exit(0);
+        }, "aidb-parent-watch");
+        parentWatch.setDaemon(true);
+        parentWatch.start();
+
+        System.out.println("PORT " + server.getLocalPort());
+        System.out.flush();
+
+        boolean running = true;
+        while (running) {
+            Socket client;
+            try {
+                client = server.accept();
+            } catch (SocketTimeoutException e) {
+                break;
+            }
+            try (Socket socket = client) {
+                running = handle(socket, compiler);
+            } catch (IOException e) {
+                System.err.println("aidb compile server: " + e);
+            }
+        }
+
+        server.close();
+        System.exit(0);
+    }
+
+    private static boolean handle(Socket socket, JavaCompiler compiler)
+            throws IOException {
+        BufferedReader in = new BufferedReader(
+                new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8));
+        OutputStream out = socket.getOutputStream();
+
+        String command = in.readLine();
+        if (command == null || "PING".equals(command)) {
+            reply(out, true, "");
+            return true;
+        }
+        if ("SHUTDOWN".equals(command)) {
+            reply(out, true, "");
+            return false;
+        }
+        if (!"COMPILE".equals(command)) {
+            reply(out, false, "unknown command: " + command);
+            return true;
+        }
+
+        List<String> options = new ArrayList<>();
+        List<File> sources = new ArrayList<>();
+        String line;
+        while ((line = in.readLine()) != null && !"END".equals(line)) {
+            int tab = line.indexOf('\t');
+            if (tab < 0) {
+                continue;
+            }
+            String key = line.substring(0, tab);
+            String value = line.substring(tab + 1);
+            if ("OPT".equals(key)) {
+                options.add(value);
+            } else if ("SRC".equals(key)) {
+                sources.add(new File(value));
+            }
+        }
+
+        StringWriter diagnostics = new StringWriter();
+        boolean success;
+        try (StandardJavaFileManager fileManager =
+                compiler.getStandardFileManager(null, null, StandardCharsets.UTF_8)) {
+            Iterable<? extends JavaFileObject> units =
+                    fileManager.getJavaFileObjectsFromFiles(sources);
+            success = compiler.getTask(diagnostics, fileManager, null, options, null, units)
+                    .call();
+        } catch (RuntimeException e) {
+            success = false;
+            diagnostics.write(e.toString());
+        }
+        reply(out, success, diagnostics.toString());
+        return true;
+    }
+
+    private static void reply(OutputStream out, boolean success, String body)
+            throws IOException {
+        String payload = (success ? "OK" : "FAIL") + "\n" + body;
+        out.write(payload.getBytes(StandardCharsets.UTF_8));
+        out.flush();
+    }
+}
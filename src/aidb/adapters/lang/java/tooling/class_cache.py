@@ -0,0 +1,246 @@
+"""Content-addressed cache of compiled Java classes.
+
+Standalone ``.java`` targets are compiled into a fresh temp directory per session, so
+unchanged test programs were recompiled by every session. This cache stores javac
+output under ``~/.aidb/java_class_cache/<key>`` where the key covers the source
+content, the javac options (including classpath), classpath archives and class
+directories, and the JDK, letting identical compiles across sessions and agents skip
+javac entirely.
+
+Entries are published atomically (staging directory + rename) and evicted
+least-recently-used first once the cache exceeds its size budget. Each entry
+directory's mtime records its last use.
+"""
+
+from __future__ import annotations
+
+import hashlib
+import os
+import shutil
+import tempfile
+from pathlib import Path
+
+from aidb_common.io.hashing import compute_files_hash
+from aidb_logging import get_logger
+
+logger = get_logger(__name__)
+
+
+def _directory_stamp(path: Path) -> str:
+    """Summarize a classpath directory's contents without hashing them.
+
+    Parameters
+    ----------
+    path : Path
+        Classpath directory, e.g. ``target/classes``
+
+    Returns
+    -------
+    str
+        File count, total size and newest mtime of all files below ``path``;
+        recompiling any class in the directory changes it
+    """
+    count = 0
+    total_size = 0
+    newest_mtime_ns = 0
+    for dirpath, _dirnames, filenames in os.walk(path):
+        for name in filenames:
+            try:
+                st = os.stat(os.path.join(dirpath, name))
+            except OSError:
+                continue
+            count += 1
+            total_size += st.st_size
+            newest_mtime_ns = max(newest_mtime_ns, st.st_mtime_ns)
+    return f"{path}:{count}:{total_size}:{newest_mtime_ns}"
+
+
+class JavaClassCache:
+    """Size-bounded LRU cache of javac output directories.
+
+    Parameters
+    ----------
+    cache_dir : Path
+        Root directory holding one sub-directory per cache entry
+    max_bytes : int
+        Total size budget; least-recently-used entries are evicted beyond it
+    """
+
+    def __init__(self, cache_dir: Path, max_bytes: int):
+        self.cache_dir = cache_dir
+        self.max_bytes = max(0, max_bytes)
+        self.cache_dir.mkdir(parents=True, exist_ok=True)
+
+    @staticmethod
+    def jdk_fingerprint(javac_command: str) -> str:
+        """Identify the JDK behind a javac executable without running it.
+
+        Uses the resolved javac path and its mtime, which change whenever the
+        JDK is switched or upgraded in place.
+
+        Parameters
+        ----------
+        javac_command : str
+            javac executable (absolute path or name on PATH)
+
+        Returns
+        -------
+        str
+            Fingerprint string
+        """
+        resolved = shutil.which(javac_command) or javac_command
+        try:
+            real = Path(resolved).resolve()
+            return f"{real}:{real.stat().st_mtime_ns}"
+        except OSError:
+            return resolved
+
+    def make_key(self, source: str, javac_cmd: list[str]) -> str:
+        """Compute the cache key for compiling ``source`` with ``javac_cmd``.
+
+        Parameters
+        ----------
+        source : str
+            Source file being compiled
+        javac_cmd : list[str]
+            Full javac command; the output directory (``-d``) is ignored
+
+        Returns
+        -------
+        str
+            Hex digest identifying the compile
+        """
+        options: list[str] = []
+        classpath_files: list[str] = []
+        classpath_dirs: list[str] = []
+        args = iter(javac_cmd[1:])
+        for arg in args:
+            if arg == "-d":
+                next(args, None)
+                continue
+            if arg in ("-cp", "-classpath", "--class-path"):
+                value = next(args, "")
+                options.extend([arg, value])
+                for entry in filter(None, value.split(os.pathsep)):
+                    if Path(entry).is_file():
+                        classpath_files.append(entry)
+                    elif Path(entry).is_dir():
+                        classpath_dirs.append(_directory_stamp(Path(entry)))
+                continue
+            if arg != source:
+                options.append(arg)
+
+        digest = hashlib.sha256()
+        digest.update(compute_files_hash([source, *classpath_files]).encode("utf-8"))
+        digest.update("\0".join(options).encode("utf-8"))
+        digest.update("\0".join(classpath_dirs).encode("utf-8"))
+        digest.update(self.jdk_fingerprint(javac_cmd[0]).encode("utf-8"))
+        return digest.hexdigest()
+
+    def lookup(self, key: str, class_name: str) -> str | None:
+        """Return the cached class file for ``key``, if present.
+
+        A hit refreshes the entry's LRU position.
+
+        Parameters
+        ----------
+        key : str
+            Cache key from :meth:`make_key`
+        class_name : str
+            Simple class name expected in the entry
+
+        Returns
+        -------
+        str | None
+            Path to the cached ``.class`` file, or None on a miss
+        """
+        entry = self.cache_dir / key
+        class_file = entry / f"{class_name}.class"
+        if not class_file.exists():
+            return None
+        try:
+            os.utime(entry)
+        except OSError:
+            pass
+        return str(class_file)
+
+    def store(self, key: str, output_dir: str) -> None:
+        """Publish a javac output directory under ``key``.
+
+        The output is copied into a staging directory and renamed into place, so
+        concurrent sessions never observe a partially written entry.
+
+        Parameters
+        ----------
+        key : str
+            Cache key from :meth:`make_key`
+        output_dir : str
+            Directory javac wrote its class files to
+        """
+        entry = self.cache_dir / key
+        if entry.exists():
+            return
+
+        staging = Path(tempfile.mkdtemp(prefix=f".{key[:8]}-", dir=self.cache_dir))
+        try:
+            shutil.copytree(output_dir, staging, dirs_exist_ok=True)
+            os.rename(staging, entry)
+        except OSError as e:
+            # Another process published the same key first, or the disk is full
+            logger.debug("Class cache store skipped for %s: %s", key[:8], e)
+            shutil.rmtree(staging, ignore_errors=True)
+            return
+
+        self.evict()
+
+    def evict(self) -> int:
+        """Evict least-recently-used entries until the cache fits its budget.
+
+        Returns
+        -------
+        int
+            Number of entries evicted
+        """
+        entries: list[tuple[float, int, Path]] = []
+        total = 0
+        for entry in self.cache_dir.iterdir():
+            if not entry.is_dir() or entry.name.startswith("."):
+                continue
+            try:
+                size = sum(f.stat().st_size for f in entry.rglob("*") if f.is_file())
+                entries.append((entry.stat().st_mtime, size, entry))
+            except OSError:
+                continue
+            total += size
+
+        evicted = 0
+        entries.sort(key=lambda item: item[0])
+        for _mtime, size, entry in entries:
+            if total <= self.max_bytes:
+                break
+            shutil.rmtree(entry, ignore_errors=True)
+            total -= size
+            evicted += 1
+
+        if evicted:
+            logger.debug("Evicted %d class cache entries", evicted)
+        return evicted
+
+
+def get_java_class_cache() -> JavaClassCache | None:
+    """Get the class cache configured for this process.
+
+    Returns
+    -------
+    JavaClassCache | None
+        Cache instance, or None if disabled via AIDB_JAVA_CLASS_CACHE
+    """
+    from aidb.common.context import AidbContext
+    from aidb_common.config import config
+
+    if not config.is_java_class_cache_enabled():
+        return None
+    return JavaClassCache(
+        Path(AidbContext.get_storage_path("java_class_cache")),
+        max_bytes=config.get_java_class_cache_mb() * 1024 * 1024,
+    )
@@ -6,6 +6,10 @@ managing JAR manifest files.
 
 from pathlib import Path
 
+from aidb.adapters.lang.java.tooling.main_class_index import (
+    get_java_main_class_index,
+    read_manifest_main_class,
+)
 from aidb.common.errors import AidbError
 
 
@@ -120,6 +124,9 @@ class JavaClasspathBuilder:
     def resolve_jar_manifest(self, jar_path: str) -> str | None:
         """Extract main class from JAR manifest.
 
+        Manifests are cached in the main class index and re-read only when the
+        JAR changes.
+
         Parameters
         ----------
         jar_path : str
@@ -130,17 +137,10 @@ class JavaClasspathBuilder:
         Optional[str]
             Main class name from manifest, or None if not found
         """
-        import zipfile
-
-        try:
-            with zipfile.ZipFile(jar_path, "r") as jar:
-                manifest = jar.read("META-INF/MANIFEST.MF").decode("utf-8")
-                for line in manifest.split("\n"):
-                    if line.startswith("Main-Class:"):
-                        return line.split(":", 1)[1].strip()
-        except (KeyError, zipfile.BadZipFile, FileNotFoundError):
-            pass
-        return None
+        index = get_java_main_class_index()
+        if index is not None:
+            return index.jar_main_class(jar_path)
+        return read_manifest_main_class(jar_path)
 
     def normalize_class_name(self, class_name: str) -> str:
         """Normalize a class name to fully qualified format.
@@ -0,0 +1,223 @@
+"""Persistent cache of Maven/Gradle classpaths resolved by JDT LS.
+
+Resolving the runtime classpath of a Maven/Gradle main class costs a JDT LS round
+trip (plus a health check on pooled bridges) on every launch, although the result only
+changes when the build changes. This cache stores resolved classpaths under
+``~/.aidb/java_classpath_cache`` keyed by project root, main class and project name,
+and invalidates them through :class:`ChecksumServiceBase` whenever the hash of the
+project's build files and dependency lockfiles changes.
+"""
+
+from __future__ import annotations
+
+import hashlib
+from pathlib import Path
+
+from aidb.adapters.lang.java.tooling.workspace_snapshots import (
+    JDTLSWorkspaceSnapshots,
+)
+from aidb_common.io import (
+    ChecksumServiceBase,
+    FileOperationError,
+    safe_read_json,
+    safe_write_json,
+)
+from aidb_common.io.hashing import compute_files_hash
+from aidb_logging import get_logger
+
+logger = get_logger(__name__)
+
+# Dependency lockfiles and build settings besides the build files themselves
+_LOCKFILES = frozenset(
+    (
+        "gradle.lockfile",
+        "buildscript-gradle.lockfile",
+        "verification-metadata.xml",
+    ),
+)
+
+# Maven build settings kept in the (otherwise skipped) hidden .mvn directory
+_MAVEN_CONFIG_FILES = (".mvn/maven.config", ".mvn/extensions.xml", ".mvn/jvm.config")
+
+
+class JavaClasspathCache(ChecksumServiceBase):
+    """Classpath store invalidated by build-file checksums.
+
+    Each entry is a JSON file holding the resolved classpath, next to a hash file
+    recording the build-file hash it was resolved for.
+
+    Parameters
+    ----------
+    cache_dir : Path
+        Directory holding the entries
+    """
+
+    def __init__(self, cache_dir: Path) -> None:
+        super().__init__(cache_dir)
+        # Project root of each identifier seen by this instance, for hashing
+        self._roots: dict[str, Path] = {}
+
+    @staticmethod
+    def make_identifier(project_root: Path, main_class: str, project_name: str) -> str:
+        """Compute the entry identifier for a launch.
+
+        Parameters
+        ----------
+        project_root : Path
+            Build root of the project
+        main_class : str
+            Fully qualified main class
+        project_name : str
+            JDT LS project name the classpath is resolved in
+
+        Returns
+        -------
+        str
+            Hex digest
+        """
+        key = f"{project_root.resolve()}\0{main_class}\0{project_name}"
+        return hashlib.sha256(key.encode("utf-8")).hexdigest()[:32]
+
+    @staticmethod
+    def find_inputs(project_root: Path) -> list[Path]:
+        """Find the files whose content determines the resolved classpath.
+
+        Parameters
+        ----------
+        project_root : Path
+            Build root of the project
+
+        Returns
+        -------
+        list[Path]
+            Build files, lockfiles and Maven settings in a stable order
+        """
+        inputs = JDTLSWorkspaceSnapshots.find_build_files(
+            project_root,
+            extra_names=_LOCKFILES,
+        )
+        inputs.extend(
+            path
+            for path in (project_root / name for name in _MAVEN_CONFIG_FILES)
+            if path.is_file()
+        )
+        return inputs
+
+    def _get_hash_cache_file(self, identifier: str) -> Path:
+        return self.cache_dir / f"{identifier}.hash"
+
+    def _entry_file(self, identifier: str) -> Path:
+        return self.cache_dir / f"{identifier}.json"
+
+    def _compute_hash(self, identifier: str) -> str:
+        inputs = self.find_inputs(self._roots[identifier])
+        return compute_files_hash(inputs) if inputs else ""
+
+    def _exists(self, identifier: str) -> bool:
+        return self._entry_file(identifier).is_file()
+
+    def lookup(
+        self,
+        project_root: Path,
+        main_class: str,
+        project_name: str,
+    ) -> list[str] | None:
+        """Get the cached classpath for a launch if the build is unchanged.
+
+        Parameters
+        ----------
+        project_root : Path
+            Build root of the project
+        main_class : str
+            Fully qualified main class
+        project_name : str
+            JDT LS project name
+
+        Returns
+        -------
+        list[str] | None
+            Cached classpath, or None if missing, stale or referring to archives
+            that no longer exist (e.g. after the local repository was cleaned)
+        """
+        identifier = self.make_identifier(project_root, main_class, project_name)
+        self._roots[identifier] = project_root.resolve()
+
+        stale, reason = self.needs_update(identifier)
+        if stale:
+            logger.debug("Classpath cache miss for %s: %s", main_class, reason)
+            return None
+
+        try:
+            classpath = safe_read_json(self._entry_file(identifier)).get("classpath")
+        except FileOperationError as e:
+            logger.debug("Unreadable classpath cache entry %s: %s", identifier, e)
+            return None
+        if not isinstance(classpath, list) or not classpath:
+            return None
+
+        missing = next(
+            (
+                entry
+                for entry in classpath
+                if entry.endswith(".jar") and not Path(entry).is_file()
+            ),
+            None,
+        )
+        if missing:
+            logger.debug("Classpath cache entry for %s lost %s", main_class, missing)
+            return None
+        return classpath
+
+    def store(
+        self,
+        project_root: Path,
+        main_class: str,
+        project_name: str,
+        classpath: list[str],
+    ) -> None:
+        """Record a resolved classpath for the current build-file state.
+
+        Parameters
+        ----------
+        project_root : Path
+            Build root of the project
+        main_class : str
+            Fully qualified main class
+        project_name : str
+            JDT LS project name
+        classpath : list[str]
+            Flattened classpath resolved by JDT LS
+        """
+        identifier = self.make_identifier(project_root, main_class, project_name)
+        self._roots[identifier] = project_root.resolve()
+        try:
+            safe_write_json(
+                self._entry_file(identifier),
+                {
+                    "project_root": str(self._roots[identifier]),
+                    "main_class": main_class,
+                    "project_name": project_name,
+                    "classpath": classpath,
+                },
+            )
+            self.mark_updated(identifier)
+        except (FileOperationError, OSError) as e:
+            logger.debug("Failed to cache classpath for %s: %s", main_class, e)
+
+
+def get_java_classpath_cache() -> JavaClasspathCache | None:
+    """Get the classpath cache configured for this process.
+
+    Returns
+    -------
+    JavaClasspathCache | None
+        Cache instance, or None if disabled via AIDB_JAVA_CLASSPATH_CACHE
+    """
+    from aidb.common.context import AidbContext
+    from aidb_common.config import config
+
+    if not config.is_java_classpath_cache_enabled():
+        return None
+    return JavaClasspathCache(
+        Path(AidbContext.get_storage_path("java_classpath_cache")),
+    )
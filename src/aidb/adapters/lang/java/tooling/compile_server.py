@@ -0,0 +1,309 @@
+"""Warm-JVM javac daemon for standalone Java compilation.
+
+Forking ``javac`` pays for a cold JVM on every compile. This module keeps a single
+long-lived ``AidbCompileServer`` JVM per JDK that compiles jobs in-process through
+``javax.tools.JavaCompiler``, reusing the JIT-warmed compiler between jobs. Jobs are
+sent over a loopback socket, one job per connection.
+
+The daemon is bootstrapped once per JDK: its source ships next to this module and
+is compiled with the regular ``javac`` into the AIDB storage directory.
+"""
+
+from __future__ import annotations
+
+import asyncio
+import hashlib
+import sys
+import threading
+from pathlib import Path
+from typing import TYPE_CHECKING
+
+from aidb.common.constants import (
+    JAVA_COMPILATION_TIMEOUT_S,
+    JAVA_COMPILE_SERVER_START_TIMEOUT_S,
+)
+from aidb.common.errors import AidbError
+
+if TYPE_CHECKING:
+    from aidb.interfaces import IContext
+
+SERVER_CLASS = "AidbCompileServer"
+SERVER_SOURCE = Path(__file__).with_name(f"{SERVER_CLASS}.java")
+
+
+class JavaCompileServer:
+    """Client and lifecycle manager for one warm javac daemon.
+
+    Parameters
+    ----------
+    javac_command : str
+        javac executable of the JDK the daemon should run on
+    ctx : IContext
+        Context for logging
+    idle_timeout_s : int
+        Seconds without a job after which the daemon exits on its own
+    """
+
+    def __init__(self, javac_command: str, ctx: IContext, idle_timeout_s: int = 600):
+        self.javac_command = javac_command
+        self.ctx = ctx
+        self.idle_timeout_s = idle_timeout_s
+        self.process: asyncio.subprocess.Process | None = None
+        self.port: int | None = None
+        self._lock = asyncio.Lock()
+        self.jobs = 0
+
+    @property
+    def is_running(self) -> bool:
+        """Whether the daemon process is alive and has announced its port."""
+        return (
+            self.process is not None
+            and self.process.returncode is None
+            and self.port is not None
+        )
+
+    def _java_command(self) -> str:
+        """Resolve the ``java`` launcher that belongs to the same JDK as javac."""
+        java = Path(self.javac_command).with_name(
+            "java.exe" if sys.platform == "win32" else "java",
+        )
+        return str(java) if java.exists() else "java"
+
+    def _server_class_dir(self) -> Path:
+        """Get the storage directory for the compiled daemon class.
+
+        The directory is keyed by the daemon source and javac path so a JDK
+        switch or daemon update never reuses a stale class file.
+        """
+        from aidb.common.context import AidbContext
+
+        digest = hashlib.sha256()
+        digest.update(SERVER_SOURCE.read_bytes())
+        digest.update(self.javac_command.encode("utf-8"))
+        return Path(
+            AidbContext.get_storage_path("java_compile_server", digest.hexdigest()[:16]),
+        )
+
+    async def _ensure_server_class(self) -> Path:
+        """Compile the daemon class if it is not cached yet.
+
+        Returns
+        -------
+        Path
+            Directory containing ``AidbCompileServer.class``
+        """
+        class_dir = self._server_class_dir()
+        if (class_dir / f"{SERVER_CLASS}.class").exists():
+            return class_dir
+
+        class_dir.mkdir(parents=True, exist_ok=True)
+        proc = await asyncio.create_subprocess_exec(
+            self.javac_command,
+            "-d",
+            str(class_dir),
+            str(SERVER_SOURCE),
+            stdout=asyncio.subprocess.PIPE,
+            stderr=asyncio.subprocess.PIPE,
+        )
+        _, stderr = await asyncio.wait_for(
+            proc.communicate(),
+            timeout=JAVA_COMPILATION_TIMEOUT_S,
+        )
+        if proc.returncode != 0:
+            msg = f"Failed to build Java compile server: {stderr.decode('utf-8')}"
+            raise AidbError(msg)
+        return class_dir
+
+    async def start(self) -> None:
+        """Start the daemon if it is not already running.
+
+        Raises
+        ------
+        AidbError
+            If the daemon cannot be built or does not announce its port
+        """
+        async with self._lock:
+            if self.is_running:
+                return
+
+            class_dir = await self._ensure_server_class()
+            self.process = await asyncio.create_subprocess_exec(
+                self._java_command(),
+                "-XX:+UseSerialGC",
+                "-XX:TieredStopAtLevel=1",
+                "-cp",
+                str(class_dir),
+                SERVER_CLASS,
+                str(self.idle_timeout_s),
+                # The daemon exits when this pipe closes (i.e. when we exit)
+                stdin=asyncio.subprocess.PIPE,
+                stdout=asyncio.subprocess.PIPE,
+                stderr=asyncio.subprocess.DEVNULL,
+            )
+
+            try:
+                if self.process.stdout is None:
+                    msg = "Java compile server has no stdout"
+                    raise AidbError(msg)
+                line = await asyncio.wait_for(
+                    self.process.stdout.readline(),
+                    timeout=JAVA_COMPILE_SERVER_START_TIMEOUT_S,
+                )
+            except asyncio.TimeoutError as e:
+                await self._kill()
+                msg = "Java compile server did not start in time"
+                raise AidbError(msg) from e
+
+            announcement = line.decode("utf-8").strip()
+            if not announcement.startswith("PORT "):
+                await self._kill()
+                msg = f"Java compile server failed to start: {announcement}"
+                raise AidbError(msg)
+
+            self.port = int(announcement.split()[1])
+            self.ctx.info(
+                f"Started Java compile server (pid={self.process.pid}, "
+                f"port={self.port})",
+            )
+
+    async def compile(
+        self,
+        options: list[str],
+        sources: list[str],
+        timeout: float = JAVA_COMPILATION_TIMEOUT_S,
+    ) -> tuple[bool, str]:
+        """Compile sources in the warm JVM.
+
+        Parameters
+        ----------
+        options : list[str]
+            javac options (e.g. ``["-g", "-d", out_dir]``)
+        sources : list[str]
+            Source files to compile
+        timeout : float
+            Maximum seconds to wait for the job
+
+        Returns
+        -------
+        tuple[bool, str]
+            (success, diagnostics) where diagnostics is javac's textual output
+
+        Raises
+        ------
+        AidbError
+            If the daemon is unreachable or the job times out; callers should
+            fall back to a javac subprocess in that case
+        """
+        if not self.is_running:
+            await self.start()
+
+        lines = ["COMPILE"]
+        lines.extend(f"OPT\t{opt}" for opt in options)
+        lines.extend(f"SRC\t{src}" for src in sources)
+        lines.append("END")
+        request = ("\n".join(lines) + "\n").encode("utf-8")
+
+        try:
+            reader, writer = await asyncio.open_connection("127.0.0.1", self.port)
+        except OSError as e:
+            await self._kill()
+            msg = f"Java compile server unreachable: {e}"
+            raise AidbError(msg) from e
+
+        try:
+            writer.write(request)
+            await writer.drain()
+            payload = await asyncio.wait_for(reader.read(), timeout=timeout)
+        except (OSError, asyncio.TimeoutError) as e:
+            # A stuck or broken daemon must not serve later jobs
+            await self._kill()
+            msg = f"Java compile server job failed: {e}"
+            raise AidbError(msg) from e
+        finally:
+            writer.close()
+
+        status, _, diagnostics = payload.decode("utf-8").partition("\n")
+        if status not in ("OK", "FAIL"):
+            await self._kill()
+            msg = f"Unexpected Java compile server response: {status!r}"
+            raise AidbError(msg)
+
+        self.jobs += 1
+        return status == "OK", diagnostics
+
+    async def stop(self) -> None:
+        """Stop the daemon, closing its stdin so it exits on its own."""
+        async with self._lock:
+            if self.process and self.process.returncode is None:
+                if self.process.stdin:
+                    self.process.stdin.close()
+                try:
+                    await asyncio.wait_for(self.process.wait(), timeout=2.0)
+                except asyncio.TimeoutError:
+                    await self._kill()
+            self.process = None
+            self.port = None
+
+    async def _kill(self) -> None:
+        """Forcefully terminate the daemon process."""
+        if self.process and self.process.returncode is None:
+            try:
+                self.process.kill()
+                await self.process.wait()
+            except ProcessLookupError:
+                pass
+        self.process = None
+        self.port = None
+
+
+# Process-wide registry, one daemon per javac executable. Guarded by a thread lock
+# rather than an asyncio.Lock so it is not bound to the first event loop using it.
+_servers: dict[str, JavaCompileServer] = {}
+_servers_lock = threading.Lock()
+
+
+async def get_java_compile_server(
+    javac_command: str,
+    ctx: IContext,
+) -> JavaCompileServer:
+    """Get (and start) the shared compile server for a JDK.
+
+    Parameters
+    ----------
+    javac_command : str
+        javac executable identifying the JDK
+    ctx : IContext
+        Context for logging
+
+    Returns
+    -------
+    JavaCompileServer
+        Running compile server
+
+    Raises
+    ------
+    AidbError
+        If the daemon cannot be started
+    """
+    from aidb_common.config import config
+
+    with _servers_lock:
+        server = _servers.get(javac_command)
+        if server is None:
+            server = JavaCompileServer(
+                javac_command,
+                ctx,
+                idle_timeout_s=config.get_java_compile_server_idle_timeout(),
+            )
+            _servers[javac_command] = server
+    await server.start()
+    return server
+
+
+async def shutdown_java_compile_servers() -> None:
+    """Stop all compile servers started by this process."""
+    with _servers_lock:
+        servers = list(_servers.values())
+        _servers.clear()
+    for server in servers:
+        await server.stop()
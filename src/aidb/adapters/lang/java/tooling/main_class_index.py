@@ -0,0 +1,462 @@
+"""Persistent index of Java main classes, JUnit test classes and JAR manifests.
+
+Finding the main class of a launch otherwise means a ``vscode.java.resolveMainClass``
+round trip to JDT LS, and finding the main class of a JAR means opening its manifest,
+on every session. This index records, per project, which source files declare a
+``main`` method or JUnit tests, and per JAR the ``Main-Class`` manifest attribute,
+under ``~/.aidb/java_main_class_index``. Only a ``main`` declared in the body of the
+file's top-level class counts, outside comments and literals; anything else is left
+to JDT LS. Files are re-read only when their mtime or size changed since they were
+indexed, so refreshing a project costs one ``stat`` per source file and queries are
+dictionary lookups.
+"""
+
+from __future__ import annotations
+
+import hashlib
+import os
+import re
+import threading
+import zipfile
+from dataclasses import dataclass
+from pathlib import Path
+
+from aidb.adapters.lang.java.tooling.build_system_detector import (
+    JavaBuildSystemDetector,
+)
+from aidb_common.io import FileOperationError, safe_read_json, safe_write_json
+from aidb_logging import get_logger
+
+logger = get_logger(__name__)
+
+# Bumped when the entry format or the source heuristics change
+INDEX_VERSION = 2
+
+JAR_MANIFESTS_FILE = "jar_manifests.json"
+
+# Directories never holding sources to launch (build output, VCS, caches)
+_SKIP_DIRS = frozenset(
+    ("target", "build", "out", "bin", "node_modules", ".git", ".gradle", ".idea"),
+)
+
+_PACKAGE_RE = re.compile(r"^\s*package\s+([\w.]+)\s*;", re.MULTILINE)
+# Comments, text blocks, string and char literals, which may quote Java code
+_NON_CODE_RE = re.compile(
+    r'"""[\s\S]*?"""'
+    r"|/\*[\s\S]*?\*/"
+    r"|//[^\n]*"
+    r'|"(?:\\.|[^"\\\n])*"'
+    r"|'(?:\\.|[^'\\\n])*'",
+)
+# Braces, type declarations and main methods, in source order
+_STRUCTURE_RE = re.compile(
+    r"(?P<brace>[{}])"
+    r"|\b(?:class|interface|enum|record)\s+(?P<type>\w+)"
+    r"|(?P<main>\bstatic\s+(?:final\s+)?void\s+main\s*\(\s*(?:final\s+)?String)",
+)
+_JUNIT_RE = re.compile(r"\bimport\s+(?:static\s+)?org\.junit\b")
+_TEST_ANNOTATION_RE = re.compile(
+    r"@(?:Test|ParameterizedTest|RepeatedTest|TestFactory|TestTemplate)\b",
+)
+
+
+@dataclass(frozen=True)
+class IndexedClass:
+    """A top-level class found in a project source file.
+
+    Attributes
+    ----------
+    name : str
+        Fully qualified class name
+    source : str
+        Absolute path of the source file
+    is_main : bool
+        Whether the class declares ``static void main(String...)``
+    is_test : bool
+        Whether the class holds JUnit tests
+    """
+
+    name: str
+    source: str
+    is_main: bool
+    is_test: bool
+
+
+def read_manifest_main_class(jar_path: str) -> str | None:
+    """Read the ``Main-Class`` attribute from a JAR manifest.
+
+    Parameters
+    ----------
+    jar_path : str
+        Path to JAR file
+
+    Returns
+    -------
+    str | None
+        Main class name from manifest, or None if not found
+    """
+    try:
+        with zipfile.ZipFile(jar_path, "r") as jar:
+            manifest = jar.read("META-INF/MANIFEST.MF").decode("utf-8")
+    except (KeyError, zipfile.BadZipFile, OSError, UnicodeDecodeError):
+        return None
+    # Manifest lines are wrapped at 72 bytes; continuations start with a space
+    manifest = manifest.replace("\r\n", "\n").replace("\n ", "")
+    for line in manifest.split("\n"):
+        if line.startswith("Main-Class:"):
+            return line.split(":", 1)[1].strip() or None
+    return None
+
+
+def scan_java_source(text: str, stem: str) -> tuple[str, bool, bool]:
+    """Classify a Java source file.
+
+    Parameters
+    ----------
+    text : str
+        Source file contents
+    stem : str
+        File name without extension, i.e. the top-level class name
+
+    Returns
+    -------
+    tuple[str, bool, bool]
+        Fully qualified class name, whether it has a main method and whether it
+        holds JUnit tests
+    """
+    text = _NON_CODE_RE.sub(" ", text)
+    package = _PACKAGE_RE.search(text)
+    name = f"{package.group(1)}.{stem}" if package else stem
+    is_main = _declares_top_level_main(text, stem)
+    is_test = (
+        _JUNIT_RE.search(text) is not None
+        and _TEST_ANNOTATION_RE.search(text) is not None
+    )
+    return name, is_main, is_test
+
+
+def _declares_top_level_main(code: str, stem: str) -> bool:
+    """Check whether the top-level type ``stem`` itself declares ``main``.
+
+    A ``main`` of a nested, local or anonymous class, or of another top-level type
+    in the file, does not make ``stem`` launchable, so those are not counted.
+
+    Parameters
+    ----------
+    code : str
+        Source with comments and literals blanked out
+    stem : str
+        Name of the file's top-level type
+
+    Returns
+    -------
+    bool
+        True if a ``main`` method is declared directly in the body of ``stem``
+    """
+    depth = 0
+    declared = None
+    top_level = None
+    for match in _STRUCTURE_RE.finditer(code):
+        if match.group("brace") == "{":
+            if depth == 0:
+                top_level = declared
+            depth += 1
+        elif match.group("brace") == "}":
+            depth = max(0, depth - 1)
+        elif match.group("type"):
+            if depth == 0:
+                declared = match.group("type")
+        elif depth == 1 and top_level == stem:
+            return True
+    return False
+
+
+def _stat_key(path: Path) -> tuple[int, int] | None:
+    try:
+        st = path.stat()
+    except OSError:
+        return None
+    return st.st_mtime_ns, st.st_size
+
+
+class _ProjectIndex:
+    """In-memory index of one project, mirrored to a JSON file."""
+
+    def __init__(self, root: Path, entries: dict[str, list]) -> None:
+        self.root = root
+        # source path -> [mtime_ns, size, class name, is_main, is_test]
+        self.entries = entries
+        self.by_name: dict[str, IndexedClass] = {}
+        self._rebuild()
+
+    def _rebuild(self) -> None:
+        self.by_name = {
+            name: IndexedClass(name, source, bool(is_main), bool(is_test))
+            for source, (_, _, name, is_main, is_test) in self.entries.items()
+            if is_main or is_test
+        }
+
+    def update(self, source: Path, stat_key: tuple[int, int]) -> bool:
+        """Re-read a source file if it changed; return whether the entry changed."""
+        key = str(source)
+        entry = self.entries.get(key)
+        if entry is not None and (entry[0], entry[1]) == stat_key:
+            return False
+        try:
+            text = source.read_text(encoding="utf-8", errors="replace")
+        except OSError:
+            return self.entries.pop(key, None) is not None
+        name, is_main, is_test = scan_java_source(text, source.stem)
+        self.entries[key] = [stat_key[0], stat_key[1], name, is_main, is_test]
+        return True
+
+
+class JavaMainClassIndex:
+    """Per-project index of main and JUnit test classes plus a JAR manifest cache.
+
+    Thread-safe; one instance is shared per process via
+    :func:`get_java_main_class_index`.
+
+    Parameters
+    ----------
+    cache_dir : Path
+        Directory holding one JSON file per project and the JAR manifest cache
+    max_depth : int
+        Directory levels below a project root searched for sources
+    """
+
+    def __init__(self, cache_dir: Path, max_depth: int = 12) -> None:
+        self.cache_dir = cache_dir
+        self.max_depth = max_depth
+        self._lock = threading.RLock()
+        self._projects: dict[Path, _ProjectIndex] = {}
+        self._jars: dict[str, list] | None = None
+
+    @staticmethod
+    def make_identifier(project_root: Path) -> str:
+        """Compute the file identifier of a project.
+
+        Parameters
+        ----------
+        project_root : Path
+            Resolved project root
+
+        Returns
+        -------
+        str
+            Hex digest
+        """
+        return hashlib.sha256(str(project_root).encode("utf-8")).hexdigest()[:32]
+
+    def _project_file(self, project_root: Path) -> Path:
+        return self.cache_dir / f"{self.make_identifier(project_root)}.json"
+
+    def _load_project(self, root: Path) -> _ProjectIndex:
+        project = self._projects.get(root)
+        if project is not None:
+            return project
+        entries: dict[str, list] = {}
+        path = self._project_file(root)
+        if path.is_file():
+            try:
+                data = safe_read_json(path)
+                if data.get("version") == INDEX_VERSION:
+                    entries = data.get("files", {})
+            except FileOperationError as e:
+                logger.debug("Unreadable main class index %s: %s", path, e)
+        project = self._projects[root] = _ProjectIndex(root, entries)
+        return project
+
+    def _save_project(self, project: _ProjectIndex) -> None:
+        try:
+            safe_write_json(
+                self._project_file(project.root),
+                {
+                    "version": INDEX_VERSION,
+                    "project_root": str(project.root),
+                    "files": project.entries,
+                },
+            )
+        except (FileOperationError, OSError) as e:
+            logger.debug("Failed to save main class index for %s: %s", project.root, e)
+
+    def _walk_sources(self, root: Path) -> list[Path]:
+        sources: list[Path] = []
+        root_depth = len(root.parts)
+        for dirpath, dirnames, filenames in os.walk(root):
+            depth = len(Path(dirpath).parts) - root_depth
+            dirnames[:] = [
+                d
+                for d in dirnames
+                if depth < self.max_depth
+                and d not in _SKIP_DIRS
+                and not d.startswith(".")
+            ]
+            sources.extend(Path(dirpath) / f for f in filenames if f.endswith(".java"))
+        return sources
+
+    def refresh(self, project_root: Path) -> dict[str, IndexedClass]:
+        """Bring a project's index up to date with its sources.
+
+        Only sources whose mtime or size changed are re-read; entries of deleted
+        sources are dropped. The index file is rewritten only if anything changed.
+
+        Parameters
+        ----------
+        project_root : Path
+            Project root directory
+
+        Returns
+        -------
+        dict[str, IndexedClass]
+            Main and test classes of the project by fully qualified name
+        """
+        root = project_root.resolve()
+        with self._lock:
+            project = self._load_project(root)
+            seen: set[str] = set()
+            changed = False
+            for source in self._walk_sources(root):
+                stat_key = _stat_key(source)
+                if stat_key is None:
+                    continue
+                seen.add(str(source))
+                changed |= project.update(source, stat_key)
+            for gone in set(project.entries) - seen:
+                del project.entries[gone]
+                changed = True
+            if changed:
+                project._rebuild()
+                self._save_project(project)
+            return project.by_name
+
+    def main_classes(self, project_root: Path) -> list[str]:
+        """Get the main classes of a project, refreshing its index first.
+
+        Parameters
+        ----------
+        project_root : Path
+            Project root directory
+
+        Returns
+        -------
+        list[str]
+            Fully qualified names, sorted
+        """
+        return sorted(c.name for c in self.refresh(project_root).values() if c.is_main)
+
+    def classify_source(self, source: Path) -> IndexedClass | None:
+        """Classify one source file, re-reading it only if it changed.
+
+        The file is recorded in the index of its Maven/Gradle build root, or of
+        its directory outside such projects; no other file is touched.
+
+        Parameters
+        ----------
+        source : Path
+            Path to a .java file
+
+        Returns
+        -------
+        IndexedClass | None
+            The file's top-level class, or None if the file cannot be read
+        """
+        source = source.resolve()
+        stat_key = _stat_key(source)
+        if stat_key is None:
+            return None
+        root = JavaBuildSystemDetector.find_build_root(source) or source.parent
+        with self._lock:
+            project = self._load_project(root)
+            if project.update(source, stat_key):
+                project._rebuild()
+                self._save_project(project)
+            entry = project.entries.get(str(source))
+        if entry is None:
+            return None
+        _, _, name, is_main, is_test = entry
+        return IndexedClass(name, str(source), bool(is_main), bool(is_test))
+
+    def jar_main_class(self, jar_path: str) -> str | None:
+        """Get the ``Main-Class`` manifest attribute of a JAR.
+
+        The manifest is read only if the JAR changed since it was last read.
+
+        Parameters
+        ----------
+        jar_path : str
+            Path to JAR file
+
+        Returns
+        -------
+        str | None
+            Main class name from manifest, or None if not found
+        """
+        path = Path(jar_path).resolve()
+        stat_key = _stat_key(path)
+        if stat_key is None:
+            return None
+        key = str(path)
+        with self._lock:
+            jars = self._load_jars()
+            entry = jars.get(key)
+            if entry is not None and (entry[0], entry[1]) == stat_key:
+                return entry[2]
+        main_class = read_manifest_main_class(key)
+        with self._lock:
+            jars[key] = [stat_key[0], stat_key[1], main_class]
+            self._save_jars(jars)
+        return main_class
+
+    def _load_jars(self) -> dict[str, list]:
+        if self._jars is None:
+            self._jars = {}
+            path = self.cache_dir / JAR_MANIFESTS_FILE
+            if path.is_file():
+                try:
+                    data = safe_read_json(path)
+                    if data.get("version") == INDEX_VERSION:
+                        self._jars = data.get("jars", {})
+                except FileOperationError as e:
+                    logger.debug("Unreadable JAR manifest cache %s: %s", path, e)
+        return self._jars
+
+    def _save_jars(self, jars: dict[str, list]) -> None:
+        # Drop JARs that no longer exist so the file does not grow unbounded
+        for gone in [key for key in jars if not Path(key).is_file()]:
+            del jars[gone]
+        try:
+            safe_write_json(
+                self.cache_dir / JAR_MANIFESTS_FILE,
+                {"version": INDEX_VERSION, "jars": jars},
+            )
+        except (FileOperationError, OSError) as e:
+            logger.debug("Failed to save JAR manifest cache: %s", e)
+
+
+_index: JavaMainClassIndex | None = None
+_index_lock = threading.Lock()
+
+
+def get_java_main_class_index() -> JavaMainClassIndex | None:
+    """Get the process-wide main class index.
+
+    Returns
+    -------
+    JavaMainClassIndex | None
+        Shared index, or None if disabled via AIDB_JAVA_MAIN_CLASS_INDEX
+    """
+    global _index
+
+    from aidb.common.context import AidbContext
+    from aidb_common.config import config
+
+    if not config.is_java_main_class_index_enabled():
+        return None
+    if _index is None:
+        with _index_lock:
+            if _index is None:
+                _index = JavaMainClassIndex(
+                    Path(AidbContext.get_storage_path("java_main_class_index")),
+                )
+    return _index
@@ -0,0 +1,267 @@
+"""Persistent snapshots of JDT LS ``-data`` workspaces.
+
+A fresh JDT LS workspace re-indexes the project and re-resolves its Maven/Gradle
+classpath from scratch. This module stores the workspace of a successfully imported
+project under ``~/.aidb/jdtls_snapshots/<key>`` (or ``AIDB_JAVA_JDTLS_SNAPSHOT_DIR``)
+and restores it into new or stale workspaces, so a restarted server or another host
+sharing the snapshot directory starts with an already-built index.
+
+The key covers the content of every build file in the project, the absolute project
+root (JDT LS stores absolute paths in its metadata, so hosts sharing snapshots must
+mount projects at the same path) and the JDT LS installation. Each workspace records
+the key it was built for in a marker file, which tells when it is stale.
+"""
+
+from __future__ import annotations
+
+import hashlib
+import os
+import shutil
+import tempfile
+from pathlib import Path
+
+from aidb.adapters.lang.java.tooling.build_system_detector import (
+    JavaBuildSystemDetector,
+)
+from aidb_common.io.hashing import compute_files_hash
+from aidb_logging import get_logger
+
+logger = get_logger(__name__)
+
+# Marker written into a workspace recording the snapshot key it matches
+SNAPSHOT_MARKER = ".aidb-snapshot-key"
+
+# Build inputs that affect JDT LS import results
+_BUILD_INPUTS = frozenset(
+    (
+        *JavaBuildSystemDetector.BUILD_FILES,
+        "settings.gradle",
+        "settings.gradle.kts",
+        "gradle.properties",
+        "libs.versions.toml",
+    ),
+)
+
+# Directories never holding build inputs (build output, VCS, caches)
+_SKIP_DIRS = frozenset(
+    ("target", "build", "out", "bin", "node_modules", ".git", ".gradle", ".idea"),
+)
+
+# Workspace files that are process-specific and must not be snapshotted
+_IGNORED = shutil.ignore_patterns(".lock", ".log", SNAPSHOT_MARKER)
+
+
+class JDTLSWorkspaceSnapshots:
+    """Store of JDT LS workspace snapshots keyed by build-file hash.
+
+    Parameters
+    ----------
+    snapshot_dir : Path
+        Root directory holding one sub-directory per snapshot
+    max_entries : int
+        Number of snapshots kept; least-recently-used ones are evicted beyond it
+    """
+
+    def __init__(self, snapshot_dir: Path, max_entries: int):
+        self.snapshot_dir = snapshot_dir
+        self.max_entries = max(1, max_entries)
+        self.snapshot_dir.mkdir(parents=True, exist_ok=True)
+
+    @staticmethod
+    def find_build_files(
+        project_root: Path,
+        max_depth: int = 3,
+        extra_names: frozenset[str] = frozenset(),
+    ) -> list[Path]:
+        """Find the build files of a project.
+
+        Parameters
+        ----------
+        project_root : Path
+            Project root directory
+        max_depth : int
+            Directory levels below the root to search (multi-module builds)
+        extra_names : frozenset[str]
+            Further file names to collect besides the build files
+
+        Returns
+        -------
+        list[Path]
+            Build files in a stable (sorted) order
+        """
+        names = _BUILD_INPUTS | extra_names
+        found: list[Path] = []
+        root_depth = len(project_root.parts)
+        for dirpath, dirnames, filenames in os.walk(project_root):
+            depth = len(Path(dirpath).parts) - root_depth
+            dirnames[:] = [
+                d
+                for d in dirnames
+                if depth < max_depth and d not in _SKIP_DIRS and not d.startswith(".")
+            ]
+            found.extend(Path(dirpath) / f for f in filenames if f in names)
+        return sorted(found)
+
+    def make_key(self, project_root: Path, jdtls_path: Path) -> str | None:
+        """Compute the snapshot key for a project.
+
+        Parameters
+        ----------
+        project_root : Path
+            Project root directory
+        jdtls_path : Path
+            JDT LS installation directory
+
+        Returns
+        -------
+        str | None
+            Hex digest, or None if the project has no build files
+        """
+        root = project_root.resolve()
+        build_files = self.find_build_files(root)
+        if not build_files:
+            return None
+
+        digest = hashlib.sha256()
+        digest.update(compute_files_hash(build_files).encode("utf-8"))
+        digest.update(str(root).encode("utf-8"))
+        digest.update(str(jdtls_path.resolve()).encode("utf-8"))
+        return digest.hexdigest()[:32]
+
+    @staticmethod
+    def workspace_key(workspace: Path) -> str | None:
+        """Get the snapshot key a workspace was built for, if recorded."""
+        try:
+            return (workspace / SNAPSHOT_MARKER).read_text(encoding="utf-8").strip()
+        except OSError:
+            return None
+
+    def has_snapshot(self, key: str) -> bool:
+        """Check whether a snapshot exists for ``key``."""
+        return (self.snapshot_dir / key).is_dir()
+
+    def restore(self, key: str, workspace: Path) -> bool:
+        """Restore the snapshot for ``key`` into ``workspace``.
+
+        Workspaces already built for ``key`` are left untouched; stale or empty
+        ones are replaced by the snapshot. Must be called before JDT LS starts on
+        the workspace.
+
+        Parameters
+        ----------
+        key : str
+            Snapshot key from :meth:`make_key`
+        workspace : Path
+            JDT LS ``-data`` directory
+
+        Returns
+        -------
+        bool
+            True if the snapshot was restored
+        """
+        snapshot = self.snapshot_dir / key
+        if not snapshot.is_dir() or self.workspace_key(workspace) == key:
+            return False
+
+        try:
+            if workspace.exists():
+                shutil.rmtree(workspace)
+            shutil.copytree(snapshot, workspace)
+            (workspace / SNAPSHOT_MARKER).write_text(key, encoding="utf-8")
+            os.utime(snapshot)
+        except OSError as e:
+            logger.warning("Failed to restore JDT LS snapshot %s: %s", key[:8], e)
+            shutil.rmtree(workspace, ignore_errors=True)
+            workspace.mkdir(parents=True, exist_ok=True)
+            return False
+        return True
+
+    def save(self, key: str, workspace: Path) -> bool:
+        """Snapshot a workspace whose JDT LS process has exited.
+
+        The copy is staged and renamed into place, so concurrent readers never see
+        a partial snapshot. Existing snapshots for ``key`` are kept.
+
+        Parameters
+        ----------
+        key : str
+            Snapshot key from :meth:`make_key`
+        workspace : Path
+            JDT LS ``-data`` directory
+
+        Returns
+        -------
+        bool
+            True if a new snapshot was written
+        """
+        if not (workspace / ".metadata").is_dir():
+            return False
+
+        saved = False
+        if not self.has_snapshot(key):
+            staging = Path(
+                tempfile.mkdtemp(prefix=f".{key[:8]}-", dir=self.snapshot_dir),
+            )
+            try:
+                shutil.copytree(workspace, staging, ignore=_IGNORED, dirs_exist_ok=True)
+                os.rename(staging, self.snapshot_dir / key)
+                saved = True
+            except OSError as e:
+                # Another process published the same key first, or the disk is full
+                logger.debug("JDT LS snapshot %s skipped: %s", key[:8], e)
+                shutil.rmtree(staging, ignore_errors=True)
+
+        try:
+            (workspace / SNAPSHOT_MARKER).write_text(key, encoding="utf-8")
+        except OSError:
+            pass
+
+        if saved:
+            self.evict()
+        return saved
+
+    def evict(self) -> int:
+        """Evict least-recently-used snapshots beyond ``max_entries``.
+
+        Returns
+        -------
+        int
+            Number of snapshots evicted
+        """
+        entries: list[tuple[float, Path]] = []
+        for entry in self.snapshot_dir.iterdir():
+            if not entry.is_dir() or entry.name.startswith("."):
+                continue
+            try:
+                entries.append((entry.stat().st_mtime, entry))
+            except OSError:
+                continue
+
+        entries.sort(key=lambda item: item[0], reverse=True)
+        stale = entries[self.max_entries :]
+        for _mtime, entry in stale:
+            shutil.rmtree(entry, ignore_errors=True)
+
+        if stale:
+            logger.debug("Evicted %d JDT LS workspace snapshots", len(stale))
+        return len(stale)
+
+
+def get_jdtls_workspace_snapshots() -> JDTLSWorkspaceSnapshots | None:
+    """Get the workspace snapshot store configured for this process.
+
+    Returns
+    -------
+    JDTLSWorkspaceSnapshots | None
+        Snapshot store, or None if disabled via AIDB_JAVA_JDTLS_SNAPSHOTS
+    """
+    from aidb.common.context import AidbContext
+    from aidb_common.config import config
+
+    if not config.is_java_jdtls_snapshots_enabled():
+        return None
+    snapshot_dir = config.get_java_jdtls_snapshot_dir()
+    return JDTLSWorkspaceSnapshots(
+        Path(snapshot_dir or AidbContext.get_storage_path("jdtls_snapshots")),
+        max_entries=config.get_java_jdtls_snapshot_max(),
+    )
@@ -5,20 +5,22 @@ import atexit
 import contextlib
 import os
 import threading
+import time
 from datetime import datetime, timedelta, timezone
 from pathlib import Path
-from typing import TYPE_CHECKING, Optional
+from typing import TYPE_CHECKING, Any, Optional
 
 import aiofiles  # type: ignore[import-untyped]
 
 from aidb.audit.events import AuditEvent
 from aidb.common import AidbContext
 from aidb.common.constants import (
+    AUDIT_DURABILITY_ASYNC,
+    AUDIT_DURABILITY_EVENT,
     AUDIT_FLUSH_TIMEOUT_S,
     AUDIT_INIT_TIMEOUT_S,
     AUDIT_INIT_TIMEOUT_TEST_S,
     AUDIT_MAX_PENDING_EVENTS,
-    AUDIT_QUEUE_MAX_SIZE,
     AUDIT_SHUTDOWN_TIMEOUT_S,
     AUDIT_SINGLETON_RESET_TIMEOUT_S,
     AUDIT_WORKER_TIMEOUT_S,
@@ -38,7 +40,12 @@ class AuditLogger:
     """Thread-safe singleton audit logger with async writes.
 
     Implements a lightweight, high-performance audit logging system
-    with automatic log rotation and minimal overhead.
+    with automatic log rotation and minimal overhead. The worker group-commits
+    events: it drains up to ``_batch_size`` events (or waits ``_batch_wait_s``
+    for more) and writes them with a single buffered write. Producer threads are
+    held back for up to ``_enqueue_timeout_s`` when the queue is full, while
+    producers running an event loop never wait; events that do not fit are
+    dropped and counted in ``get_stats()``.
 
     Attributes
     ----------
@@ -64,6 +71,10 @@ class AuditLogger:
         Number of days to retain rotated logs
     _shutdown : bool
         Flag to signal worker thread shutdown
+    _durability : str
+        Flush policy: per event, per batch, or only when idle (async)
+    _pending : int
+        Events accepted by ``log()`` and not yet taken by the worker
     """
 
     _instance: Optional["AuditLogger"] = None
@@ -91,6 +102,11 @@ class AuditLogger:
         self._max_size_mb = float(config.get_audit_log_size_mb())
         self._max_size_bytes = int(self._max_size_mb * 1024 * 1024)
         self._retention_days = config.get_audit_retention_days()
+        self._durability = config.get_audit_durability()
+        self._batch_size = config.get_audit_batch_size()
+        self._batch_wait_s = config.get_audit_batch_wait_ms() / 1000
+        self._queue_size = config.get_audit_queue_size()
+        self._enqueue_timeout_s = config.get_audit_enqueue_timeout_ms() / 1000
 
         # Check if audit logging is enabled via environment variable (opt-in)
         enabled_env = os.getenv("AIDB_AUDIT_ENABLED", "false").lower() == "true"
@@ -124,11 +140,25 @@ class AuditLogger:
         self._loop: asyncio.AbstractEventLoop | None = None
         # Create queue immediately (will be used across threads)
         self._queue: asyncio.Queue[AuditEvent | None] = asyncio.Queue(
-            maxsize=AUDIT_QUEUE_MAX_SIZE,
+            maxsize=self._queue_size,
         )
         self._init_complete = threading.Event()
         self._queue_empty_event: asyncio.Event | None = None
 
+        # Backpressure accounting shared by producer threads and the worker
+        self._pending = 0
+        self._space_available = threading.Condition()
+        self._unflushed = False
+        self._stats: dict[str, int] = {
+            "enqueued": 0,
+            "written": 0,
+            "dropped": 0,
+            "batches": 0,
+            "flushes": 0,
+            "max_batch": 0,
+        }
+        self._dropped_reported = 0
+
         # Start worker task if enabled
         if self._enabled:
             self._ensure_event_loop()
@@ -184,7 +214,7 @@ class AuditLogger:
             logger.debug("Audit logger worker started, writing to %s", self._log_path)
 
     async def _worker_loop(self) -> None:
-        """Background worker loop for processing audit events."""
+        """Background worker loop group-committing batches of audit events."""
         while not self._shutdown:
             try:
                 # Wait for events with timeout to allow shutdown checks
@@ -202,14 +232,19 @@ class AuditLogger:
                     self._queue.get(),
                     timeout=AUDIT_WORKER_TIMEOUT_S,
                 )
-                if event is None:  # Shutdown signal
+                batch, stop = await self._drain_batch(event)
+                if batch:
+                    await self._write_batch(batch)
+                self._report_drops()
+                if stop:  # Shutdown signal
                     break
-                await self._write_event(event)
 
                 # Signal if queue is now empty
                 if self._queue_empty_event and self._queue.empty():
                     self._queue_empty_event.set()
             except asyncio.TimeoutError:
+                # Idle: async durability defers flushing until nothing is queued
+                await self._flush_if_unflushed()
                 # Timeout is normal - signal queue is empty
                 if self._queue_empty_event and self._queue.empty():
                     self._queue_empty_event.set()
@@ -218,42 +253,149 @@ class AuditLogger:
                 # Log but don't crash - audit failures should never break operations
                 logger.exception("Audit worker error: %s", e)
 
+    async def _drain_batch(
+        self,
+        first: AuditEvent | None,
+    ) -> tuple[list[AuditEvent], bool]:
+        """Collect a batch starting with an already dequeued event.
+
+        Takes whatever is queued without waiting, then waits up to
+        ``_batch_wait_s`` for stragglers while the batch is below
+        ``_batch_size``.
+
+        Parameters
+        ----------
+        first : AuditEvent | None
+            Event returned by the blocking ``get()``; None is the shutdown signal
+
+        Returns
+        -------
+        tuple[list[AuditEvent], bool]
+            Events to write and whether the shutdown signal was seen
+        """
+        batch: list[AuditEvent] = []
+        stop = first is None
+        if first is not None:
+            batch.append(first)
+
+        deadline = time.monotonic() + self._batch_wait_s
+        while not stop and len(batch) < self._batch_size:
+            try:
+                event = self._queue.get_nowait()
+            except asyncio.QueueEmpty:
+                remaining = deadline - time.monotonic()
+                if remaining <= 0:
+                    break
+                try:
+                    event = await asyncio.wait_for(self._queue.get(), remaining)
+                except asyncio.TimeoutError:
+                    break
+            if event is None:
+                stop = True
+            else:
+                batch.append(event)
+
+        self._release(len(batch))
+        return batch, stop
+
     async def _write_event(self, event: AuditEvent) -> None:
-        """Write event to log file with rotation handling.
+        """Write a single event to the log file with rotation handling.
 
         Parameters
         ----------
         event : AuditEvent
             Event to write
         """
+        await self._write_batch([event])
+
+    async def _write_batch(self, events: list[AuditEvent]) -> None:
+        """Write events to the log file as one buffered write.
+
+        The batch is split only where the log has to rotate. How often the
+        file is flushed depends on the durability mode.
+
+        Parameters
+        ----------
+        events : list[AuditEvent]
+            Events to write, in queue order
+        """
         async with self._write_lock:
             try:
                 # Open file if needed
                 if self._file_handle is None:
                     await self._open_log_file()
 
-                # Write event as JSON line
-                json_line = event.to_json() + "\n"
-                json_bytes = json_line.encode("utf-8")
-
-                # Check if rotation needed
-                if self._current_size + len(json_bytes) > self._max_size_bytes:
-                    await self._rotate_log()
-                    await self._open_log_file()
-
-                # Write to file
-                if self._file_handle is None:
-                    msg = "File handle is None after open attempt"
-                    raise RuntimeError(msg)
-
-                await self._file_handle.write(json_line)
-                await self._file_handle.flush()
-
-                self._current_size += len(json_bytes)
+                chunk: list[str] = []
+                chunk_size = 0
+                for event in events:
+                    try:
+                        json_line = event.to_json() + "\n"
+                    except Exception as e:
+                        logger.exception("Failed to serialize audit event: %s", e)
+                        continue
+                    line_size = len(json_line.encode("utf-8"))
+
+                    # Check if rotation needed
+                    if self._current_size + chunk_size + line_size > (
+                        self._max_size_bytes
+                    ):
+                        await self._write_chunk(chunk, chunk_size)
+                        chunk, chunk_size = [], 0
+                        await self._rotate_log()
+                        await self._open_log_file()
+
+                    if self._durability == AUDIT_DURABILITY_EVENT:
+                        await self._write_chunk([json_line], line_size)
+                    else:
+                        chunk.append(json_line)
+                        chunk_size += line_size
+
+                await self._write_chunk(chunk, chunk_size)
+
+                self._stats["batches"] += 1
+                self._stats["max_batch"] = max(self._stats["max_batch"], len(events))
 
             except Exception as e:
                 logger.exception("Failed to write audit event: %s", e)
 
+    async def _write_chunk(self, lines: list[str], size: int) -> None:
+        """Write pre-serialized lines with one call; flush unless async.
+
+        Parameters
+        ----------
+        lines : list[str]
+            JSON lines including their newline
+        size : int
+            Encoded size of ``lines`` in bytes
+        """
+        if not lines:
+            return
+        if self._file_handle is None:
+            msg = "File handle is None after open attempt"
+            raise RuntimeError(msg)
+
+        await self._file_handle.write("".join(lines))
+        self._current_size += size
+        self._stats["written"] += len(lines)
+        self._unflushed = True
+        if self._durability != AUDIT_DURABILITY_ASYNC:
+            await self._flush_handle()
+
+    async def _flush_handle(self) -> None:
+        """Flush the open log file and record it in the stats."""
+        if self._file_handle is not None:
+            await self._file_handle.flush()
+            self._stats["flushes"] += 1
+        self._unflushed = False
+
+    async def _flush_if_unflushed(self) -> None:
+        """Flush writes left buffered by async durability."""
+        if not self._unflushed:
+            return
+        async with self._write_lock:
+            with contextlib.suppress(Exception):
+                await self._flush_handle()
+
     async def _open_log_file(self) -> None:
         """Open or create the log file."""
         try:
@@ -362,18 +504,102 @@ class AuditLogger:
                     return
 
             # Queue for async write
-            try:
-                if self._loop is not None and not self._loop.is_closed():
-                    asyncio.run_coroutine_threadsafe(self._queue.put(event), self._loop)
-                else:
-                    logger.warning("Event loop not available for audit logging")
-            except asyncio.QueueFull:
-                logger.warning("Audit queue full, dropping event")
+            if self._loop is None or self._loop.is_closed():
+                logger.warning("Event loop not available for audit logging")
+                return
+            if not self._reserve():
+                self._record_drop()
+                return
+            self._loop.call_soon_threadsafe(self._enqueue, event)
 
         except Exception as e:
             # Never fail due to audit logging
             logger.exception("Failed to queue audit event: %s", e)
 
+    def _reserve(self) -> bool:
+        """Claim a queue slot, blocking briefly when the queue is full.
+
+        Only plain worker threads wait. Producers running an event loop (the
+        audit loop itself, or the MCP server loop via the audit middleware) must
+        not stall it, so they only take a slot if one is free.
+
+        Returns
+        -------
+        bool
+            True if the event may be queued, False if it must be dropped
+        """
+        try:
+            asyncio.get_running_loop()
+            on_loop = True
+        except RuntimeError:
+            on_loop = False
+        timeout = 0.0 if on_loop else self._enqueue_timeout_s
+
+        with self._space_available:
+            if not self._space_available.wait_for(
+                lambda: self._pending < self._queue_size,
+                timeout=timeout,
+            ):
+                return False
+            self._pending += 1
+            return True
+
+    def _release(self, count: int) -> None:
+        """Return queue slots taken by the worker and wake blocked producers.
+
+        Parameters
+        ----------
+        count : int
+            Number of events removed from the queue
+        """
+        if count <= 0:
+            return
+        with self._space_available:
+            self._pending = max(0, self._pending - count)
+            self._space_available.notify_all()
+
+    def _enqueue(self, event: AuditEvent) -> None:
+        """Put a reserved event on the queue; runs on the audit loop."""
+        try:
+            self._queue.put_nowait(event)
+            self._stats["enqueued"] += 1
+        except asyncio.QueueFull:
+            self._release(1)
+            self._record_drop()
+
+    def _record_drop(self) -> None:
+        """Count an event dropped because the queue stayed full."""
+        with self._space_available:
+            self._stats["dropped"] += 1
+
+    def _report_drops(self) -> None:
+        """Warn once per batch about events dropped since the last report."""
+        dropped = self._stats["dropped"]
+        if dropped > self._dropped_reported:
+            logger.warning(
+                "Audit queue full, dropped %d event(s) (%d total)",
+                dropped - self._dropped_reported,
+                dropped,
+            )
+            self._dropped_reported = dropped
+
+    def get_stats(self) -> dict[str, Any]:
+        """Get audit writer counters.
+
+        Returns
+        -------
+        dict[str, Any]
+            Durability mode, queue depth and capacity, and counts of enqueued,
+            written and dropped events, batches, flushes and the largest batch
+        """
+        with self._space_available:
+            return {
+                "durability": self._durability,
+                "pending": self._pending,
+                "queue_size": self._queue_size,
+                **self._stats,
+            }
+
     def flush(self) -> None:
         """Flush pending events to disk."""
         if not self._enabled or self._loop is None:
@@ -395,8 +621,7 @@ class AuditLogger:
 
         # Flush file
         async with self._write_lock:
-            if self._file_handle:
-                await self._file_handle.flush()
+            await self._flush_handle()
 
     def _cleanup_sync(self) -> None:
         """Synchronize cleanup for atexit handler."""
@@ -448,24 +673,28 @@ class AuditLogger:
 
             # Process any remaining events (limit to prevent infinite loop)
             if self._queue:
-                remaining_count = 0
+                remaining: list[AuditEvent] = []
                 while (
                     not self._queue.empty()
-                    and remaining_count < AUDIT_MAX_PENDING_EVENTS
+                    and len(remaining) < AUDIT_MAX_PENDING_EVENTS
                 ):
                     try:
                         event = self._queue.get_nowait()
-                        if event is not None:
-                            await self._write_event(event)
-                        remaining_count += 1
                     except asyncio.QueueEmpty:
                         break
-                    except Exception:
-                        break
+                    if event is not None:
+                        remaining.append(event)
+                self._release(len(remaining))
+                for start in range(0, len(remaining), self._batch_size):
+                    await self._write_batch(
+                        remaining[start : start + self._batch_size],
+                    )
 
             # Close file
             async with self._write_lock:
                 if self._file_handle:
+                    with contextlib.suppress(Exception):
+                        await self._flush_handle()
                     await self._file_handle.close()
                     self._file_handle = None
 
@@ -42,6 +42,7 @@ class DAPCapability:
     SET_VARIABLE = "supportsSetVariable"
     SET_EXPRESSION = "supportsSetExpression"
     VALUE_FORMATTING = "supportsValueFormattingOptions"
+    VARIABLE_PAGING = "supportsVariablePaging"
 
     # Evaluation capabilities
     EVALUATE_FOR_HOVERS = "supportsEvaluateForHovers"
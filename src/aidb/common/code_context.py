@@ -4,6 +4,7 @@ import re
 from pathlib import Path
 from typing import TYPE_CHECKING, TypedDict
 
+from aidb.common.line_index import get_source_line_index
 from aidb.patterns.base import Obj
 from aidb_common.config import config
 
@@ -135,26 +136,19 @@ class CodeContext(Obj):
             # Use the resolved path for file operations
             path = resolved_path
 
-            with path.open(encoding="utf-8") as f:
-                all_lines = f.readlines()
-
-            self.ctx.logger.debug(
-                "Loaded %d lines from %s",
-                len(all_lines),
-                file_path,
+            # Only the requested range is decoded; the shared index keeps the
+            # file's line offsets between stops
+            start_line = max(1, line - breadth)
+            range_lines = get_source_line_index().lines(
+                path,
+                start_line,
+                line + breadth,
             )
 
-            # Convert to 0-indexed for array access
-            target_idx = line - 1
-
-            # Calculate range
-            start_idx = max(0, target_idx - breadth)
-            end_idx = min(len(all_lines), target_idx + breadth + 1)
-
             self.ctx.logger.debug(
                 "Context range: lines %d-%d (target: %d)",
-                start_idx + 1,
-                end_idx,
+                start_line,
+                start_line + len(range_lines) - 1,
                 line,
             )
 
@@ -163,9 +157,7 @@ class CodeContext(Obj):
             max_line_width = config.get_code_context_max_width()
             truncated_lines = 0
 
-            for i in range(start_idx, end_idx):
-                line_num = i + 1  # Convert back to 1-indexed
-                line_text = all_lines[i].rstrip("\n\r")
+            for line_num, line_text in enumerate(range_lines, start=start_line):
 
                 # Apply smart truncation for long lines or minified files
                 if is_minified or len(line_text) > max_line_width:
@@ -314,13 +306,7 @@ class CodeContext(Obj):
 
         try:
             # Sample first few lines to check average line length
-            with path.open(encoding="utf-8", errors="ignore") as f:
-                lines = []
-                for _ in range(3):
-                    line = f.readline()
-                    if not line:
-                        break
-                    lines.append(line.rstrip("\n\r"))
+            lines = get_source_line_index().lines(path, 1, 3, errors="ignore")
 
             if not lines:
                 self.ctx.logger.debug(
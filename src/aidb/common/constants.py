@@ -50,6 +50,7 @@ BREAKPOINT_VALIDATION_DISABLE_MSG = (
 
 # Breakpoint verification timeouts (in seconds)
 DEFAULT_BREAKPOINT_VERIFICATION_TIMEOUT_S = 2.0
+BREAKPOINT_REBIND_DEBOUNCE_S = 0.1
 EVENT_POLL_TIMEOUT_S = 0.1
 POLL_SLEEP_INTERVAL_S = 0.05
 MAX_JITTER_S = 0.05
@@ -89,11 +90,16 @@ SCOPE_LOCAL = "local"
 SCOPE_GLOBALS = "globals"
 SCOPE_GLOBAL = "global"
 
+# Variable paging (DAP variables request start/count/filter)
+VARIABLE_FILTER_INDEXED = "indexed"
+VARIABLE_FILTER_NAMED = "named"
+DEFAULT_VARIABLE_PAGE_SIZE = 100  # Children returned per page
+MAX_VARIABLE_PAGE_SIZE = 1000  # Upper bound for caller-requested page sizes
+
 # Log/display truncation lengths
 LOG_EXPRESSION_PREVIEW_LENGTH = 100  # Characters to show in log messages
 
 # Audit logging constants
-AUDIT_QUEUE_MAX_SIZE = 1000  # Max pending audit events in queue
 AUDIT_INIT_TIMEOUT_S = 2.0  # Normal initialization timeout
 AUDIT_INIT_TIMEOUT_TEST_S = 0.5  # Shorter timeout for test environments
 AUDIT_FLUSH_TIMEOUT_S = 5.0  # Timeout for flush operations
@@ -101,6 +107,9 @@ AUDIT_SHUTDOWN_TIMEOUT_S = 5.0  # Timeout for shutdown
 AUDIT_WORKER_TIMEOUT_S = 1.0  # Worker loop poll timeout
 AUDIT_MAX_PENDING_EVENTS = 10000  # Safety limit for shutdown event processing
 AUDIT_SINGLETON_RESET_TIMEOUT_S = 3.0  # Timeout for singleton reset
+AUDIT_DURABILITY_EVENT = "event"  # Flush after every event
+AUDIT_DURABILITY_BATCH = "batch"  # One write and one flush per drained batch
+AUDIT_DURABILITY_ASYNC = "async"  # Flush only when idle, on rotation and shutdown
 
 # Port allocation constants
 PORT_CLEANUP_MIN_INTERVAL_S = 5.0  # Min seconds between cleanup operations
@@ -108,9 +117,15 @@ PORT_FALLBACK_RANGE_SIZE = 100  # Number of ports in each fallback range
 PORT_ALLOCATION_MAX_ATTEMPTS = 200  # Max port allocation attempts
 PORT_LOCK_MAX_RETRIES = 10  # Max retries for acquiring port lock
 PORT_INIT_CLEANUP_MAX_WAIT_S = 0.5  # Max wait during init cleanup
+PORT_PROBE_AUTO = "auto"  # /proc/net/tcp{,6} snapshot, connect probe without /proc
+PORT_PROBE_CONNECT = "connect"  # Non-blocking connect for ports we did not launch
+PORT_PROBE_PSUTIL = "psutil"  # Scan process connections with psutil (slowest)
+PORT_BLOCK_IDLE_S = 60.0  # Unused leased port blocks are returned after this long
+PORT_BLOCK_RENEW_INTERVAL_S = 60.0  # Background lease renewal and reclamation period
 
 # DAP receiver constants
 MAX_CONSECUTIVE_FAILURES = 5  # Max failures before stopping receiver
+LAZY_DECODE_MIN_ITEMS = 100  # Response lists at least this long decode on access
 
 # Time constants
 SECONDS_PER_DAY = 86400  # Seconds in a day (for dummy process sleep)
@@ -128,8 +143,8 @@ LSP_SHUTDOWN_TIMEOUT_S = 5.0  # LSP shutdown request timeout
 LSP_SERVICE_READY_TIMEOUT_S = 60.0  # Wait for JDT LS ServiceReady
 LSP_EXECUTE_COMMAND_TIMEOUT_S = 10.0  # Execute command timeout
 LSP_HEALTH_CHECK_TIMEOUT_S = 2.0  # Quick health check timeout
-LSP_MAVEN_IMPORT_TIMEOUT_S = 10.0  # Maven/Gradle import progress timeout
 LSP_PROJECT_IMPORT_TIMEOUT_S = 50.0  # Project import polling timeout
+LSP_PROJECT_IMPORT_EVENT_TIMEOUT_S = 20.0  # Import notification wait before polling
 
 # Network download timeouts (in seconds)
 DOWNLOAD_TIMEOUT_S = 30.0  # Timeout for downloading files
@@ -160,6 +175,17 @@ THREAD_JOIN_TIMEOUT_S = 2.0  # Standard thread join timeout
 
 # Java compilation timeout (in seconds)
 JAVA_COMPILATION_TIMEOUT_S = 30.0
+JAVA_COMPILE_SERVER_START_TIMEOUT_S = 15.0  # Warm javac daemon boot
+
+# Java source root discovery
+JAVA_SOURCE_SCAN_WORKERS = 8  # Threads listing directories concurrently
+JAVA_SOURCE_SCAN_REVALIDATE_S = 2.0  # Serve cached roots without re-stat'ing
+
+# Source line index
+LINE_INDEX_MMAP_MIN_BYTES = 1024 * 1024  # Smallest file memory-mapped when enabled
+
+# Per-stop cache of inspection responses
+DAP_SNAPSHOT_CACHE_MAX_ENTRIES = 1024  # Responses kept for a single stop
 
 # Transport receive timeout (in seconds)
 RECEIVE_POLL_TIMEOUT_S = 1.0  # Network receive buffer poll timeout
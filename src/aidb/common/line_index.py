@@ -0,0 +1,236 @@
+"""Shared line-offset index of source files.
+
+Code context extraction and breakpoint validation need line counts and short line
+ranges of the same source files over and over, e.g. on every stop and every
+``set``. This module keeps each file's contents together with the byte offset of every
+line start, so both are answered without re-reading or re-scanning the file. Entries
+are revalidated against the file's mtime and size on every access and evicted in LRU
+order once their total size exceeds a memory budget. Large files can optionally be
+memory-mapped instead of read.
+"""
+
+import mmap
+import os
+import re
+import stat
+import threading
+from array import array
+from collections import OrderedDict
+from pathlib import Path
+
+from aidb.common.constants import LINE_INDEX_MMAP_MIN_BYTES
+from aidb_common.config import config
+
+__all__ = ["SourceLineIndex", "get_source_line_index"]
+
+_NEWLINE = re.compile(rb"\n")
+
+
+class _IndexedFile:
+    """Contents and line start offsets of one file version."""
+
+    __slots__ = ("data", "file_map", "mtime_ns", "offsets", "size")
+
+    def __init__(
+        self,
+        mtime_ns: int,
+        size: int,
+        data: bytes | mmap.mmap,
+        file_map: mmap.mmap | None = None,
+    ) -> None:
+        self.mtime_ns = mtime_ns
+        self.size = size
+        self.data = data
+        self.file_map = file_map
+        # Start offset of every line, followed by the file size
+        self.offsets = array("Q", [0])
+        self.offsets.extend(match.end() for match in _NEWLINE.finditer(data))
+        if self.offsets[-1] != size:
+            self.offsets.append(size)
+
+    @property
+    def line_count(self) -> int:
+        return len(self.offsets) - 1
+
+    @property
+    def memory(self) -> int:
+        return self.size + self.offsets.itemsize * len(self.offsets)
+
+    def line(self, number: int, errors: str) -> str:
+        raw = self.data[self.offsets[number - 1] : self.offsets[number]]
+        return raw.decode("utf-8", errors=errors).rstrip("\r\n")
+
+    def close(self) -> None:
+        if self.file_map is not None:
+            self.file_map.close()
+
+
+class SourceLineIndex:
+    """LRU cache of line-indexed source files.
+
+    Thread-safe; one instance is shared per process via
+    :func:`get_source_line_index`.
+
+    Parameters
+    ----------
+    max_bytes : int
+        Memory budget for file contents and offsets; the most recently used file is
+        always kept, even if larger
+    use_mmap : bool
+        Memory-map files of at least ``mmap_min_bytes`` instead of reading them
+    mmap_min_bytes : int
+        Size from which files are memory-mapped
+    """
+
+    def __init__(
+        self,
+        max_bytes: int,
+        use_mmap: bool = False,
+        mmap_min_bytes: int = LINE_INDEX_MMAP_MIN_BYTES,
+    ) -> None:
+        self.max_bytes = max_bytes
+        self.use_mmap = use_mmap
+        self.mmap_min_bytes = mmap_min_bytes
+        self._lock = threading.Lock()
+        self._files: OrderedDict[str, _IndexedFile] = OrderedDict()
+        self._bytes = 0
+        self.hits = 0
+        self.misses = 0
+
+    def _load(self, path: str | Path) -> _IndexedFile:
+        """Get the index of the current version of a file; caller holds the lock."""
+        key = os.path.abspath(path)
+        st = os.stat(key)
+        if not stat.S_ISREG(st.st_mode):
+            msg = f"Not a regular file: {key}"
+            raise OSError(msg)
+
+        cached = self._files.get(key)
+        if (
+            cached is not None
+            and cached.mtime_ns == st.st_mtime_ns
+            and cached.size == st.st_size
+        ):
+            self._files.move_to_end(key)
+            self.hits += 1
+            return cached
+
+        self.misses += 1
+        if cached is not None:
+            self._discard(key)
+
+        with open(key, "rb") as f:
+            if self.use_mmap and st.st_size >= max(self.mmap_min_bytes, 1):
+                file_map = mmap.mmap(f.fileno(), 0, access=mmap.ACCESS_READ)
+                entry = _IndexedFile(st.st_mtime_ns, len(file_map), file_map, file_map)
+            else:
+                data = f.read()
+                entry = _IndexedFile(st.st_mtime_ns, len(data), data)
+
+        self._files[key] = entry
+        self._bytes += entry.memory
+        while self._bytes > self.max_bytes and len(self._files) > 1:
+            self._discard(next(iter(self._files)))
+        return entry
+
+    def _discard(self, key: str) -> None:
+        entry = self._files.pop(key)
+        self._bytes -= entry.memory
+        entry.close()
+
+    def line_count(self, path: str | Path) -> int:
+        """Get the number of lines of a file.
+
+        Parameters
+        ----------
+        path : str | Path
+            Source file
+
+        Returns
+        -------
+        int
+            Number of lines, counting a last line without line terminator
+
+        Raises
+        ------
+        OSError
+            If the file cannot be read or is not a regular file
+        """
+        with self._lock:
+            return self._load(path).line_count
+
+    def lines(
+        self,
+        path: str | Path,
+        start: int,
+        end: int,
+        errors: str = "strict",
+    ) -> list[str]:
+        """Get a range of lines of a file.
+
+        Parameters
+        ----------
+        path : str | Path
+            Source file
+        start : int
+            First line (1-indexed); clamped to the file
+        end : int
+            Last line (inclusive); clamped to the file
+        errors : str
+            UTF-8 decoding error handler
+
+        Returns
+        -------
+        list[str]
+            Lines without line terminators
+
+        Raises
+        ------
+        OSError
+            If the file cannot be read or is not a regular file
+        UnicodeDecodeError
+            If a requested line is not valid UTF-8 and ``errors`` is "strict"
+        """
+        with self._lock:
+            entry = self._load(path)
+            first = max(1, start)
+            last = min(entry.line_count, end)
+            return [entry.line(number, errors) for number in range(first, last + 1)]
+
+    def invalidate(self, path: str | Path | None = None) -> None:
+        """Drop the index of one file, or of every file.
+
+        Parameters
+        ----------
+        path : str | Path, optional
+            File to drop; all files if omitted
+        """
+        with self._lock:
+            keys = [os.path.abspath(path)] if path is not None else list(self._files)
+            for key in keys:
+                if key in self._files:
+                    self._discard(key)
+
+
+_index: SourceLineIndex | None = None
+_index_lock = threading.Lock()
+
+
+def get_source_line_index() -> SourceLineIndex:
+    """Get the process-wide source line index.
+
+    Returns
+    -------
+    SourceLineIndex
+        Shared index sized by AIDB_LINE_INDEX_CACHE_MB
+    """
+    global _index
+
+    if _index is None:
+        with _index_lock:
+            if _index is None:
+                _index = SourceLineIndex(
+                    max_bytes=config.get_line_index_cache_mb() * 1024 * 1024,
+                    use_mmap=config.is_line_index_mmap_enabled(),
+                )
+    return _index
@@ -7,13 +7,16 @@ responses, events, bodies, and types.
 
 Usage:
     python _gen_protocol.py
+    python _gen_protocol.py --decoders   # only regenerate protocol/_decoders.py
 
 Or via dev-cli:
     ./dev-cli dev dap
 """
 
 import hashlib
+import importlib
 import re
+import sys
 from dataclasses import dataclass
 from datetime import datetime, timezone
 from pathlib import Path
@@ -23,6 +26,7 @@ from typing import Dict, List, Optional, Set
 from _generator_core import (
     ClassSpec,
     CodeGenerator,
+    DecoderGenerator,
     DefinitionProcessor,
     DocstringFormatter,
     SpecificationLoader,
@@ -616,6 +620,49 @@ class Event(ProtocolMessage):
 
         return "\n".join(lines)
 
+    def generate_decoders(self) -> None:
+        """Generate protocol/_decoders.py from the protocol classes on disk.
+
+        The decoders are compiled from the resolved type hints of the imported
+        protocol modules, so this must run after the protocol files are written.
+        """
+        src_dir = self.protocol_dir.parents[2]
+        if str(src_dir) not in sys.path:
+            sys.path.insert(0, str(src_dir))
+
+        # Drop stale imports so freshly generated modules are picked up
+        for name in [m for m in sys.modules if m.startswith("aidb.dap.protocol")]:
+            del sys.modules[name]
+
+        serialization = importlib.import_module("aidb.dap.serialization")
+        mixin = serialization.SerializableMixin
+
+        classes: List[type] = []
+        seen: Set[type] = set()
+        for module_name in ("base", "types", "bodies", "requests", "responses"):
+            module = importlib.import_module(f"aidb.dap.protocol.{module_name}")
+            for value in vars(module).values():
+                if (
+                    isinstance(value, type)
+                    and issubclass(value, mixin)
+                    and value.__module__ == module.__name__
+                    and value not in seen
+                ):
+                    seen.add(value)
+                    classes.append(value)
+
+        generator = DecoderGenerator(mixin.from_dict.__func__, "aidb.dap.protocol")
+        content = generator.generate_module(
+            classes,
+            lambda cls: cls._get_resolved_type_hints(),
+            self._generate_file_banner(),
+        )
+
+        decoders_path = self.protocol_dir / "_decoders.py"
+        print(f"Generating {decoders_path}...")
+        with open(decoders_path, "w") as f:
+            f.write(content)
+
     def generate(self) -> None:
         """Execute the complete multi-file generation process."""
         print("Loading DAP specification...")
@@ -681,6 +728,8 @@ class Event(ProtocolMessage):
         with open(init_path, "w") as f:
             f.write(init_content)
 
+        self.generate_decoders()
+
         print(f"Successfully generated protocol files in {self.protocol_dir}")
 
         # Print summary
@@ -700,7 +749,10 @@ def main() -> int:
 
     try:
         generator = MultiFileGenerator(spec_path, protocol_dir)
-        generator.generate()
+        if "--decoders" in sys.argv[1:]:
+            generator.generate_decoders()
+        else:
+            generator.generate()
         return 0
     except Exception as e:
         print(f"Error generating protocol classes: {e}")
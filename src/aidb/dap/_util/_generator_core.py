@@ -1,17 +1,19 @@
 #!/usr/bin/env python3
 """DAP Protocol Generator Core Components.
 
-Shared components for generating Python dataclasses from DAP specification JSON. These
-are used by _gen_protocol.py (the multi-file generator).
+Shared components for generating Python dataclasses from DAP specification JSON, and
+precompiled from_dict decoders for the generated classes. These are used by
+_gen_protocol.py (the multi-file generator).
 """
 
 import ast
+import dataclasses
 import json
 import re
 import textwrap
 from dataclasses import dataclass
 from pathlib import Path
-from typing import Any, Dict, List, Optional
+from typing import Any, Callable, Dict, List, Optional, Union, get_args, get_origin
 
 
 @dataclass(frozen=True)
@@ -954,3 +956,303 @@ class CodeGenerator:
             remaining.remove(next_class)
 
         return result
+
+
+class UnsupportedHintError(Exception):
+    """Raised when a field annotation cannot be compiled into a decoder."""
+
+
+# Builtin scalar/container types whose values are always passed through
+_PASSTHROUGH_TYPES = (str, int, float, bool, dict, list, object, Any, type(None))
+
+# Line width of the generated module
+_DECODER_LINE_WIDTH = 88
+
+
+class DecoderGenerator:
+    """Generates specialized from_dict decoders for protocol dataclasses.
+
+    ``SerializableMixin.from_dict`` resolves type hints and walks Union, List and
+    forward-reference handling on every call. This generator performs that walk
+    once, at codegen time, on the resolved hints of the live protocol classes and
+    emits one straight-line decoder function per class with identical semantics:
+
+    - unknown keys are dropped, ``None`` values are passed through
+    - ``Optional[X]`` converts as ``X``; other Unions pass through
+    - ``List[X]`` converts each item; ``Dict`` values pass through
+    - dict values for classes with ``from_dict`` are decoded recursively, using
+      the generated decoder when the class has one
+
+    Classes that override ``from_dict`` (e.g. ``Event``) or whose hints cannot be
+    resolved are left to the reflective path.
+    """
+
+    def __init__(self, generic_from_dict: Callable[..., Any], package: str):
+        """Initialize the generator.
+
+        Parameters
+        ----------
+        generic_from_dict : Callable
+            The underlying function of ``SerializableMixin.from_dict``; classes
+            whose ``from_dict`` resolves to another function are skipped
+        package : str
+            Package of the protocol modules the generated module is placed in
+        """
+        self.generic_from_dict = generic_from_dict
+        self.package = package
+        self._foreign_refs: set = set()
+
+    def generate_module(
+        self,
+        classes: List[type],
+        hints: Callable[[type], Dict[str, Any]],
+        banner: str,
+    ) -> str:
+        """Generate the decoder module source.
+
+        Parameters
+        ----------
+        classes : List[type]
+            Candidate protocol classes
+        hints : Callable[[type], Dict[str, Any]]
+            Returns the resolved type hints of a class
+        banner : str
+            File banner to prepend
+
+        Returns
+        -------
+        str
+            Python source of the decoder module
+        """
+        plans: Dict[type, Dict[str, Any]] = {}
+        for cls in classes:
+            if not dataclasses.is_dataclass(cls):
+                continue
+            if getattr(cls.from_dict, "__func__", None) is not self.generic_from_dict:
+                continue
+            try:
+                plans[cls] = hints(cls)
+            except Exception:
+                continue
+
+        # Drop unsupported classes first: decoders call each other directly, so a
+        # class referencing a dropped one must be regenerated against the final set
+        decoded = set(plans)
+        bodies: Dict[type, str] = {}
+        while True:
+            bodies.clear()
+            self._foreign_refs = set()
+            unsupported = set()
+            for cls in decoded:
+                try:
+                    bodies[cls] = self._generate_decoder(cls, plans[cls], decoded)
+                except UnsupportedHintError:
+                    unsupported.add(cls)
+            if not unsupported:
+                break
+            decoded -= unsupported
+
+        referenced: Dict[str, set] = {}
+        for cls in decoded:
+            module = cls.__module__.rsplit(".", 1)[-1]
+            referenced.setdefault(module, set()).add(cls.__name__)
+
+        # Classes decoded through their own from_dict must be imported as well
+        for cls in self._foreign_refs:
+            module = cls.__module__.rsplit(".", 1)[-1]
+            referenced.setdefault(module, set()).add(cls.__name__)
+
+        lines = [banner.rstrip("\n"), ""]
+        lines.append('"""DAP Protocol - Precompiled from_dict decoders.')
+        lines.append("")
+        lines.append(
+            "Straight-line decoders equivalent to SerializableMixin.from_dict, "
+            "without"
+        )
+        lines.append("per-message type-hint reflection.")
+        lines.append('"""')
+        lines.append("")
+        for module in sorted(referenced):
+            names = sorted(referenced[module])
+            lines.append(f"from .{module} import (")
+            lines.extend(f"    {name}," for name in names)
+            lines.append(")")
+        lines.append("")
+        lines.append("")
+        lines.append("def _construct(target, value):")
+        lines.append('    """Mirror direct construction for classes without from_dict."""')
+        lines.append("    try:")
+        lines.append("        return target(**value)")
+        lines.append("    except TypeError:")
+        lines.append("        return value")
+        for cls in sorted(decoded, key=lambda c: c.__name__):
+            lines.append("")
+            lines.append("")
+            lines.append(bodies[cls])
+        lines.append("")
+        lines.append("")
+        lines.append("DECODERS = {")
+        for cls in sorted(decoded, key=lambda c: c.__name__):
+            lines.append(f"    {cls.__name__}: _decode_{cls.__name__},")
+        lines.append("}")
+        lines.append("")
+        return "\n".join(lines)
+
+    def _generate_decoder(
+        self,
+        cls: type,
+        field_types: Dict[str, Any],
+        decoded: set,
+    ) -> str:
+        """Generate the decoder function for one class."""
+        name = cls.__name__
+        keys = [f'"{k}"' for k in sorted(field_types)]
+        # A one-element tuple keeps its comma; any other trailing comma would make
+        # the formatter explode the tuple
+        fields_line = f"_FIELDS_{name} = frozenset(({', '.join(keys)}))"
+        if len(keys) == 1:
+            fields_line = f"_FIELDS_{name} = frozenset(({keys[0]},))"
+        elif not keys:
+            fields_line = f"_FIELDS_{name} = frozenset()"
+        if len(fields_line) <= _DECODER_LINE_WIDTH:
+            lines = [fields_line]
+        else:
+            lines = [f"_FIELDS_{name} = frozenset(", "    ("]
+            lines.extend(f"        {k}," for k in keys)
+            lines.extend(["    ),", ")"])
+        lines.extend(
+            [
+                "",
+                "",
+                f"def _decode_{name}(data):",
+                f"    fields = _FIELDS_{name}",
+                "    kwargs = {k: v for k, v in data.items() if k in fields}",
+            ],
+        )
+        for field_name in sorted(field_types):
+            expr = self._converter(field_types[field_name], "v", decoded, 0)
+            if expr is None:
+                continue
+            lines.append(f'    v = kwargs.get("{field_name}")')
+            lines.append("    if v is not None:")
+            lines.extend(self._format_assignment(f'kwargs["{field_name}"]', expr))
+        lines.append(f"    return {name}(**kwargs)")
+        return "\n".join(lines)
+
+    @classmethod
+    def _format_assignment(cls, target: str, expr: str) -> List[str]:
+        """Format a converter assignment as ``ruff format`` lays it out."""
+        indent = " " * 8
+        line = f"{indent}{target} = {expr}"
+        if len(line) <= _DECODER_LINE_WIDTH:
+            return [line]
+        return [
+            f"{indent}{target} = (",
+            *cls._layout(expr, len(indent) + 4),
+            f"{indent})",
+        ]
+
+    @classmethod
+    def _layout(cls, expr: str, indent: int) -> List[str]:
+        """Split a converter expression into lines fitting the line width.
+
+        Conditional expressions break before ``if`` and ``else``; list
+        comprehensions break inside their brackets, then before ``for``.
+        """
+        pad = " " * indent
+        if indent + len(expr) <= _DECODER_LINE_WIDTH:
+            return [pad + expr]
+
+        if_at = cls._find_top_level(expr, " if ")
+        if if_at != -1:
+            else_at = cls._find_top_level(expr, " else ", if_at)
+            return [
+                *cls._layout(expr[:if_at], indent),
+                pad + expr[if_at + 1 : else_at],
+                pad + expr[else_at + 1 :],
+            ]
+
+        if expr.startswith("[") and expr.endswith("]"):
+            inner = expr[1:-1]
+            inner_pad = " " * (indent + 4)
+            if indent + 4 + len(inner) <= _DECODER_LINE_WIDTH:
+                body = [inner_pad + inner]
+            else:
+                for_at = cls._find_top_level(inner, " for ")
+                body = [
+                    *cls._layout(inner[:for_at], indent + 4),
+                    inner_pad + inner[for_at + 1 :],
+                ]
+            return [pad + "[", *body, pad + "]"]
+
+        return [pad + expr]
+
+    @staticmethod
+    def _find_top_level(expr: str, token: str, start: int = 0) -> int:
+        """Find ``token`` in ``expr`` outside brackets, or -1."""
+        depth = 0
+        for i in range(start, len(expr)):
+            char = expr[i]
+            if char in "([":
+                depth += 1
+            elif char in ")]":
+                depth -= 1
+            elif depth == 0 and expr.startswith(token, i):
+                return i
+        return -1
+
+    def _converter(
+        self,
+        field_type: Any,
+        var: str,
+        decoded: set,
+        depth: int,
+    ) -> Optional[str]:
+        """Build an expression converting ``var`` to ``field_type``.
+
+        Returns None when the value is passed through unchanged.
+        """
+        if isinstance(field_type, str) or hasattr(field_type, "__forward_arg__"):
+            raise UnsupportedHintError(str(field_type))
+
+        origin = get_origin(field_type)
+        if origin is Union:
+            args = get_args(field_type)
+            if type(None) not in args:
+                return None
+            for arg in args:
+                if arg is not type(None):
+                    return self._converter(arg, var, decoded, depth)
+            return None
+
+        if origin is list:
+            args = get_args(field_type)
+            item = f"x{depth}"
+            item_expr = (
+                self._converter(args[0], item, decoded, depth + 1) if args else None
+            )
+            if item_expr is None:
+                return None
+            return (
+                f"[{item_expr} for {item} in {var}] "
+                f"if isinstance({var}, list) else {var}"
+            )
+
+        if origin is not None or not isinstance(field_type, type):
+            # Dict, Literal, Any, PEP 604 unions, TypeVars: passed through
+            return None
+
+        if field_type in _PASSTHROUGH_TYPES:
+            return None
+        if not field_type.__module__.startswith(self.package):
+            # Only protocol classes can be imported by the generated module
+            raise UnsupportedHintError(repr(field_type))
+        if field_type in decoded:
+            call = f"_decode_{field_type.__name__}({var})"
+        elif hasattr(field_type, "from_dict"):
+            self._foreign_refs.add(field_type)
+            call = f"{field_type.__name__}.from_dict({var})"
+        else:
+            self._foreign_refs.add(field_type)
+            call = f"_construct({field_type.__name__}, {var})"
+        return f"{call} if isinstance({var}, dict) else {var}"
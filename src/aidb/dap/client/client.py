@@ -23,10 +23,11 @@ from aidb.dap.protocol.requests import (
 )
 from aidb.dap.response import ResponseRegistry
 from aidb.patterns import Obj
+from aidb_common.config import config
 
 from .capabilities import CLIENT_CAPABILITIES
 from .connection_manager import ConnectionManager
-from .constants import EventType
+from .constants import SNAPSHOT_INVALIDATING_COMMANDS, EventType
 from .events import EventProcessor
 from .logger import PrefixedLogger
 from .message_router import MessageRouter
@@ -35,6 +36,7 @@ from .receiver import start_receiver
 from .request_handler import RequestHandler
 from .retry import DAPRetryManager, RetryConfig
 from .reverse_requests import ReverseRequestHandler
+from .snapshot_cache import StopSnapshotCache
 from .state import SessionState
 from .transport import DAPTransport
 
@@ -152,6 +154,13 @@ class DAPClient(Obj):
         )
         self._response_registry = ResponseRegistry()
 
+        # Inspection responses memoized for the current stop
+        self._snapshot_cache: StopSnapshotCache | None = (
+            StopSnapshotCache(self._state)
+            if config.is_dap_snapshot_cache_enabled()
+            else None
+        )
+
         # DAP audit state (initialized on first use)
         self._should_audit_dap: bool | None = None
 
@@ -333,6 +342,8 @@ class DAPClient(Obj):
                 self._retry_manager = DAPRetryManager()
             self._request_handler.retry_manager = self._retry_manager
 
+        self._invalidate_snapshots(request)
+
         # Check if this is an execution command that should handle termination
         if self._is_execution_command(request):
             # Use the termination-aware handler for execution commands
@@ -343,8 +354,64 @@ class DAPClient(Obj):
             )
         # Use standard request handling for other commands
         self.ctx.debug(f"Using standard send_request for {request.command}")
+        if self._snapshot_cache is not None:
+            return await self._snapshot_cache.fetch(
+                request,
+                lambda: self._request_handler.send_request(request, timeout),
+            )
         return await self._request_handler.send_request(request, timeout)
 
+    async def send_requests(
+        self,
+        requests: list[Request],
+        timeout: float | None = None,
+    ) -> list[Response | BaseException]:
+        """Send a batch of DAP requests and wait for all responses.
+
+        The requests are sent back to back and their responses awaited
+        concurrently. Responses are never served from the snapshot cache.
+
+        Parameters
+        ----------
+        requests : list[Request]
+            The typed DAP request objects to send
+        timeout : float, optional
+            Response timeout per request (defaults to 30 seconds)
+
+        Returns
+        -------
+        list[Response | BaseException]
+            Response or the error raised for each request, in request order
+
+        Raises
+        ------
+        DebugConnectionError
+            If not connected
+        """
+        for request in requests:
+            self._invalidate_snapshots(request)
+        return await self._request_handler.send_requests(requests, timeout)
+
+    def _invalidate_snapshots(self, request: Request) -> None:
+        """Discard cached inspection responses before the debuggee state changes.
+
+        Parameters
+        ----------
+        request : Request
+            The request about to be sent
+        """
+        if request.command not in SNAPSHOT_INVALIDATING_COMMANDS:
+            return
+        if self._snapshot_cache is not None:
+            self._snapshot_cache.invalidate()
+        else:
+            self._state.stop_epoch += 1
+
+    @property
+    def snapshot_cache(self) -> StopSnapshotCache | None:
+        """Get the per-stop inspection cache, if enabled."""
+        return self._snapshot_cache
+
     def _is_execution_command(self, request: Request) -> bool:
         """Check if request is an execution command that may terminate.
 
@@ -383,6 +450,7 @@ class DAPClient(Obj):
         int
             The sequence number assigned to the request
         """
+        self._invalidate_snapshots(request)
         return await self._request_handler.send_request_no_wait(request)
 
     def set_session_creation_callback(self, callback):
@@ -562,6 +630,7 @@ class DAPClient(Obj):
         DebugConnectionError
             If not connected or connection lost
         """
+        self._invalidate_snapshots(request)
         return await self._request_handler.send_request_and_wait_for_event(
             request,
             event_type,
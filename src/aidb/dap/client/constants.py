@@ -51,6 +51,7 @@ class CommandType(Enum):
     CONFIGURATION_DONE = "configurationDone"
     DISCONNECT = "disconnect"
     TERMINATE = "terminate"
+    RESTART = "restart"
     START_DEBUGGING = "startDebugging"
     CONTINUE = "continue"
     NEXT = "next"
@@ -95,6 +96,48 @@ CONNECTION_SETUP_COMMANDS = {
     CommandType.TERMINATE.value,
 }
 
+# Read-only inspection commands whose responses may be awaited concurrently; they are
+# still sent one at a time, but the next request does not wait for their response
+PIPELINED_COMMANDS = {
+    CommandType.STACK_TRACE.value,
+    CommandType.SCOPES.value,
+    CommandType.VARIABLES.value,
+    CommandType.SOURCE.value,
+    CommandType.THREADS.value,
+    CommandType.MODULES.value,
+    CommandType.LOADED_SOURCES.value,
+    CommandType.EXCEPTION_INFO.value,
+}
+
+# Inspection commands whose responses are cached until the debuggee state changes
+SNAPSHOT_COMMANDS = {
+    CommandType.THREADS.value,
+    CommandType.STACK_TRACE.value,
+    CommandType.SCOPES.value,
+    CommandType.VARIABLES.value,
+}
+
+# Commands that may change threads, frames or variable values; cached inspection
+# responses are discarded before they are sent
+SNAPSHOT_INVALIDATING_COMMANDS = {
+    CommandType.CONTINUE.value,
+    CommandType.NEXT.value,
+    CommandType.STEP_IN.value,
+    CommandType.STEP_OUT.value,
+    CommandType.STEP_BACK.value,
+    CommandType.REVERSE_CONTINUE.value,
+    CommandType.RESTART_FRAME.value,
+    CommandType.GOTO.value,
+    CommandType.PAUSE.value,
+    CommandType.SET_VARIABLE.value,
+    CommandType.SET_EXPRESSION.value,
+    CommandType.EVALUATE.value,
+    CommandType.WRITE_MEMORY.value,
+    CommandType.DISCONNECT.value,
+    CommandType.TERMINATE.value,
+    CommandType.RESTART.value,
+}
+
 
 class StopReason(Enum):
     """Reasons for debugger stopping."""
@@ -279,6 +279,7 @@ class EventProcessor(Obj):
         stopped_event = cast("StoppedEvent", event)
         self._last_stopped_event = stopped_event
         self._state.stopped = True
+        self._state.stop_epoch += 1
 
         if stopped_event.body:
             self._state.stop_reason = stopped_event.body.reason
@@ -336,6 +337,7 @@ class EventProcessor(Obj):
 
         self._state.stopped = False
         self._state.stop_reason = None
+        self._state.stop_epoch += 1
         # Clear last stopped event since we're continuing
         self._last_stopped_event = None
 
@@ -353,6 +355,7 @@ class EventProcessor(Obj):
         self._state.terminated = True
         self._state.session_established = False
         self._state.stopped = False  # Clear stopped state on termination
+        self._state.stop_epoch += 1
 
         if terminated_event.body and terminated_event.body.restart is not None:
             self.ctx.info(
@@ -374,10 +377,12 @@ class EventProcessor(Obj):
         self.ctx.info(f"Process exited with code: {exit_code}")
         self._state.terminated = True
         self._state.stopped = False  # Clear stopped state on exit
+        self._state.stop_epoch += 1
 
     def _handle_thread(self, event: Event) -> None:
         """Handle thread event."""
         thread_event = cast("ThreadEvent", event)
+        self._state.thread_epoch += 1
         if thread_event.body:
             self.ctx.debug(
                 f"AidbThread {thread_event.body.threadId} {thread_event.body.reason}",
@@ -595,6 +600,7 @@ class EventProcessor(Obj):
         client should refresh its data views.
         """
         invalidated_event = cast("InvalidatedEvent", event)
+        self._state.stop_epoch += 1
         if invalidated_event.body:
             areas = getattr(invalidated_event.body, "areas", None) or []
             thread_id = getattr(invalidated_event.body, "threadId", None)
@@ -7,8 +7,15 @@ numbering, and response correlation.
 import asyncio
 from typing import TYPE_CHECKING, Any, Optional
 
-from aidb.common.constants import DEFAULT_REQUEST_TIMEOUT_S
+from aidb.common.constants import DEFAULT_REQUEST_TIMEOUT_S, LAZY_DECODE_MIN_ITEMS
 from aidb_common.config import config
+from aidb_common.metrics import (
+    DAP_REQUEST_DURATION,
+    OUTCOME_FAILED,
+    OUTCOME_OK,
+    OUTCOME_TIMEOUT,
+    get_metrics_registry,
+)
 
 if TYPE_CHECKING:
     from aidb.dap.client.events import EventProcessor
@@ -18,8 +25,10 @@ from aidb.common.errors import (
     DebugSessionLostError,
     DebugTimeoutError,
 )
-from aidb.dap.client.constants import CommandType
+from aidb.dap.client.constants import PIPELINED_COMMANDS, CommandType
+from aidb.dap.lazy import defer_list_field
 from aidb.dap.protocol.base import Request, Response
+from aidb.dap.protocol.types import Variable
 from aidb.dap.response import ResponseRegistry
 from aidb.patterns import Obj
 
@@ -31,12 +40,19 @@ if TYPE_CHECKING:
     from .transport import DAPTransport
 
 
+# Response list fields decoded on access when large: command -> (field, item type)
+LAZY_LIST_FIELDS: dict[str, tuple[str, type]] = {
+    CommandType.VARIABLES.value: ("variables", Variable),
+}
+
+
 class RequestHandler(Obj):
     """Handles DAP request/response processing.
 
     This class manages the core request/response flow, including:
     - Sequence number generation
-    - Request serialization
+    - Request serialization (responses to read-only inspection commands are
+      awaited concurrently)
     - Response correlation
     - Timeout handling
     """
@@ -132,10 +148,103 @@ class RequestHandler(Obj):
         if timeout is None:
             timeout = DEFAULT_REQUEST_TIMEOUT_S
 
-        return await self._send_request_core(
-            request=request,
-            timeout=timeout,
-            is_retry=is_retry,
+        with get_metrics_registry().timer(
+            DAP_REQUEST_DURATION,
+            command=request.command,
+        ) as labels:
+            try:
+                response = await self._send_request_core(
+                    request=request,
+                    timeout=timeout,
+                    is_retry=is_retry,
+                )
+            except DebugTimeoutError:
+                labels["outcome"] = OUTCOME_TIMEOUT
+                raise
+            labels["outcome"] = OUTCOME_OK if response.success else OUTCOME_FAILED
+            return response
+
+    async def send_requests(
+        self,
+        requests: list[Request],
+        timeout: float | None = None,
+    ) -> list[Response | BaseException]:
+        """Send a batch of DAP requests back to back and await all responses.
+
+        The requests are written in order without interleaving other requests, and
+        their responses are awaited concurrently, so a batch costs about one round
+        trip instead of one per request.
+
+        Parameters
+        ----------
+        requests : list[Request]
+            The typed DAP request objects to send
+        timeout : float, optional
+            Response timeout per request in seconds (default: 30)
+
+        Returns
+        -------
+        list[Response | BaseException]
+            Response or the error raised for each request, in request order
+
+        Raises
+        ------
+        DebugConnectionError
+            If not connected
+        """
+        if timeout is None:
+            timeout = DEFAULT_REQUEST_TIMEOUT_S
+        if not self.transport.is_connected():
+            msg = "Not connected to DAP adapter"
+            raise DebugConnectionError(msg)
+
+        sent: list[tuple[Request, int, asyncio.Future[Response]] | Exception] = []
+        async with self._request_semaphore:
+            for request in requests:
+                seq = await self.get_next_seq()
+                request.seq = seq
+                future: asyncio.Future[Response] = asyncio.Future()
+                async with self.async_lock:
+                    self._pending_requests[seq] = future
+                try:
+                    await self.transport.send_message(request)
+                    self.ctx.debug(f"Sent batched request {seq}: {request.command}")
+                except Exception as e:
+                    await self._cleanup_pending_request(seq)
+                    msg = f"Failed to send request: {e}"
+                    error = DebugConnectionError(msg)
+                    error.__cause__ = e
+                    sent.append(error)
+                    continue
+                sent.append((request, seq, future))
+
+        async def await_response(
+            item: tuple[Request, int, asyncio.Future[Response]] | Exception,
+        ) -> Response:
+            if isinstance(item, Exception):
+                raise item
+            request, seq, future = item
+            with get_metrics_registry().timer(
+                DAP_REQUEST_DURATION,
+                command=request.command,
+            ) as labels:
+                try:
+                    response = await self._await_response_or_retry(
+                        future,
+                        request,
+                        seq,
+                        timeout,
+                        is_retry=False,
+                    )
+                except DebugTimeoutError:
+                    labels["outcome"] = OUTCOME_TIMEOUT
+                    raise
+                labels["outcome"] = OUTCOME_OK if response.success else OUTCOME_FAILED
+                return response
+
+        return await asyncio.gather(
+            *(await_response(item) for item in sent),
+            return_exceptions=True,
         )
 
     async def send_request_no_wait(self, request: Request) -> int:
@@ -233,6 +342,18 @@ class RequestHandler(Obj):
             body = message.get("body") or {}
             success = bool(message.get("success", True))
 
+            if success and cmd in LAZY_LIST_FIELDS and isinstance(body, dict):
+                # Keep large child lists raw; items are typed when accessed
+                field, item_type = LAZY_LIST_FIELDS[cmd]
+                lazy_body = defer_list_field(
+                    body,
+                    field,
+                    item_type.from_dict,
+                    LAZY_DECODE_MIN_ITEMS,
+                )
+                if lazy_body is not body:
+                    message = {**message, "body": lazy_body}
+
             if cmd == CommandType.EVALUATE.value:
                 # If evaluate failed or required fields are missing, fall back
                 # to generic Response to avoid constructor errors from the
@@ -440,7 +561,10 @@ class RequestHandler(Obj):
             msg = "Not connected to DAP adapter"
             raise DebugConnectionError(msg)
 
-        # Serialize request sending to prevent race conditions
+        # Serialize request sending to prevent race conditions. Responses to
+        # read-only inspection commands are awaited outside the lock, so several
+        # can be in flight at once.
+        pipelined = request.command in PIPELINED_COMMANDS
         async with self._request_semaphore:
             # Get sequence number and update request
             seq = await self.get_next_seq()
@@ -461,48 +585,92 @@ class RequestHandler(Obj):
                 msg = f"Failed to send request: {e}"
                 raise DebugConnectionError(msg) from e
 
-            # Wait for response
-            try:
-                return await self._wait_for_response(future, request, seq, timeout)
+            if not pipelined:
+                return await self._await_response_or_retry(
+                    future,
+                    request,
+                    seq,
+                    timeout,
+                    is_retry,
+                )
 
-            except asyncio.TimeoutError as timeout_err:
-                # Clean up on timeout
-                await self._cleanup_pending_request(seq)
+        return await self._await_response_or_retry(
+            future,
+            request,
+            seq,
+            timeout,
+            is_retry,
+        )
 
-                # Retry if configured
-                if await self._should_retry(request, is_retry):
-                    self.ctx.info(f"Retrying {request.command} after timeout")
-                    return await self._send_request_core(
-                        request=request,
-                        timeout=timeout,
-                        is_retry=True,
-                    )
+    async def _await_response_or_retry(
+        self,
+        future: asyncio.Future[Response],
+        request: Request,
+        seq: int,
+        timeout: float,
+        is_retry: bool,
+    ) -> Response:
+        """Wait for the response to a sent request, retrying on failure.
 
-                msg = (
-                    f"Timeout waiting for response to {request.command} "
-                    f"(seq={seq}) after {timeout}s"
-                )
-                raise DebugTimeoutError(msg) from timeout_err
+        Parameters
+        ----------
+        future : asyncio.Future[Response]
+            Future resolved with the response
+        request : Request
+            The request that was sent
+        seq : int
+            Sequence number of the request
+        timeout : float
+            Response timeout
+        is_retry : bool
+            Whether this is a retry attempt
 
-            except Exception as e:
-                # Clean up on error
-                await self._cleanup_pending_request(seq)
+        Returns
+        -------
+        Response
+            The response from the adapter
+        """
+        try:
+            return await self._wait_for_response(future, request, seq, timeout)
+
+        except asyncio.TimeoutError as timeout_err:
+            # Clean up on timeout
+            await self._cleanup_pending_request(seq)
+
+            # Retry if configured
+            if await self._should_retry(request, is_retry):
+                self.ctx.info(f"Retrying {request.command} after timeout")
+                return await self._send_request_core(
+                    request=request,
+                    timeout=timeout,
+                    is_retry=True,
+                )
 
-                # Check if it's a connection error
-                if isinstance(e, DebugConnectionError | DebugSessionLostError):
-                    raise
+            msg = (
+                f"Timeout waiting for response to {request.command} "
+                f"(seq={seq}) after {timeout}s"
+            )
+            raise DebugTimeoutError(msg) from timeout_err
 
-                # Retry if configured
-                if await self._should_retry(request, is_retry):
-                    self.ctx.info(f"Retrying {request.command} after error: {e}")
-                    return await self._send_request_core(
-                        request=request,
-                        timeout=timeout,
-                        is_retry=True,
-                    )
+        except Exception as e:
+            # Clean up on error
+            await self._cleanup_pending_request(seq)
+
+            # Check if it's a connection error
+            if isinstance(e, DebugConnectionError | DebugSessionLostError):
+                raise
+
+            # Retry if configured
+            if await self._should_retry(request, is_retry):
+                self.ctx.info(f"Retrying {request.command} after error: {e}")
+                return await self._send_request_core(
+                    request=request,
+                    timeout=timeout,
+                    is_retry=True,
+                )
 
-                msg = f"Request failed: {e}"
-                raise DebugConnectionError(msg) from e
+            msg = f"Request failed: {e}"
+            raise DebugConnectionError(msg) from e
 
     async def send_request_and_wait_for_event(
         self,
@@ -175,7 +175,7 @@ class DAPRetryManager:
         # Session lifecycle (can cause issues if retried)
         CommandType.LAUNCH.value,
         CommandType.ATTACH.value,
-        "restart",  # No CommandType for this yet
+        CommandType.RESTART.value,
         CommandType.DISCONNECT.value,
         CommandType.TERMINATE.value,
         # Modification operations
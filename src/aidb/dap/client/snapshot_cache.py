@@ -0,0 +1,151 @@
+"""Per-stop cache of DAP inspection responses.
+
+While the debuggee is stopped, the threads, stack frames, scopes and variables the
+adapter reports cannot change, yet every inspection tool fetches them again. This
+cache memoizes those responses for the current stop: entries are keyed by command and
+arguments and are only valid for the session's ``stop_epoch``, which the event
+processor bumps on stopped, continued, invalidated and terminated events and the
+client bumps before sending any request that resumes the debuggee or modifies state.
+"""
+
+import asyncio
+import json
+from collections.abc import Awaitable, Callable
+from typing import Any
+
+from aidb.common.constants import DAP_SNAPSHOT_CACHE_MAX_ENTRIES
+from aidb.dap.protocol.base import Request, Response
+
+from .constants import SNAPSHOT_COMMANDS, CommandType
+from .state import SessionState
+
+# Cache key: command, thread epoch (threads requests only) and canonical arguments
+_Key = tuple[str, int, str]
+
+
+class StopSnapshotCache:
+    """Memoizes inspection responses until the debuggee state changes.
+
+    Concurrent requests for the same key share one in-flight request. Failed and
+    unsuccessful responses are never cached, nor are responses whose stop ended while
+    they were in flight.
+
+    Parameters
+    ----------
+    state : SessionState
+        State of the session whose responses are cached
+    max_entries : int
+        Responses kept for a single stop; the oldest are dropped first
+    """
+
+    def __init__(
+        self,
+        state: SessionState,
+        max_entries: int = DAP_SNAPSHOT_CACHE_MAX_ENTRIES,
+    ) -> None:
+        self._state = state
+        self.max_entries = max_entries
+        self._epoch = state.stop_epoch
+        self._entries: dict[_Key, asyncio.Future[Response]] = {}
+        self.hits = 0
+        self.misses = 0
+
+    def _make_key(self, request: Request) -> _Key | None:
+        if request.command not in SNAPSHOT_COMMANDS:
+            return None
+        arguments = request.arguments
+        if hasattr(arguments, "to_dict"):
+            arguments = arguments.to_dict()
+        thread_epoch = (
+            self._state.thread_epoch
+            if request.command == CommandType.THREADS.value
+            else 0
+        )
+        return (
+            request.command,
+            thread_epoch,
+            json.dumps(arguments, sort_keys=True, default=str),
+        )
+
+    def _sync_epoch(self) -> None:
+        if self._epoch != self._state.stop_epoch:
+            self._entries.clear()
+            self._epoch = self._state.stop_epoch
+
+    def invalidate(self) -> None:
+        """Start a new epoch, discarding every cached response."""
+        self._state.stop_epoch += 1
+        self._sync_epoch()
+
+    async def fetch(
+        self,
+        request: Request,
+        send: Callable[[], Awaitable[Response]],
+    ) -> Response:
+        """Get the response to a request from the cache or the adapter.
+
+        Parameters
+        ----------
+        request : Request
+            Request to answer
+        send : Callable[[], Awaitable[Response]]
+            Sends the request to the adapter on a cache miss
+
+        Returns
+        -------
+        Response
+            Cached or freshly received response
+        """
+        key = self._make_key(request)
+        if key is None or not self._state.stopped or self._state.terminated:
+            return await send()
+
+        self._sync_epoch()
+        cached = self._entries.get(key)
+        if cached is not None:
+            self.hits += 1
+            # A waiter being cancelled must not cancel the shared request
+            return await asyncio.shield(cached)
+
+        self.misses += 1
+        epoch = self._state.stop_epoch
+        future: asyncio.Future[Response] = asyncio.get_running_loop().create_future()
+        if len(self._entries) >= self.max_entries:
+            self._entries.pop(next(iter(self._entries)))
+        self._entries[key] = future
+
+        try:
+            response = await send()
+        except asyncio.CancelledError:
+            self._discard(key, future)
+            future.cancel()
+            raise
+        except Exception as e:
+            self._discard(key, future)
+            future.set_exception(e)
+            future.exception()  # Retrieved by the waiters, if there are any
+            raise
+
+        if not response.success or epoch != self._state.stop_epoch:
+            self._discard(key, future)
+        future.set_result(response)
+        return response
+
+    def _discard(self, key: _Key, future: asyncio.Future[Response]) -> None:
+        if self._entries.get(key) is future:
+            del self._entries[key]
+
+    def get_stats(self) -> dict[str, Any]:
+        """Get cache statistics.
+
+        Returns
+        -------
+        dict[str, Any]
+            Hits, misses, cached entries and the current stop epoch
+        """
+        return {
+            "hits": self.hits,
+            "misses": self.misses,
+            "entries": len(self._entries),
+            "stop_epoch": self._state.stop_epoch,
+        }
@@ -33,6 +33,11 @@ class SessionState:
     stop_reason: str | None = None
     current_thread_id: int | None = None
 
+    # Bumped whenever cached threads/frames/variables may be stale; deliberately
+    # not reset so responses fetched before a reconnect are never reused
+    stop_epoch: int = 0
+    thread_epoch: int = 0
+
     # Location tracking
     current_file: str | None = None
     current_line: int | None = None
@@ -9,7 +9,7 @@ from aidb.common.constants import RECEIVE_POLL_TIMEOUT_S
 from aidb.common.errors import DebugConnectionError
 from aidb.dap.protocol.base import ProtocolMessage
 from aidb.patterns import Obj
-from aidb_common.io import is_event_loop_error
+from aidb_common.io import FrameDecoder, FramingError, is_event_loop_error
 
 if TYPE_CHECKING:
     from aidb.interfaces.context import IContext
@@ -50,7 +50,7 @@ class DAPTransport(Obj):
         self._port = port
         self._reader: asyncio.StreamReader | None = None
         self._writer: asyncio.StreamWriter | None = None
-        self._receive_buffer = b""
+        self._decoder = FrameDecoder()
 
     async def connect(self, timeout: float = 5.0) -> None:
         """Establish socket connection.
@@ -232,7 +232,7 @@ class DAPTransport(Obj):
             return message
 
         # No complete message and no new data
-        if not self._receive_buffer:
+        if not self._decoder.pending:
             msg = "Receive timeout"
             raise DebugConnectionError(msg)
 
@@ -274,7 +274,7 @@ class DAPTransport(Obj):
 
                 if chunk is None:
                     # No new data received - check for partial message timeout
-                    if self._receive_buffer:
+                    if self._decoder.pending:
                         # We have partial data but no new data arrived
                         if partial_message_start is None:
                             partial_message_start = time.monotonic()
@@ -282,7 +282,7 @@ class DAPTransport(Obj):
                             time.monotonic() - partial_message_start
                             > PARTIAL_MESSAGE_TIMEOUT_S
                         ):
-                            buffer_preview = self._receive_buffer[:100]
+                            buffer_preview = self._decoder.peek(100)
                             msg = (
                                 f"Partial message timeout after "
                                 f"{PARTIAL_MESSAGE_TIMEOUT_S}s - adapter may have "
@@ -304,7 +304,7 @@ class DAPTransport(Obj):
                 partial_message_start = None
 
                 # Add chunk to buffer
-                self._receive_buffer += chunk
+                self._decoder.feed(chunk)
 
                 # Try to parse after receiving new data
                 message = self._try_parse_message()
@@ -316,36 +316,6 @@ class DAPTransport(Obj):
                 msg = f"Failed to receive message: {e}"
                 raise DebugConnectionError(msg, summary="Receive failed") from e
 
-    def _parse_content_length(self, header: str, header_end: int) -> int | None:
-        """Parse Content-Length from header.
-
-        Parameters
-        ----------
-        header : str
-            The header string
-        header_end : int
-            End position of header in buffer
-
-        Returns
-        -------
-        int or None
-            Content length or None if invalid
-        """
-        for line in header.split("\r\n"):
-            if line.lower().startswith("content-length:"):
-                try:
-                    return int(line.split(":")[1].strip())
-                except (ValueError, IndexError):
-                    self.ctx.error(f"Invalid Content-Length header: {line}")
-                    # Skip this malformed message
-                    self._receive_buffer = self._receive_buffer[header_end + 4 :]
-                    return None
-
-        # No Content-Length found
-        self.ctx.error("Missing Content-Length header")
-        self._receive_buffer = self._receive_buffer[header_end + 4 :]
-        return None
-
     def _log_received_message(self, message: dict[str, Any]) -> None:
         """Log details about received message.
 
@@ -384,29 +354,18 @@ class DAPTransport(Obj):
         dict or None
             Parsed message or None if incomplete
         """
-        # Look for header terminator
-        header_end = self._receive_buffer.find(DAP_HEADER_TERMINATOR)
-        if header_end == -1:
-            return None
-
-        # Parse header
-        header = self._receive_buffer[:header_end].decode("utf-8")
-        content_length = self._parse_content_length(header, header_end)
-        if content_length is None:
+        try:
+            body_bytes = self._decoder.next_body()
+        except FramingError as e:
+            # Malformed header was skipped
+            self.ctx.error(str(e))
             return None
-
-        # Check if we have the complete body
-        body_start = header_end + 4
-        if len(self._receive_buffer) < body_start + content_length:
+        if body_bytes is None:
             # Need more data
             return None
 
-        # Extract and parse body
-        body_bytes = self._receive_buffer[body_start : body_start + content_length]
-        self._receive_buffer = self._receive_buffer[body_start + content_length :]
-
         try:
-            message = json.loads(body_bytes.decode("utf-8"))
+            message = json.loads(body_bytes)
             self._log_received_message(message)
             return message
         except (json.JSONDecodeError, UnicodeDecodeError) as e:
@@ -425,4 +384,4 @@ class DAPTransport(Obj):
 
     def clear_buffer(self) -> None:
         """Clear the receive buffer."""
-        self._receive_buffer = b""
+        self._decoder.clear()
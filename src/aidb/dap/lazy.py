@@ -0,0 +1,164 @@
+"""Lazy decoding of large DAP response lists.
+
+Expanding a big collection (e.g. a Java ``int[3000]``) returns a ``variables``
+response with one entry per element. Building a typed ``Variable`` for every entry
+up front is wasted work when the caller only needs a count or the first page, so
+such lists are kept as raw JSON dicts and decoded item by item on access.
+"""
+
+from collections.abc import Callable, Iterator, Sequence
+from typing import Any, Generic, TypeVar, overload
+
+T = TypeVar("T")
+
+
+class LazyDecodedList(Sequence[T], Generic[T]):
+    """Read-only sequence decoding raw protocol dicts on first access.
+
+    Behaves like the list the eager path would have produced: it supports
+    ``len``, indexing, slicing, iteration and equality with lists. Decoded items
+    are cached, so repeated access returns the same objects.
+
+    Parameters
+    ----------
+    raw : list[Any]
+        Items as received from the adapter
+    decode : Callable[[dict[str, Any]], T]
+        Decoder for a single item, typically the item class' ``from_dict``
+    """
+
+    __slots__ = ("_decode", "_decoded", "_raw")
+
+    def __init__(self, raw: list[Any], decode: Callable[[dict[str, Any]], T]):
+        self._raw = raw
+        self._decode = decode
+        self._decoded: list[Any] = [None] * len(raw)
+
+    @property
+    def raw(self) -> list[Any]:
+        """Get the undecoded items, e.g. for summaries or re-serialization."""
+        return self._raw
+
+    @property
+    def decoded_count(self) -> int:
+        """Get the number of items materialized so far."""
+        return sum(item is not None for item in self._decoded)
+
+    def _item(self, index: int) -> T:
+        item = self._decoded[index]
+        if item is None:
+            raw = self._raw[index]
+            # Mirror from_dict: non-dict entries are passed through unchanged
+            item = self._decode(raw) if isinstance(raw, dict) else raw
+            self._decoded[index] = item
+        return item
+
+    def __len__(self) -> int:
+        return len(self._raw)
+
+    @overload
+    def __getitem__(self, index: int) -> T: ...
+
+    @overload
+    def __getitem__(self, index: slice) -> list[T]: ...
+
+    def __getitem__(self, index: int | slice) -> T | list[T]:
+        if isinstance(index, slice):
+            return [self._item(i) for i in range(*index.indices(len(self._raw)))]
+        if index < 0:
+            index += len(self._raw)
+        if not 0 <= index < len(self._raw):
+            msg = "LazyDecodedList index out of range"
+            raise IndexError(msg)
+        return self._item(index)
+
+    def __iter__(self) -> Iterator[T]:
+        for index in range(len(self._raw)):
+            yield self._item(index)
+
+    def __eq__(self, other: object) -> bool:
+        if isinstance(other, LazyDecodedList):
+            return self._raw == other._raw
+        if isinstance(other, list):
+            return len(other) == len(self._raw) and all(
+                a == b for a, b in zip(self, other, strict=True)
+            )
+        return NotImplemented
+
+    __hash__ = None  # type: ignore[assignment]
+
+    def __repr__(self) -> str:
+        return (
+            f"LazyDecodedList(len={len(self._raw)}, decoded={self.decoded_count})"
+        )
+
+    def page(self, start: int = 0, count: int | None = None) -> list[T]:
+        """Decode and return one page of items.
+
+        Parameters
+        ----------
+        start : int
+            Index of the first item
+        count : int, optional
+            Maximum number of items; all remaining items if omitted
+
+        Returns
+        -------
+        list[T]
+            Decoded items in ``[start, start + count)``
+        """
+        stop = len(self._raw) if count is None else start + max(count, 0)
+        return self[start:stop]
+
+    def iter_pages(self, size: int) -> Iterator[list[T]]:
+        """Stream the items in decoded pages of ``size``.
+
+        Earlier pages are not retained by the iterator, so callers that drop
+        them keep at most one page of new objects alive at a time.
+
+        Parameters
+        ----------
+        size : int
+            Items per page (at least 1)
+
+        Yields
+        ------
+        list[T]
+            Consecutive pages of decoded items
+        """
+        size = max(1, size)
+        for start in range(0, len(self._raw), size):
+            yield self.page(start, size)
+
+
+def defer_list_field(
+    body: dict[str, Any],
+    field: str,
+    decode: Callable[[dict[str, Any]], Any],
+    min_items: int,
+) -> dict[str, Any]:
+    """Return a body whose ``field`` list decodes lazily if it is large.
+
+    The original body is not modified. ``from_dict`` passes non-list values
+    through, so the typed body keeps the ``LazyDecodedList`` as-is.
+
+    Parameters
+    ----------
+    body : dict[str, Any]
+        Raw response body
+    field : str
+        Name of the list field
+    decode : Callable[[dict[str, Any]], Any]
+        Decoder for one list item
+    min_items : int
+        Lists shorter than this are left for eager decoding
+
+    Returns
+    -------
+    dict[str, Any]
+        The body, or a shallow copy with the list wrapped
+    """
+    items = body.get(field)
+    if not isinstance(items, list) or len(items) < min_items:
+        return body
+    return {**body, field: LazyDecodedList(items, decode)}
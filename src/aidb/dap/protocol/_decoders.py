@@ -0,0 +1,4236 @@
+# ============================================================================
+# AUTO-GENERATED FILE - DO NOT EDIT DIRECTLY
+#
+# Generated by: src/aidb/dap/_util/_gen_protocol.py
+# From spec:    src/aidb/dap/_util/_spec.json
+# Spec hash:    f4feadc09927d22d
+# Generated:    2026-10-18T22:26:45Z
+# ============================================================================
+
+"""DAP Protocol - Precompiled from_dict decoders.
+
+Straight-line decoders equivalent to SerializableMixin.from_dict, without
+per-message type-hint reflection.
+"""
+
+from .base import (
+    OperationEventBody,
+    OperationResponseBody,
+    ProtocolMessage,
+    Request,
+    Response,
+)
+from .bodies import (
+    AttachRequestArguments,
+    BreakpointEventBody,
+    BreakpointLocationsArguments,
+    BreakpointLocationsResponseBody,
+    CancelArguments,
+    CapabilitiesEventBody,
+    CompletionsArguments,
+    CompletionsResponseBody,
+    ConfigurationDoneArguments,
+    ContinueArguments,
+    ContinueResponseBody,
+    ContinuedEventBody,
+    DataBreakpointInfoArguments,
+    DataBreakpointInfoResponseBody,
+    DisassembleArguments,
+    DisassembleResponseBody,
+    DisconnectArguments,
+    ErrorResponseBody,
+    EvaluateArguments,
+    EvaluateResponseBody,
+    ExceptionInfoArguments,
+    ExceptionInfoResponseBody,
+    ExitedEventBody,
+    GotoArguments,
+    GotoTargetsArguments,
+    GotoTargetsResponseBody,
+    InitializeRequestArguments,
+    InvalidatedEventBody,
+    LaunchRequestArguments,
+    LoadedSourceEventBody,
+    LoadedSourcesArguments,
+    LoadedSourcesResponseBody,
+    LocationsArguments,
+    LocationsResponseBody,
+    MemoryEventBody,
+    ModuleEventBody,
+    ModulesArguments,
+    ModulesResponseBody,
+    NextArguments,
+    OutputEventBody,
+    PauseArguments,
+    ProcessEventBody,
+    ProgressEndEventBody,
+    ProgressStartEventBody,
+    ProgressUpdateEventBody,
+    ReadMemoryArguments,
+    ReadMemoryResponseBody,
+    RestartArguments,
+    RestartFrameArguments,
+    ReverseContinueArguments,
+    RunInTerminalRequestArguments,
+    RunInTerminalResponseBody,
+    ScopesArguments,
+    ScopesResponseBody,
+    SetBreakpointsArguments,
+    SetBreakpointsResponseBody,
+    SetDataBreakpointsArguments,
+    SetDataBreakpointsResponseBody,
+    SetExceptionBreakpointsArguments,
+    SetExceptionBreakpointsResponseBody,
+    SetExpressionArguments,
+    SetExpressionResponseBody,
+    SetFunctionBreakpointsArguments,
+    SetFunctionBreakpointsResponseBody,
+    SetInstructionBreakpointsArguments,
+    SetInstructionBreakpointsResponseBody,
+    SetVariableArguments,
+    SetVariableResponseBody,
+    SourceArguments,
+    SourceResponseBody,
+    StackTraceArguments,
+    StackTraceResponseBody,
+    StartDebuggingRequestArguments,
+    StepBackArguments,
+    StepInArguments,
+    StepInTargetsArguments,
+    StepInTargetsResponseBody,
+    StepOutArguments,
+    StoppedEventBody,
+    TerminateArguments,
+    TerminateThreadsArguments,
+    TerminatedEventBody,
+    ThreadEventBody,
+    ThreadsResponseBody,
+    VariablesArguments,
+    VariablesResponseBody,
+    WriteMemoryArguments,
+    WriteMemoryResponseBody,
+)
+from .requests import (
+    AttachRequest,
+    BreakpointLocationsRequest,
+    CancelRequest,
+    CompletionsRequest,
+    ConfigurationDoneRequest,
+    ContinueRequest,
+    DataBreakpointInfoRequest,
+    DisassembleRequest,
+    DisconnectRequest,
+    EvaluateRequest,
+    ExceptionInfoRequest,
+    GotoRequest,
+    GotoTargetsRequest,
+    InitializeRequest,
+    LaunchRequest,
+    LoadedSourcesRequest,
+    LocationsRequest,
+    ModulesRequest,
+    NextRequest,
+    PauseRequest,
+    ReadMemoryRequest,
+    RestartFrameRequest,
+    RestartRequest,
+    ReverseContinueRequest,
+    RunInTerminalRequest,
+    ScopesRequest,
+    SetBreakpointsRequest,
+    SetDataBreakpointsRequest,
+    SetExceptionBreakpointsRequest,
+    SetExpressionRequest,
+    SetFunctionBreakpointsRequest,
+    SetInstructionBreakpointsRequest,
+    SetVariableRequest,
+    SourceRequest,
+    StackTraceRequest,
+    StartDebuggingRequest,
+    StepBackRequest,
+    StepInRequest,
+    StepInTargetsRequest,
+    StepOutRequest,
+    TerminateRequest,
+    TerminateThreadsRequest,
+    ThreadsRequest,
+    VariablesRequest,
+    WriteMemoryRequest,
+)
+from .responses import (
+    AttachResponse,
+    BreakpointLocationsResponse,
+    CancelResponse,
+    CompletionsResponse,
+    ConfigurationDoneResponse,
+    ContinueResponse,
+    DataBreakpointInfoResponse,
+    DisassembleResponse,
+    DisconnectResponse,
+    ErrorResponse,
+    EvaluateResponse,
+    ExceptionInfoResponse,
+    GotoResponse,
+    GotoTargetsResponse,
+    InitializeResponse,
+    LaunchResponse,
+    LoadedSourcesResponse,
+    LocationsResponse,
+    ModulesResponse,
+    NextResponse,
+    PauseResponse,
+    ReadMemoryResponse,
+    RestartFrameResponse,
+    RestartResponse,
+    ReverseContinueResponse,
+    RunInTerminalResponse,
+    ScopesResponse,
+    SetBreakpointsResponse,
+    SetDataBreakpointsResponse,
+    SetExceptionBreakpointsResponse,
+    SetExpressionResponse,
+    SetFunctionBreakpointsResponse,
+    SetInstructionBreakpointsResponse,
+    SetVariableResponse,
+    SourceResponse,
+    StackTraceResponse,
+    StartDebuggingResponse,
+    StepBackResponse,
+    StepInResponse,
+    StepInTargetsResponse,
+    StepOutResponse,
+    TerminateResponse,
+    TerminateThreadsResponse,
+    ThreadsResponse,
+    VariablesResponse,
+    WriteMemoryResponse,
+)
+from .types import (
+    Breakpoint,
+    BreakpointLocation,
+    BreakpointMode,
+    BreakpointModeApplicability,
+    Capabilities,
+    Checksum,
+    ChecksumAlgorithm,
+    ColumnDescriptor,
+    CompletionItem,
+    CompletionItemType,
+    DataBreakpoint,
+    DataBreakpointAccessType,
+    DisassembledInstruction,
+    ExceptionBreakMode,
+    ExceptionBreakpointsFilter,
+    ExceptionDetails,
+    ExceptionFilterOptions,
+    ExceptionOptions,
+    ExceptionPathSegment,
+    FunctionBreakpoint,
+    GotoTarget,
+    InstructionBreakpoint,
+    InvalidatedAreas,
+    Message,
+    Module,
+    Scope,
+    Source,
+    SourceBreakpoint,
+    StackFrame,
+    StackFrameFormat,
+    StepInTarget,
+    SteppingGranularity,
+    Thread,
+    ValueFormat,
+    Variable,
+    VariablePresentationHint,
+)
+
+
+def _construct(target, value):
+    """Mirror direct construction for classes without from_dict."""
+    try:
+        return target(**value)
+    except TypeError:
+        return value
+
+
+_FIELDS_AttachRequest = frozenset(("arguments", "command", "seq", "type"))
+
+
+def _decode_AttachRequest(data):
+    fields = _FIELDS_AttachRequest
+    kwargs = {k: v for k, v in data.items() if k in fields}
+    v = kwargs.get("arguments")
+    if v is not None:
+        kwargs["arguments"] = (
+            _decode_AttachRequestArguments(v) if isinstance(v, dict) else v
+        )
+    return AttachRequest(**kwargs)
+
+
+_FIELDS_AttachRequestArguments = frozenset(("_AttachRequestArguments__restart",))
+
+
+def _decode_AttachRequestArguments(data):
+    fields = _FIELDS_AttachRequestArguments
+    kwargs = {k: v for k, v in data.items() if k in fields}
+    return AttachRequestArguments(**kwargs)
+
+
+_FIELDS_AttachResponse = frozenset(
+    (
+        "_frozen",
+        "body",
+        "command",
+        "extra",
+        "message",
+        "request_seq",
+        "seq",
+        "success",
+        "type",
+    ),
+)
+
+
+def _decode_AttachResponse(data):
+    fields = _FIELDS_AttachResponse
+    kwargs = {k: v for k, v in data.items() if k in fields}
+    v = kwargs.get("body")
+    if v is not None:
+        kwargs["body"] = _decode_OperationResponseBody(v) if isinstance(v, dict) else v
+    return AttachResponse(**kwargs)
+
+
+_FIELDS_Breakpoint = frozenset(
+    (
+        "column",
+        "endColumn",
+        "endLine",
+        "id",
+        "instructionReference",
+        "line",
+        "message",
+        "offset",
+        "reason",
+        "source",
+        "verified",
+    ),
+)
+
+
+def _decode_Breakpoint(data):
+    fields = _FIELDS_Breakpoint
+    kwargs = {k: v for k, v in data.items() if k in fields}
+    v = kwargs.get("source")
+    if v is not None:
+        kwargs["source"] = _decode_Source(v) if isinstance(v, dict) else v
+    return Breakpoint(**kwargs)
+
+
+_FIELDS_BreakpointEventBody = frozenset(("_frozen", "breakpoint", "reason"))
+
+
+def _decode_BreakpointEventBody(data):
+    fields = _FIELDS_BreakpointEventBody
+    kwargs = {k: v for k, v in data.items() if k in fields}
+    v = kwargs.get("breakpoint")
+    if v is not None:
+        kwargs["breakpoint"] = _decode_Breakpoint(v) if isinstance(v, dict) else v
+    return BreakpointEventBody(**kwargs)
+
+
+_FIELDS_BreakpointLocation = frozenset(("column", "endColumn", "endLine", "line"))
+
+
+def _decode_BreakpointLocation(data):
+    fields = _FIELDS_BreakpointLocation
+    kwargs = {k: v for k, v in data.items() if k in fields}
+    return BreakpointLocation(**kwargs)
+
+
+_FIELDS_BreakpointLocationsArguments = frozenset(
+    (
+        "column",
+        "endColumn",
+        "endLine",
+        "line",
+        "source",
+    ),
+)
+
+
+def _decode_BreakpointLocationsArguments(data):
+    fields = _FIELDS_BreakpointLocationsArguments
+    kwargs = {k: v for k, v in data.items() if k in fields}
+    v = kwargs.get("source")
+    if v is not None:
+        kwargs["source"] = _decode_Source(v) if isinstance(v, dict) else v
+    return BreakpointLocationsArguments(**kwargs)
+
+
+_FIELDS_BreakpointLocationsRequest = frozenset(("arguments", "command", "seq", "type"))
+
+
+def _decode_BreakpointLocationsRequest(data):
+    fields = _FIELDS_BreakpointLocationsRequest
+    kwargs = {k: v for k, v in data.items() if k in fields}
+    v = kwargs.get("arguments")
+    if v is not None:
+        kwargs["arguments"] = (
+            _decode_BreakpointLocationsArguments(v) if isinstance(v, dict) else v
+        )
+    return BreakpointLocationsRequest(**kwargs)
+
+
+_FIELDS_BreakpointLocationsResponse = frozenset(
+    (
+        "_frozen",
+        "body",
+        "command",
+        "extra",
+        "message",
+        "request_seq",
+        "seq",
+        "success",
+        "type",
+    ),
+)
+
+
+def _decode_BreakpointLocationsResponse(data):
+    fields = _FIELDS_BreakpointLocationsResponse
+    kwargs = {k: v for k, v in data.items() if k in fields}
+    v = kwargs.get("body")
+    if v is not None:
+        kwargs["body"] = (
+            _decode_BreakpointLocationsResponseBody(v) if isinstance(v, dict) else v
+        )
+    return BreakpointLocationsResponse(**kwargs)
+
+
+_FIELDS_BreakpointLocationsResponseBody = frozenset(("_frozen", "breakpoints"))
+
+
+def _decode_BreakpointLocationsResponseBody(data):
+    fields = _FIELDS_BreakpointLocationsResponseBody
+    kwargs = {k: v for k, v in data.items() if k in fields}
+    v = kwargs.get("breakpoints")
+    if v is not None:
+        kwargs["breakpoints"] = (
+            [_decode_BreakpointLocation(x0) if isinstance(x0, dict) else x0 for x0 in v]
+            if isinstance(v, list)
+            else v
+        )
+    return BreakpointLocationsResponseBody(**kwargs)
+
+
+_FIELDS_BreakpointMode = frozenset(("appliesTo", "description", "label", "mode"))
+
+
+def _decode_BreakpointMode(data):
+    fields = _FIELDS_BreakpointMode
+    kwargs = {k: v for k, v in data.items() if k in fields}
+    v = kwargs.get("appliesTo")
+    if v is not None:
+        kwargs["appliesTo"] = (
+            [
+                _decode_BreakpointModeApplicability(x0) if isinstance(x0, dict) else x0
+                for x0 in v
+            ]
+            if isinstance(v, list)
+            else v
+        )
+    return BreakpointMode(**kwargs)
+
+
+_FIELDS_BreakpointModeApplicability = frozenset()
+
+
+def _decode_BreakpointModeApplicability(data):
+    fields = _FIELDS_BreakpointModeApplicability
+    kwargs = {k: v for k, v in data.items() if k in fields}
+    return BreakpointModeApplicability(**kwargs)
+
+
+_FIELDS_CancelArguments = frozenset(("progressId", "requestId"))
+
+
+def _decode_CancelArguments(data):
+    fields = _FIELDS_CancelArguments
+    kwargs = {k: v for k, v in data.items() if k in fields}
+    return CancelArguments(**kwargs)
+
+
+_FIELDS_CancelRequest = frozenset(("arguments", "command", "seq", "type"))
+
+
+def _decode_CancelRequest(data):
+    fields = _FIELDS_CancelRequest
+    kwargs = {k: v for k, v in data.items() if k in fields}
+    v = kwargs.get("arguments")
+    if v is not None:
+        kwargs["arguments"] = _decode_CancelArguments(v) if isinstance(v, dict) else v
+    return CancelRequest(**kwargs)
+
+
+_FIELDS_CancelResponse = frozenset(
+    (
+        "_frozen",
+        "body",
+        "command",
+        "extra",
+        "message",
+        "request_seq",
+        "seq",
+        "success",
+        "type",
+    ),
+)
+
+
+def _decode_CancelResponse(data):
+    fields = _FIELDS_CancelResponse
+    kwargs = {k: v for k, v in data.items() if k in fields}
+    v = kwargs.get("body")
+    if v is not None:
+        kwargs["body"] = _decode_OperationResponseBody(v) if isinstance(v, dict) else v
+    return CancelResponse(**kwargs)
+
+
+_FIELDS_Capabilities = frozenset(
+    (
+        "additionalModuleColumns",
+        "breakpointModes",
+        "completionTriggerCharacters",
+        "exceptionBreakpointFilters",
+        "supportSuspendDebuggee",
+        "supportTerminateDebuggee",
+        "supportedChecksumAlgorithms",
+        "supportsANSIStyling",
+        "supportsBreakpointLocationsRequest",
+        "supportsCancelRequest",
+        "supportsClipboardContext",
+        "supportsCompletionsRequest",
+        "supportsConditionalBreakpoints",
+        "supportsConfigurationDoneRequest",
+        "supportsDataBreakpointBytes",
+        "supportsDataBreakpoints",
+        "supportsDelayedStackTraceLoading",
+        "supportsDisassembleRequest",
+        "supportsEvaluateForHovers",
+        "supportsExceptionFilterOptions",
+        "supportsExceptionInfoRequest",
+        "supportsExceptionOptions",
+        "supportsFunctionBreakpoints",
+        "supportsGotoTargetsRequest",
+        "supportsHitConditionalBreakpoints",
+        "supportsInstructionBreakpoints",
+        "supportsLoadedSourcesRequest",
+        "supportsLogPoints",
+        "supportsModulesRequest",
+        "supportsReadMemoryRequest",
+        "supportsRestartFrame",
+        "supportsRestartRequest",
+        "supportsSetExpression",
+        "supportsSetVariable",
+        "supportsSingleThreadExecutionRequests",
+        "supportsStepBack",
+        "supportsStepInTargetsRequest",
+        "supportsSteppingGranularity",
+        "supportsTerminateRequest",
+        "supportsTerminateThreadsRequest",
+        "supportsValueFormattingOptions",
+        "supportsWriteMemoryRequest",
+    ),
+)
+
+
+def _decode_Capabilities(data):
+    fields = _FIELDS_Capabilities
+    kwargs = {k: v for k, v in data.items() if k in fields}
+    v = kwargs.get("additionalModuleColumns")
+    if v is not None:
+        kwargs["additionalModuleColumns"] = (
+            [_decode_ColumnDescriptor(x0) if isinstance(x0, dict) else x0 for x0 in v]
+            if isinstance(v, list)
+            else v
+        )
+    v = kwargs.get("breakpointModes")
+    if v is not None:
+        kwargs["breakpointModes"] = (
+            [_decode_BreakpointMode(x0) if isinstance(x0, dict) else x0 for x0 in v]
+            if isinstance(v, list)
+            else v
+        )
+    v = kwargs.get("exceptionBreakpointFilters")
+    if v is not None:
+        kwargs["exceptionBreakpointFilters"] = (
+            [
+                _decode_ExceptionBreakpointsFilter(x0) if isinstance(x0, dict) else x0
+                for x0 in v
+            ]
+            if isinstance(v, list)
+            else v
+        )
+    v = kwargs.get("supportedChecksumAlgorithms")
+    if v is not None:
+        kwargs["supportedChecksumAlgorithms"] = (
+            [
+                _construct(ChecksumAlgorithm, x0) if isinstance(x0, dict) else x0
+                for x0 in v
+            ]
+            if isinstance(v, list)
+            else v
+        )
+    return Capabilities(**kwargs)
+
+
+_FIELDS_CapabilitiesEventBody = frozenset(("_frozen", "capabilities"))
+
+
+def _decode_CapabilitiesEventBody(data):
+    fields = _FIELDS_CapabilitiesEventBody
+    kwargs = {k: v for k, v in data.items() if k in fields}
+    v = kwargs.get("capabilities")
+    if v is not None:
+        kwargs["capabilities"] = _decode_Capabilities(v) if isinstance(v, dict) else v
+    return CapabilitiesEventBody(**kwargs)
+
+
+_FIELDS_Checksum = frozenset(("algorithm", "checksum"))
+
+
+def _decode_Checksum(data):
+    fields = _FIELDS_Checksum
+    kwargs = {k: v for k, v in data.items() if k in fields}
+    v = kwargs.get("algorithm")
+    if v is not None:
+        kwargs["algorithm"] = (
+            _construct(ChecksumAlgorithm, v) if isinstance(v, dict) else v
+        )
+    return Checksum(**kwargs)
+
+
+_FIELDS_ColumnDescriptor = frozenset(
+    (
+        "attributeName",
+        "format",
+        "label",
+        "type",
+        "width",
+    ),
+)
+
+
+def _decode_ColumnDescriptor(data):
+    fields = _FIELDS_ColumnDescriptor
+    kwargs = {k: v for k, v in data.items() if k in fields}
+    return ColumnDescriptor(**kwargs)
+
+
+_FIELDS_CompletionItem = frozenset(
+    (
+        "detail",
+        "label",
+        "length",
+        "selectionLength",
+        "selectionStart",
+        "sortText",
+        "start",
+        "text",
+        "type",
+    ),
+)
+
+
+def _decode_CompletionItem(data):
+    fields = _FIELDS_CompletionItem
+    kwargs = {k: v for k, v in data.items() if k in fields}
+    v = kwargs.get("type")
+    if v is not None:
+        kwargs["type"] = _construct(CompletionItemType, v) if isinstance(v, dict) else v
+    return CompletionItem(**kwargs)
+
+
+_FIELDS_CompletionsArguments = frozenset(("column", "frameId", "line", "text"))
+
+
+def _decode_CompletionsArguments(data):
+    fields = _FIELDS_CompletionsArguments
+    kwargs = {k: v for k, v in data.items() if k in fields}
+    return CompletionsArguments(**kwargs)
+
+
+_FIELDS_CompletionsRequest = frozenset(("arguments", "command", "seq", "type"))
+
+
+def _decode_CompletionsRequest(data):
+    fields = _FIELDS_CompletionsRequest
+    kwargs = {k: v for k, v in data.items() if k in fields}
+    v = kwargs.get("arguments")
+    if v is not None:
+        kwargs["arguments"] = (
+            _decode_CompletionsArguments(v) if isinstance(v, dict) else v
+        )
+    return CompletionsRequest(**kwargs)
+
+
+_FIELDS_CompletionsResponse = frozenset(
+    (
+        "_frozen",
+        "body",
+        "command",
+        "extra",
+        "message",
+        "request_seq",
+        "seq",
+        "success",
+        "type",
+    ),
+)
+
+
+def _decode_CompletionsResponse(data):
+    fields = _FIELDS_CompletionsResponse
+    kwargs = {k: v for k, v in data.items() if k in fields}
+    v = kwargs.get("body")
+    if v is not None:
+        kwargs["body"] = (
+            _decode_CompletionsResponseBody(v) if isinstance(v, dict) else v
+        )
+    return CompletionsResponse(**kwargs)
+
+
+_FIELDS_CompletionsResponseBody = frozenset(("_frozen", "targets"))
+
+
+def _decode_CompletionsResponseBody(data):
+    fields = _FIELDS_CompletionsResponseBody
+    kwargs = {k: v for k, v in data.items() if k in fields}
+    v = kwargs.get("targets")
+    if v is not None:
+        kwargs["targets"] = (
+            [_decode_CompletionItem(x0) if isinstance(x0, dict) else x0 for x0 in v]
+            if isinstance(v, list)
+            else v
+        )
+    return CompletionsResponseBody(**kwargs)
+
+
+_FIELDS_ConfigurationDoneArguments = frozenset()
+
+
+def _decode_ConfigurationDoneArguments(data):
+    fields = _FIELDS_ConfigurationDoneArguments
+    kwargs = {k: v for k, v in data.items() if k in fields}
+    return ConfigurationDoneArguments(**kwargs)
+
+
+_FIELDS_ConfigurationDoneRequest = frozenset(("arguments", "command", "seq", "type"))
+
+
+def _decode_ConfigurationDoneRequest(data):
+    fields = _FIELDS_ConfigurationDoneRequest
+    kwargs = {k: v for k, v in data.items() if k in fields}
+    v = kwargs.get("arguments")
+    if v is not None:
+        kwargs["arguments"] = (
+            _decode_ConfigurationDoneArguments(v) if isinstance(v, dict) else v
+        )
+    return ConfigurationDoneRequest(**kwargs)
+
+
+_FIELDS_ConfigurationDoneResponse = frozenset(
+    (
+        "_frozen",
+        "body",
+        "command",
+        "extra",
+        "message",
+        "request_seq",
+        "seq",
+        "success",
+        "type",
+    ),
+)
+
+
+def _decode_ConfigurationDoneResponse(data):
+    fields = _FIELDS_ConfigurationDoneResponse
+    kwargs = {k: v for k, v in data.items() if k in fields}
+    v = kwargs.get("body")
+    if v is not None:
+        kwargs["body"] = _decode_OperationResponseBody(v) if isinstance(v, dict) else v
+    return ConfigurationDoneResponse(**kwargs)
+
+
+_FIELDS_ContinueArguments = frozenset(("singleThread", "threadId"))
+
+
+def _decode_ContinueArguments(data):
+    fields = _FIELDS_ContinueArguments
+    kwargs = {k: v for k, v in data.items() if k in fields}
+    return ContinueArguments(**kwargs)
+
+
+_FIELDS_ContinueRequest = frozenset(("arguments", "command", "seq", "type"))
+
+
+def _decode_ContinueRequest(data):
+    fields = _FIELDS_ContinueRequest
+    kwargs = {k: v for k, v in data.items() if k in fields}
+    v = kwargs.get("arguments")
+    if v is not None:
+        kwargs["arguments"] = _decode_ContinueArguments(v) if isinstance(v, dict) else v
+    return ContinueRequest(**kwargs)
+
+
+_FIELDS_ContinueResponse = frozenset(
+    (
+        "_frozen",
+        "body",
+        "command",
+        "extra",
+        "message",
+        "request_seq",
+        "seq",
+        "success",
+        "type",
+    ),
+)
+
+
+def _decode_ContinueResponse(data):
+    fields = _FIELDS_ContinueResponse
+    kwargs = {k: v for k, v in data.items() if k in fields}
+    v = kwargs.get("body")
+    if v is not None:
+        kwargs["body"] = _decode_ContinueResponseBody(v) if isinstance(v, dict) else v
+    return ContinueResponse(**kwargs)
+
+
+_FIELDS_ContinueResponseBody = frozenset(("_frozen", "allThreadsContinued"))
+
+
+def _decode_ContinueResponseBody(data):
+    fields = _FIELDS_ContinueResponseBody
+    kwargs = {k: v for k, v in data.items() if k in fields}
+    return ContinueResponseBody(**kwargs)
+
+
+_FIELDS_ContinuedEventBody = frozenset(("_frozen", "allThreadsContinued", "threadId"))
+
+
+def _decode_ContinuedEventBody(data):
+    fields = _FIELDS_ContinuedEventBody
+    kwargs = {k: v for k, v in data.items() if k in fields}
+    return ContinuedEventBody(**kwargs)
+
+
+_FIELDS_DataBreakpoint = frozenset(
+    (
+        "accessType",
+        "condition",
+        "dataId",
+        "hitCondition",
+    ),
+)
+
+
+def _decode_DataBreakpoint(data):
+    fields = _FIELDS_DataBreakpoint
+    kwargs = {k: v for k, v in data.items() if k in fields}
+    v = kwargs.get("accessType")
+    if v is not None:
+        kwargs["accessType"] = (
+            _construct(DataBreakpointAccessType, v) if isinstance(v, dict) else v
+        )
+    return DataBreakpoint(**kwargs)
+
+
+_FIELDS_DataBreakpointInfoArguments = frozenset(
+    (
+        "asAddress",
+        "bytes",
+        "frameId",
+        "mode",
+        "name",
+        "variablesReference",
+    ),
+)
+
+
+def _decode_DataBreakpointInfoArguments(data):
+    fields = _FIELDS_DataBreakpointInfoArguments
+    kwargs = {k: v for k, v in data.items() if k in fields}
+    return DataBreakpointInfoArguments(**kwargs)
+
+
+_FIELDS_DataBreakpointInfoRequest = frozenset(("arguments", "command", "seq", "type"))
+
+
+def _decode_DataBreakpointInfoRequest(data):
+    fields = _FIELDS_DataBreakpointInfoRequest
+    kwargs = {k: v for k, v in data.items() if k in fields}
+    v = kwargs.get("arguments")
+    if v is not None:
+        kwargs["arguments"] = (
+            _decode_DataBreakpointInfoArguments(v) if isinstance(v, dict) else v
+        )
+    return DataBreakpointInfoRequest(**kwargs)
+
+
+_FIELDS_DataBreakpointInfoResponse = frozenset(
+    (
+        "_frozen",
+        "body",
+        "command",
+        "extra",
+        "message",
+        "request_seq",
+        "seq",
+        "success",
+        "type",
+    ),
+)
+
+
+def _decode_DataBreakpointInfoResponse(data):
+    fields = _FIELDS_DataBreakpointInfoResponse
+    kwargs = {k: v for k, v in data.items() if k in fields}
+    v = kwargs.get("body")
+    if v is not None:
+        kwargs["body"] = (
+            _decode_DataBreakpointInfoResponseBody(v) if isinstance(v, dict) else v
+        )
+    return DataBreakpointInfoResponse(**kwargs)
+
+
+_FIELDS_DataBreakpointInfoResponseBody = frozenset(
+    (
+        "_frozen",
+        "accessTypes",
+        "canPersist",
+        "dataId",
+        "description",
+    ),
+)
+
+
+def _decode_DataBreakpointInfoResponseBody(data):
+    fields = _FIELDS_DataBreakpointInfoResponseBody
+    kwargs = {k: v for k, v in data.items() if k in fields}
+    v = kwargs.get("accessTypes")
+    if v is not None:
+        kwargs["accessTypes"] = (
+            [
+                _construct(DataBreakpointAccessType, x0) if isinstance(x0, dict) else x0
+                for x0 in v
+            ]
+            if isinstance(v, list)
+            else v
+        )
+    return DataBreakpointInfoResponseBody(**kwargs)
+
+
+_FIELDS_DisassembleArguments = frozenset(
+    (
+        "instructionCount",
+        "instructionOffset",
+        "memoryReference",
+        "offset",
+        "resolveSymbols",
+    ),
+)
+
+
+def _decode_DisassembleArguments(data):
+    fields = _FIELDS_DisassembleArguments
+    kwargs = {k: v for k, v in data.items() if k in fields}
+    return DisassembleArguments(**kwargs)
+
+
+_FIELDS_DisassembleRequest = frozenset(("arguments", "command", "seq", "type"))
+
+
+def _decode_DisassembleRequest(data):
+    fields = _FIELDS_DisassembleRequest
+    kwargs = {k: v for k, v in data.items() if k in fields}
+    v = kwargs.get("arguments")
+    if v is not None:
+        kwargs["arguments"] = (
+            _decode_DisassembleArguments(v) if isinstance(v, dict) else v
+        )
+    return DisassembleRequest(**kwargs)
+
+
+_FIELDS_DisassembleResponse = frozenset(
+    (
+        "_frozen",
+        "body",
+        "command",
+        "extra",
+        "message",
+        "request_seq",
+        "seq",
+        "success",
+        "type",
+    ),
+)
+
+
+def _decode_DisassembleResponse(data):
+    fields = _FIELDS_DisassembleResponse
+    kwargs = {k: v for k, v in data.items() if k in fields}
+    v = kwargs.get("body")
+    if v is not None:
+        kwargs["body"] = (
+            _decode_DisassembleResponseBody(v) if isinstance(v, dict) else v
+        )
+    return DisassembleResponse(**kwargs)
+
+
+_FIELDS_DisassembleResponseBody = frozenset(("_frozen", "instructions"))
+
+
+def _decode_DisassembleResponseBody(data):
+    fields = _FIELDS_DisassembleResponseBody
+    kwargs = {k: v for k, v in data.items() if k in fields}
+    v = kwargs.get("instructions")
+    if v is not None:
+        kwargs["instructions"] = (
+            [
+                _decode_DisassembledInstruction(x0) if isinstance(x0, dict) else x0
+                for x0 in v
+            ]
+            if isinstance(v, list)
+            else v
+        )
+    return DisassembleResponseBody(**kwargs)
+
+
+_FIELDS_DisassembledInstruction = frozenset(
+    (
+        "address",
+        "column",
+        "endColumn",
+        "endLine",
+        "instruction",
+        "instructionBytes",
+        "line",
+        "location",
+        "presentationHint",
+        "symbol",
+    ),
+)
+
+
+def _decode_DisassembledInstruction(data):
+    fields = _FIELDS_DisassembledInstruction
+    kwargs = {k: v for k, v in data.items() if k in fields}
+    v = kwargs.get("location")
+    if v is not None:
+        kwargs["location"] = _decode_Source(v) if isinstance(v, dict) else v
+    return DisassembledInstruction(**kwargs)
+
+
+_FIELDS_DisconnectArguments = frozenset(
+    (
+        "restart",
+        "suspendDebuggee",
+        "terminateDebuggee",
+    ),
+)
+
+
+def _decode_DisconnectArguments(data):
+    fields = _FIELDS_DisconnectArguments
+    kwargs = {k: v for k, v in data.items() if k in fields}
+    return DisconnectArguments(**kwargs)
+
+
+_FIELDS_DisconnectRequest = frozenset(("arguments", "command", "seq", "type"))
+
+
+def _decode_DisconnectRequest(data):
+    fields = _FIELDS_DisconnectRequest
+    kwargs = {k: v for k, v in data.items() if k in fields}
+    v = kwargs.get("arguments")
+    if v is not None:
+        kwargs["arguments"] = (
+            _decode_DisconnectArguments(v) if isinstance(v, dict) else v
+        )
+    return DisconnectRequest(**kwargs)
+
+
+_FIELDS_DisconnectResponse = frozenset(
+    (
+        "_frozen",
+        "body",
+        "command",
+        "extra",
+        "message",
+        "request_seq",
+        "seq",
+        "success",
+        "type",
+    ),
+)
+
+
+def _decode_DisconnectResponse(data):
+    fields = _FIELDS_DisconnectResponse
+    kwargs = {k: v for k, v in data.items() if k in fields}
+    v = kwargs.get("body")
+    if v is not None:
+        kwargs["body"] = _decode_OperationResponseBody(v) if isinstance(v, dict) else v
+    return DisconnectResponse(**kwargs)
+
+
+_FIELDS_ErrorResponse = frozenset(
+    (
+        "_frozen",
+        "body",
+        "command",
+        "extra",
+        "message",
+        "request_seq",
+        "seq",
+        "success",
+        "type",
+    ),
+)
+
+
+def _decode_ErrorResponse(data):
+    fields = _FIELDS_ErrorResponse
+    kwargs = {k: v for k, v in data.items() if k in fields}
+    v = kwargs.get("body")
+    if v is not None:
+        kwargs["body"] = _decode_ErrorResponseBody(v) if isinstance(v, dict) else v
+    return ErrorResponse(**kwargs)
+
+
+_FIELDS_ErrorResponseBody = frozenset(("_frozen", "error"))
+
+
+def _decode_ErrorResponseBody(data):
+    fields = _FIELDS_ErrorResponseBody
+    kwargs = {k: v for k, v in data.items() if k in fields}
+    v = kwargs.get("error")
+    if v is not None:
+        kwargs["error"] = _decode_Message(v) if isinstance(v, dict) else v
+    return ErrorResponseBody(**kwargs)
+
+
+_FIELDS_EvaluateArguments = frozenset(
+    (
+        "column",
+        "context",
+        "expression",
+        "format",
+        "frameId",
+        "line",
+        "source",
+    ),
+)
+
+
+def _decode_EvaluateArguments(data):
+    fields = _FIELDS_EvaluateArguments
+    kwargs = {k: v for k, v in data.items() if k in fields}
+    v = kwargs.get("format")
+    if v is not None:
+        kwargs["format"] = _decode_ValueFormat(v) if isinstance(v, dict) else v
+    v = kwargs.get("source")
+    if v is not None:
+        kwargs["source"] = _decode_Source(v) if isinstance(v, dict) else v
+    return EvaluateArguments(**kwargs)
+
+
+_FIELDS_EvaluateRequest = frozenset(("arguments", "command", "seq", "type"))
+
+
+def _decode_EvaluateRequest(data):
+    fields = _FIELDS_EvaluateRequest
+    kwargs = {k: v for k, v in data.items() if k in fields}
+    v = kwargs.get("arguments")
+    if v is not None:
+        kwargs["arguments"] = _decode_EvaluateArguments(v) if isinstance(v, dict) else v
+    return EvaluateRequest(**kwargs)
+
+
+_FIELDS_EvaluateResponse = frozenset(
+    (
+        "_frozen",
+        "body",
+        "command",
+        "extra",
+        "message",
+        "request_seq",
+        "seq",
+        "success",
+        "type",
+    ),
+)
+
+
+def _decode_EvaluateResponse(data):
+    fields = _FIELDS_EvaluateResponse
+    kwargs = {k: v for k, v in data.items() if k in fields}
+    v = kwargs.get("body")
+    if v is not None:
+        kwargs["body"] = _decode_EvaluateResponseBody(v) if isinstance(v, dict) else v
+    return EvaluateResponse(**kwargs)
+
+
+_FIELDS_EvaluateResponseBody = frozenset(
+    (
+        "_frozen",
+        "indexedVariables",
+        "memoryReference",
+        "namedVariables",
+        "presentationHint",
+        "result",
+        "type",
+        "valueLocationReference",
+        "variablesReference",
+    ),
+)
+
+
+def _decode_EvaluateResponseBody(data):
+    fields = _FIELDS_EvaluateResponseBody
+    kwargs = {k: v for k, v in data.items() if k in fields}
+    v = kwargs.get("presentationHint")
+    if v is not None:
+        kwargs["presentationHint"] = (
+            _decode_VariablePresentationHint(v) if isinstance(v, dict) else v
+        )
+    return EvaluateResponseBody(**kwargs)
+
+
+_FIELDS_ExceptionBreakpointsFilter = frozenset(
+    (
+        "conditionDescription",
+        "default",
+        "description",
+        "filter",
+        "label",
+        "supportsCondition",
+    ),
+)
+
+
+def _decode_ExceptionBreakpointsFilter(data):
+    fields = _FIELDS_ExceptionBreakpointsFilter
+    kwargs = {k: v for k, v in data.items() if k in fields}
+    return ExceptionBreakpointsFilter(**kwargs)
+
+
+_FIELDS_ExceptionDetails = frozenset(
+    (
+        "evaluateName",
+        "fullTypeName",
+        "innerException",
+        "message",
+        "stackTrace",
+        "typeName",
+    ),
+)
+
+
+def _decode_ExceptionDetails(data):
+    fields = _FIELDS_ExceptionDetails
+    kwargs = {k: v for k, v in data.items() if k in fields}
+    v = kwargs.get("innerException")
+    if v is not None:
+        kwargs["innerException"] = (
+            [_decode_ExceptionDetails(x0) if isinstance(x0, dict) else x0 for x0 in v]
+            if isinstance(v, list)
+            else v
+        )
+    return ExceptionDetails(**kwargs)
+
+
+_FIELDS_ExceptionFilterOptions = frozenset(("condition", "filterId", "mode"))
+
+
+def _decode_ExceptionFilterOptions(data):
+    fields = _FIELDS_ExceptionFilterOptions
+    kwargs = {k: v for k, v in data.items() if k in fields}
+    return ExceptionFilterOptions(**kwargs)
+
+
+_FIELDS_ExceptionInfoArguments = frozenset(("threadId",))
+
+
+def _decode_ExceptionInfoArguments(data):
+    fields = _FIELDS_ExceptionInfoArguments
+    kwargs = {k: v for k, v in data.items() if k in fields}
+    return ExceptionInfoArguments(**kwargs)
+
+
+_FIELDS_ExceptionInfoRequest = frozenset(("arguments", "command", "seq", "type"))
+
+
+def _decode_ExceptionInfoRequest(data):
+    fields = _FIELDS_ExceptionInfoRequest
+    kwargs = {k: v for k, v in data.items() if k in fields}
+    v = kwargs.get("arguments")
+    if v is not None:
+        kwargs["arguments"] = (
+            _decode_ExceptionInfoArguments(v) if isinstance(v, dict) else v
+        )
+    return ExceptionInfoRequest(**kwargs)
+
+
+_FIELDS_ExceptionInfoResponse = frozenset(
+    (
+        "_frozen",
+        "body",
+        "command",
+        "extra",
+        "message",
+        "request_seq",
+        "seq",
+        "success",
+        "type",
+    ),
+)
+
+
+def _decode_ExceptionInfoResponse(data):
+    fields = _FIELDS_ExceptionInfoResponse
+    kwargs = {k: v for k, v in data.items() if k in fields}
+    v = kwargs.get("body")
+    if v is not None:
+        kwargs["body"] = (
+            _decode_ExceptionInfoResponseBody(v) if isinstance(v, dict) else v
+        )
+    return ExceptionInfoResponse(**kwargs)
+
+
+_FIELDS_ExceptionInfoResponseBody = frozenset(
+    (
+        "_frozen",
+        "breakMode",
+        "description",
+        "details",
+        "exceptionId",
+    ),
+)
+
+
+def _decode_ExceptionInfoResponseBody(data):
+    fields = _FIELDS_ExceptionInfoResponseBody
+    kwargs = {k: v for k, v in data.items() if k in fields}
+    v = kwargs.get("breakMode")
+    if v is not None:
+        kwargs["breakMode"] = (
+            _construct(ExceptionBreakMode, v) if isinstance(v, dict) else v
+        )
+    v = kwargs.get("details")
+    if v is not None:
+        kwargs["details"] = _decode_ExceptionDetails(v) if isinstance(v, dict) else v
+    return ExceptionInfoResponseBody(**kwargs)
+
+
+_FIELDS_ExceptionOptions = frozenset(("breakMode", "path"))
+
+
+def _decode_ExceptionOptions(data):
+    fields = _FIELDS_ExceptionOptions
+    kwargs = {k: v for k, v in data.items() if k in fields}
+    v = kwargs.get("breakMode")
+    if v is not None:
+        kwargs["breakMode"] = (
+            _construct(ExceptionBreakMode, v) if isinstance(v, dict) else v
+        )
+    v = kwargs.get("path")
+    if v is not None:
+        kwargs["path"] = (
+            [
+                _decode_ExceptionPathSegment(x0) if isinstance(x0, dict) else x0
+                for x0 in v
+            ]
+            if isinstance(v, list)
+            else v
+        )
+    return ExceptionOptions(**kwargs)
+
+
+_FIELDS_ExceptionPathSegment = frozenset(("names", "negate"))
+
+
+def _decode_ExceptionPathSegment(data):
+    fields = _FIELDS_ExceptionPathSegment
+    kwargs = {k: v for k, v in data.items() if k in fields}
+    return ExceptionPathSegment(**kwargs)
+
+
+_FIELDS_ExitedEventBody = frozenset(("_frozen", "exitCode"))
+
+
+def _decode_ExitedEventBody(data):
+    fields = _FIELDS_ExitedEventBody
+    kwargs = {k: v for k, v in data.items() if k in fields}
+    return ExitedEventBody(**kwargs)
+
+
+_FIELDS_FunctionBreakpoint = frozenset(("condition", "hitCondition", "name"))
+
+
+def _decode_FunctionBreakpoint(data):
+    fields = _FIELDS_FunctionBreakpoint
+    kwargs = {k: v for k, v in data.items() if k in fields}
+    return FunctionBreakpoint(**kwargs)
+
+
+_FIELDS_GotoArguments = frozenset(("targetId", "threadId"))
+
+
+def _decode_GotoArguments(data):
+    fields = _FIELDS_GotoArguments
+    kwargs = {k: v for k, v in data.items() if k in fields}
+    return GotoArguments(**kwargs)
+
+
+_FIELDS_GotoRequest = frozenset(("arguments", "command", "seq", "type"))
+
+
+def _decode_GotoRequest(data):
+    fields = _FIELDS_GotoRequest
+    kwargs = {k: v for k, v in data.items() if k in fields}
+    v = kwargs.get("arguments")
+    if v is not None:
+        kwargs["arguments"] = _decode_GotoArguments(v) if isinstance(v, dict) else v
+    return GotoRequest(**kwargs)
+
+
+_FIELDS_GotoResponse = frozenset(
+    (
+        "_frozen",
+        "body",
+        "command",
+        "extra",
+        "message",
+        "request_seq",
+        "seq",
+        "success",
+        "type",
+    ),
+)
+
+
+def _decode_GotoResponse(data):
+    fields = _FIELDS_GotoResponse
+    kwargs = {k: v for k, v in data.items() if k in fields}
+    v = kwargs.get("body")
+    if v is not None:
+        kwargs["body"] = _decode_OperationResponseBody(v) if isinstance(v, dict) else v
+    return GotoResponse(**kwargs)
+
+
+_FIELDS_GotoTarget = frozenset(
+    (
+        "column",
+        "endColumn",
+        "endLine",
+        "id",
+        "instructionPointerReference",
+        "label",
+        "line",
+    ),
+)
+
+
+def _decode_GotoTarget(data):
+    fields = _FIELDS_GotoTarget
+    kwargs = {k: v for k, v in data.items() if k in fields}
+    return GotoTarget(**kwargs)
+
+
+_FIELDS_GotoTargetsArguments = frozenset(("column", "line", "source"))
+
+
+def _decode_GotoTargetsArguments(data):
+    fields = _FIELDS_GotoTargetsArguments
+    kwargs = {k: v for k, v in data.items() if k in fields}
+    v = kwargs.get("source")
+    if v is not None:
+        kwargs["source"] = _decode_Source(v) if isinstance(v, dict) else v
+    return GotoTargetsArguments(**kwargs)
+
+
+_FIELDS_GotoTargetsRequest = frozenset(("arguments", "command", "seq", "type"))
+
+
+def _decode_GotoTargetsRequest(data):
+    fields = _FIELDS_GotoTargetsRequest
+    kwargs = {k: v for k, v in data.items() if k in fields}
+    v = kwargs.get("arguments")
+    if v is not None:
+        kwargs["arguments"] = (
+            _decode_GotoTargetsArguments(v) if isinstance(v, dict) else v
+        )
+    return GotoTargetsRequest(**kwargs)
+
+
+_FIELDS_GotoTargetsResponse = frozenset(
+    (
+        "_frozen",
+        "body",
+        "command",
+        "extra",
+        "message",
+        "request_seq",
+        "seq",
+        "success",
+        "type",
+    ),
+)
+
+
+def _decode_GotoTargetsResponse(data):
+    fields = _FIELDS_GotoTargetsResponse
+    kwargs = {k: v for k, v in data.items() if k in fields}
+    v = kwargs.get("body")
+    if v is not None:
+        kwargs["body"] = (
+            _decode_GotoTargetsResponseBody(v) if isinstance(v, dict) else v
+        )
+    return GotoTargetsResponse(**kwargs)
+
+
+_FIELDS_GotoTargetsResponseBody = frozenset(("_frozen", "targets"))
+
+
+def _decode_GotoTargetsResponseBody(data):
+    fields = _FIELDS_GotoTargetsResponseBody
+    kwargs = {k: v for k, v in data.items() if k in fields}
+    v = kwargs.get("targets")
+    if v is not None:
+        kwargs["targets"] = (
+            [_decode_GotoTarget(x0) if isinstance(x0, dict) else x0 for x0 in v]
+            if isinstance(v, list)
+            else v
+        )
+    return GotoTargetsResponseBody(**kwargs)
+
+
+_FIELDS_InitializeRequest = frozenset(("arguments", "command", "seq", "type"))
+
+
+def _decode_InitializeRequest(data):
+    fields = _FIELDS_InitializeRequest
+    kwargs = {k: v for k, v in data.items() if k in fields}
+    v = kwargs.get("arguments")
+    if v is not None:
+        kwargs["arguments"] = (
+            _decode_InitializeRequestArguments(v) if isinstance(v, dict) else v
+        )
+    return InitializeRequest(**kwargs)
+
+
+_FIELDS_InitializeRequestArguments = frozenset(
+    (
+        "adapterID",
+        "clientID",
+        "clientName",
+        "columnsStartAt1",
+        "linesStartAt1",
+        "locale",
+        "pathFormat",
+        "supportsANSIStyling",
+        "supportsArgsCanBeInterpretedByShell",
+        "supportsInvalidatedEvent",
+        "supportsMemoryEvent",
+        "supportsMemoryReferences",
+        "supportsProgressReporting",
+        "supportsRunInTerminalRequest",
+        "supportsStartDebuggingRequest",
+        "supportsVariablePaging",
+        "supportsVariableType",
+    ),
+)
+
+
+def _decode_InitializeRequestArguments(data):
+    fields = _FIELDS_InitializeRequestArguments
+    kwargs = {k: v for k, v in data.items() if k in fields}
+    return InitializeRequestArguments(**kwargs)
+
+
+_FIELDS_InitializeResponse = frozenset(
+    (
+        "_frozen",
+        "body",
+        "command",
+        "extra",
+        "message",
+        "request_seq",
+        "seq",
+        "success",
+        "type",
+    ),
+)
+
+
+def _decode_InitializeResponse(data):
+    fields = _FIELDS_InitializeResponse
+    kwargs = {k: v for k, v in data.items() if k in fields}
+    v = kwargs.get("body")
+    if v is not None:
+        kwargs["body"] = _decode_Capabilities(v) if isinstance(v, dict) else v
+    return InitializeResponse(**kwargs)
+
+
+_FIELDS_InstructionBreakpoint = frozenset(
+    (
+        "condition",
+        "hitCondition",
+        "instructionReference",
+        "mode",
+        "offset",
+    ),
+)
+
+
+def _decode_InstructionBreakpoint(data):
+    fields = _FIELDS_InstructionBreakpoint
+    kwargs = {k: v for k, v in data.items() if k in fields}
+    return InstructionBreakpoint(**kwargs)
+
+
+_FIELDS_InvalidatedAreas = frozenset()
+
+
+def _decode_InvalidatedAreas(data):
+    fields = _FIELDS_InvalidatedAreas
+    kwargs = {k: v for k, v in data.items() if k in fields}
+    return InvalidatedAreas(**kwargs)
+
+
+_FIELDS_InvalidatedEventBody = frozenset(
+    (
+        "_frozen",
+        "areas",
+        "stackFrameId",
+        "threadId",
+    ),
+)
+
+
+def _decode_InvalidatedEventBody(data):
+    fields = _FIELDS_InvalidatedEventBody
+    kwargs = {k: v for k, v in data.items() if k in fields}
+    v = kwargs.get("areas")
+    if v is not None:
+        kwargs["areas"] = (
+            [_decode_InvalidatedAreas(x0) if isinstance(x0, dict) else x0 for x0 in v]
+            if isinstance(v, list)
+            else v
+        )
+    return InvalidatedEventBody(**kwargs)
+
+
+_FIELDS_LaunchRequest = frozenset(("arguments", "command", "seq", "type"))
+
+
+def _decode_LaunchRequest(data):
+    fields = _FIELDS_LaunchRequest
+    kwargs = {k: v for k, v in data.items() if k in fields}
+    v = kwargs.get("arguments")
+    if v is not None:
+        kwargs["arguments"] = (
+            _decode_LaunchRequestArguments(v) if isinstance(v, dict) else v
+        )
+    return LaunchRequest(**kwargs)
+
+
+_FIELDS_LaunchRequestArguments = frozenset(
+    (
+        "_LaunchRequestArguments__restart",
+        "noDebug",
+    ),
+)
+
+
+def _decode_LaunchRequestArguments(data):
+    fields = _FIELDS_LaunchRequestArguments
+    kwargs = {k: v for k, v in data.items() if k in fields}
+    return LaunchRequestArguments(**kwargs)
+
+
+_FIELDS_LaunchResponse = frozenset(
+    (
+        "_frozen",
+        "body",
+        "command",
+        "extra",
+        "message",
+        "request_seq",
+        "seq",
+        "success",
+        "type",
+    ),
+)
+
+
+def _decode_LaunchResponse(data):
+    fields = _FIELDS_LaunchResponse
+    kwargs = {k: v for k, v in data.items() if k in fields}
+    v = kwargs.get("body")
+    if v is not None:
+        kwargs["body"] = _decode_OperationResponseBody(v) if isinstance(v, dict) else v
+    return LaunchResponse(**kwargs)
+
+
+_FIELDS_LoadedSourceEventBody = frozenset(("_frozen", "reason", "source"))
+
+
+def _decode_LoadedSourceEventBody(data):
+    fields = _FIELDS_LoadedSourceEventBody
+    kwargs = {k: v for k, v in data.items() if k in fields}
+    v = kwargs.get("source")
+    if v is not None:
+        kwargs["source"] = _decode_Source(v) if isinstance(v, dict) else v
+    return LoadedSourceEventBody(**kwargs)
+
+
+_FIELDS_LoadedSourcesArguments = frozenset()
+
+
+def _decode_LoadedSourcesArguments(data):
+    fields = _FIELDS_LoadedSourcesArguments
+    kwargs = {k: v for k, v in data.items() if k in fields}
+    return LoadedSourcesArguments(**kwargs)
+
+
+_FIELDS_LoadedSourcesRequest = frozenset(("arguments", "command", "seq", "type"))
+
+
+def _decode_LoadedSourcesRequest(data):
+    fields = _FIELDS_LoadedSourcesRequest
+    kwargs = {k: v for k, v in data.items() if k in fields}
+    v = kwargs.get("arguments")
+    if v is not None:
+        kwargs["arguments"] = (
+            _decode_LoadedSourcesArguments(v) if isinstance(v, dict) else v
+        )
+    return LoadedSourcesRequest(**kwargs)
+
+
+_FIELDS_LoadedSourcesResponse = frozenset(
+    (
+        "_frozen",
+        "body",
+        "command",
+        "extra",
+        "message",
+        "request_seq",
+        "seq",
+        "success",
+        "type",
+    ),
+)
+
+
+def _decode_LoadedSourcesResponse(data):
+    fields = _FIELDS_LoadedSourcesResponse
+    kwargs = {k: v for k, v in data.items() if k in fields}
+    v = kwargs.get("body")
+    if v is not None:
+        kwargs["body"] = (
+            _decode_LoadedSourcesResponseBody(v) if isinstance(v, dict) else v
+        )
+    return LoadedSourcesResponse(**kwargs)
+
+
+_FIELDS_LoadedSourcesResponseBody = frozenset(("_frozen", "sources"))
+
+
+def _decode_LoadedSourcesResponseBody(data):
+    fields = _FIELDS_LoadedSourcesResponseBody
+    kwargs = {k: v for k, v in data.items() if k in fields}
+    v = kwargs.get("sources")
+    if v is not None:
+        kwargs["sources"] = (
+            [_decode_Source(x0) if isinstance(x0, dict) else x0 for x0 in v]
+            if isinstance(v, list)
+            else v
+        )
+    return LoadedSourcesResponseBody(**kwargs)
+
+
+_FIELDS_LocationsArguments = frozenset(("locationReference",))
+
+
+def _decode_LocationsArguments(data):
+    fields = _FIELDS_LocationsArguments
+    kwargs = {k: v for k, v in data.items() if k in fields}
+    return LocationsArguments(**kwargs)
+
+
+_FIELDS_LocationsRequest = frozenset(("arguments", "command", "seq", "type"))
+
+
+def _decode_LocationsRequest(data):
+    fields = _FIELDS_LocationsRequest
+    kwargs = {k: v for k, v in data.items() if k in fields}
+    v = kwargs.get("arguments")
+    if v is not None:
+        kwargs["arguments"] = (
+            _decode_LocationsArguments(v) if isinstance(v, dict) else v
+        )
+    return LocationsRequest(**kwargs)
+
+
+_FIELDS_LocationsResponse = frozenset(
+    (
+        "_frozen",
+        "body",
+        "command",
+        "extra",
+        "message",
+        "request_seq",
+        "seq",
+        "success",
+        "type",
+    ),
+)
+
+
+def _decode_LocationsResponse(data):
+    fields = _FIELDS_LocationsResponse
+    kwargs = {k: v for k, v in data.items() if k in fields}
+    v = kwargs.get("body")
+    if v is not None:
+        kwargs["body"] = _decode_LocationsResponseBody(v) if isinstance(v, dict) else v
+    return LocationsResponse(**kwargs)
+
+
+_FIELDS_LocationsResponseBody = frozenset(
+    (
+        "_frozen",
+        "column",
+        "endColumn",
+        "endLine",
+        "line",
+        "source",
+    ),
+)
+
+
+def _decode_LocationsResponseBody(data):
+    fields = _FIELDS_LocationsResponseBody
+    kwargs = {k: v for k, v in data.items() if k in fields}
+    v = kwargs.get("source")
+    if v is not None:
+        kwargs["source"] = _decode_Source(v) if isinstance(v, dict) else v
+    return LocationsResponseBody(**kwargs)
+
+
+_FIELDS_MemoryEventBody = frozenset(("_frozen", "count", "memoryReference", "offset"))
+
+
+def _decode_MemoryEventBody(data):
+    fields = _FIELDS_MemoryEventBody
+    kwargs = {k: v for k, v in data.items() if k in fields}
+    return MemoryEventBody(**kwargs)
+
+
+_FIELDS_Message = frozenset(
+    (
+        "format",
+        "id",
+        "sendTelemetry",
+        "showUser",
+        "url",
+        "urlLabel",
+        "variables",
+    ),
+)
+
+
+def _decode_Message(data):
+    fields = _FIELDS_Message
+    kwargs = {k: v for k, v in data.items() if k in fields}
+    return Message(**kwargs)
+
+
+_FIELDS_Module = frozenset(
+    (
+        "addressRange",
+        "dateTimeStamp",
+        "id",
+        "isOptimized",
+        "isUserCode",
+        "name",
+        "path",
+        "symbolFilePath",
+        "symbolStatus",
+        "version",
+    ),
+)
+
+
+def _decode_Module(data):
+    fields = _FIELDS_Module
+    kwargs = {k: v for k, v in data.items() if k in fields}
+    return Module(**kwargs)
+
+
+_FIELDS_ModuleEventBody = frozenset(("_frozen", "module", "reason"))
+
+
+def _decode_ModuleEventBody(data):
+    fields = _FIELDS_ModuleEventBody
+    kwargs = {k: v for k, v in data.items() if k in fields}
+    v = kwargs.get("module")
+    if v is not None:
+        kwargs["module"] = _decode_Module(v) if isinstance(v, dict) else v
+    return ModuleEventBody(**kwargs)
+
+
+_FIELDS_ModulesArguments = frozenset(("moduleCount", "startModule"))
+
+
+def _decode_ModulesArguments(data):
+    fields = _FIELDS_ModulesArguments
+    kwargs = {k: v for k, v in data.items() if k in fields}
+    return ModulesArguments(**kwargs)
+
+
+_FIELDS_ModulesRequest = frozenset(("arguments", "command", "seq", "type"))
+
+
+def _decode_ModulesRequest(data):
+    fields = _FIELDS_ModulesRequest
+    kwargs = {k: v for k, v in data.items() if k in fields}
+    v = kwargs.get("arguments")
+    if v is not None:
+        kwargs["arguments"] = _decode_ModulesArguments(v) if isinstance(v, dict) else v
+    return ModulesRequest(**kwargs)
+
+
+_FIELDS_ModulesResponse = frozenset(
+    (
+        "_frozen",
+        "body",
+        "command",
+        "extra",
+        "message",
+        "request_seq",
+        "seq",
+        "success",
+        "type",
+    ),
+)
+
+
+def _decode_ModulesResponse(data):
+    fields = _FIELDS_ModulesResponse
+    kwargs = {k: v for k, v in data.items() if k in fields}
+    v = kwargs.get("body")
+    if v is not None:
+        kwargs["body"] = _decode_ModulesResponseBody(v) if isinstance(v, dict) else v
+    return ModulesResponse(**kwargs)
+
+
+_FIELDS_ModulesResponseBody = frozenset(("_frozen", "modules", "totalModules"))
+
+
+def _decode_ModulesResponseBody(data):
+    fields = _FIELDS_ModulesResponseBody
+    kwargs = {k: v for k, v in data.items() if k in fields}
+    v = kwargs.get("modules")
+    if v is not None:
+        kwargs["modules"] = (
+            [_decode_Module(x0) if isinstance(x0, dict) else x0 for x0 in v]
+            if isinstance(v, list)
+            else v
+        )
+    return ModulesResponseBody(**kwargs)
+
+
+_FIELDS_NextArguments = frozenset(("granularity", "singleThread", "threadId"))
+
+
+def _decode_NextArguments(data):
+    fields = _FIELDS_NextArguments
+    kwargs = {k: v for k, v in data.items() if k in fields}
+    v = kwargs.get("granularity")
+    if v is not None:
+        kwargs["granularity"] = (
+            _construct(SteppingGranularity, v) if isinstance(v, dict) else v
+        )
+    return NextArguments(**kwargs)
+
+
+_FIELDS_NextRequest = frozenset(("arguments", "command", "seq", "type"))
+
+
+def _decode_NextRequest(data):
+    fields = _FIELDS_NextRequest
+    kwargs = {k: v for k, v in data.items() if k in fields}
+    v = kwargs.get("arguments")
+    if v is not None:
+        kwargs["arguments"] = _decode_NextArguments(v) if isinstance(v, dict) else v
+    return NextRequest(**kwargs)
+
+
+_FIELDS_NextResponse = frozenset(
+    (
+        "_frozen",
+        "body",
+        "command",
+        "extra",
+        "message",
+        "request_seq",
+        "seq",
+        "success",
+        "type",
+    ),
+)
+
+
+def _decode_NextResponse(data):
+    fields = _FIELDS_NextResponse
+    kwargs = {k: v for k, v in data.items() if k in fields}
+    v = kwargs.get("body")
+    if v is not None:
+        kwargs["body"] = _decode_OperationResponseBody(v) if isinstance(v, dict) else v
+    return NextResponse(**kwargs)
+
+
+_FIELDS_OperationEventBody = frozenset(("_frozen",))
+
+
+def _decode_OperationEventBody(data):
+    fields = _FIELDS_OperationEventBody
+    kwargs = {k: v for k, v in data.items() if k in fields}
+    return OperationEventBody(**kwargs)
+
+
+_FIELDS_OperationResponseBody = frozenset(("_frozen",))
+
+
+def _decode_OperationResponseBody(data):
+    fields = _FIELDS_OperationResponseBody
+    kwargs = {k: v for k, v in data.items() if k in fields}
+    return OperationResponseBody(**kwargs)
+
+
+_FIELDS_OutputEventBody = frozenset(
+    (
+        "_frozen",
+        "category",
+        "column",
+        "data",
+        "group",
+        "line",
+        "locationReference",
+        "output",
+        "source",
+        "variablesReference",
+    ),
+)
+
+
+def _decode_OutputEventBody(data):
+    fields = _FIELDS_OutputEventBody
+    kwargs = {k: v for k, v in data.items() if k in fields}
+    v = kwargs.get("source")
+    if v is not None:
+        kwargs["source"] = _decode_Source(v) if isinstance(v, dict) else v
+    return OutputEventBody(**kwargs)
+
+
+_FIELDS_PauseArguments = frozenset(("threadId",))
+
+
+def _decode_PauseArguments(data):
+    fields = _FIELDS_PauseArguments
+    kwargs = {k: v for k, v in data.items() if k in fields}
+    return PauseArguments(**kwargs)
+
+
+_FIELDS_PauseRequest = frozenset(("arguments", "command", "seq", "type"))
+
+
+def _decode_PauseRequest(data):
+    fields = _FIELDS_PauseRequest
+    kwargs = {k: v for k, v in data.items() if k in fields}
+    v = kwargs.get("arguments")
+    if v is not None:
+        kwargs["arguments"] = _decode_PauseArguments(v) if isinstance(v, dict) else v
+    return PauseRequest(**kwargs)
+
+
+_FIELDS_PauseResponse = frozenset(
+    (
+        "_frozen",
+        "body",
+        "command",
+        "extra",
+        "message",
+        "request_seq",
+        "seq",
+        "success",
+        "type",
+    ),
+)
+
+
+def _decode_PauseResponse(data):
+    fields = _FIELDS_PauseResponse
+    kwargs = {k: v for k, v in data.items() if k in fields}
+    v = kwargs.get("body")
+    if v is not None:
+        kwargs["body"] = _decode_OperationResponseBody(v) if isinstance(v, dict) else v
+    return PauseResponse(**kwargs)
+
+
+_FIELDS_ProcessEventBody = frozenset(
+    (
+        "_frozen",
+        "isLocalProcess",
+        "name",
+        "pointerSize",
+        "startMethod",
+        "systemProcessId",
+    ),
+)
+
+
+def _decode_ProcessEventBody(data):
+    fields = _FIELDS_ProcessEventBody
+    kwargs = {k: v for k, v in data.items() if k in fields}
+    return ProcessEventBody(**kwargs)
+
+
+_FIELDS_ProgressEndEventBody = frozenset(("_frozen", "message", "progressId"))
+
+
+def _decode_ProgressEndEventBody(data):
+    fields = _FIELDS_ProgressEndEventBody
+    kwargs = {k: v for k, v in data.items() if k in fields}
+    return ProgressEndEventBody(**kwargs)
+
+
+_FIELDS_ProgressStartEventBody = frozenset(
+    (
+        "_frozen",
+        "cancellable",
+        "message",
+        "percentage",
+        "progressId",
+        "requestId",
+        "title",
+    ),
+)
+
+
+def _decode_ProgressStartEventBody(data):
+    fields = _FIELDS_ProgressStartEventBody
+    kwargs = {k: v for k, v in data.items() if k in fields}
+    return ProgressStartEventBody(**kwargs)
+
+
+_FIELDS_ProgressUpdateEventBody = frozenset(
+    (
+        "_frozen",
+        "message",
+        "percentage",
+        "progressId",
+    ),
+)
+
+
+def _decode_ProgressUpdateEventBody(data):
+    fields = _FIELDS_ProgressUpdateEventBody
+    kwargs = {k: v for k, v in data.items() if k in fields}
+    return ProgressUpdateEventBody(**kwargs)
+
+
+_FIELDS_ProtocolMessage = frozenset(("seq", "type"))
+
+
+def _decode_ProtocolMessage(data):
+    fields = _FIELDS_ProtocolMessage
+    kwargs = {k: v for k, v in data.items() if k in fields}
+    return ProtocolMessage(**kwargs)
+
+
+_FIELDS_ReadMemoryArguments = frozenset(("count", "memoryReference", "offset"))
+
+
+def _decode_ReadMemoryArguments(data):
+    fields = _FIELDS_ReadMemoryArguments
+    kwargs = {k: v for k, v in data.items() if k in fields}
+    return ReadMemoryArguments(**kwargs)
+
+
+_FIELDS_ReadMemoryRequest = frozenset(("arguments", "command", "seq", "type"))
+
+
+def _decode_ReadMemoryRequest(data):
+    fields = _FIELDS_ReadMemoryRequest
+    kwargs = {k: v for k, v in data.items() if k in fields}
+    v = kwargs.get("arguments")
+    if v is not None:
+        kwargs["arguments"] = (
+            _decode_ReadMemoryArguments(v) if isinstance(v, dict) else v
+        )
+    return ReadMemoryRequest(**kwargs)
+
+
+_FIELDS_ReadMemoryResponse = frozenset(
+    (
+        "_frozen",
+        "body",
+        "command",
+        "extra",
+        "message",
+        "request_seq",
+        "seq",
+        "success",
+        "type",
+    ),
+)
+
+
+def _decode_ReadMemoryResponse(data):
+    fields = _FIELDS_ReadMemoryResponse
+    kwargs = {k: v for k, v in data.items() if k in fields}
+    v = kwargs.get("body")
+    if v is not None:
+        kwargs["body"] = _decode_ReadMemoryResponseBody(v) if isinstance(v, dict) else v
+    return ReadMemoryResponse(**kwargs)
+
+
+_FIELDS_ReadMemoryResponseBody = frozenset(
+    (
+        "_frozen",
+        "address",
+        "data",
+        "unreadableBytes",
+    ),
+)
+
+
+def _decode_ReadMemoryResponseBody(data):
+    fields = _FIELDS_ReadMemoryResponseBody
+    kwargs = {k: v for k, v in data.items() if k in fields}
+    return ReadMemoryResponseBody(**kwargs)
+
+
+_FIELDS_Request = frozenset(("arguments", "command", "seq", "type"))
+
+
+def _decode_Request(data):
+    fields = _FIELDS_Request
+    kwargs = {k: v for k, v in data.items() if k in fields}
+    return Request(**kwargs)
+
+
+_FIELDS_Response = frozenset(
+    (
+        "_frozen",
+        "body",
+        "command",
+        "extra",
+        "message",
+        "request_seq",
+        "seq",
+        "success",
+        "type",
+    ),
+)
+
+
+def _decode_Response(data):
+    fields = _FIELDS_Response
+    kwargs = {k: v for k, v in data.items() if k in fields}
+    v = kwargs.get("body")
+    if v is not None:
+        kwargs["body"] = _decode_OperationResponseBody(v) if isinstance(v, dict) else v
+    return Response(**kwargs)
+
+
+_FIELDS_RestartArguments = frozenset(("arguments",))
+
+
+def _decode_RestartArguments(data):
+    fields = _FIELDS_RestartArguments
+    kwargs = {k: v for k, v in data.items() if k in fields}
+    return RestartArguments(**kwargs)
+
+
+_FIELDS_RestartFrameArguments = frozenset(("frameId",))
+
+
+def _decode_RestartFrameArguments(data):
+    fields = _FIELDS_RestartFrameArguments
+    kwargs = {k: v for k, v in data.items() if k in fields}
+    return RestartFrameArguments(**kwargs)
+
+
+_FIELDS_RestartFrameRequest = frozenset(("arguments", "command", "seq", "type"))
+
+
+def _decode_RestartFrameRequest(data):
+    fields = _FIELDS_RestartFrameRequest
+    kwargs = {k: v for k, v in data.items() if k in fields}
+    v = kwargs.get("arguments")
+    if v is not None:
+        kwargs["arguments"] = (
+            _decode_RestartFrameArguments(v) if isinstance(v, dict) else v
+        )
+    return RestartFrameRequest(**kwargs)
+
+
+_FIELDS_RestartFrameResponse = frozenset(
+    (
+        "_frozen",
+        "body",
+        "command",
+        "extra",
+        "message",
+        "request_seq",
+        "seq",
+        "success",
+        "type",
+    ),
+)
+
+
+def _decode_RestartFrameResponse(data):
+    fields = _FIELDS_RestartFrameResponse
+    kwargs = {k: v for k, v in data.items() if k in fields}
+    v = kwargs.get("body")
+    if v is not None:
+        kwargs["body"] = _decode_OperationResponseBody(v) if isinstance(v, dict) else v
+    return RestartFrameResponse(**kwargs)
+
+
+_FIELDS_RestartRequest = frozenset(("arguments", "command", "seq", "type"))
+
+
+def _decode_RestartRequest(data):
+    fields = _FIELDS_RestartRequest
+    kwargs = {k: v for k, v in data.items() if k in fields}
+    v = kwargs.get("arguments")
+    if v is not None:
+        kwargs["arguments"] = _decode_RestartArguments(v) if isinstance(v, dict) else v
+    return RestartRequest(**kwargs)
+
+
+_FIELDS_RestartResponse = frozenset(
+    (
+        "_frozen",
+        "body",
+        "command",
+        "extra",
+        "message",
+        "request_seq",
+        "seq",
+        "success",
+        "type",
+    ),
+)
+
+
+def _decode_RestartResponse(data):
+    fields = _FIELDS_RestartResponse
+    kwargs = {k: v for k, v in data.items() if k in fields}
+    v = kwargs.get("body")
+    if v is not None:
+        kwargs["body"] = _decode_OperationResponseBody(v) if isinstance(v, dict) else v
+    return RestartResponse(**kwargs)
+
+
+_FIELDS_ReverseContinueArguments = frozenset(("singleThread", "threadId"))
+
+
+def _decode_ReverseContinueArguments(data):
+    fields = _FIELDS_ReverseContinueArguments
+    kwargs = {k: v for k, v in data.items() if k in fields}
+    return ReverseContinueArguments(**kwargs)
+
+
+_FIELDS_ReverseContinueRequest = frozenset(("arguments", "command", "seq", "type"))
+
+
+def _decode_ReverseContinueRequest(data):
+    fields = _FIELDS_ReverseContinueRequest
+    kwargs = {k: v for k, v in data.items() if k in fields}
+    v = kwargs.get("arguments")
+    if v is not None:
+        kwargs["arguments"] = (
+            _decode_ReverseContinueArguments(v) if isinstance(v, dict) else v
+        )
+    return ReverseContinueRequest(**kwargs)
+
+
+_FIELDS_ReverseContinueResponse = frozenset(
+    (
+        "_frozen",
+        "body",
+        "command",
+        "extra",
+        "message",
+        "request_seq",
+        "seq",
+        "success",
+        "type",
+    ),
+)
+
+
+def _decode_ReverseContinueResponse(data):
+    fields = _FIELDS_ReverseContinueResponse
+    kwargs = {k: v for k, v in data.items() if k in fields}
+    v = kwargs.get("body")
+    if v is not None:
+        kwargs["body"] = _decode_OperationResponseBody(v) if isinstance(v, dict) else v
+    return ReverseContinueResponse(**kwargs)
+
+
+_FIELDS_RunInTerminalRequest = frozenset(("arguments", "command", "seq", "type"))
+
+
+def _decode_RunInTerminalRequest(data):
+    fields = _FIELDS_RunInTerminalRequest
+    kwargs = {k: v for k, v in data.items() if k in fields}
+    v = kwargs.get("arguments")
+    if v is not None:
+        kwargs["arguments"] = (
+            _decode_RunInTerminalRequestArguments(v) if isinstance(v, dict) else v
+        )
+    return RunInTerminalRequest(**kwargs)
+
+
+_FIELDS_RunInTerminalRequestArguments = frozenset(
+    (
+        "args",
+        "argsCanBeInterpretedByShell",
+        "cwd",
+        "env",
+        "kind",
+        "title",
+    ),
+)
+
+
+def _decode_RunInTerminalRequestArguments(data):
+    fields = _FIELDS_RunInTerminalRequestArguments
+    kwargs = {k: v for k, v in data.items() if k in fields}
+    return RunInTerminalRequestArguments(**kwargs)
+
+
+_FIELDS_RunInTerminalResponse = frozenset(
+    (
+        "_frozen",
+        "body",
+        "command",
+        "extra",
+        "message",
+        "request_seq",
+        "seq",
+        "success",
+        "type",
+    ),
+)
+
+
+def _decode_RunInTerminalResponse(data):
+    fields = _FIELDS_RunInTerminalResponse
+    kwargs = {k: v for k, v in data.items() if k in fields}
+    v = kwargs.get("body")
+    if v is not None:
+        kwargs["body"] = (
+            _decode_RunInTerminalResponseBody(v) if isinstance(v, dict) else v
+        )
+    return RunInTerminalResponse(**kwargs)
+
+
+_FIELDS_RunInTerminalResponseBody = frozenset(
+    (
+        "_frozen",
+        "processId",
+        "shellProcessId",
+    ),
+)
+
+
+def _decode_RunInTerminalResponseBody(data):
+    fields = _FIELDS_RunInTerminalResponseBody
+    kwargs = {k: v for k, v in data.items() if k in fields}
+    return RunInTerminalResponseBody(**kwargs)
+
+
+_FIELDS_Scope = frozenset(
+    (
+        "column",
+        "endColumn",
+        "endLine",
+        "expensive",
+        "indexedVariables",
+        "line",
+        "name",
+        "namedVariables",
+        "presentationHint",
+        "source",
+        "variablesReference",
+    ),
+)
+
+
+def _decode_Scope(data):
+    fields = _FIELDS_Scope
+    kwargs = {k: v for k, v in data.items() if k in fields}
+    v = kwargs.get("source")
+    if v is not None:
+        kwargs["source"] = _decode_Source(v) if isinstance(v, dict) else v
+    return Scope(**kwargs)
+
+
+_FIELDS_ScopesArguments = frozenset(("frameId",))
+
+
+def _decode_ScopesArguments(data):
+    fields = _FIELDS_ScopesArguments
+    kwargs = {k: v for k, v in data.items() if k in fields}
+    return ScopesArguments(**kwargs)
+
+
+_FIELDS_ScopesRequest = frozenset(("arguments", "command", "seq", "type"))
+
+
+def _decode_ScopesRequest(data):
+    fields = _FIELDS_ScopesRequest
+    kwargs = {k: v for k, v in data.items() if k in fields}
+    v = kwargs.get("arguments")
+    if v is not None:
+        kwargs["arguments"] = _decode_ScopesArguments(v) if isinstance(v, dict) else v
+    return ScopesRequest(**kwargs)
+
+
+_FIELDS_ScopesResponse = frozenset(
+    (
+        "_frozen",
+        "body",
+        "command",
+        "extra",
+        "message",
+        "request_seq",
+        "seq",
+        "success",
+        "type",
+    ),
+)
+
+
+def _decode_ScopesResponse(data):
+    fields = _FIELDS_ScopesResponse
+    kwargs = {k: v for k, v in data.items() if k in fields}
+    v = kwargs.get("body")
+    if v is not None:
+        kwargs["body"] = _decode_ScopesResponseBody(v) if isinstance(v, dict) else v
+    return ScopesResponse(**kwargs)
+
+
+_FIELDS_ScopesResponseBody = frozenset(("_frozen", "scopes"))
+
+
+def _decode_ScopesResponseBody(data):
+    fields = _FIELDS_ScopesResponseBody
+    kwargs = {k: v for k, v in data.items() if k in fields}
+    v = kwargs.get("scopes")
+    if v is not None:
+        kwargs["scopes"] = (
+            [_decode_Scope(x0) if isinstance(x0, dict) else x0 for x0 in v]
+            if isinstance(v, list)
+            else v
+        )
+    return ScopesResponseBody(**kwargs)
+
+
+_FIELDS_SetBreakpointsArguments = frozenset(
+    (
+        "breakpoints",
+        "lines",
+        "source",
+        "sourceModified",
+    ),
+)
+
+
+def _decode_SetBreakpointsArguments(data):
+    fields = _FIELDS_SetBreakpointsArguments
+    kwargs = {k: v for k, v in data.items() if k in fields}
+    v = kwargs.get("breakpoints")
+    if v is not None:
+        kwargs["breakpoints"] = (
+            [_decode_SourceBreakpoint(x0) if isinstance(x0, dict) else x0 for x0 in v]
+            if isinstance(v, list)
+            else v
+        )
+    v = kwargs.get("source")
+    if v is not None:
+        kwargs["source"] = _decode_Source(v) if isinstance(v, dict) else v
+    return SetBreakpointsArguments(**kwargs)
+
+
+_FIELDS_SetBreakpointsRequest = frozenset(("arguments", "command", "seq", "type"))
+
+
+def _decode_SetBreakpointsRequest(data):
+    fields = _FIELDS_SetBreakpointsRequest
+    kwargs = {k: v for k, v in data.items() if k in fields}
+    v = kwargs.get("arguments")
+    if v is not None:
+        kwargs["arguments"] = (
+            _decode_SetBreakpointsArguments(v) if isinstance(v, dict) else v
+        )
+    return SetBreakpointsRequest(**kwargs)
+
+
+_FIELDS_SetBreakpointsResponse = frozenset(
+    (
+        "_frozen",
+        "body",
+        "command",
+        "extra",
+        "message",
+        "request_seq",
+        "seq",
+        "success",
+        "type",
+    ),
+)
+
+
+def _decode_SetBreakpointsResponse(data):
+    fields = _FIELDS_SetBreakpointsResponse
+    kwargs = {k: v for k, v in data.items() if k in fields}
+    v = kwargs.get("body")
+    if v is not None:
+        kwargs["body"] = (
+            _decode_SetBreakpointsResponseBody(v) if isinstance(v, dict) else v
+        )
+    return SetBreakpointsResponse(**kwargs)
+
+
+_FIELDS_SetBreakpointsResponseBody = frozenset(("_frozen", "breakpoints"))
+
+
+def _decode_SetBreakpointsResponseBody(data):
+    fields = _FIELDS_SetBreakpointsResponseBody
+    kwargs = {k: v for k, v in data.items() if k in fields}
+    v = kwargs.get("breakpoints")
+    if v is not None:
+        kwargs["breakpoints"] = (
+            [_decode_Breakpoint(x0) if isinstance(x0, dict) else x0 for x0 in v]
+            if isinstance(v, list)
+            else v
+        )
+    return SetBreakpointsResponseBody(**kwargs)
+
+
+_FIELDS_SetDataBreakpointsArguments = frozenset(("breakpoints",))
+
+
+def _decode_SetDataBreakpointsArguments(data):
+    fields = _FIELDS_SetDataBreakpointsArguments
+    kwargs = {k: v for k, v in data.items() if k in fields}
+    v = kwargs.get("breakpoints")
+    if v is not None:
+        kwargs["breakpoints"] = (
+            [_decode_DataBreakpoint(x0) if isinstance(x0, dict) else x0 for x0 in v]
+            if isinstance(v, list)
+            else v
+        )
+    return SetDataBreakpointsArguments(**kwargs)
+
+
+_FIELDS_SetDataBreakpointsRequest = frozenset(("arguments", "command", "seq", "type"))
+
+
+def _decode_SetDataBreakpointsRequest(data):
+    fields = _FIELDS_SetDataBreakpointsRequest
+    kwargs = {k: v for k, v in data.items() if k in fields}
+    v = kwargs.get("arguments")
+    if v is not None:
+        kwargs["arguments"] = (
+            _decode_SetDataBreakpointsArguments(v) if isinstance(v, dict) else v
+        )
+    return SetDataBreakpointsRequest(**kwargs)
+
+
+_FIELDS_SetDataBreakpointsResponse = frozenset(
+    (
+        "_frozen",
+        "body",
+        "command",
+        "extra",
+        "message",
+        "request_seq",
+        "seq",
+        "success",
+        "type",
+    ),
+)
+
+
+def _decode_SetDataBreakpointsResponse(data):
+    fields = _FIELDS_SetDataBreakpointsResponse
+    kwargs = {k: v for k, v in data.items() if k in fields}
+    v = kwargs.get("body")
+    if v is not None:
+        kwargs["body"] = (
+            _decode_SetDataBreakpointsResponseBody(v) if isinstance(v, dict) else v
+        )
+    return SetDataBreakpointsResponse(**kwargs)
+
+
+_FIELDS_SetDataBreakpointsResponseBody = frozenset(("_frozen", "breakpoints"))
+
+
+def _decode_SetDataBreakpointsResponseBody(data):
+    fields = _FIELDS_SetDataBreakpointsResponseBody
+    kwargs = {k: v for k, v in data.items() if k in fields}
+    v = kwargs.get("breakpoints")
+    if v is not None:
+        kwargs["breakpoints"] = (
+            [_decode_Breakpoint(x0) if isinstance(x0, dict) else x0 for x0 in v]
+            if isinstance(v, list)
+            else v
+        )
+    return SetDataBreakpointsResponseBody(**kwargs)
+
+
+_FIELDS_SetExceptionBreakpointsArguments = frozenset(
+    (
+        "exceptionOptions",
+        "filterOptions",
+        "filters",
+    ),
+)
+
+
+def _decode_SetExceptionBreakpointsArguments(data):
+    fields = _FIELDS_SetExceptionBreakpointsArguments
+    kwargs = {k: v for k, v in data.items() if k in fields}
+    v = kwargs.get("exceptionOptions")
+    if v is not None:
+        kwargs["exceptionOptions"] = (
+            [_decode_ExceptionOptions(x0) if isinstance(x0, dict) else x0 for x0 in v]
+            if isinstance(v, list)
+            else v
+        )
+    v = kwargs.get("filterOptions")
+    if v is not None:
+        kwargs["filterOptions"] = (
+            [
+                _decode_ExceptionFilterOptions(x0) if isinstance(x0, dict) else x0
+                for x0 in v
+            ]
+            if isinstance(v, list)
+            else v
+        )
+    return SetExceptionBreakpointsArguments(**kwargs)
+
+
+_FIELDS_SetExceptionBreakpointsRequest = frozenset(
+    (
+        "arguments",
+        "command",
+        "seq",
+        "type",
+    ),
+)
+
+
+def _decode_SetExceptionBreakpointsRequest(data):
+    fields = _FIELDS_SetExceptionBreakpointsRequest
+    kwargs = {k: v for k, v in data.items() if k in fields}
+    v = kwargs.get("arguments")
+    if v is not None:
+        kwargs["arguments"] = (
+            _decode_SetExceptionBreakpointsArguments(v) if isinstance(v, dict) else v
+        )
+    return SetExceptionBreakpointsRequest(**kwargs)
+
+
+_FIELDS_SetExceptionBreakpointsResponse = frozenset(
+    (
+        "_frozen",
+        "body",
+        "command",
+        "extra",
+        "message",
+        "request_seq",
+        "seq",
+        "success",
+        "type",
+    ),
+)
+
+
+def _decode_SetExceptionBreakpointsResponse(data):
+    fields = _FIELDS_SetExceptionBreakpointsResponse
+    kwargs = {k: v for k, v in data.items() if k in fields}
+    v = kwargs.get("body")
+    if v is not None:
+        kwargs["body"] = (
+            _decode_SetExceptionBreakpointsResponseBody(v) if isinstance(v, dict) else v
+        )
+    return SetExceptionBreakpointsResponse(**kwargs)
+
+
+_FIELDS_SetExceptionBreakpointsResponseBody = frozenset(("_frozen", "breakpoints"))
+
+
+def _decode_SetExceptionBreakpointsResponseBody(data):
+    fields = _FIELDS_SetExceptionBreakpointsResponseBody
+    kwargs = {k: v for k, v in data.items() if k in fields}
+    v = kwargs.get("breakpoints")
+    if v is not None:
+        kwargs["breakpoints"] = (
+            [_decode_Breakpoint(x0) if isinstance(x0, dict) else x0 for x0 in v]
+            if isinstance(v, list)
+            else v
+        )
+    return SetExceptionBreakpointsResponseBody(**kwargs)
+
+
+_FIELDS_SetExpressionArguments = frozenset(("expression", "format", "frameId", "value"))
+
+
+def _decode_SetExpressionArguments(data):
+    fields = _FIELDS_SetExpressionArguments
+    kwargs = {k: v for k, v in data.items() if k in fields}
+    v = kwargs.get("format")
+    if v is not None:
+        kwargs["format"] = _decode_ValueFormat(v) if isinstance(v, dict) else v
+    return SetExpressionArguments(**kwargs)
+
+
+_FIELDS_SetExpressionRequest = frozenset(("arguments", "command", "seq", "type"))
+
+
+def _decode_SetExpressionRequest(data):
+    fields = _FIELDS_SetExpressionRequest
+    kwargs = {k: v for k, v in data.items() if k in fields}
+    v = kwargs.get("arguments")
+    if v is not None:
+        kwargs["arguments"] = (
+            _decode_SetExpressionArguments(v) if isinstance(v, dict) else v
+        )
+    return SetExpressionRequest(**kwargs)
+
+
+_FIELDS_SetExpressionResponse = frozenset(
+    (
+        "_frozen",
+        "body",
+        "command",
+        "extra",
+        "message",
+        "request_seq",
+        "seq",
+        "success",
+        "type",
+    ),
+)
+
+
+def _decode_SetExpressionResponse(data):
+    fields = _FIELDS_SetExpressionResponse
+    kwargs = {k: v for k, v in data.items() if k in fields}
+    v = kwargs.get("body")
+    if v is not None:
+        kwargs["body"] = (
+            _decode_SetExpressionResponseBody(v) if isinstance(v, dict) else v
+        )
+    return SetExpressionResponse(**kwargs)
+
+
+_FIELDS_SetExpressionResponseBody = frozenset(
+    (
+        "_frozen",
+        "indexedVariables",
+        "memoryReference",
+        "namedVariables",
+        "presentationHint",
+        "type",
+        "value",
+        "valueLocationReference",
+        "variablesReference",
+    ),
+)
+
+
+def _decode_SetExpressionResponseBody(data):
+    fields = _FIELDS_SetExpressionResponseBody
+    kwargs = {k: v for k, v in data.items() if k in fields}
+    v = kwargs.get("presentationHint")
+    if v is not None:
+        kwargs["presentationHint"] = (
+            _decode_VariablePresentationHint(v) if isinstance(v, dict) else v
+        )
+    return SetExpressionResponseBody(**kwargs)
+
+
+_FIELDS_SetFunctionBreakpointsArguments = frozenset(("breakpoints",))
+
+
+def _decode_SetFunctionBreakpointsArguments(data):
+    fields = _FIELDS_SetFunctionBreakpointsArguments
+    kwargs = {k: v for k, v in data.items() if k in fields}
+    v = kwargs.get("breakpoints")
+    if v is not None:
+        kwargs["breakpoints"] = (
+            [_decode_FunctionBreakpoint(x0) if isinstance(x0, dict) else x0 for x0 in v]
+            if isinstance(v, list)
+            else v
+        )
+    return SetFunctionBreakpointsArguments(**kwargs)
+
+
+_FIELDS_SetFunctionBreakpointsRequest = frozenset(
+    (
+        "arguments",
+        "command",
+        "seq",
+        "type",
+    ),
+)
+
+
+def _decode_SetFunctionBreakpointsRequest(data):
+    fields = _FIELDS_SetFunctionBreakpointsRequest
+    kwargs = {k: v for k, v in data.items() if k in fields}
+    v = kwargs.get("arguments")
+    if v is not None:
+        kwargs["arguments"] = (
+            _decode_SetFunctionBreakpointsArguments(v) if isinstance(v, dict) else v
+        )
+    return SetFunctionBreakpointsRequest(**kwargs)
+
+
+_FIELDS_SetFunctionBreakpointsResponse = frozenset(
+    (
+        "_frozen",
+        "body",
+        "command",
+        "extra",
+        "message",
+        "request_seq",
+        "seq",
+        "success",
+        "type",
+    ),
+)
+
+
+def _decode_SetFunctionBreakpointsResponse(data):
+    fields = _FIELDS_SetFunctionBreakpointsResponse
+    kwargs = {k: v for k, v in data.items() if k in fields}
+    v = kwargs.get("body")
+    if v is not None:
+        kwargs["body"] = (
+            _decode_SetFunctionBreakpointsResponseBody(v) if isinstance(v, dict) else v
+        )
+    return SetFunctionBreakpointsResponse(**kwargs)
+
+
+_FIELDS_SetFunctionBreakpointsResponseBody = frozenset(("_frozen", "breakpoints"))
+
+
+def _decode_SetFunctionBreakpointsResponseBody(data):
+    fields = _FIELDS_SetFunctionBreakpointsResponseBody
+    kwargs = {k: v for k, v in data.items() if k in fields}
+    v = kwargs.get("breakpoints")
+    if v is not None:
+        kwargs["breakpoints"] = (
+            [_decode_Breakpoint(x0) if isinstance(x0, dict) else x0 for x0 in v]
+            if isinstance(v, list)
+            else v
+        )
+    return SetFunctionBreakpointsResponseBody(**kwargs)
+
+
+_FIELDS_SetInstructionBreakpointsArguments = frozenset(("breakpoints",))
+
+
+def _decode_SetInstructionBreakpointsArguments(data):
+    fields = _FIELDS_SetInstructionBreakpointsArguments
+    kwargs = {k: v for k, v in data.items() if k in fields}
+    v = kwargs.get("breakpoints")
+    if v is not None:
+        kwargs["breakpoints"] = (
+            [
+                _decode_InstructionBreakpoint(x0) if isinstance(x0, dict) else x0
+                for x0 in v
+            ]
+            if isinstance(v, list)
+            else v
+        )
+    return SetInstructionBreakpointsArguments(**kwargs)
+
+
+_FIELDS_SetInstructionBreakpointsRequest = frozenset(
+    (
+        "arguments",
+        "command",
+        "seq",
+        "type",
+    ),
+)
+
+
+def _decode_SetInstructionBreakpointsRequest(data):
+    fields = _FIELDS_SetInstructionBreakpointsRequest
+    kwargs = {k: v for k, v in data.items() if k in fields}
+    v = kwargs.get("arguments")
+    if v is not None:
+        kwargs["arguments"] = (
+            _decode_SetInstructionBreakpointsArguments(v) if isinstance(v, dict) else v
+        )
+    return SetInstructionBreakpointsRequest(**kwargs)
+
+
+_FIELDS_SetInstructionBreakpointsResponse = frozenset(
+    (
+        "_frozen",
+        "body",
+        "command",
+        "extra",
+        "message",
+        "request_seq",
+        "seq",
+        "success",
+        "type",
+    ),
+)
+
+
+def _decode_SetInstructionBreakpointsResponse(data):
+    fields = _FIELDS_SetInstructionBreakpointsResponse
+    kwargs = {k: v for k, v in data.items() if k in fields}
+    v = kwargs.get("body")
+    if v is not None:
+        kwargs["body"] = (
+            _decode_SetInstructionBreakpointsResponseBody(v)
+            if isinstance(v, dict)
+            else v
+        )
+    return SetInstructionBreakpointsResponse(**kwargs)
+
+
+_FIELDS_SetInstructionBreakpointsResponseBody = frozenset(("_frozen", "breakpoints"))
+
+
+def _decode_SetInstructionBreakpointsResponseBody(data):
+    fields = _FIELDS_SetInstructionBreakpointsResponseBody
+    kwargs = {k: v for k, v in data.items() if k in fields}
+    v = kwargs.get("breakpoints")
+    if v is not None:
+        kwargs["breakpoints"] = (
+            [_decode_Breakpoint(x0) if isinstance(x0, dict) else x0 for x0 in v]
+            if isinstance(v, list)
+            else v
+        )
+    return SetInstructionBreakpointsResponseBody(**kwargs)
+
+
+_FIELDS_SetVariableArguments = frozenset(
+    (
+        "format",
+        "name",
+        "value",
+        "variablesReference",
+    ),
+)
+
+
+def _decode_SetVariableArguments(data):
+    fields = _FIELDS_SetVariableArguments
+    kwargs = {k: v for k, v in data.items() if k in fields}
+    v = kwargs.get("format")
+    if v is not None:
+        kwargs["format"] = _decode_ValueFormat(v) if isinstance(v, dict) else v
+    return SetVariableArguments(**kwargs)
+
+
+_FIELDS_SetVariableRequest = frozenset(("arguments", "command", "seq", "type"))
+
+
+def _decode_SetVariableRequest(data):
+    fields = _FIELDS_SetVariableRequest
+    kwargs = {k: v for k, v in data.items() if k in fields}
+    v = kwargs.get("arguments")
+    if v is not None:
+        kwargs["arguments"] = (
+            _decode_SetVariableArguments(v) if isinstance(v, dict) else v
+        )
+    return SetVariableRequest(**kwargs)
+
+
+_FIELDS_SetVariableResponse = frozenset(
+    (
+        "_frozen",
+        "body",
+        "command",
+        "extra",
+        "message",
+        "request_seq",
+        "seq",
+        "success",
+        "type",
+    ),
+)
+
+
+def _decode_SetVariableResponse(data):
+    fields = _FIELDS_SetVariableResponse
+    kwargs = {k: v for k, v in data.items() if k in fields}
+    v = kwargs.get("body")
+    if v is not None:
+        kwargs["body"] = (
+            _decode_SetVariableResponseBody(v) if isinstance(v, dict) else v
+        )
+    return SetVariableResponse(**kwargs)
+
+
+_FIELDS_SetVariableResponseBody = frozenset(
+    (
+        "_frozen",
+        "indexedVariables",
+        "memoryReference",
+        "namedVariables",
+        "type",
+        "value",
+        "valueLocationReference",
+        "variablesReference",
+    ),
+)
+
+
+def _decode_SetVariableResponseBody(data):
+    fields = _FIELDS_SetVariableResponseBody
+    kwargs = {k: v for k, v in data.items() if k in fields}
+    return SetVariableResponseBody(**kwargs)
+
+
+_FIELDS_Source = frozenset(
+    (
+        "adapterData",
+        "checksums",
+        "name",
+        "origin",
+        "path",
+        "presentationHint",
+        "sourceReference",
+        "sources",
+    ),
+)
+
+
+def _decode_Source(data):
+    fields = _FIELDS_Source
+    kwargs = {k: v for k, v in data.items() if k in fields}
+    v = kwargs.get("checksums")
+    if v is not None:
+        kwargs["checksums"] = (
+            [_decode_Checksum(x0) if isinstance(x0, dict) else x0 for x0 in v]
+            if isinstance(v, list)
+            else v
+        )
+    v = kwargs.get("sources")
+    if v is not None:
+        kwargs["sources"] = (
+            [_decode_Source(x0) if isinstance(x0, dict) else x0 for x0 in v]
+            if isinstance(v, list)
+            else v
+        )
+    return Source(**kwargs)
+
+
+_FIELDS_SourceArguments = frozenset(("source", "sourceReference"))
+
+
+def _decode_SourceArguments(data):
+    fields = _FIELDS_SourceArguments
+    kwargs = {k: v for k, v in data.items() if k in fields}
+    v = kwargs.get("source")
+    if v is not None:
+        kwargs["source"] = _decode_Source(v) if isinstance(v, dict) else v
+    return SourceArguments(**kwargs)
+
+
+_FIELDS_SourceBreakpoint = frozenset(
+    (
+        "column",
+        "condition",
+        "hitCondition",
+        "line",
+        "logMessage",
+        "mode",
+    ),
+)
+
+
+def _decode_SourceBreakpoint(data):
+    fields = _FIELDS_SourceBreakpoint
+    kwargs = {k: v for k, v in data.items() if k in fields}
+    return SourceBreakpoint(**kwargs)
+
+
+_FIELDS_SourceRequest = frozenset(("arguments", "command", "seq", "type"))
+
+
+def _decode_SourceRequest(data):
+    fields = _FIELDS_SourceRequest
+    kwargs = {k: v for k, v in data.items() if k in fields}
+    v = kwargs.get("arguments")
+    if v is not None:
+        kwargs["arguments"] = _decode_SourceArguments(v) if isinstance(v, dict) else v
+    return SourceRequest(**kwargs)
+
+
+_FIELDS_SourceResponse = frozenset(
+    (
+        "_frozen",
+        "body",
+        "command",
+        "extra",
+        "message",
+        "request_seq",
+        "seq",
+        "success",
+        "type",
+    ),
+)
+
+
+def _decode_SourceResponse(data):
+    fields = _FIELDS_SourceResponse
+    kwargs = {k: v for k, v in data.items() if k in fields}
+    v = kwargs.get("body")
+    if v is not None:
+        kwargs["body"] = _decode_SourceResponseBody(v) if isinstance(v, dict) else v
+    return SourceResponse(**kwargs)
+
+
+_FIELDS_SourceResponseBody = frozenset(("_frozen", "content", "mimeType"))
+
+
+def _decode_SourceResponseBody(data):
+    fields = _FIELDS_SourceResponseBody
+    kwargs = {k: v for k, v in data.items() if k in fields}
+    return SourceResponseBody(**kwargs)
+
+
+_FIELDS_StackFrame = frozenset(
+    (
+        "canRestart",
+        "column",
+        "endColumn",
+        "endLine",
+        "id",
+        "instructionPointerReference",
+        "line",
+        "moduleId",
+        "name",
+        "presentationHint",
+        "source",
+    ),
+)
+
+
+def _decode_StackFrame(data):
+    fields = _FIELDS_StackFrame
+    kwargs = {k: v for k, v in data.items() if k in fields}
+    v = kwargs.get("source")
+    if v is not None:
+        kwargs["source"] = _decode_Source(v) if isinstance(v, dict) else v
+    return StackFrame(**kwargs)
+
+
+_FIELDS_StackFrameFormat = frozenset(
+    (
+        "hex",
+        "includeAll",
+        "line",
+        "module",
+        "parameterNames",
+        "parameterTypes",
+        "parameterValues",
+        "parameters",
+    ),
+)
+
+
+def _decode_StackFrameFormat(data):
+    fields = _FIELDS_StackFrameFormat
+    kwargs = {k: v for k, v in data.items() if k in fields}
+    return StackFrameFormat(**kwargs)
+
+
+_FIELDS_StackTraceArguments = frozenset(("format", "levels", "startFrame", "threadId"))
+
+
+def _decode_StackTraceArguments(data):
+    fields = _FIELDS_StackTraceArguments
+    kwargs = {k: v for k, v in data.items() if k in fields}
+    v = kwargs.get("format")
+    if v is not None:
+        kwargs["format"] = _decode_StackFrameFormat(v) if isinstance(v, dict) else v
+    return StackTraceArguments(**kwargs)
+
+
+_FIELDS_StackTraceRequest = frozenset(("arguments", "command", "seq", "type"))
+
+
+def _decode_StackTraceRequest(data):
+    fields = _FIELDS_StackTraceRequest
+    kwargs = {k: v for k, v in data.items() if k in fields}
+    v = kwargs.get("arguments")
+    if v is not None:
+        kwargs["arguments"] = (
+            _decode_StackTraceArguments(v) if isinstance(v, dict) else v
+        )
+    return StackTraceRequest(**kwargs)
+
+
+_FIELDS_StackTraceResponse = frozenset(
+    (
+        "_frozen",
+        "body",
+        "command",
+        "extra",
+        "message",
+        "request_seq",
+        "seq",
+        "success",
+        "type",
+    ),
+)
+
+
+def _decode_StackTraceResponse(data):
+    fields = _FIELDS_StackTraceResponse
+    kwargs = {k: v for k, v in data.items() if k in fields}
+    v = kwargs.get("body")
+    if v is not None:
+        kwargs["body"] = _decode_StackTraceResponseBody(v) if isinstance(v, dict) else v
+    return StackTraceResponse(**kwargs)
+
+
+_FIELDS_StackTraceResponseBody = frozenset(("_frozen", "stackFrames", "totalFrames"))
+
+
+def _decode_StackTraceResponseBody(data):
+    fields = _FIELDS_StackTraceResponseBody
+    kwargs = {k: v for k, v in data.items() if k in fields}
+    v = kwargs.get("stackFrames")
+    if v is not None:
+        kwargs["stackFrames"] = (
+            [_decode_StackFrame(x0) if isinstance(x0, dict) else x0 for x0 in v]
+            if isinstance(v, list)
+            else v
+        )
+    return StackTraceResponseBody(**kwargs)
+
+
+_FIELDS_StartDebuggingRequest = frozenset(("arguments", "command", "seq", "type"))
+
+
+def _decode_StartDebuggingRequest(data):
+    fields = _FIELDS_StartDebuggingRequest
+    kwargs = {k: v for k, v in data.items() if k in fields}
+    v = kwargs.get("arguments")
+    if v is not None:
+        kwargs["arguments"] = (
+            _decode_StartDebuggingRequestArguments(v) if isinstance(v, dict) else v
+        )
+    return StartDebuggingRequest(**kwargs)
+
+
+_FIELDS_StartDebuggingRequestArguments = frozenset(("configuration", "request"))
+
+
+def _decode_StartDebuggingRequestArguments(data):
+    fields = _FIELDS_StartDebuggingRequestArguments
+    kwargs = {k: v for k, v in data.items() if k in fields}
+    return StartDebuggingRequestArguments(**kwargs)
+
+
+_FIELDS_StartDebuggingResponse = frozenset(
+    (
+        "_frozen",
+        "body",
+        "command",
+        "extra",
+        "message",
+        "request_seq",
+        "seq",
+        "success",
+        "type",
+    ),
+)
+
+
+def _decode_StartDebuggingResponse(data):
+    fields = _FIELDS_StartDebuggingResponse
+    kwargs = {k: v for k, v in data.items() if k in fields}
+    v = kwargs.get("body")
+    if v is not None:
+        kwargs["body"] = _decode_OperationResponseBody(v) if isinstance(v, dict) else v
+    return StartDebuggingResponse(**kwargs)
+
+
+_FIELDS_StepBackArguments = frozenset(("granularity", "singleThread", "threadId"))
+
+
+def _decode_StepBackArguments(data):
+    fields = _FIELDS_StepBackArguments
+    kwargs = {k: v for k, v in data.items() if k in fields}
+    v = kwargs.get("granularity")
+    if v is not None:
+        kwargs["granularity"] = (
+            _construct(SteppingGranularity, v) if isinstance(v, dict) else v
+        )
+    return StepBackArguments(**kwargs)
+
+
+_FIELDS_StepBackRequest = frozenset(("arguments", "command", "seq", "type"))
+
+
+def _decode_StepBackRequest(data):
+    fields = _FIELDS_StepBackRequest
+    kwargs = {k: v for k, v in data.items() if k in fields}
+    v = kwargs.get("arguments")
+    if v is not None:
+        kwargs["arguments"] = _decode_StepBackArguments(v) if isinstance(v, dict) else v
+    return StepBackRequest(**kwargs)
+
+
+_FIELDS_StepBackResponse = frozenset(
+    (
+        "_frozen",
+        "body",
+        "command",
+        "extra",
+        "message",
+        "request_seq",
+        "seq",
+        "success",
+        "type",
+    ),
+)
+
+
+def _decode_StepBackResponse(data):
+    fields = _FIELDS_StepBackResponse
+    kwargs = {k: v for k, v in data.items() if k in fields}
+    v = kwargs.get("body")
+    if v is not None:
+        kwargs["body"] = _decode_OperationResponseBody(v) if isinstance(v, dict) else v
+    return StepBackResponse(**kwargs)
+
+
+_FIELDS_StepInArguments = frozenset(
+    (
+        "granularity",
+        "singleThread",
+        "targetId",
+        "threadId",
+    ),
+)
+
+
+def _decode_StepInArguments(data):
+    fields = _FIELDS_StepInArguments
+    kwargs = {k: v for k, v in data.items() if k in fields}
+    v = kwargs.get("granularity")
+    if v is not None:
+        kwargs["granularity"] = (
+            _construct(SteppingGranularity, v) if isinstance(v, dict) else v
+        )
+    return StepInArguments(**kwargs)
+
+
+_FIELDS_StepInRequest = frozenset(("arguments", "command", "seq", "type"))
+
+
+def _decode_StepInRequest(data):
+    fields = _FIELDS_StepInRequest
+    kwargs = {k: v for k, v in data.items() if k in fields}
+    v = kwargs.get("arguments")
+    if v is not None:
+        kwargs["arguments"] = _decode_StepInArguments(v) if isinstance(v, dict) else v
+    return StepInRequest(**kwargs)
+
+
+_FIELDS_StepInResponse = frozenset(
+    (
+        "_frozen",
+        "body",
+        "command",
+        "extra",
+        "message",
+        "request_seq",
+        "seq",
+        "success",
+        "type",
+    ),
+)
+
+
+def _decode_StepInResponse(data):
+    fields = _FIELDS_StepInResponse
+    kwargs = {k: v for k, v in data.items() if k in fields}
+    v = kwargs.get("body")
+    if v is not None:
+        kwargs["body"] = _decode_OperationResponseBody(v) if isinstance(v, dict) else v
+    return StepInResponse(**kwargs)
+
+
+_FIELDS_StepInTarget = frozenset(
+    (
+        "column",
+        "endColumn",
+        "endLine",
+        "id",
+        "label",
+        "line",
+    ),
+)
+
+
+def _decode_StepInTarget(data):
+    fields = _FIELDS_StepInTarget
+    kwargs = {k: v for k, v in data.items() if k in fields}
+    return StepInTarget(**kwargs)
+
+
+_FIELDS_StepInTargetsArguments = frozenset(("frameId",))
+
+
+def _decode_StepInTargetsArguments(data):
+    fields = _FIELDS_StepInTargetsArguments
+    kwargs = {k: v for k, v in data.items() if k in fields}
+    return StepInTargetsArguments(**kwargs)
+
+
+_FIELDS_StepInTargetsRequest = frozenset(("arguments", "command", "seq", "type"))
+
+
+def _decode_StepInTargetsRequest(data):
+    fields = _FIELDS_StepInTargetsRequest
+    kwargs = {k: v for k, v in data.items() if k in fields}
+    v = kwargs.get("arguments")
+    if v is not None:
+        kwargs["arguments"] = (
+            _decode_StepInTargetsArguments(v) if isinstance(v, dict) else v
+        )
+    return StepInTargetsRequest(**kwargs)
+
+
+_FIELDS_StepInTargetsResponse = frozenset(
+    (
+        "_frozen",
+        "body",
+        "command",
+        "extra",
+        "message",
+        "request_seq",
+        "seq",
+        "success",
+        "type",
+    ),
+)
+
+
+def _decode_StepInTargetsResponse(data):
+    fields = _FIELDS_StepInTargetsResponse
+    kwargs = {k: v for k, v in data.items() if k in fields}
+    v = kwargs.get("body")
+    if v is not None:
+        kwargs["body"] = (
+            _decode_StepInTargetsResponseBody(v) if isinstance(v, dict) else v
+        )
+    return StepInTargetsResponse(**kwargs)
+
+
+_FIELDS_StepInTargetsResponseBody = frozenset(("_frozen", "targets"))
+
+
+def _decode_StepInTargetsResponseBody(data):
+    fields = _FIELDS_StepInTargetsResponseBody
+    kwargs = {k: v for k, v in data.items() if k in fields}
+    v = kwargs.get("targets")
+    if v is not None:
+        kwargs["targets"] = (
+            [_decode_StepInTarget(x0) if isinstance(x0, dict) else x0 for x0 in v]
+            if isinstance(v, list)
+            else v
+        )
+    return StepInTargetsResponseBody(**kwargs)
+
+
+_FIELDS_StepOutArguments = frozenset(("granularity", "singleThread", "threadId"))
+
+
+def _decode_StepOutArguments(data):
+    fields = _FIELDS_StepOutArguments
+    kwargs = {k: v for k, v in data.items() if k in fields}
+    v = kwargs.get("granularity")
+    if v is not None:
+        kwargs["granularity"] = (
+            _construct(SteppingGranularity, v) if isinstance(v, dict) else v
+        )
+    return StepOutArguments(**kwargs)
+
+
+_FIELDS_StepOutRequest = frozenset(("arguments", "command", "seq", "type"))
+
+
+def _decode_StepOutRequest(data):
+    fields = _FIELDS_StepOutRequest
+    kwargs = {k: v for k, v in data.items() if k in fields}
+    v = kwargs.get("arguments")
+    if v is not None:
+        kwargs["arguments"] = _decode_StepOutArguments(v) if isinstance(v, dict) else v
+    return StepOutRequest(**kwargs)
+
+
+_FIELDS_StepOutResponse = frozenset(
+    (
+        "_frozen",
+        "body",
+        "command",
+        "extra",
+        "message",
+        "request_seq",
+        "seq",
+        "success",
+        "type",
+    ),
+)
+
+
+def _decode_StepOutResponse(data):
+    fields = _FIELDS_StepOutResponse
+    kwargs = {k: v for k, v in data.items() if k in fields}
+    v = kwargs.get("body")
+    if v is not None:
+        kwargs["body"] = _decode_OperationResponseBody(v) if isinstance(v, dict) else v
+    return StepOutResponse(**kwargs)
+
+
+_FIELDS_StoppedEventBody = frozenset(
+    (
+        "_frozen",
+        "allThreadsStopped",
+        "description",
+        "hitBreakpointIds",
+        "preserveFocusHint",
+        "reason",
+        "text",
+        "threadId",
+    ),
+)
+
+
+def _decode_StoppedEventBody(data):
+    fields = _FIELDS_StoppedEventBody
+    kwargs = {k: v for k, v in data.items() if k in fields}
+    return StoppedEventBody(**kwargs)
+
+
+_FIELDS_TerminateArguments = frozenset(("restart",))
+
+
+def _decode_TerminateArguments(data):
+    fields = _FIELDS_TerminateArguments
+    kwargs = {k: v for k, v in data.items() if k in fields}
+    return TerminateArguments(**kwargs)
+
+
+_FIELDS_TerminateRequest = frozenset(("arguments", "command", "seq", "type"))
+
+
+def _decode_TerminateRequest(data):
+    fields = _FIELDS_TerminateRequest
+    kwargs = {k: v for k, v in data.items() if k in fields}
+    v = kwargs.get("arguments")
+    if v is not None:
+        kwargs["arguments"] = (
+            _decode_TerminateArguments(v) if isinstance(v, dict) else v
+        )
+    return TerminateRequest(**kwargs)
+
+
+_FIELDS_TerminateResponse = frozenset(
+    (
+        "_frozen",
+        "body",
+        "command",
+        "extra",
+        "message",
+        "request_seq",
+        "seq",
+        "success",
+        "type",
+    ),
+)
+
+
+def _decode_TerminateResponse(data):
+    fields = _FIELDS_TerminateResponse
+    kwargs = {k: v for k, v in data.items() if k in fields}
+    v = kwargs.get("body")
+    if v is not None:
+        kwargs["body"] = _decode_OperationResponseBody(v) if isinstance(v, dict) else v
+    return TerminateResponse(**kwargs)
+
+
+_FIELDS_TerminateThreadsArguments = frozenset(("threadIds",))
+
+
+def _decode_TerminateThreadsArguments(data):
+    fields = _FIELDS_TerminateThreadsArguments
+    kwargs = {k: v for k, v in data.items() if k in fields}
+    return TerminateThreadsArguments(**kwargs)
+
+
+_FIELDS_TerminateThreadsRequest = frozenset(("arguments", "command", "seq", "type"))
+
+
+def _decode_TerminateThreadsRequest(data):
+    fields = _FIELDS_TerminateThreadsRequest
+    kwargs = {k: v for k, v in data.items() if k in fields}
+    v = kwargs.get("arguments")
+    if v is not None:
+        kwargs["arguments"] = (
+            _decode_TerminateThreadsArguments(v) if isinstance(v, dict) else v
+        )
+    return TerminateThreadsRequest(**kwargs)
+
+
+_FIELDS_TerminateThreadsResponse = frozenset(
+    (
+        "_frozen",
+        "body",
+        "command",
+        "extra",
+        "message",
+        "request_seq",
+        "seq",
+        "success",
+        "type",
+    ),
+)
+
+
+def _decode_TerminateThreadsResponse(data):
+    fields = _FIELDS_TerminateThreadsResponse
+    kwargs = {k: v for k, v in data.items() if k in fields}
+    v = kwargs.get("body")
+    if v is not None:
+        kwargs["body"] = _decode_OperationResponseBody(v) if isinstance(v, dict) else v
+    return TerminateThreadsResponse(**kwargs)
+
+
+_FIELDS_TerminatedEventBody = frozenset(("_frozen", "restart"))
+
+
+def _decode_TerminatedEventBody(data):
+    fields = _FIELDS_TerminatedEventBody
+    kwargs = {k: v for k, v in data.items() if k in fields}
+    return TerminatedEventBody(**kwargs)
+
+
+_FIELDS_Thread = frozenset(("id", "name"))
+
+
+def _decode_Thread(data):
+    fields = _FIELDS_Thread
+    kwargs = {k: v for k, v in data.items() if k in fields}
+    return Thread(**kwargs)
+
+
+_FIELDS_ThreadEventBody = frozenset(("_frozen", "reason", "threadId"))
+
+
+def _decode_ThreadEventBody(data):
+    fields = _FIELDS_ThreadEventBody
+    kwargs = {k: v for k, v in data.items() if k in fields}
+    return ThreadEventBody(**kwargs)
+
+
+_FIELDS_ThreadsRequest = frozenset(("arguments", "command", "seq", "type"))
+
+
+def _decode_ThreadsRequest(data):
+    fields = _FIELDS_ThreadsRequest
+    kwargs = {k: v for k, v in data.items() if k in fields}
+    return ThreadsRequest(**kwargs)
+
+
+_FIELDS_ThreadsResponse = frozenset(
+    (
+        "_frozen",
+        "body",
+        "command",
+        "extra",
+        "message",
+        "request_seq",
+        "seq",
+        "success",
+        "type",
+    ),
+)
+
+
+def _decode_ThreadsResponse(data):
+    fields = _FIELDS_ThreadsResponse
+    kwargs = {k: v for k, v in data.items() if k in fields}
+    v = kwargs.get("body")
+    if v is not None:
+        kwargs["body"] = _decode_ThreadsResponseBody(v) if isinstance(v, dict) else v
+    return ThreadsResponse(**kwargs)
+
+
+_FIELDS_ThreadsResponseBody = frozenset(("_frozen", "threads"))
+
+
+def _decode_ThreadsResponseBody(data):
+    fields = _FIELDS_ThreadsResponseBody
+    kwargs = {k: v for k, v in data.items() if k in fields}
+    v = kwargs.get("threads")
+    if v is not None:
+        kwargs["threads"] = (
+            [_decode_Thread(x0) if isinstance(x0, dict) else x0 for x0 in v]
+            if isinstance(v, list)
+            else v
+        )
+    return ThreadsResponseBody(**kwargs)
+
+
+_FIELDS_ValueFormat = frozenset(("hex",))
+
+
+def _decode_ValueFormat(data):
+    fields = _FIELDS_ValueFormat
+    kwargs = {k: v for k, v in data.items() if k in fields}
+    return ValueFormat(**kwargs)
+
+
+_FIELDS_Variable = frozenset(
+    (
+        "declarationLocationReference",
+        "evaluateName",
+        "indexedVariables",
+        "memoryReference",
+        "name",
+        "namedVariables",
+        "presentationHint",
+        "type",
+        "value",
+        "valueLocationReference",
+        "variablesReference",
+    ),
+)
+
+
+def _decode_Variable(data):
+    fields = _FIELDS_Variable
+    kwargs = {k: v for k, v in data.items() if k in fields}
+    v = kwargs.get("presentationHint")
+    if v is not None:
+        kwargs["presentationHint"] = (
+            _decode_VariablePresentationHint(v) if isinstance(v, dict) else v
+        )
+    return Variable(**kwargs)
+
+
+_FIELDS_VariablePresentationHint = frozenset(
+    (
+        "attributes",
+        "kind",
+        "lazy",
+        "visibility",
+    ),
+)
+
+
+def _decode_VariablePresentationHint(data):
+    fields = _FIELDS_VariablePresentationHint
+    kwargs = {k: v for k, v in data.items() if k in fields}
+    return VariablePresentationHint(**kwargs)
+
+
+_FIELDS_VariablesArguments = frozenset(
+    (
+        "count",
+        "filter",
+        "format",
+        "start",
+        "variablesReference",
+    ),
+)
+
+
+def _decode_VariablesArguments(data):
+    fields = _FIELDS_VariablesArguments
+    kwargs = {k: v for k, v in data.items() if k in fields}
+    v = kwargs.get("format")
+    if v is not None:
+        kwargs["format"] = _decode_ValueFormat(v) if isinstance(v, dict) else v
+    return VariablesArguments(**kwargs)
+
+
+_FIELDS_VariablesRequest = frozenset(("arguments", "command", "seq", "type"))
+
+
+def _decode_VariablesRequest(data):
+    fields = _FIELDS_VariablesRequest
+    kwargs = {k: v for k, v in data.items() if k in fields}
+    v = kwargs.get("arguments")
+    if v is not None:
+        kwargs["arguments"] = (
+            _decode_VariablesArguments(v) if isinstance(v, dict) else v
+        )
+    return VariablesRequest(**kwargs)
+
+
+_FIELDS_VariablesResponse = frozenset(
+    (
+        "_frozen",
+        "body",
+        "command",
+        "extra",
+        "message",
+        "request_seq",
+        "seq",
+        "success",
+        "type",
+    ),
+)
+
+
+def _decode_VariablesResponse(data):
+    fields = _FIELDS_VariablesResponse
+    kwargs = {k: v for k, v in data.items() if k in fields}
+    v = kwargs.get("body")
+    if v is not None:
+        kwargs["body"] = _decode_VariablesResponseBody(v) if isinstance(v, dict) else v
+    return VariablesResponse(**kwargs)
+
+
+_FIELDS_VariablesResponseBody = frozenset(("_frozen", "variables"))
+
+
+def _decode_VariablesResponseBody(data):
+    fields = _FIELDS_VariablesResponseBody
+    kwargs = {k: v for k, v in data.items() if k in fields}
+    v = kwargs.get("variables")
+    if v is not None:
+        kwargs["variables"] = (
+            [_decode_Variable(x0) if isinstance(x0, dict) else x0 for x0 in v]
+            if isinstance(v, list)
+            else v
+        )
+    return VariablesResponseBody(**kwargs)
+
+
+_FIELDS_WriteMemoryArguments = frozenset(
+    (
+        "allowPartial",
+        "data",
+        "memoryReference",
+        "offset",
+    ),
+)
+
+
+def _decode_WriteMemoryArguments(data):
+    fields = _FIELDS_WriteMemoryArguments
+    kwargs = {k: v for k, v in data.items() if k in fields}
+    return WriteMemoryArguments(**kwargs)
+
+
+_FIELDS_WriteMemoryRequest = frozenset(("arguments", "command", "seq", "type"))
+
+
+def _decode_WriteMemoryRequest(data):
+    fields = _FIELDS_WriteMemoryRequest
+    kwargs = {k: v for k, v in data.items() if k in fields}
+    v = kwargs.get("arguments")
+    if v is not None:
+        kwargs["arguments"] = (
+            _decode_WriteMemoryArguments(v) if isinstance(v, dict) else v
+        )
+    return WriteMemoryRequest(**kwargs)
+
+
+_FIELDS_WriteMemoryResponse = frozenset(
+    (
+        "_frozen",
+        "body",
+        "command",
+        "extra",
+        "message",
+        "request_seq",
+        "seq",
+        "success",
+        "type",
+    ),
+)
+
+
+def _decode_WriteMemoryResponse(data):
+    fields = _FIELDS_WriteMemoryResponse
+    kwargs = {k: v for k, v in data.items() if k in fields}
+    v = kwargs.get("body")
+    if v is not None:
+        kwargs["body"] = (
+            _decode_WriteMemoryResponseBody(v) if isinstance(v, dict) else v
+        )
+    return WriteMemoryResponse(**kwargs)
+
+
+_FIELDS_WriteMemoryResponseBody = frozenset(("_frozen", "bytesWritten", "offset"))
+
+
+def _decode_WriteMemoryResponseBody(data):
+    fields = _FIELDS_WriteMemoryResponseBody
+    kwargs = {k: v for k, v in data.items() if k in fields}
+    return WriteMemoryResponseBody(**kwargs)
+
+
+DECODERS = {
+    AttachRequest: _decode_AttachRequest,
+    AttachRequestArguments: _decode_AttachRequestArguments,
+    AttachResponse: _decode_AttachResponse,
+    Breakpoint: _decode_Breakpoint,
+    BreakpointEventBody: _decode_BreakpointEventBody,
+    BreakpointLocation: _decode_BreakpointLocation,
+    BreakpointLocationsArguments: _decode_BreakpointLocationsArguments,
+    BreakpointLocationsRequest: _decode_BreakpointLocationsRequest,
+    BreakpointLocationsResponse: _decode_BreakpointLocationsResponse,
+    BreakpointLocationsResponseBody: _decode_BreakpointLocationsResponseBody,
+    BreakpointMode: _decode_BreakpointMode,
+    BreakpointModeApplicability: _decode_BreakpointModeApplicability,
+    CancelArguments: _decode_CancelArguments,
+    CancelRequest: _decode_CancelRequest,
+    CancelResponse: _decode_CancelResponse,
+    Capabilities: _decode_Capabilities,
+    CapabilitiesEventBody: _decode_CapabilitiesEventBody,
+    Checksum: _decode_Checksum,
+    ColumnDescriptor: _decode_ColumnDescriptor,
+    CompletionItem: _decode_CompletionItem,
+    CompletionsArguments: _decode_CompletionsArguments,
+    CompletionsRequest: _decode_CompletionsRequest,
+    CompletionsResponse: _decode_CompletionsResponse,
+    CompletionsResponseBody: _decode_CompletionsResponseBody,
+    ConfigurationDoneArguments: _decode_ConfigurationDoneArguments,
+    ConfigurationDoneRequest: _decode_ConfigurationDoneRequest,
+    ConfigurationDoneResponse: _decode_ConfigurationDoneResponse,
+    ContinueArguments: _decode_ContinueArguments,
+    ContinueRequest: _decode_ContinueRequest,
+    ContinueResponse: _decode_ContinueResponse,
+    ContinueResponseBody: _decode_ContinueResponseBody,
+    ContinuedEventBody: _decode_ContinuedEventBody,
+    DataBreakpoint: _decode_DataBreakpoint,
+    DataBreakpointInfoArguments: _decode_DataBreakpointInfoArguments,
+    DataBreakpointInfoRequest: _decode_DataBreakpointInfoRequest,
+    DataBreakpointInfoResponse: _decode_DataBreakpointInfoResponse,
+    DataBreakpointInfoResponseBody: _decode_DataBreakpointInfoResponseBody,
+    DisassembleArguments: _decode_DisassembleArguments,
+    DisassembleRequest: _decode_DisassembleRequest,
+    DisassembleResponse: _decode_DisassembleResponse,
+    DisassembleResponseBody: _decode_DisassembleResponseBody,
+    DisassembledInstruction: _decode_DisassembledInstruction,
+    DisconnectArguments: _decode_DisconnectArguments,
+    DisconnectRequest: _decode_DisconnectRequest,
+    DisconnectResponse: _decode_DisconnectResponse,
+    ErrorResponse: _decode_ErrorResponse,
+    ErrorResponseBody: _decode_ErrorResponseBody,
+    EvaluateArguments: _decode_EvaluateArguments,
+    EvaluateRequest: _decode_EvaluateRequest,
+    EvaluateResponse: _decode_EvaluateResponse,
+    EvaluateResponseBody: _decode_EvaluateResponseBody,
+    ExceptionBreakpointsFilter: _decode_ExceptionBreakpointsFilter,
+    ExceptionDetails: _decode_ExceptionDetails,
+    ExceptionFilterOptions: _decode_ExceptionFilterOptions,
+    ExceptionInfoArguments: _decode_ExceptionInfoArguments,
+    ExceptionInfoRequest: _decode_ExceptionInfoRequest,
+    ExceptionInfoResponse: _decode_ExceptionInfoResponse,
+    ExceptionInfoResponseBody: _decode_ExceptionInfoResponseBody,
+    ExceptionOptions: _decode_ExceptionOptions,
+    ExceptionPathSegment: _decode_ExceptionPathSegment,
+    ExitedEventBody: _decode_ExitedEventBody,
+    FunctionBreakpoint: _decode_FunctionBreakpoint,
+    GotoArguments: _decode_GotoArguments,
+    GotoRequest: _decode_GotoRequest,
+    GotoResponse: _decode_GotoResponse,
+    GotoTarget: _decode_GotoTarget,
+    GotoTargetsArguments: _decode_GotoTargetsArguments,
+    GotoTargetsRequest: _decode_GotoTargetsRequest,
+    GotoTargetsResponse: _decode_GotoTargetsResponse,
+    GotoTargetsResponseBody: _decode_GotoTargetsResponseBody,
+    InitializeRequest: _decode_InitializeRequest,
+    InitializeRequestArguments: _decode_InitializeRequestArguments,
+    InitializeResponse: _decode_InitializeResponse,
+    InstructionBreakpoint: _decode_InstructionBreakpoint,
+    InvalidatedAreas: _decode_InvalidatedAreas,
+    InvalidatedEventBody: _decode_InvalidatedEventBody,
+    LaunchRequest: _decode_LaunchRequest,
+    LaunchRequestArguments: _decode_LaunchRequestArguments,
+    LaunchResponse: _decode_LaunchResponse,
+    LoadedSourceEventBody: _decode_LoadedSourceEventBody,
+    LoadedSourcesArguments: _decode_LoadedSourcesArguments,
+    LoadedSourcesRequest: _decode_LoadedSourcesRequest,
+    LoadedSourcesResponse: _decode_LoadedSourcesResponse,
+    LoadedSourcesResponseBody: _decode_LoadedSourcesResponseBody,
+    LocationsArguments: _decode_LocationsArguments,
+    LocationsRequest: _decode_LocationsRequest,
+    LocationsResponse: _decode_LocationsResponse,
+    LocationsResponseBody: _decode_LocationsResponseBody,
+    MemoryEventBody: _decode_MemoryEventBody,
+    Message: _decode_Message,
+    Module: _decode_Module,
+    ModuleEventBody: _decode_ModuleEventBody,
+    ModulesArguments: _decode_ModulesArguments,
+    ModulesRequest: _decode_ModulesRequest,
+    ModulesResponse: _decode_ModulesResponse,
+    ModulesResponseBody: _decode_ModulesResponseBody,
+    NextArguments: _decode_NextArguments,
+    NextRequest: _decode_NextRequest,
+    NextResponse: _decode_NextResponse,
+    OperationEventBody: _decode_OperationEventBody,
+    OperationResponseBody: _decode_OperationResponseBody,
+    OutputEventBody: _decode_OutputEventBody,
+    PauseArguments: _decode_PauseArguments,
+    PauseRequest: _decode_PauseRequest,
+    PauseResponse: _decode_PauseResponse,
+    ProcessEventBody: _decode_ProcessEventBody,
+    ProgressEndEventBody: _decode_ProgressEndEventBody,
+    ProgressStartEventBody: _decode_ProgressStartEventBody,
+    ProgressUpdateEventBody: _decode_ProgressUpdateEventBody,
+    ProtocolMessage: _decode_ProtocolMessage,
+    ReadMemoryArguments: _decode_ReadMemoryArguments,
+    ReadMemoryRequest: _decode_ReadMemoryRequest,
+    ReadMemoryResponse: _decode_ReadMemoryResponse,
+    ReadMemoryResponseBody: _decode_ReadMemoryResponseBody,
+    Request: _decode_Request,
+    Response: _decode_Response,
+    RestartArguments: _decode_RestartArguments,
+    RestartFrameArguments: _decode_RestartFrameArguments,
+    RestartFrameRequest: _decode_RestartFrameRequest,
+    RestartFrameResponse: _decode_RestartFrameResponse,
+    RestartRequest: _decode_RestartRequest,
+    RestartResponse: _decode_RestartResponse,
+    ReverseContinueArguments: _decode_ReverseContinueArguments,
+    ReverseContinueRequest: _decode_ReverseContinueRequest,
+    ReverseContinueResponse: _decode_ReverseContinueResponse,
+    RunInTerminalRequest: _decode_RunInTerminalRequest,
+    RunInTerminalRequestArguments: _decode_RunInTerminalRequestArguments,
+    RunInTerminalResponse: _decode_RunInTerminalResponse,
+    RunInTerminalResponseBody: _decode_RunInTerminalResponseBody,
+    Scope: _decode_Scope,
+    ScopesArguments: _decode_ScopesArguments,
+    ScopesRequest: _decode_ScopesRequest,
+    ScopesResponse: _decode_ScopesResponse,
+    ScopesResponseBody: _decode_ScopesResponseBody,
+    SetBreakpointsArguments: _decode_SetBreakpointsArguments,
+    SetBreakpointsRequest: _decode_SetBreakpointsRequest,
+    SetBreakpointsResponse: _decode_SetBreakpointsResponse,
+    SetBreakpointsResponseBody: _decode_SetBreakpointsResponseBody,
+    SetDataBreakpointsArguments: _decode_SetDataBreakpointsArguments,
+    SetDataBreakpointsRequest: _decode_SetDataBreakpointsRequest,
+    SetDataBreakpointsResponse: _decode_SetDataBreakpointsResponse,
+    SetDataBreakpointsResponseBody: _decode_SetDataBreakpointsResponseBody,
+    SetExceptionBreakpointsArguments: _decode_SetExceptionBreakpointsArguments,
+    SetExceptionBreakpointsRequest: _decode_SetExceptionBreakpointsRequest,
+    SetExceptionBreakpointsResponse: _decode_SetExceptionBreakpointsResponse,
+    SetExceptionBreakpointsResponseBody: _decode_SetExceptionBreakpointsResponseBody,
+    SetExpressionArguments: _decode_SetExpressionArguments,
+    SetExpressionRequest: _decode_SetExpressionRequest,
+    SetExpressionResponse: _decode_SetExpressionResponse,
+    SetExpressionResponseBody: _decode_SetExpressionResponseBody,
+    SetFunctionBreakpointsArguments: _decode_SetFunctionBreakpointsArguments,
+    SetFunctionBreakpointsRequest: _decode_SetFunctionBreakpointsRequest,
+    SetFunctionBreakpointsResponse: _decode_SetFunctionBreakpointsResponse,
+    SetFunctionBreakpointsResponseBody: _decode_SetFunctionBreakpointsResponseBody,
+    SetInstructionBreakpointsArguments: _decode_SetInstructionBreakpointsArguments,
+    SetInstructionBreakpointsRequest: _decode_SetInstructionBreakpointsRequest,
+    SetInstructionBreakpointsResponse: _decode_SetInstructionBreakpointsResponse,
+    SetInstructionBreakpointsResponseBody: _decode_SetInstructionBreakpointsResponseBody,
+    SetVariableArguments: _decode_SetVariableArguments,
+    SetVariableRequest: _decode_SetVariableRequest,
+    SetVariableResponse: _decode_SetVariableResponse,
+    SetVariableResponseBody: _decode_SetVariableResponseBody,
+    Source: _decode_Source,
+    SourceArguments: _decode_SourceArguments,
+    SourceBreakpoint: _decode_SourceBreakpoint,
+    SourceRequest: _decode_SourceRequest,
+    SourceResponse: _decode_SourceResponse,
+    SourceResponseBody: _decode_SourceResponseBody,
+    StackFrame: _decode_StackFrame,
+    StackFrameFormat: _decode_StackFrameFormat,
+    StackTraceArguments: _decode_StackTraceArguments,
+    StackTraceRequest: _decode_StackTraceRequest,
+    StackTraceResponse: _decode_StackTraceResponse,
+    StackTraceResponseBody: _decode_StackTraceResponseBody,
+    StartDebuggingRequest: _decode_StartDebuggingRequest,
+    StartDebuggingRequestArguments: _decode_StartDebuggingRequestArguments,
+    StartDebuggingResponse: _decode_StartDebuggingResponse,
+    StepBackArguments: _decode_StepBackArguments,
+    StepBackRequest: _decode_StepBackRequest,
+    StepBackResponse: _decode_StepBackResponse,
+    StepInArguments: _decode_StepInArguments,
+    StepInRequest: _decode_StepInRequest,
+    StepInResponse: _decode_StepInResponse,
+    StepInTarget: _decode_StepInTarget,
+    StepInTargetsArguments: _decode_StepInTargetsArguments,
+    StepInTargetsRequest: _decode_StepInTargetsRequest,
+    StepInTargetsResponse: _decode_StepInTargetsResponse,
+    StepInTargetsResponseBody: _decode_StepInTargetsResponseBody,
+    StepOutArguments: _decode_StepOutArguments,
+    StepOutRequest: _decode_StepOutRequest,
+    StepOutResponse: _decode_StepOutResponse,
+    StoppedEventBody: _decode_StoppedEventBody,
+    TerminateArguments: _decode_TerminateArguments,
+    TerminateRequest: _decode_TerminateRequest,
+    TerminateResponse: _decode_TerminateResponse,
+    TerminateThreadsArguments: _decode_TerminateThreadsArguments,
+    TerminateThreadsRequest: _decode_TerminateThreadsRequest,
+    TerminateThreadsResponse: _decode_TerminateThreadsResponse,
+    TerminatedEventBody: _decode_TerminatedEventBody,
+    Thread: _decode_Thread,
+    ThreadEventBody: _decode_ThreadEventBody,
+    ThreadsRequest: _decode_ThreadsRequest,
+    ThreadsResponse: _decode_ThreadsResponse,
+    ThreadsResponseBody: _decode_ThreadsResponseBody,
+    ValueFormat: _decode_ValueFormat,
+    Variable: _decode_Variable,
+    VariablePresentationHint: _decode_VariablePresentationHint,
+    VariablesArguments: _decode_VariablesArguments,
+    VariablesRequest: _decode_VariablesRequest,
+    VariablesResponse: _decode_VariablesResponse,
+    VariablesResponseBody: _decode_VariablesResponseBody,
+    WriteMemoryArguments: _decode_WriteMemoryArguments,
+    WriteMemoryRequest: _decode_WriteMemoryRequest,
+    WriteMemoryResponse: _decode_WriteMemoryResponse,
+    WriteMemoryResponseBody: _decode_WriteMemoryResponseBody,
+}
@@ -10,8 +10,30 @@ import sys
 from pathlib import Path
 from typing import Any, Optional, TypeVar, Union, get_args, get_origin, get_type_hints
 
+from aidb.dap.lazy import LazyDecodedList
+
 T = TypeVar("T", bound="SerializableMixin")
 
+# Precompiled decoders from protocol/_decoders.py, loaded on first use
+_decoders: dict[type, Any] | None = None
+
+
+def _get_decoders() -> dict[type, Any]:
+    """Get the generated class-to-decoder mapping.
+
+    The generated module imports the protocol classes, which themselves import
+    this module, so it is loaded lazily. An empty mapping (e.g. while the protocol
+    package is being regenerated) leaves every class on the reflective path.
+    """
+    global _decoders
+    if _decoders is None:
+        try:
+            from aidb.dap.protocol._decoders import DECODERS
+        except ImportError:
+            DECODERS = {}  # noqa: N806
+        _decoders = DECODERS
+    return _decoders
+
 
 class SerializableMixin:
     """Mixin providing serialization capabilities for DAP protocol classes.
@@ -24,6 +46,29 @@ class SerializableMixin:
     def from_dict(cls: type[T], data: dict[str, Any]) -> T:
         """Create instance from dictionary with recursive field conversion.
 
+        Parameters
+        ----------
+        data : Dict[str, Any]
+            Dictionary representation of the object
+
+        Returns
+        -------
+        T
+            Instance of the class with fields populated from the dictionary
+        """
+        # Fast path: decoder generated from the resolved hints at codegen time
+        decoder = _get_decoders().get(cls)
+        if decoder is not None:
+            return decoder(data)
+        return cls._from_dict_reflective(data)
+
+    @classmethod
+    def _from_dict_reflective(cls: type[T], data: dict[str, Any]) -> T:
+        """Create instance by resolving type hints at runtime.
+
+        Used for classes without a generated decoder; generated decoders must
+        produce the same result.
+
         Parameters
         ----------
         data : Dict[str, Any]
@@ -394,7 +439,7 @@ class SerializableMixin:
             return value
         if isinstance(value, dict):
             return {k: self._serialize_value(v) for k, v in value.items()}
-        if isinstance(value, list):
+        if isinstance(value, list | LazyDecodedList):
             return [self._serialize_value(item) for item in value]
         # Convert pathlib.Path to string for JSON serialization
         if isinstance(value, Path):
@@ -22,6 +22,7 @@ from .entities import (
     SourceLocation,
     StopReason,
     ThreadState,
+    VariablePage,
     VariableType,
 )
 from .responses import (
@@ -89,5 +90,6 @@ __all__ = [
     "StatusResponse",
     "StopReason",
     "ThreadState",
+    "VariablePage",
     "VariableType",
 ]
@@ -10,7 +10,13 @@ from .memory import DisassembledInstruction, Module
 from .session import ExecutionState, SessionInfo, SessionStatus, StopReason
 from .stack import AidbStackFrame, SourceLocation
 from .thread import AidbThread, ThreadState
-from .variable import AidbVariable, EvaluationResult, ScopeVariables, VariableType
+from .variable import (
+    AidbVariable,
+    EvaluationResult,
+    ScopeVariables,
+    VariablePage,
+    VariableType,
+)
 
 __all__ = [
     # Breakpoint
@@ -36,5 +42,6 @@ __all__ = [
     "AidbVariable",
     "EvaluationResult",
     "ScopeVariables",
+    "VariablePage",
     "VariableType",
 ]
@@ -29,6 +29,8 @@ class AidbVariable:
     has_children: bool = False
     children: dict[str, "AidbVariable"] = field(default_factory=dict)
     id: int | None = None
+    indexed_variables: int | None = None
+    named_variables: int | None = None
 
     def __str__(self) -> str:
         """Return a string representation of the variable."""
@@ -40,7 +42,8 @@ class AidbVariable:
         Returns
         -------
         dict[str, Any]
-            Compact dict with keys: v (value), t (type), varRef (if has children)
+            Compact dict with keys: v (value), t (type), varRef (if has children),
+            indexed (number of indexed children, if reported)
         """
         result: dict[str, Any] = {
             "v": self.value,
@@ -48,6 +51,8 @@ class AidbVariable:
         }
         if self.has_children and self.id:
             result["varRef"] = self.id
+        if self.indexed_variables:
+            result["indexed"] = self.indexed_variables
         return result
 
 
@@ -63,6 +68,9 @@ class EvaluationResult:
     has_children: bool = False
     children: dict[str, AidbVariable] = field(default_factory=dict)
     timestamp: datetime = field(default_factory=datetime.now)
+    variables_reference: int = 0
+    indexed_variables: int | None = None
+    named_variables: int | None = None
 
     @property
     def is_error(self) -> bool:
@@ -77,3 +85,30 @@ class ScopeVariables:
     locals: dict[str, AidbVariable] = field(default_factory=dict)
     globals: dict[str, AidbVariable] = field(default_factory=dict)
     frame_id: int = 0
+
+
+@dataclass(frozen=True)
+class VariablePage:
+    """One page of the children of a variable container."""
+
+    variables: dict[str, AidbVariable] = field(default_factory=dict)
+    variables_reference: int = 0
+    start: int = 0
+    total: int | None = None
+    variable_filter: str | None = None
+
+    @property
+    def next_start(self) -> int:
+        """Index of the first child after this page."""
+        return self.start + len(self.variables)
+
+    @property
+    def has_more(self) -> bool:
+        """Check whether children remain after this page.
+
+        When the adapter did not report a total, a full page is assumed to be
+        followed by more children.
+        """
+        if self.total is not None:
+            return self.next_start < self.total
+        return bool(self.variables)
@@ -6,10 +6,14 @@ The core cross-process port allocation is delegated to
 """
 
 import asyncio
+import atexit
 import contextlib
 import socket
 import threading
 import time
+from collections import deque
+from collections.abc import Callable
+from dataclasses import dataclass, field
 from pathlib import Path
 from typing import TYPE_CHECKING, Optional
 
@@ -17,12 +21,18 @@ import psutil
 
 from aidb.common.constants import (
     DEFAULT_ADAPTER_HOST,
+    PORT_BLOCK_IDLE_S,
+    PORT_BLOCK_RENEW_INTERVAL_S,
     PORT_FALLBACK_RANGE_SIZE,
+    PORT_PROBE_AUTO,
+    PORT_PROBE_PSUTIL,
     SHORT_SLEEP_S,
 )
 from aidb.common.errors import AidbError, ResourceExhaustedError
 from aidb.patterns import Obj
+from aidb_common.config import config
 from aidb_common.network.allocator import CrossProcessPortAllocator
+from aidb_common.network.probe import probe_connect, read_listening_ports
 from aidb_common.patterns import Singleton
 
 if TYPE_CHECKING:
@@ -38,6 +48,11 @@ class PortHandler(Obj):
 
     Provides methods to wait for ports to become available and check if processes are
     listening on specific ports.
+
+    Each poll takes one snapshot of the kernel socket tables, so a port nobody
+    listens on yet costs a single read instead of a scan over every process. psutil
+    is only used once the port is listening: to confirm that the launched process
+    owns it, or to name the owner in debug logs.
     """
 
     def __init__(
@@ -46,6 +61,7 @@ class PortHandler(Obj):
         host: str = DEFAULT_HOST,
         ipv6: bool = False,
         timeout: float = 1.0,
+        probe: str | None = None,
     ) -> None:
         """Initialize a PortHandler instance.
 
@@ -59,11 +75,65 @@ class PortHandler(Obj):
             Whether to use IPv6
         timeout : float
             Socket timeout in seconds
+        probe : str, optional
+            Probe mode (``auto``, ``connect`` or ``psutil``); defaults to
+            ``AIDB_PORT_PROBE``
         """
         super().__init__(ctx)
         self.host = host
         self.ipv6 = ipv6
         self.timeout = timeout
+        self.probe = probe or config.get_port_probe()
+
+    def _listening_ports(self) -> set[int] | None:
+        """Snapshot the listening ports once for a poll iteration.
+
+        Returns
+        -------
+        set[int] | None
+            Listening ports, or None in psutil mode or when the socket tables cannot
+            be read
+        """
+        if self.probe == PORT_PROBE_PSUTIL:
+            return None
+        return read_listening_ports()
+
+    def _check_port_listening(
+        self,
+        port: int,
+        listening: set[int] | None,
+    ) -> bool:
+        """Check whether anything listens on a port we did not launch.
+
+        Parameters
+        ----------
+        port : int
+            The port to check
+        listening : set[int] | None
+            Snapshot from :meth:`_listening_ports`
+
+        Returns
+        -------
+        bool
+            True if the port is listening
+        """
+        if self.probe == PORT_PROBE_PSUTIL:
+            return self._check_all_processes_for_port(port)
+
+        if self.probe == PORT_PROBE_AUTO and listening is not None:
+            is_listening = port in listening
+        else:
+            is_listening = probe_connect(
+                self.host,
+                port,
+                timeout=min(self.timeout, SHORT_SLEEP_S),
+                ipv6=self.ipv6,
+            )
+
+        if is_listening and self.ctx.is_debug_enabled():
+            # Only attribute the owner for the logs; the answer is already known
+            self._check_all_processes_for_port(port)
+        return is_listening
 
     def _check_specific_process_port(
         self,
@@ -269,21 +339,24 @@ class PortHandler(Obj):
             True if port is listening
         """
         self.ctx.debug(f"Checking port {port}... (attempt {attempt})")
+        listening = self._listening_ports()
 
         # Method 1: If we know the specific process, check only its connections
         # This is the strict check - only our process should be listening
         if proc and proc.returncode is None:
-            if self._check_specific_process_port(proc, port):
-                return True
-            # Fallback for detached adapters (e.g., debugpy spawns adapter
-            # with PPID=1, not as child of the launched process)
-            if detached_process_names and self._check_named_processes_for_port(
-                port,
-                detached_process_names,
-            ):
-                return True
-        elif not proc and self._check_all_processes_for_port(port):
-            # Method 2: No specific process - check all processes for the port
+            # Nobody listening yet means the per-process scans can be skipped
+            if listening is None or port in listening:
+                if self._check_specific_process_port(proc, port):
+                    return True
+                # Fallback for detached adapters (e.g., debugpy spawns adapter
+                # with PPID=1, not as child of the launched process)
+                if detached_process_names and self._check_named_processes_for_port(
+                    port,
+                    detached_process_names,
+                ):
+                    return True
+        elif not proc and self._check_port_listening(port, listening):
+            # Method 2: No specific process - any listener counts
             # This is used for attach mode where we don't launch the process
             self.ctx.debug(f"Port {port} is LISTENING (open)")
             return True
@@ -350,6 +423,50 @@ class PortHandler(Obj):
         )
 
 
+@dataclass
+class _PortBlock:
+    """Contiguous ports leased from the cross-process allocator."""
+
+    start: int
+    size: int
+    free: deque[int] = field(default_factory=deque)
+    in_use: set[int] = field(default_factory=set)
+    idle_since: float = field(default_factory=time.monotonic)
+
+    def __post_init__(self) -> None:
+        if not self.free:
+            self.free.extend(range(self.start, self.start + self.size))
+
+    def take(self, reserve: Callable[[int], bool]) -> int | None:
+        """Hand out the first free port that can actually be reserved.
+
+        Ports are verified only here, when handed out; ports held by an unrelated
+        process move to the back of the queue.
+        """
+        for _ in range(len(self.free)):
+            port = self.free.popleft()
+            if reserve(port):
+                self.in_use.add(port)
+                return port
+            self.free.append(port)
+        return None
+
+    def give_back(self, port: int) -> None:
+        """Return a port; it is reused last, after any TIME_WAIT has passed."""
+        self.in_use.discard(port)
+        self.free.append(port)
+        if not self.in_use:
+            self.idle_since = time.monotonic()
+
+
+@dataclass
+class _PortShard:
+    """Blocks leased for one port range, with their own lock."""
+
+    lock: threading.Lock = field(default_factory=threading.Lock)
+    blocks: list[_PortBlock] = field(default_factory=list)
+
+
 class PortRegistry(Singleton["PortRegistry"], Obj):
     """Session-level port tracking with cross-process coordination.
 
@@ -358,8 +475,12 @@ class PortRegistry(Singleton["PortRegistry"], Obj):
     - Session-to-port mappings for cleanup on session termination
     - Socket reservation to prevent race conditions during adapter startup
 
-    The actual port allocation is delegated to CrossProcessPortAllocator
-    in aidb_common.network.allocator.
+    Ports are leased from CrossProcessPortAllocator (in
+    aidb_common.network.allocator) in blocks of ``AIDB_PORT_BLOCK_SIZE``. Each
+    adapter port range is a shard with its own lock and blocks, so concurrent
+    sessions only touch the cross-process registry when a shard runs out of
+    ports. A background thread renews the block leases and returns blocks that
+    stayed unused (see :meth:`cleanup_stale_allocations`).
     """
 
     _current_session_id: str | None
@@ -397,6 +518,12 @@ class PortRegistry(Singleton["PortRegistry"], Obj):
         self._reserved_sockets: dict[int, socket.socket] = {}
         self._current_session_id = session_id
 
+        # Leased port blocks, one shard per (range start, range size)
+        self._block_size = config.get_port_block_size()
+        self._shards: dict[tuple[int, int], _PortShard] = {}
+        self._block_ports: dict[int, tuple[_PortShard, _PortBlock]] = {}
+        self._reclaimer: threading.Thread | None = None
+
         # Delegate to cross-process allocator
         # Use ctx storage path if available for consistency
         registry_dir = Path(self.ctx.get_storage_path("ports", "")).parent
@@ -414,8 +541,11 @@ class PortRegistry(Singleton["PortRegistry"], Obj):
     ) -> int:
         """Acquire a port with complete safety.
 
-        Uses CrossProcessPortAllocator for atomic allocation, then reserves
-        a socket to prevent race conditions during adapter startup.
+        Without a preferred port, the port comes from a block leased for the
+        adapter's fallback range (see class docstring). A preferred port is
+        allocated individually through CrossProcessPortAllocator. Either way a
+        socket is reserved on it to prevent race conditions during adapter
+        startup.
 
         Parameters
         ----------
@@ -426,7 +556,8 @@ class PortRegistry(Singleton["PortRegistry"], Obj):
         preferred : int, optional
             Preferred port to try first
         default_port : int, optional
-            Default port for the adapter (e.g., 5678 for Python)
+            Default port for the adapter (e.g., 5678 for Python); tried first
+            when ports are not leased in blocks
         fallback_ranges : List[int], optional
             List of port range start points to try
 
@@ -451,54 +582,32 @@ class PortRegistry(Singleton["PortRegistry"], Obj):
             raise ValueError(msg)
 
         # Build candidate range for allocator
-        # Start with default port, then fallback ranges
         range_start = fallback_ranges[0] if fallback_ranges else default_port
         total_range_size = len(fallback_ranges) * PORT_FALLBACK_RANGE_SIZE
 
         max_retries = 10  # Limit retries to prevent infinite loop
-        with self.lock:
-            for attempt in range(max_retries):
-                try:
-                    # Delegate to cross-process allocator
-                    port = self._allocator.allocate(
-                        preferred=preferred or default_port,
-                        range_start=range_start,
-                        range_size=total_range_size,
-                    )
-
-                    # Reserve socket to prevent race conditions
-                    # If reservation fails, release port and try next one
-                    if not self._reserve_socket(port):
-                        self.ctx.debug(
-                            f"Port {port} reservation failed (attempt {attempt + 1}), "
-                            "releasing and retrying",
-                        )
-                        self._allocator.release(port)
-                        continue
-
-                    # Track session ownership
-                    if sid not in self._session_ports:
-                        self._session_ports[sid] = set()
-                    self._session_ports[sid].add(port)
-                    self._port_to_session[port] = sid
-
-                    self.ctx.debug(
-                        f"Acquired port {port} for {language} session {sid[:8]}",
-                    )
-                    return port
+        try:
+            if preferred is None and self._block_size > 1:
+                port = self._acquire_from_block(range_start, total_range_size)
+            else:
+                port = self._acquire_single(
+                    preferred or default_port,
+                    range_start,
+                    total_range_size,
+                    max_retries,
+                )
+        except RuntimeError as e:
+            raise ResourceExhaustedError(
+                str(e),
+                resource_type="port",
+                details={
+                    "language": language,
+                    "attempted_ranges": fallback_ranges,
+                    "session_id": sid,
+                },
+            ) from e
 
-                except RuntimeError as e:
-                    raise ResourceExhaustedError(
-                        str(e),
-                        resource_type="port",
-                        details={
-                            "language": language,
-                            "attempted_ranges": fallback_ranges,
-                            "session_id": sid,
-                        },
-                    ) from e
-
-            # If we exhausted retries
+        if port is None:
             msg = f"Failed to acquire port after {max_retries} attempts"
             raise ResourceExhaustedError(
                 msg,
@@ -510,6 +619,140 @@ class PortRegistry(Singleton["PortRegistry"], Obj):
                 },
             )
 
+        # Track session ownership
+        with self.lock:
+            self._session_ports.setdefault(sid, set()).add(port)
+            self._port_to_session[port] = sid
+
+        self.ctx.debug(f"Acquired port {port} for {language} session {sid[:8]}")
+        return port
+
+    def _acquire_single(
+        self,
+        preferred: int,
+        range_start: int,
+        range_size: int,
+        max_retries: int,
+    ) -> int | None:
+        """Allocate one port through the cross-process registry.
+
+        Parameters
+        ----------
+        preferred : int
+            Port to try first
+        range_start : int
+            Start of the fallback range
+        range_size : int
+            Number of ports in the fallback range
+        max_retries : int
+            Allocations to try before giving up
+
+        Returns
+        -------
+        int | None
+            Reserved port, or None if every attempt failed to reserve
+
+        Raises
+        ------
+        RuntimeError
+            If the allocator has no port left in the range
+        """
+        with self.lock:
+            for attempt in range(max_retries):
+                port = self._allocator.allocate(
+                    preferred=preferred,
+                    range_start=range_start,
+                    range_size=range_size,
+                )
+
+                # Reserve socket to prevent race conditions
+                # If reservation fails, release port and try next one
+                if self._reserve_socket(port):
+                    return port
+                self.ctx.debug(
+                    f"Port {port} reservation failed (attempt {attempt + 1}), "
+                    "releasing and retrying",
+                )
+                self._allocator.release(port)
+        return None
+
+    def _acquire_from_block(self, range_start: int, range_size: int) -> int:
+        """Take a port from the range's shard, leasing a new block if needed.
+
+        Parameters
+        ----------
+        range_start : int
+            Start of the port range
+        range_size : int
+            Number of ports in the range
+
+        Returns
+        -------
+        int
+            Reserved port
+
+        Raises
+        ------
+        RuntimeError
+            If the allocator has no free block left in the range
+        """
+        with self.lock:
+            shard = self._shards.setdefault((range_start, range_size), _PortShard())
+
+        with shard.lock:
+            while True:
+                for block in shard.blocks:
+                    port = block.take(self._reserve_socket)
+                    if port is not None:
+                        with self.lock:
+                            self._block_ports[port] = (shard, block)
+                        return port
+
+                start = self._allocator.allocate_block(
+                    range_start=range_start,
+                    range_size=range_size,
+                    block_size=self._block_size,
+                )
+                size = min(self._block_size, range_size)
+                shard.blocks.append(_PortBlock(start=start, size=size))
+                self._start_reclaimer()
+                self.ctx.debug(
+                    f"Leased port block {start}-{start + size - 1} "
+                    f"for range {range_start}",
+                )
+
+    def _start_reclaimer(self) -> None:
+        """Start renewing and reclaiming leased blocks in the background."""
+        if self._reclaimer is not None:
+            return
+
+        def _run() -> None:
+            while True:
+                time.sleep(PORT_BLOCK_RENEW_INTERVAL_S)
+                try:
+                    self.cleanup_stale_allocations()
+                except Exception as e:
+                    self.ctx.debug(f"Port block reclamation failed: {e}")
+
+        self._reclaimer = threading.Thread(
+            target=_run,
+            daemon=True,
+            name="PortBlockReclaimer",
+        )
+        self._reclaimer.start()
+        atexit.register(self._release_blocks)
+
+    def _release_blocks(self) -> None:
+        """Return every leased block to the allocator at interpreter exit."""
+        with self.lock:
+            shards = list(self._shards.values())
+        for shard in shards:
+            with shard.lock:
+                blocks, shard.blocks = shard.blocks, []
+            for block in blocks:
+                with contextlib.suppress(Exception):
+                    self._allocator.release(block.start)
+
     def _reserve_socket(self, port: int) -> bool:
         """Reserve a socket on the port to prevent races.
 
@@ -598,11 +841,18 @@ class PortRegistry(Singleton["PortRegistry"], Obj):
                 if not self._session_ports[owner_session]:
                     del self._session_ports[owner_session]
 
-            # Release from cross-process allocator
+            owner_block = self._block_ports.pop(port, None)
+
+        # Return the port to its block, or its own lease to the allocator
+        if owner_block:
+            shard, block = owner_block
+            with shard.lock:
+                block.give_back(port)
+        else:
             self._allocator.release(port)
 
-            self.ctx.debug(f"Successfully released port {port}")
-            return True
+        self.ctx.debug(f"Successfully released port {port}")
+        return True
 
     def get_port_count(self, session_id: str | None = None) -> int:
         """Get the number of ports allocated to a session.
@@ -665,16 +915,40 @@ class PortRegistry(Singleton["PortRegistry"], Obj):
         return released
 
     def cleanup_stale_allocations(self) -> int:
-        """Clean up stale port allocations from crashed processes.
+        """Renew leased port blocks and reclaim the ones left unused.
 
-        This is delegated to the CrossProcessPortAllocator which handles
-        stale lease cleanup automatically on each allocation.
+        Blocks with no port handed out for ``PORT_BLOCK_IDLE_S`` are returned to
+        the CrossProcessPortAllocator; the leases of the others are renewed so
+        they outlive the allocator's lease timeout. Leases of crashed processes
+        are cleaned up by the allocator itself on each allocation. Runs
+        periodically on a background thread once a block has been leased.
 
         Returns
         -------
         int
-            Number of stale allocations cleaned up (always 0, cleanup is automatic)
+            Number of blocks returned to the allocator
         """
-        # Cleanup is now automatic in CrossProcessPortAllocator._cleanup_stale()
-        # This method is kept for backward compatibility
-        return 0
+        now = time.monotonic()
+        reclaimed: list[int] = []
+        renewed: list[int] = []
+
+        with self.lock:
+            shards = list(self._shards.values())
+        for shard in shards:
+            with shard.lock:
+                kept = []
+                for block in shard.blocks:
+                    if not block.in_use and now - block.idle_since > PORT_BLOCK_IDLE_S:
+                        reclaimed.append(block.start)
+                    else:
+                        kept.append(block)
+                        renewed.append(block.start)
+                shard.blocks = kept
+
+        for start in reclaimed:
+            self._allocator.release(start)
+        self._allocator.renew(renewed)
+
+        if reclaimed:
+            self.ctx.debug(f"Reclaimed {len(reclaimed)} idle port blocks")
+        return len(reclaimed)
@@ -1,7 +1,9 @@
 """Breakpoint management service operations."""
 
-from typing import TYPE_CHECKING
+from pathlib import Path
+from typing import TYPE_CHECKING, cast
 
+from aidb.common.line_index import get_source_line_index
 from aidb.dap.protocol.bodies import (
     DataBreakpointInfoArguments,
     SetBreakpointsArguments,
@@ -24,6 +26,7 @@ from aidb.dap.protocol.responses import (
 )
 from aidb.dap.protocol.types import Source, SourceBreakpoint
 from aidb.models import (
+    AidbBreakpoint,
     AidbBreakpointsResponse,
     AidbDataBreakpointInfoResponse,
     AidbDataBreakpointsResponse,
@@ -35,6 +38,12 @@ from aidb_common.discovery.adapters import (
     get_supported_hit_conditions,
     supports_hit_condition,
 )
+from aidb_common.metrics import (
+    BREAKPOINT_BATCH_DURATION,
+    OUTCOME_FAILED,
+    OUTCOME_OK,
+    get_metrics_registry,
+)
 from aidb_common.path import normalize_path
 
 from ..base import BaseServiceComponent
@@ -93,14 +102,11 @@ class BreakpointService(BaseServiceComponent):
             return requested_lines
 
         try:
-            from pathlib import Path
-
             file_path = Path(source_path)
             if not (file_path.exists() and file_path.is_file()):
                 return requested_lines
 
-            with file_path.open(encoding="utf-8", errors="ignore") as f:  # noqa: ASYNC230
-                line_count = sum(1 for _ in f)
+            line_count = get_source_line_index().line_count(file_path)
 
             for idx, bp in enumerate(request.arguments.breakpoints):
                 if bp.line < 1 or bp.line > line_count:
@@ -114,65 +120,71 @@ class BreakpointService(BaseServiceComponent):
 
         return requested_lines
 
-    async def set(  # noqa: C901
-        self,
-        request: SetBreakpointsRequest,
-    ) -> AidbBreakpointsResponse:
-        """Set breakpoints using DAP protocol request.
+    def _check_hit_conditions(self, request: SetBreakpointsRequest) -> None:
+        """Reject hit conditions the adapter does not support.
 
         Parameters
         ----------
         request : SetBreakpointsRequest
-            DAP request containing source file and breakpoint specifications
-
-        Returns
-        -------
-        AidbBreakpointsResponse
-            Response containing successfully set breakpoints
+            DAP request containing breakpoints to check
 
         Raises
         ------
         ValueError
             If a hit condition is not supported by the adapter
         """
-        # Validate hit conditions if adapter config is available
-        if hasattr(self.session, "adapter_config") and request.arguments:
-            config = self.session.adapter_config
-            if request.arguments.breakpoints:
-                for bp in request.arguments.breakpoints:
-                    if bp.hitCondition and not config.supports_hit_condition(
-                        bp.hitCondition,
-                    ):
-                        try:
-                            mode, _ = HitConditionMode.parse(bp.hitCondition)
-                            supported = [
-                                m.name for m in config.supported_hit_conditions
-                            ]
-                            msg = (
-                                f"Hit condition '{bp.hitCondition}' "
-                                f"(mode: {mode.name}) not supported by "
-                                f"{config.language} adapter. "
-                                f"Supported modes: {', '.join(supported)}"
-                            )
-                            raise ValueError(msg)
-                        except ValueError as e:
-                            if "Invalid hit condition format" in str(e):
-                                msg = (
-                                    f"Invalid hit condition format: "
-                                    f"'{bp.hitCondition}'. "
-                                    f"Valid formats: '5', '%5', '>5', '>=5', '<5', "
-                                    f"'<=5', '==5'"
-                                )
-                                raise ValueError(msg) from e
-                            raise
-
-        requested_lines = self._validate_breakpoint_lines(request)
+        if not (hasattr(self.session, "adapter_config") and request.arguments):
+            return
+        config = self.session.adapter_config
+        if not request.arguments.breakpoints:
+            return
+        for bp in request.arguments.breakpoints:
+            if bp.hitCondition and not config.supports_hit_condition(
+                bp.hitCondition,
+            ):
+                try:
+                    mode, _ = HitConditionMode.parse(bp.hitCondition)
+                    supported = [m.name for m in config.supported_hit_conditions]
+                    msg = (
+                        f"Hit condition '{bp.hitCondition}' "
+                        f"(mode: {mode.name}) not supported by "
+                        f"{config.language} adapter. "
+                        f"Supported modes: {', '.join(supported)}"
+                    )
+                    raise ValueError(msg)
+                except ValueError as e:
+                    if "Invalid hit condition format" in str(e):
+                        msg = (
+                            f"Invalid hit condition format: "
+                            f"'{bp.hitCondition}'. "
+                            f"Valid formats: '5', '%5', '>5', '>=5', '<5', "
+                            f"'<=5', '==5'"
+                        )
+                        raise ValueError(msg) from e
+                    raise
+
+    def _map_set_response(
+        self,
+        request: SetBreakpointsRequest,
+        breakpoints_response: SetBreakpointsResponse,
+        requested_lines: dict[int, int],
+    ) -> AidbBreakpointsResponse:
+        """Convert a successful SetBreakpoints response.
 
-        breakpoints_response = await self._send_and_ensure(
-            request,
-            SetBreakpointsResponse,
-        )
+        Parameters
+        ----------
+        request : SetBreakpointsRequest
+            The request the response answers
+        breakpoints_response : SetBreakpointsResponse
+            Response from the adapter
+        requested_lines : dict[int, int]
+            Out-of-range lines by breakpoint index, from line validation
 
+        Returns
+        -------
+        AidbBreakpointsResponse
+            Response containing the breakpoints set
+        """
         # Fix debugpy quirk: mark invalid breakpoints as unverified
         if (
             requested_lines
@@ -195,14 +207,47 @@ class BreakpointService(BaseServiceComponent):
                         f"Breakpoint at line {line} could not be verified: {msg}",
                     )
 
-        mapped = AidbBreakpointsResponse.from_dap(breakpoints_response, request)
+        return AidbBreakpointsResponse.from_dap(breakpoints_response, request)
 
-        # Update session-scoped breakpoint store
-        source_path = (
-            request.arguments.source.path
-            if request.arguments and request.arguments.source
-            else None
+    @staticmethod
+    def _request_source_path(request: SetBreakpointsRequest) -> str | None:
+        if request.arguments and request.arguments.source:
+            return request.arguments.source.path
+        return None
+
+    async def set(
+        self,
+        request: SetBreakpointsRequest,
+    ) -> AidbBreakpointsResponse:
+        """Set breakpoints using DAP protocol request.
+
+        Parameters
+        ----------
+        request : SetBreakpointsRequest
+            DAP request containing source file and breakpoint specifications
+
+        Returns
+        -------
+        AidbBreakpointsResponse
+            Response containing successfully set breakpoints
+
+        Raises
+        ------
+        ValueError
+            If a hit condition is not supported by the adapter
+        """
+        self._check_hit_conditions(request)
+        requested_lines = self._validate_breakpoint_lines(request)
+
+        breakpoints_response = await self._send_and_ensure(
+            request,
+            SetBreakpointsResponse,
         )
+
+        mapped = self._map_set_response(request, breakpoints_response, requested_lines)
+
+        # Update session-scoped breakpoint store
+        source_path = self._request_source_path(request)
         try:
             breakpoint_list = list(mapped.breakpoints.values())
             if source_path:
@@ -215,6 +260,81 @@ class BreakpointService(BaseServiceComponent):
 
         return mapped
 
+    async def set_many(
+        self,
+        requests: list[SetBreakpointsRequest],
+    ) -> list[AidbBreakpointsResponse]:
+        """Set breakpoints in several source files with one concurrent batch.
+
+        All requests are sent back to back and their responses awaited together,
+        so the batch costs about one round trip instead of one per file. The
+        breakpoint store is updated for all successful files at once.
+
+        Parameters
+        ----------
+        requests : list[SetBreakpointsRequest]
+            One DAP request per source file
+
+        Returns
+        -------
+        list[AidbBreakpointsResponse]
+            Response for each request, in request order
+
+        Raises
+        ------
+        ValueError
+            If a hit condition is not supported by the adapter; nothing is sent
+        AidbError
+            If a request failed; breakpoints of the other files are still set
+        """
+        for request in requests:
+            self._check_hit_conditions(request)
+        requested_lines = [self._validate_breakpoint_lines(r) for r in requests]
+
+        results: list[AidbBreakpointsResponse] = []
+        updates: dict[str, list[AidbBreakpoint]] = {}
+        error: BaseException | None = None
+        with get_metrics_registry().timer(
+            BREAKPOINT_BATCH_DURATION,
+            origin="service",
+        ) as labels:
+            responses = await self.session.dap.send_requests(requests)
+            for request, response, lines in zip(
+                requests,
+                responses,
+                requested_lines,
+                strict=True,
+            ):
+                try:
+                    if isinstance(response, BaseException):
+                        raise response
+                    response.ensure_success()
+                except Exception as e:
+                    error = error or e
+                    continue
+                mapped = self._map_set_response(
+                    request,
+                    cast("SetBreakpointsResponse", response),
+                    lines,
+                )
+                results.append(mapped)
+                source_path = self._request_source_path(request)
+                if source_path:
+                    updates[source_path] = list(mapped.breakpoints.values())
+
+            try:
+                await self.session._update_breakpoints_from_responses(updates)
+            except Exception as e:
+                self.ctx.error(
+                    f"Failed to update breakpoint store: {e}",
+                    exc_info=True,
+                )
+            labels["outcome"] = OUTCOME_FAILED if error else OUTCOME_OK
+
+        if error is not None:
+            raise error
+        return results
+
     async def clear(
         self,
         source_path: str | None = None,
@@ -241,14 +361,25 @@ class BreakpointService(BaseServiceComponent):
                     if bp.source_path:
                         source_files.add(bp.source_path)
 
-            for source_file in source_files:
-                source = Source(path=source_file)
-                args = SetBreakpointsArguments(source=source, breakpoints=[])
-                request = SetBreakpointsRequest(seq=0, arguments=args)
-                await self._send_and_ensure(request, SetBreakpointsResponse)
+            if source_files:
+                # One batch for all files instead of a round trip per file
+                await self.set_many(
+                    [
+                        SetBreakpointsRequest(
+                            seq=0,
+                            arguments=SetBreakpointsArguments(
+                                source=Source(path=source_file),
+                                breakpoints=[],
+                            ),
+                        )
+                        for source_file in sorted(source_files)
+                    ],
+                )
 
             if hasattr(self.session, "_breakpoint_store"):
                 self.session._breakpoint_store.clear()
+            if hasattr(self.session, "_pending_breakpoints"):
+                self.session._pending_breakpoints.clear()
 
             return AidbBreakpointsResponse()
 
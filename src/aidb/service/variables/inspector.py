@@ -4,11 +4,15 @@ from typing import TYPE_CHECKING
 
 from aidb.common.capabilities import DAPCapability, OperationName
 from aidb.common.constants import (
+    DEFAULT_VARIABLE_PAGE_SIZE,
     EVALUATION_CONTEXT_WATCH,
+    MAX_VARIABLE_PAGE_SIZE,
     SCOPE_GLOBAL,
     SCOPE_GLOBALS,
     SCOPE_LOCAL,
     SCOPE_LOCALS,
+    VARIABLE_FILTER_INDEXED,
+    VARIABLE_FILTER_NAMED,
 )
 from aidb.common.errors import AidbError
 from aidb.dap.protocol.bodies import (
@@ -32,11 +36,12 @@ from aidb.dap.protocol.responses import (
     SetVariableResponse,
     VariablesResponse,
 )
-from aidb.dap.protocol.types import Scope, ValueFormat
+from aidb.dap.protocol.types import Scope, ValueFormat, Variable
 from aidb.models import (
     AidbVariable,
     AidbVariablesResponse,
     EvaluationResult,
+    VariablePage,
     VariableType,
 )
 from aidb.service.decorators import requires_capability
@@ -112,6 +117,9 @@ class VariableService(BaseServiceComponent):
                     evaluate_response.body.type or "",
                 ),
                 has_children=(evaluate_response.body.variablesReference or 0) > 0,
+                variables_reference=evaluate_response.body.variablesReference or 0,
+                indexed_variables=evaluate_response.body.indexedVariables,
+                named_variables=evaluate_response.body.namedVariables,
             )
         msg = f"Failed to evaluate expression: {expression}"
         raise AidbError(msg)
@@ -186,15 +194,7 @@ class VariableService(BaseServiceComponent):
 
             if variables_response.body and variables_response.body.variables:
                 for var in variables_response.body.variables:
-                    aidb_var = AidbVariable(
-                        name=var.name,
-                        value=var.value or "",
-                        type_name=var.type or "unknown",
-                        var_type=self._determine_variable_type(var.type or ""),
-                        has_children=(var.variablesReference or 0) > 0,
-                        id=var.variablesReference or 0,
-                    )
-                    all_variables_dict[var.name] = aidb_var
+                    all_variables_dict[var.name] = self._to_aidb_variable(var)
 
         return AidbVariablesResponse(variables=all_variables_dict, success=True)
 
@@ -254,6 +254,9 @@ class VariableService(BaseServiceComponent):
                     evaluate_response.body.type or "",
                 ),
                 has_children=(evaluate_response.body.variablesReference or 0) > 0,
+                variables_reference=evaluate_response.body.variablesReference or 0,
+                indexed_variables=evaluate_response.body.indexedVariables,
+                named_variables=evaluate_response.body.namedVariables,
             )
         msg = f"Failed to evaluate expression: {expression}"
         raise AidbError(msg)
@@ -474,55 +477,189 @@ class VariableService(BaseServiceComponent):
             has_children=False,
         )
 
-    async def get_variables(self, variables_reference: int) -> dict:
+    async def get_variables(
+        self,
+        variables_reference: int,
+        start: int | None = None,
+        count: int | None = None,
+        variable_filter: str | None = None,
+    ) -> dict:
         """Get variables for a given reference.
 
         Parameters
         ----------
         variables_reference : int
             Reference to the variable container
+        start : int, optional
+            Index of the first child to fetch (requires adapter paging support)
+        count : int, optional
+            Number of children to fetch; all if omitted or 0
+        variable_filter : str, optional
+            ``"indexed"`` or ``"named"`` to fetch only that kind of children
 
         Returns
         -------
         dict
             Dictionary of variables with their details
         """
-        request = VariablesRequest(
-            seq=0,
-            arguments=VariablesArguments(variablesReference=variables_reference),
+        variables = await self._fetch_variables(
+            variables_reference,
+            start=start,
+            count=count,
+            variable_filter=variable_filter,
         )
+        return {var.name: self._to_aidb_variable(var) for var in variables}
 
-        variables_response = await self._send_and_ensure(request, VariablesResponse)
-
-        variables_dict = {}
-        if variables_response.body and variables_response.body.variables:
-            for var in variables_response.body.variables:
-                aidb_var = AidbVariable(
-                    name=var.name,
-                    value=var.value or "",
-                    type_name=var.type or "unknown",
-                    var_type=self._determine_variable_type(var.type or ""),
-                    has_children=(var.variablesReference or 0) > 0,
-                    id=var.variablesReference or 0,
-                )
-                variables_dict[var.name] = aidb_var
-
-        return variables_dict
-
-    async def get_child_variables(self, variables_reference: int) -> dict:
+    async def get_child_variables(
+        self,
+        variables_reference: int,
+        start: int | None = None,
+        count: int | None = None,
+        variable_filter: str | None = None,
+    ) -> dict:
         """Get child variables for a given variable reference.
 
         Parameters
         ----------
         variables_reference : int
             Reference to the parent variable
+        start : int, optional
+            Index of the first child to fetch (requires adapter paging support)
+        count : int, optional
+            Number of children to fetch; all if omitted or 0
+        variable_filter : str, optional
+            ``"indexed"`` or ``"named"`` to fetch only that kind of children
 
         Returns
         -------
         dict
             Dictionary of child variables
         """
-        return await self.get_variables(variables_reference)
+        return await self.get_variables(
+            variables_reference,
+            start=start,
+            count=count,
+            variable_filter=variable_filter,
+        )
+
+    async def get_variables_page(
+        self,
+        variables_reference: int,
+        start: int = 0,
+        count: int = DEFAULT_VARIABLE_PAGE_SIZE,
+        variable_filter: str | None = None,
+        indexed_variables: int | None = None,
+        named_variables: int | None = None,
+    ) -> VariablePage:
+        """Get one bounded page of the children of a variable container.
+
+        The adapter pages the children itself when it advertises
+        ``supportsVariablePaging`` or reported ``indexedVariables`` for the parent
+        (java-debug does so for arrays). Otherwise all children are fetched once
+        and only the requested slice is converted; large responses are decoded
+        lazily, so the cost stays proportional to the page.
+
+        Parameters
+        ----------
+        variables_reference : int
+            Reference to the parent variable
+        start : int
+            Index of the first child
+        count : int
+            Page size, capped at ``MAX_VARIABLE_PAGE_SIZE``
+        variable_filter : str, optional
+            ``"indexed"`` or ``"named"``; defaults to ``"indexed"`` when the parent
+            reports indexed children
+        indexed_variables : int, optional
+            Number of indexed children reported for the parent
+        named_variables : int, optional
+            Number of named children reported for the parent
+
+        Returns
+        -------
+        VariablePage
+            The page, with the total number of children when it is known
+        """
+        start = max(0, start)
+        count = max(1, min(count, MAX_VARIABLE_PAGE_SIZE))
+        if variable_filter is None and indexed_variables:
+            variable_filter = VARIABLE_FILTER_INDEXED
+
+        totals = {
+            VARIABLE_FILTER_INDEXED: indexed_variables,
+            VARIABLE_FILTER_NAMED: named_variables,
+        }
+        server_paging = self.session.has_capability(DAPCapability.VARIABLE_PAGING) or (
+            variable_filter == VARIABLE_FILTER_INDEXED and indexed_variables is not None
+        )
+
+        if server_paging:
+            page = await self._fetch_variables(
+                variables_reference,
+                start=start,
+                count=count,
+                variable_filter=variable_filter,
+            )
+            total = totals.get(variable_filter) if variable_filter else None
+            if total is None and len(page) < count:
+                # A short page is the last one
+                total = start + len(page)
+        else:
+            children = await self._fetch_variables(
+                variables_reference,
+                variable_filter=variable_filter,
+            )
+            page = children[start : start + count]
+            total = len(children)
+
+        self.ctx.debug(
+            f"Variables page ref={variables_reference} start={start} "
+            f"size={len(page)} total={total} server_paging={server_paging}",
+        )
+        return VariablePage(
+            variables={var.name: self._to_aidb_variable(var) for var in page},
+            variables_reference=variables_reference,
+            start=start,
+            total=total,
+            variable_filter=variable_filter,
+        )
+
+    async def _fetch_variables(
+        self,
+        variables_reference: int,
+        start: int | None = None,
+        count: int | None = None,
+        variable_filter: str | None = None,
+    ) -> list[Variable]:
+        """Send a variables request and return the (possibly lazy) child list."""
+        request = VariablesRequest(
+            seq=0,
+            arguments=VariablesArguments(
+                variablesReference=variables_reference,
+                start=start,
+                count=count,
+                filter=variable_filter,
+            ),
+        )
+
+        variables_response = await self._send_and_ensure(request, VariablesResponse)
+
+        if variables_response.body and variables_response.body.variables:
+            return variables_response.body.variables
+        return []
+
+    def _to_aidb_variable(self, var: Variable) -> AidbVariable:
+        """Convert a DAP variable to an AidbVariable."""
+        return AidbVariable(
+            name=var.name,
+            value=var.value or "",
+            type_name=var.type or "unknown",
+            var_type=self._determine_variable_type(var.type or ""),
+            has_children=(var.variablesReference or 0) > 0,
+            id=var.variablesReference or 0,
+            indexed_variables=var.indexedVariables,
+            named_variables=var.namedVariables,
+        )
 
     def _determine_variable_type(self, type_name: str) -> VariableType:
         """Determine the VariableType from a type name string."""
@@ -2,11 +2,11 @@
 
 import inspect
 import logging
-from pathlib import Path
 from typing import TYPE_CHECKING, Any, Optional, cast
 
 from aidb.common.constants import BREAKPOINT_VALIDATION_DISABLE_MSG
 from aidb.common.errors import AidbError
+from aidb.common.line_index import get_source_line_index
 from aidb.dap.protocol.bodies import SetBreakpointsArguments
 from aidb.dap.protocol.requests import SetBreakpointsRequest
 from aidb.dap.protocol.types import Source, SourceBreakpoint
@@ -68,16 +68,16 @@ def validate_breakpoint_line(
         (is_valid, reason)
     """
     try:
-        with Path(file_path).open() as f:
-            lines = f.readlines()
+        index = get_source_line_index()
+        line_count = index.line_count(file_path)
 
-        if line_num < 1 or line_num > len(lines):
+        if line_num < 1 or line_num > line_count:
             return False, (
-                f"Line {line_num} is out of range (file has {len(lines)} lines). "
+                f"Line {line_num} is out of range (file has {line_count} lines). "
                 f"{BREAKPOINT_VALIDATION_DISABLE_MSG}"
             )
 
-        line_content = lines[line_num - 1]
+        line_content = index.lines(file_path, line_num, line_num, errors="replace")[0]
         stripped = line_content.strip()
 
         # Universal check: blank lines
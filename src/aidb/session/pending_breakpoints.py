@@ -0,0 +1,162 @@
+"""Index of breakpoints still waiting to be verified.
+
+Adapters report every loaded source or class (a JVM running a Spring Boot application
+loads thousands), but only a load of a file holding unverified breakpoints can make a
+rebind useful. This index maps source paths and class names to the unverified
+breakpoints of each source, so a load event is checked in constant time and dropped
+unless it concerns such a file.
+"""
+
+from pathlib import PurePath
+
+from aidb.models import AidbBreakpoint
+from aidb_common.path import normalize_path
+
+# Suffixes of source file names, as opposed to package-qualified class names
+_SOURCE_SUFFIXES = (
+    ".java",
+    ".kt",
+    ".scala",
+    ".groovy",
+    ".class",
+    ".py",
+    ".js",
+    ".mjs",
+    ".cjs",
+    ".ts",
+)
+
+
+def class_key(name: str) -> str:
+    """Get the top-level class name a source path, file name or class name refers to.
+
+    Parameters
+    ----------
+    name : str
+        Source path (``/src/com/example/Foo.java``), file name (``Foo.java``) or
+        class name (``com.example.Foo$Inner``)
+
+    Returns
+    -------
+    str
+        Simple name of the top-level class, e.g. ``Foo``
+    """
+    if "/" in name or "\\" in name or name.endswith(_SOURCE_SUFFIXES):
+        simple = PurePath(name.replace("\\", "/")).stem
+    else:
+        simple = name.rsplit(".", 1)[-1]
+    return simple.split("$", 1)[0]
+
+
+class PendingBreakpointIndex:
+    """Unverified breakpoints by source path and by class name.
+
+    Not thread-safe; updated from the event loop together with the breakpoint store.
+    """
+
+    def __init__(self) -> None:
+        self._by_source: dict[str, set[int]] = {}
+        self._sources_by_class: dict[str, set[str]] = {}
+        self._source_paths: dict[str, str] = {}
+
+    def __len__(self) -> int:
+        return sum(len(ids) for ids in self._by_source.values())
+
+    def set_source(
+        self,
+        source_path: str,
+        breakpoints: list[AidbBreakpoint],
+    ) -> None:
+        """Replace the pending breakpoints of a source by its unverified ones.
+
+        Parameters
+        ----------
+        source_path : str
+            Path to the source file
+        breakpoints : list[AidbBreakpoint]
+            All breakpoints now set in the source
+        """
+        self.clear_source(source_path)
+        for bp in breakpoints:
+            if not bp.verified:
+                self._add(source_path, bp.id)
+
+    def clear(self) -> None:
+        """Forget every pending breakpoint."""
+        self._by_source.clear()
+        self._sources_by_class.clear()
+        self._source_paths.clear()
+
+    def update(self, bp: AidbBreakpoint) -> None:
+        """Track a change of a breakpoint's verification state.
+
+        Parameters
+        ----------
+        bp : AidbBreakpoint
+            Breakpoint as now stored
+        """
+        if bp.verified:
+            self._discard(bp.source_path, bp.id)
+        else:
+            self._add(bp.source_path, bp.id)
+
+    def clear_source(self, source_path: str) -> None:
+        """Forget every pending breakpoint of a source.
+
+        Parameters
+        ----------
+        source_path : str
+            Path to the source file
+        """
+        key = normalize_path(source_path)
+        if self._by_source.pop(key, None) is None:
+            return
+        self._source_paths.pop(key, None)
+        klass = class_key(key)
+        sources = self._sources_by_class.get(klass)
+        if sources is not None:
+            sources.discard(key)
+            if not sources:
+                del self._sources_by_class[klass]
+
+    def lookup(self, path: str | None, name: str | None = None) -> list[str]:
+        """Find the sources with pending breakpoints a load event may concern.
+
+        Parameters
+        ----------
+        path : str, optional
+            Path of the loaded source
+        name : str, optional
+            Name of the loaded source or class, used when the path is unknown
+            locally (e.g. inside a JAR or a container)
+
+        Returns
+        -------
+        list[str]
+            Paths of the matching sources, as passed to :meth:`set_source`
+        """
+        if path:
+            key = normalize_path(path)
+            if key in self._by_source:
+                return [self._source_paths[key]]
+        for candidate in (path, name):
+            if candidate:
+                sources = self._sources_by_class.get(class_key(candidate))
+                if sources:
+                    return [self._source_paths[key] for key in sorted(sources)]
+        return []
+
+    def _add(self, source_path: str, bp_id: int) -> None:
+        key = normalize_path(source_path)
+        self._by_source.setdefault(key, set()).add(bp_id)
+        self._source_paths.setdefault(key, source_path)
+        self._sources_by_class.setdefault(class_key(key), set()).add(key)
+
+    def _discard(self, source_path: str, bp_id: int) -> None:
+        key = normalize_path(source_path)
+        ids = self._by_source.get(key)
+        if ids is None:
+            return
+        ids.discard(bp_id)
+        if not ids:
+            self.clear_source(source_path)
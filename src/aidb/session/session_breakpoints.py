@@ -10,10 +10,19 @@ if TYPE_CHECKING:
     from aidb.dap.protocol.base import Event
     from aidb.dap.protocol.events import BreakpointEvent, LoadedSourceEvent
     from aidb.interfaces import IContext
+    from aidb.session.pending_breakpoints import PendingBreakpointIndex
+from aidb.common.constants import BREAKPOINT_REBIND_DEBOUNCE_S
 from aidb.dap.protocol.bodies import SetBreakpointsArguments
 from aidb.dap.protocol.requests import SetBreakpointsRequest
 from aidb.dap.protocol.types import Source, SourceBreakpoint
 from aidb.models import AidbBreakpoint, AidbBreakpointsResponse, BreakpointState
+from aidb_common.metrics import (
+    BREAKPOINT_BATCH_DURATION,
+    OUTCOME_ERROR,
+    OUTCOME_FAILED,
+    OUTCOME_OK,
+    get_metrics_registry,
+)
 
 
 class SessionBreakpointsMixin:
@@ -28,7 +37,8 @@ class SessionBreakpointsMixin:
     dap: Any
     adapter: Any
     debug: Any
-    _last_rebind_times: dict[str, float]
+    _pending_breakpoints: "PendingBreakpointIndex"
+    _pending_rebinds: dict[str, asyncio.Task]
 
     @property
     def current_breakpoints(self) -> AidbBreakpointsResponse | None:
@@ -76,53 +86,93 @@ class SessionBreakpointsMixin:
         response_breakpoints : List[AidbBreakpoint]
             Breakpoints returned from the debug adapter
         """
+        await self._update_breakpoints_from_responses(
+            {source_path: response_breakpoints},
+        )
+
+    async def _update_breakpoints_from_responses(
+        self,
+        responses_by_source: dict[str, list[AidbBreakpoint]],
+    ) -> None:
+        """Update internal breakpoint store from several SetBreakpoints responses.
+
+        All sources are replaced under a single acquisition of
+        _breakpoint_store_lock, so readers never see a partially applied batch.
+
+        Parameters
+        ----------
+        responses_by_source : dict[str, list[AidbBreakpoint]]
+            Breakpoints returned from the debug adapter, by source file
+        """
         async with self._breakpoint_store_lock:
-            self.ctx.debug(
-                f"_update_breakpoints_from_response: Updating {source_path} with "
-                f"{len(response_breakpoints)} breakpoint(s)",
-            )
-            self.ctx.debug(
-                f"_update_breakpoints_from_response: Store before update has "
-                f"{len(self._breakpoint_store)} breakpoint(s): "
-                f"{list(self._breakpoint_store.keys())}",
-            )
+            for source_path, response_breakpoints in responses_by_source.items():
+                self._apply_breakpoints_for_source(source_path, response_breakpoints)
 
-            # Clear existing breakpoints for this source
-            self._clear_breakpoints_for_source(source_path)
-            self.ctx.debug(
-                f"_update_breakpoints_from_response: After clearing {source_path}, "
-                f"store has {len(self._breakpoint_store)} breakpoint(s)",
-            )
+    def _apply_breakpoints_for_source(
+        self,
+        source_path: str,
+        response_breakpoints: list[AidbBreakpoint],
+    ) -> None:
+        """Replace the stored breakpoints of a source; caller holds the lock.
 
-            # Add new breakpoints to the store
-            for bp in response_breakpoints:
-                if bp.id is not None:
-                    # If breakpoint source_path is empty, use provided source_path
-                    # Handles DAP adapters without source in responses
-                    if not bp.source_path:
-                        bp = replace(bp, source_path=source_path)
-                        self.ctx.debug(
-                            f"_update_breakpoints_from_response: "
-                            f"Fixed empty source_path for bp.id={bp.id}, "
-                            f"using {source_path}",
-                        )
+        Parameters
+        ----------
+        source_path : str
+            Path to the source file
+        response_breakpoints : List[AidbBreakpoint]
+            Breakpoints returned from the debug adapter
+        """
+        self.ctx.debug(
+            f"_update_breakpoints_from_response: Updating {source_path} with "
+            f"{len(response_breakpoints)} breakpoint(s)",
+        )
+        self.ctx.debug(
+            f"_update_breakpoints_from_response: Store before update has "
+            f"{len(self._breakpoint_store)} breakpoint(s): "
+            f"{list(self._breakpoint_store.keys())}",
+        )
 
-                    self._breakpoint_store[bp.id] = bp
+        # Clear existing breakpoints for this source
+        self._clear_breakpoints_for_source(source_path)
+        self.ctx.debug(
+            f"_update_breakpoints_from_response: After clearing {source_path}, "
+            f"store has {len(self._breakpoint_store)} breakpoint(s)",
+        )
+
+        # Add new breakpoints to the store
+        for bp in response_breakpoints:
+            if bp.id is not None:
+                # If breakpoint source_path is empty, use provided source_path
+                # Handles DAP adapters without source in responses
+                if not bp.source_path:
+                    bp = replace(bp, source_path=source_path)
                     self.ctx.debug(
-                        f"_update_breakpoints_from_response: Added breakpoint "
-                        f"id={bp.id} at {bp.source_path}:{bp.line}",
-                    )
-                else:
-                    self.ctx.warning(
-                        f"_update_breakpoints_from_response: Skipping breakpoint with "
-                        f"None id at {bp.source_path}:{bp.line}",
+                        f"_update_breakpoints_from_response: "
+                        f"Fixed empty source_path for bp.id={bp.id}, "
+                        f"using {source_path}",
                     )
 
-            self.ctx.debug(
-                f"_update_breakpoints_from_response: Store after update has "
-                f"{len(self._breakpoint_store)} breakpoint(s): "
-                f"{list(self._breakpoint_store.keys())}",
-            )
+                self._breakpoint_store[bp.id] = bp
+                self.ctx.debug(
+                    f"_update_breakpoints_from_response: Added breakpoint "
+                    f"id={bp.id} at {bp.source_path}:{bp.line}",
+                )
+            else:
+                self.ctx.warning(
+                    f"_update_breakpoints_from_response: Skipping breakpoint with "
+                    f"None id at {bp.source_path}:{bp.line}",
+                )
+
+        self._pending_breakpoints.set_source(
+            source_path,
+            [bp for bp in response_breakpoints if bp.id is not None],
+        )
+
+        self.ctx.debug(
+            f"_update_breakpoints_from_response: Store after update has "
+            f"{len(self._breakpoint_store)} breakpoint(s): "
+            f"{list(self._breakpoint_store.keys())}",
+        )
 
     def _clear_breakpoints_for_source(self, source_path: str) -> None:
         """Clear all breakpoints for a specific source file.
@@ -140,6 +190,7 @@ class SessionBreakpointsMixin:
         ]
         for bp_id in to_remove:
             del self._breakpoint_store[bp_id]
+        self._pending_breakpoints.clear_source(source_path)
 
     def _on_breakpoint_event(self, event: "Event") -> None:
         """Sync breakpoint state from DAP breakpoint events.
@@ -230,6 +281,7 @@ class SessionBreakpointsMixin:
                 )
 
                 self._breakpoint_store[bp_from_adapter.id] = updated_bp
+                self._pending_breakpoints.update(updated_bp)
 
                 self.ctx.debug(
                     f"Synced breakpoint {bp_from_adapter.id} verification: "
@@ -294,6 +346,7 @@ class SessionBreakpointsMixin:
                             ),
                         )
                         self._breakpoint_store[bp_id] = updated_bp
+                        self._pending_breakpoints.update(updated_bp)
                         self.ctx.debug(
                             f"Synced breakpoint {bp_id} (fallback match): "
                             f"verified={updated_bp.verified}, "
@@ -319,9 +372,11 @@ class SessionBreakpointsMixin:
     def _on_loaded_source_event(self, event: "Event") -> None:
         """Handle loadedSource events to trigger proactive breakpoint rebinding.
 
-        When a source file is loaded, immediately re-send setBreakpoints to
-        accelerate verification. This is much faster than waiting for the
-        adapter's asynchronous verification.
+        When a source file holding unverified breakpoints is loaded, re-send
+        setBreakpoints to accelerate verification. This is much faster than waiting
+        for the adapter's asynchronous verification. Loads of any other source or
+        class are dropped after a lookup in the pending breakpoint index, and
+        repeated loads of one source within the debounce window share one rebind.
 
         Parameters
         ----------
@@ -352,21 +407,72 @@ class SessionBreakpointsMixin:
         if reason not in ("new", "changed"):
             return
 
-        if not source.path:
-            self.ctx.debug(
-                f"LoadedSource event has no path, skipping rebind: {source.name}",
-            )
+        if not source.path and not source.name:
+            self.ctx.debug("LoadedSource event has no path or name, skipping rebind")
+            return
+
+        pending_sources = self._pending_breakpoints.lookup(source.path, source.name)
+        if not pending_sources:
             return
 
         self.ctx.debug(
-            f"Source loaded ({reason}): {source.path} - "
-            "checking for breakpoints to rebind",
+            f"Source loaded ({reason}): {source.path or source.name} - "
+            f"rebinding pending breakpoints in {len(pending_sources)} file(s)",
         )
+        for source_path in pending_sources:
+            self._schedule_rebind(source_path)
+
+    def _schedule_rebind(self, source_path: str) -> None:
+        """Schedule a debounced rebind unless one is already scheduled or running.
+
+        The task stays in ``_pending_rebinds`` until it finishes, which keeps it
+        referenced and lets termination and cleanup cancel it.
+
+        Parameters
+        ----------
+        source_path : str
+            Path to the source file to rebind
+        """
+        normalized_path = normalize_path(source_path)
+        if normalized_path in self._pending_rebinds:
+            self.ctx.debug(f"Rebind for {source_path} already scheduled")
+            return
 
         # Schedule rebinding asynchronously (can't await in event handler)
-        import asyncio
+        task = asyncio.create_task(self._debounced_rebind(source_path))
+        self._pending_rebinds[normalized_path] = task
+        task.add_done_callback(
+            lambda t: (
+                self._pending_rebinds.pop(normalized_path, None)
+                if self._pending_rebinds.get(normalized_path) is t
+                else None
+            ),
+        )
 
-        asyncio.create_task(self._rebind_breakpoints_for_source(source.path))
+    async def _debounced_rebind(self, source_path: str) -> None:
+        """Rebind a source once its load events have settled.
+
+        Parameters
+        ----------
+        source_path : str
+            Path to the source file to rebind
+        """
+        await asyncio.sleep(BREAKPOINT_REBIND_DEBOUNCE_S)
+        await self._rebind_breakpoints_for_source(source_path)
+
+    def _cancel_pending_rebinds(self) -> list[asyncio.Task]:
+        """Cancel all scheduled and running rebinds.
+
+        Returns
+        -------
+        list[asyncio.Task]
+            The cancelled tasks, for callers that wait for them to finish
+        """
+        tasks = list(self._pending_rebinds.values())
+        self._pending_rebinds.clear()
+        for task in tasks:
+            task.cancel()
+        return tasks
 
     def _on_terminated_event(self, event: "Event") -> None:  # noqa: ARG002
         """Handle session termination event.
@@ -381,6 +487,9 @@ class SessionBreakpointsMixin:
         event : Event
             The DAP terminated event (unused but required for event handler signature)
         """
+        # Nothing left to bind breakpoints in
+        self._cancel_pending_rebinds()
+
         # Log termination but preserve breakpoint state
         self.ctx.debug(
             f"Session terminated, preserving {len(self._breakpoint_store)} "
@@ -394,34 +503,17 @@ class SessionBreakpointsMixin:
         breakpoint binding without waiting for the adapter's async verification.
         This significantly reduces the verification delay (from ~2s to ~10ms).
 
+        Only sources with unverified breakpoints are rebound. DAP setBreakpoints
+        replaces every breakpoint of a source, so the full set of the source is
+        sent and the store is updated from the response.
+
         Parameters
         ----------
         source_path : str
             Path to the source file that was just loaded
         """
-        from aidb_common.path import normalize_path
-
         normalized_path = normalize_path(source_path)
 
-        # Debounce check: skip if we rebinded this source recently (within 100ms)
-        # This prevents rapid duplicate rebinds when loadedSource fires multiple
-        # times for the same file (e.g., "new" followed by "changed" events)
-        if not hasattr(self, "_last_rebind_times"):
-            self._last_rebind_times = {}
-
-        import time
-
-        now = time.time()
-        last_rebind = self._last_rebind_times.get(normalized_path, 0)
-        if now - last_rebind < 0.1:  # 100ms debounce window
-            self.ctx.debug(
-                f"Skipping rebind for {source_path} (debounced: "
-                f"{int((now - last_rebind) * 1000)}ms since last rebind)",
-            )
-            return
-
-        self._last_rebind_times[normalized_path] = now
-
         # Guard: do not attempt rebind if session is terminated or disconnected
         try:
             if hasattr(self, "dap"):
@@ -460,6 +552,12 @@ class SessionBreakpointsMixin:
             )
             return
 
+        if all(bp.verified for bp in breakpoints_to_rebind):
+            self.ctx.debug(
+                f"All breakpoints already verified for loaded source: {source_path}",
+            )
+            return
+
         self.ctx.debug(
             f"Re-binding {len(breakpoints_to_rebind)} breakpoint(s) "
             f"for loaded source: {source_path}",
@@ -491,7 +589,21 @@ class SessionBreakpointsMixin:
                     f"Successfully re-bound breakpoints for {source_path}: "
                     f"{response.body}",
                 )
-                # The response will trigger breakpoint events that update our store
+                response_dap_bps = (
+                    response.body.breakpoints
+                    if response.body and response.body.breakpoints
+                    else []
+                )
+                # Adapters that drop breakpoints still verify them via events
+                if len(response_dap_bps) == len(breakpoints_to_rebind):
+                    await self._update_breakpoints_from_response(
+                        source_path,
+                        self._breakpoints_from_response(
+                            source_path,
+                            breakpoints_to_rebind,
+                            response_dap_bps,
+                        ),
+                    )
             else:
                 self.ctx.warning(
                     f"Failed to re-bind breakpoints for {source_path}: "
@@ -505,8 +617,8 @@ class SessionBreakpointsMixin:
         """Set initial breakpoints for the session.
 
         This method is called after the session is initialized and the adapter is
-        connected. It groups breakpoints by source file and sends SetBreakpoints
-        requests for each file.
+        connected. It groups breakpoints by source file and sends one batch of
+        SetBreakpoints requests, one per file.
 
         This method is idempotent - it tracks whether initial breakpoints have
         already been set and skips duplicate calls. This prevents issues with
@@ -519,104 +631,168 @@ class SessionBreakpointsMixin:
         if getattr(self, "_initial_breakpoints_set", False):
             return
 
-        # Group breakpoints by source file
-        breakpoints_by_source: dict[str, list[AidbBreakpoint]] = {}
-        for bp in self.breakpoints:
-            source_path = bp.source_path
-            if source_path not in breakpoints_by_source:
-                breakpoints_by_source[source_path] = []
-            breakpoints_by_source[source_path].append(bp)
-
-        # Set breakpoints for each source file
-        for source_path, source_breakpoints in breakpoints_by_source.items():
-            self.ctx.debug(
-                f"Setting {len(source_breakpoints)} breakpoints in {source_path}",
-            )
+        await self._set_breakpoints_batch(self.breakpoints, origin="initial")
 
-            # Create SetBreakpointsRequest for this source file
-            source = Source(path=source_path)
-            source_breakpoints_dap = [
-                SourceBreakpoint(
-                    line=bp.line,
-                    condition=bp.condition,
-                    hitCondition=bp.hit_condition,
-                    logMessage=bp.log_message,
-                )
-                for bp in source_breakpoints
-            ]
+        self._initial_breakpoints_set = True
+
+    async def _set_breakpoints_batch(
+        self,
+        breakpoints: list[AidbBreakpoint],
+        origin: str,
+    ) -> dict[str, list[AidbBreakpoint]]:
+        """Install source breakpoints with one concurrent batch of requests.
+
+        Breakpoints are grouped by source file into one SetBreakpoints request
+        per file. All requests are sent back to back and their responses awaited
+        together, so installing breakpoints in many files costs about one round
+        trip. The store is updated for all files at once.
 
-            args = SetBreakpointsArguments(
-                source=source,
-                breakpoints=source_breakpoints_dap,
+        Parameters
+        ----------
+        breakpoints : list[AidbBreakpoint]
+            Breakpoints to install
+        origin : str
+            What triggered the batch, recorded with its duration
+
+        Returns
+        -------
+        dict[str, list[AidbBreakpoint]]
+            Breakpoints reported by the adapter, for each file whose request
+            succeeded
+        """
+        # Group breakpoints by source file
+        breakpoints_by_source: dict[str, list[AidbBreakpoint]] = {}
+        for bp in breakpoints:
+            breakpoints_by_source.setdefault(bp.source_path, []).append(bp)
+
+        requests = [
+            SetBreakpointsRequest(
+                seq=0,
+                arguments=SetBreakpointsArguments(
+                    source=Source(path=source_path),
+                    breakpoints=[
+                        SourceBreakpoint(
+                            line=bp.line,
+                            condition=bp.condition,
+                            hitCondition=bp.hit_condition,
+                            logMessage=bp.log_message,
+                        )
+                        for bp in source_breakpoints
+                    ],
+                ),
             )
-            request = SetBreakpointsRequest(seq=0, arguments=args)
+            for source_path, source_breakpoints in breakpoints_by_source.items()
+        ]
 
+        updates: dict[str, list[AidbBreakpoint]] = {}
+        with get_metrics_registry().timer(
+            BREAKPOINT_BATCH_DURATION,
+            origin=origin,
+        ) as labels:
             try:
-                # Send the request via the DAP client
-                response = await self.dap.send_request(request)
-                if response.success:
+                responses = await self.dap.send_requests(requests)
+            except Exception as e:
+                self.ctx.error(f"Error setting breakpoints: {e}")
+                labels["outcome"] = OUTCOME_ERROR
+                return updates
+
+            for (source_path, source_breakpoints), response in zip(
+                breakpoints_by_source.items(),
+                responses,
+                strict=True,
+            ):
+                if isinstance(response, BaseException):
+                    self.ctx.error(
+                        f"Error setting breakpoints in {source_path}: {response}",
+                    )
+                elif not response.success:
+                    self.ctx.warning(
+                        f"Failed to set breakpoints in {source_path}: "
+                        f"{response.message}",
+                    )
+                else:
                     self.ctx.debug(
                         f"Successfully set breakpoints in {source_path}: "
                         f"{response.body}",
                     )
-                    # Update internal store with response
                     if response.body and hasattr(response.body, "breakpoints"):
-                        response_bps: list[AidbBreakpoint] = []
-                        for bp_data in response.body.breakpoints:
-                            # Convert DAP Breakpoint to AidbBreakpoint
-                            # Use original breakpoint line if DAP doesn't return it
-                            has_line = (
-                                hasattr(bp_data, "line") and bp_data.line is not None
-                            )
-                            has_orig = len(response_bps) < len(source_breakpoints)
-                            bp_line = (
-                                bp_data.line
-                                if has_line
-                                else source_breakpoints[len(response_bps)].line
-                                if has_orig
-                                else 0
-                            )
-                            has_id = hasattr(bp_data, "id") and bp_data.id is not None
-                            aidb_bp = AidbBreakpoint(
-                                id=(bp_data.id if has_id else 0),
-                                source_path=source_path,
-                                line=bp_line,
-                                verified=(
-                                    bp_data.verified
-                                    if hasattr(bp_data, "verified")
-                                    else False
-                                ),
-                                state=(
-                                    BreakpointState.VERIFIED
-                                    if (
-                                        hasattr(bp_data, "verified")
-                                        and bp_data.verified
-                                    )
-                                    else BreakpointState.PENDING
-                                ),
-                                message=(
-                                    bp_data.message
-                                    if hasattr(bp_data, "message")
-                                    else ""
-                                ),
-                            )
-                            response_bps.append(aidb_bp)
-                        await self._update_breakpoints_from_response(
+                        updates[source_path] = self._breakpoints_from_response(
                             source_path,
-                            response_bps,
+                            source_breakpoints,
+                            response.body.breakpoints,
                         )
-                        # Verify store was populated for debugging race conditions
-                        if not self._breakpoint_store:
-                            self.ctx.warning(
-                                f"Breakpoint store empty after setting "
-                                f"{len(response_bps)} breakpoints in {source_path}",
-                            )
-                else:
+
+            if updates:
+                await self._update_breakpoints_from_responses(updates)
+                # Verify store was populated for debugging race conditions
+                if not self._breakpoint_store:
                     self.ctx.warning(
-                        f"Failed to set breakpoints in {source_path}: "
-                        f"{response.message}",
+                        f"Breakpoint store empty after setting breakpoints in "
+                        f"{len(updates)} file(s)",
                     )
-            except Exception as e:
-                self.ctx.error(f"Error setting breakpoints in {source_path}: {e}")
+            labels["outcome"] = (
+                OUTCOME_OK if len(updates) == len(requests) else OUTCOME_FAILED
+            )
 
-        self._initial_breakpoints_set = True
+        self.ctx.debug(
+            f"Set {len(breakpoints)} breakpoint(s) in {len(requests)} file(s) "
+            f"({origin}): "
+            f"{len(updates)} succeeded",
+        )
+        return updates
+
+    def _breakpoints_from_response(
+        self,
+        source_path: str,
+        source_breakpoints: list[AidbBreakpoint],
+        response_breakpoints: list[Any],
+    ) -> list[AidbBreakpoint]:
+        """Convert the DAP breakpoints of a SetBreakpoints response.
+
+        Parameters
+        ----------
+        source_path : str
+            Path to the source file
+        source_breakpoints : list[AidbBreakpoint]
+            Requested breakpoints, in request order
+        response_breakpoints : list[Any]
+            DAP breakpoints from the response body
+
+        Returns
+        -------
+        list[AidbBreakpoint]
+            Breakpoints to store
+        """
+        response_bps: list[AidbBreakpoint] = []
+        for bp_data in response_breakpoints:
+            # Use original breakpoint line if DAP doesn't return it
+            has_line = hasattr(bp_data, "line") and bp_data.line is not None
+            has_orig = len(response_bps) < len(source_breakpoints)
+            bp_line = (
+                bp_data.line
+                if has_line
+                else source_breakpoints[len(response_bps)].line
+                if has_orig
+                else 0
+            )
+            has_id = hasattr(bp_data, "id") and bp_data.id is not None
+            verified = bp_data.verified if hasattr(bp_data, "verified") else False
+            requested = source_breakpoints[len(response_bps)] if has_orig else None
+            response_bps.append(
+                AidbBreakpoint(
+                    id=(bp_data.id if has_id else 0),
+                    source_path=source_path,
+                    line=bp_line,
+                    verified=verified,
+                    state=(
+                        BreakpointState.VERIFIED
+                        if verified
+                        else BreakpointState.PENDING
+                    ),
+                    message=(bp_data.message if hasattr(bp_data, "message") else ""),
+                    condition=requested.condition if requested else "",
+                    hit_condition=requested.hit_condition if requested else "",
+                    log_message=requested.log_message if requested else "",
+                ),
+            )
+        return response_bps
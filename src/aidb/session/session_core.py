@@ -22,6 +22,7 @@ from aidb_common.path import normalize_path
 
 from .capabilities import CapabilityChecker
 from .connector import SessionConnector
+from .pending_breakpoints import PendingBreakpointIndex
 from .registry import SessionRegistry
 from .resource import ResourceManager
 from .session_breakpoints import SessionBreakpointsMixin
@@ -155,7 +156,8 @@ class Session(
 
         # Event subscription and rebind tracking
         self._event_subscriptions: dict[str, Any] = {}
-        self._last_rebind_times: dict[str, float] = {}
+        self._pending_breakpoints = PendingBreakpointIndex()
+        self._pending_rebinds: dict[str, asyncio.Task] = {}
 
         # Initialize registry early (needed by connector)
         self.registry = SessionRegistry(ctx=self.ctx)
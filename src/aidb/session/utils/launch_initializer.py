@@ -4,6 +4,11 @@ from typing import TYPE_CHECKING, cast
 
 from aidb.models import StartResponse
 from aidb.patterns import Obj
+from aidb_common.metrics import (
+    LAUNCH_PHASE_DURATION,
+    PHASE_DAP_CONNECT,
+    get_metrics_registry,
+)
 
 if TYPE_CHECKING:
     from aidb.interfaces.context import IContext
@@ -69,7 +74,12 @@ class LaunchInitializer(Obj):
 
             # Connect the DAP client
             if session.dap:
-                await session.dap.connect()
+                with get_metrics_registry().timer(
+                    LAUNCH_PHASE_DURATION,
+                    language=session.language,
+                    phase=PHASE_DAP_CONNECT,
+                ):
+                    await session.dap.connect()
                 # Note: Pending subscriptions (from deferred sessions) will be
                 # transferred to the DAP client as events are subscribed
 
@@ -114,7 +114,7 @@ class SessionShutdownOrchestrator(Obj):
         """Clean up all resources (ports and processes) for this session.
 
         Performs cleanup in order:
-        1. Await pending breakpoint update tasks
+        1. Cancel pending rebinds and await pending breakpoint update tasks
         2. Unsubscribe from DAP events
         3. Clean up via resource_manager or port_registry fallback
 
@@ -133,13 +133,19 @@ class SessionShutdownOrchestrator(Obj):
         await self._cleanup_via_manager_or_fallback(session)
 
     async def _await_pending_tasks(self, session: "Session") -> None:
-        """Await pending breakpoint update tasks.
+        """Cancel pending rebinds and await pending breakpoint update tasks.
 
         Parameters
         ----------
         session : Session
             Session with potential pending tasks
         """
+        if hasattr(session, "_pending_rebinds") and session._pending_rebinds:
+            await asyncio.gather(
+                *session._cancel_pending_rebinds(),
+                return_exceptions=True,
+            )
+
         if (
             hasattr(session, "_breakpoint_update_tasks")
             and session._breakpoint_update_tasks
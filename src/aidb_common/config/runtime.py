@@ -41,6 +41,8 @@ class ConfigManager(Singleton["ConfigManager"]):
     AIDB_CODE_CONTEXT_LINES = "AIDB_CODE_CONTEXT_LINES"
     AIDB_CODE_CONTEXT_MAX_LINE_WIDTH = "AIDB_CODE_CONTEXT_MAX_LINE_WIDTH"
     AIDB_CODE_CONTEXT_MINIFIED_MODE = "AIDB_CODE_CONTEXT_MINIFIED_MODE"
+    AIDB_LINE_INDEX_CACHE_MB = "AIDB_LINE_INDEX_CACHE_MB"
+    AIDB_LINE_INDEX_MMAP = "AIDB_LINE_INDEX_MMAP"
 
     # ========== Audit Logging ==========
     AIDB_AUDIT_LOG = "AIDB_AUDIT_LOG"
@@ -48,6 +50,11 @@ class ConfigManager(Singleton["ConfigManager"]):
     AIDB_AUDIT_LOG_PATH = "AIDB_AUDIT_LOG_PATH"
     AIDB_AUDIT_LOG_RETENTION_DAYS = "AIDB_AUDIT_LOG_RETENTION_DAYS"
     AIDB_AUDIT_LOG_DAP = "AIDB_AUDIT_LOG_DAP"
+    AIDB_AUDIT_DURABILITY = "AIDB_AUDIT_DURABILITY"
+    AIDB_AUDIT_BATCH_SIZE = "AIDB_AUDIT_BATCH_SIZE"
+    AIDB_AUDIT_BATCH_WAIT_MS = "AIDB_AUDIT_BATCH_WAIT_MS"
+    AIDB_AUDIT_QUEUE_SIZE = "AIDB_AUDIT_QUEUE_SIZE"
+    AIDB_AUDIT_ENQUEUE_TIMEOUT_MS = "AIDB_AUDIT_ENQUEUE_TIMEOUT_MS"
 
     # ========== Audit Masking ==========
     AIDB_AUDIT_ENABLED = "AIDB_AUDIT_ENABLED"
@@ -60,8 +67,15 @@ class ConfigManager(Singleton["ConfigManager"]):
     AIDB_AUDIT_MASK_IN_METADATA = "AIDB_AUDIT_MASK_IN_METADATA"
     AIDB_AUDIT_CASE_SENSITIVE = "AIDB_AUDIT_CASE_SENSITIVE"
 
+    # ========== Metrics ==========
+    AIDB_METRICS_FILE = "AIDB_METRICS_FILE"
+    AIDB_METRICS_DUMP_INTERVAL_S = "AIDB_METRICS_DUMP_INTERVAL_S"
+
     # ========== DAP Protocol ==========
     AIDB_DAP_REQUEST_WAIT_TIMEOUT = "AIDB_DAP_REQUEST_WAIT_TIMEOUT"
+    AIDB_DAP_SNAPSHOT_CACHE = "AIDB_DAP_SNAPSHOT_CACHE"
+    AIDB_PORT_PROBE = "AIDB_PORT_PROBE"
+    AIDB_PORT_BLOCK_SIZE = "AIDB_PORT_BLOCK_SIZE"
 
     # ========== Language Adapter Paths ==========
     ADAPTER_PATH_TEMPLATE = "AIDB_{}_ADAPTER_PATH"
@@ -79,6 +93,19 @@ class ConfigManager(Singleton["ConfigManager"]):
     AIDB_JAVA_AUTO_COMPILE = "AIDB_JAVA_AUTO_COMPILE"
     AIDB_JAVA_LSP_POOL = "AIDB_JAVA_LSP_POOL"
     AIDB_JAVA_LSP_POOL_MAX = "AIDB_JAVA_LSP_POOL_MAX"
+    AIDB_JAVA_LSP_POOL_STANDBY = "AIDB_JAVA_LSP_POOL_STANDBY"
+    AIDB_JAVA_LSP_POOL_MEMORY_MB = "AIDB_JAVA_LSP_POOL_MEMORY_MB"
+    AIDB_JAVA_LSP_HEAP_MB = "AIDB_JAVA_LSP_HEAP_MB"
+    AIDB_JAVA_COMPILE_SERVER = "AIDB_JAVA_COMPILE_SERVER"
+    AIDB_JAVA_COMPILE_SERVER_IDLE_S = "AIDB_JAVA_COMPILE_SERVER_IDLE_S"
+    AIDB_JAVA_CLASS_CACHE = "AIDB_JAVA_CLASS_CACHE"
+    AIDB_JAVA_CLASS_CACHE_MB = "AIDB_JAVA_CLASS_CACHE_MB"
+    AIDB_JAVA_CLASSPATH_CACHE = "AIDB_JAVA_CLASSPATH_CACHE"
+    AIDB_JAVA_MAIN_CLASS_INDEX = "AIDB_JAVA_MAIN_CLASS_INDEX"
+    AIDB_JAVA_JDTLS_SNAPSHOTS = "AIDB_JAVA_JDTLS_SNAPSHOTS"
+    AIDB_JAVA_JDTLS_SNAPSHOT_DIR = "AIDB_JAVA_JDTLS_SNAPSHOT_DIR"
+    AIDB_JAVA_JDTLS_SNAPSHOT_MAX = "AIDB_JAVA_JDTLS_SNAPSHOT_MAX"
+    AIDB_JAVA_SPECULATIVE_BRIDGE = "AIDB_JAVA_SPECULATIVE_BRIDGE"
     JAVA_HOME = "JAVA_HOME"
     JDT_LS_HOME = "JDT_LS_HOME"
     ECLIPSE_HOME = "ECLIPSE_HOME"
@@ -173,6 +200,18 @@ class ConfigManager(Singleton["ConfigManager"]):
         mode = read_str(self.AIDB_CODE_CONTEXT_MINIFIED_MODE, "auto").lower()
         return mode if mode in ("auto", "force", "disable") else "auto"
 
+    def get_line_index_cache_mb(self) -> int:
+        """Get the memory budget of the source line index in MB (default: 64)."""
+        return read_int(self.AIDB_LINE_INDEX_CACHE_MB, 64)
+
+    def is_line_index_mmap_enabled(self) -> bool:
+        """Check if large source files are memory-mapped (default: False).
+
+        Mapped files are read lazily by the OS, but must not be truncated in place
+        while they are indexed.
+        """
+        return read_bool(self.AIDB_LINE_INDEX_MMAP, False)
+
     # ========== Audit Logging Methods ==========
 
     def is_audit_enabled(self) -> bool:
@@ -197,6 +236,37 @@ class ConfigManager(Singleton["ConfigManager"]):
             return False
         return read_bool(self.AIDB_AUDIT_LOG_DAP, False)
 
+    def get_audit_durability(self) -> str:
+        """When audit writes are flushed: 'event'|'batch'|'async' (default: 'batch')."""
+        mode = read_str(self.AIDB_AUDIT_DURABILITY, "batch").lower()
+        return mode if mode in ("event", "batch", "async") else "batch"
+
+    def get_audit_batch_size(self) -> int:
+        """Get maximum events written per audit batch (default: 256)."""
+        return max(1, read_int(self.AIDB_AUDIT_BATCH_SIZE, 256))
+
+    def get_audit_batch_wait_ms(self) -> float:
+        """Get how long a batch waits for more events in ms (default: 5)."""
+        return max(0.0, read_float(self.AIDB_AUDIT_BATCH_WAIT_MS, 5.0))
+
+    def get_audit_queue_size(self) -> int:
+        """Get maximum pending audit events before backpressure (default: 1000)."""
+        return max(1, read_int(self.AIDB_AUDIT_QUEUE_SIZE, 1000))
+
+    def get_audit_enqueue_timeout_ms(self) -> float:
+        """Get how long a producer blocks on a full audit queue in ms (default: 50)."""
+        return max(0.0, read_float(self.AIDB_AUDIT_ENQUEUE_TIMEOUT_MS, 50.0))
+
+    # ========== Metrics Methods ==========
+
+    def get_metrics_file(self) -> str | None:
+        """Get the Prometheus text file for latency metrics (default: None)."""
+        return read_str(self.AIDB_METRICS_FILE)
+
+    def get_metrics_dump_interval_s(self) -> float:
+        """Get seconds between metrics file dumps (default: 15)."""
+        return max(1.0, read_float(self.AIDB_METRICS_DUMP_INTERVAL_S, 15.0))
+
     # ========== Audit Masking Methods ==========
 
     def is_audit_masking_enabled(self) -> bool:
@@ -242,6 +312,23 @@ class ConfigManager(Singleton["ConfigManager"]):
         """Get DAP request timeout in seconds (default: 10.0)."""
         return read_float(self.AIDB_DAP_REQUEST_WAIT_TIMEOUT, 10.0)
 
+    def is_dap_snapshot_cache_enabled(self) -> bool:
+        """Check if inspection responses are cached per stop (default: True).
+
+        Threads, stack traces, scopes and variables are served from memory until
+        the debuggee resumes, is stepped or the adapter invalidates its state.
+        """
+        return read_bool(self.AIDB_DAP_SNAPSHOT_CACHE, True)
+
+    def get_port_probe(self) -> str:
+        """How adapter ports are probed: 'auto'|'connect'|'psutil' (default: 'auto')."""
+        mode = read_str(self.AIDB_PORT_PROBE, "auto").lower()
+        return mode if mode in ("auto", "connect", "psutil") else "auto"
+
+    def get_port_block_size(self) -> int:
+        """Get ports leased per block, 1 to lease ports one by one (default: 16)."""
+        return max(1, read_int(self.AIDB_PORT_BLOCK_SIZE, 16))
+
     # ========== Language Adapter Methods ==========
 
     def get_binary_override(self, adapter: str) -> Path | None:
@@ -272,6 +359,85 @@ class ConfigManager(Singleton["ConfigManager"]):
         """Get max per-project JDT LS instances (default: 5)."""
         return read_int(self.AIDB_JAVA_LSP_POOL_MAX, 5)
 
+    def get_java_lsp_pool_standby(self) -> int:
+        """Get number of pre-warmed standby JDT LS instances (default: 0).
+
+        Standbys are booted in the background and bound to a project on the
+        first session for it, taking JDT LS startup off the critical path.
+        """
+        return read_int(self.AIDB_JAVA_LSP_POOL_STANDBY, 0)
+
+    def get_java_lsp_pool_memory_mb(self) -> int:
+        """Get the JDT LS pool RSS budget in MB (default: 0 = count-based only)."""
+        return read_int(self.AIDB_JAVA_LSP_POOL_MEMORY_MB, 0)
+
+    def get_java_lsp_heap_mb(self) -> int:
+        """Get the base JDT LS heap size in MB (default: 1024).
+
+        Standalone sources get half of it and multi-module builds twice it.
+        """
+        return read_int(self.AIDB_JAVA_LSP_HEAP_MB, 1024)
+
+    def is_java_speculative_bridge_enabled(self) -> bool:
+        """Check if the pooled JDT LS is started while the target compiles.
+
+        Only applies when the build root is known without compiling (from the
+        workspace root or cwd). Default: True.
+        """
+        return read_bool(self.AIDB_JAVA_SPECULATIVE_BRIDGE, True)
+
+    def is_java_compile_server_enabled(self) -> bool:
+        """Check if the warm javac daemon is used for compilation (default: True).
+
+        When disabled, every standalone .java target is compiled by forking javac.
+        """
+        return read_bool(self.AIDB_JAVA_COMPILE_SERVER, True)
+
+    def get_java_compile_server_idle_timeout(self) -> int:
+        """Get idle seconds before the javac daemon exits (default: 600)."""
+        return read_int(self.AIDB_JAVA_COMPILE_SERVER_IDLE_S, 600)
+
+    def is_java_class_cache_enabled(self) -> bool:
+        """Check if compiled classes are cached across sessions (default: True)."""
+        return read_bool(self.AIDB_JAVA_CLASS_CACHE, True)
+
+    def get_java_class_cache_mb(self) -> int:
+        """Get the compiled-class cache size budget in MB (default: 256)."""
+        return read_int(self.AIDB_JAVA_CLASS_CACHE_MB, 256)
+
+    def is_java_classpath_cache_enabled(self) -> bool:
+        """Check if resolved Maven/Gradle classpaths are cached (default: True).
+
+        Entries are invalidated when a build file or dependency lockfile changes.
+        """
+        return read_bool(self.AIDB_JAVA_CLASSPATH_CACHE, True)
+
+    def is_java_main_class_index_enabled(self) -> bool:
+        """Check if main classes and JAR manifests are indexed (default: True).
+
+        Sources and JARs are re-read only when their mtime or size changes.
+        """
+        return read_bool(self.AIDB_JAVA_MAIN_CLASS_INDEX, True)
+
+    def is_java_jdtls_snapshots_enabled(self) -> bool:
+        """Check if JDT LS workspaces are snapshotted and restored (default: True).
+
+        Snapshots are keyed by the project's build files, so a new or stale
+        workspace starts from an already-imported index.
+        """
+        return read_bool(self.AIDB_JAVA_JDTLS_SNAPSHOTS, True)
+
+    def get_java_jdtls_snapshot_dir(self) -> str | None:
+        """Get the JDT LS snapshot directory (default: ~/.aidb/jdtls_snapshots).
+
+        Point several hosts at a shared directory to reuse each other's imports.
+        """
+        return read_str(self.AIDB_JAVA_JDTLS_SNAPSHOT_DIR)
+
+    def get_java_jdtls_snapshot_max(self) -> int:
+        """Get the number of JDT LS workspace snapshots kept (default: 8)."""
+        return read_int(self.AIDB_JAVA_JDTLS_SNAPSHOT_MAX, 8)
+
     def get_java_home(self) -> str | None:
         """Get JAVA_HOME environment variable."""
         return read_str(self.JAVA_HOME)
@@ -549,6 +715,26 @@ class ConfigManager(Singleton["ConfigManager"]):
         """
         return read_int("AIDB_MCP_TIMING_HISTORY_SIZE", 1000)
 
+    def get_mcp_timing_export_interval_ms(self) -> float:
+        """Get the interval between background span exports.
+
+        Returns
+        -------
+        float
+            Milliseconds between batched writes to the timing file (default: 500)
+        """
+        return max(10.0, read_float("AIDB_MCP_TIMING_EXPORT_INTERVAL_MS", 500.0))
+
+    def get_mcp_timing_window_s(self) -> float:
+        """Get the window of the rolling span latency percentiles.
+
+        Returns
+        -------
+        float
+            Window length in seconds (default: 300)
+        """
+        return max(1.0, read_float("AIDB_MCP_TIMING_WINDOW_S", 300.0))
+
     def get_mcp_token_estimation_method(self) -> str:
         """Get token estimation method.
 
@@ -619,6 +805,17 @@ class ConfigManager(Singleton["ConfigManager"]):
         """
         return int(read_str("AIDB_MCP_MAX_THREADS", "10"))
 
+    def get_mcp_context_concurrency(self) -> int:
+        """Get how many stack frames the context tool inspects concurrently.
+
+        Returns
+        -------
+        int
+            Frames whose scopes/variables requests may be in flight at once
+            (default: 8)
+        """
+        return int(read_str("AIDB_MCP_CONTEXT_CONCURRENCY", "8"))
+
     def get_mcp_response_token_limit(self) -> int:
         """Get hard token limit for responses.
 
@@ -689,6 +886,9 @@ class ConfigManager(Singleton["ConfigManager"]):
                 self.AIDB_DAP_REQUEST_WAIT_TIMEOUT: os.environ.get(
                     self.AIDB_DAP_REQUEST_WAIT_TIMEOUT,
                 ),
+                self.AIDB_DAP_SNAPSHOT_CACHE: os.environ.get(
+                    self.AIDB_DAP_SNAPSHOT_CACHE,
+                ),
             },
             "java": {
                 self.AIDB_JAVA_AUTO_COMPILE: os.environ.get(
@@ -1,7 +1,8 @@
 """IO utilities for AIDB common.
 
 Provides safe file operations, atomic writes, structured data handling, file hashing for
-cache invalidation and rebuild detection, and subprocess transport cleanup.
+cache invalidation and rebuild detection, Content-Length stream framing, and subprocess
+transport cleanup.
 """
 
 from .checksum_service_base import ChecksumServiceBase
@@ -14,6 +15,7 @@ from .files import (
     safe_write_json,
     write_cache_file,
 )
+from .framing import FrameDecoder, FramingError
 from .hashing import compute_files_hash, compute_pattern_hash
 from .subprocess import close_subprocess_transports, is_event_loop_error
 
@@ -26,6 +28,8 @@ __all__ = [
     "ensure_dir",
     "read_cache_file",
     "write_cache_file",
+    "FrameDecoder",
+    "FramingError",
     "compute_files_hash",
     "compute_pattern_hash",
     "close_subprocess_transports",
@@ -0,0 +1,165 @@
+"""Incremental decoder for Content-Length framed streams (DAP and LSP).
+
+Both protocols frame JSON bodies with HTTP-like headers terminated by ``\\r\\n\\r\\n``.
+Accumulating the stream in an immutable ``bytes`` object and re-scanning it from the
+start for every message is quadratic for large payloads (e.g. ``variables`` responses
+for big Java arrays). This decoder instead:
+
+- appends to a single ``bytearray`` and tracks a read offset, compacting the consumed
+  prefix only when it dominates the buffer
+- resumes the header-terminator scan where the previous scan stopped
+- once a header is parsed, waits for the known body length without scanning
+- hands out each body with a single copy taken through a ``memoryview``
+"""
+
+from __future__ import annotations
+
+HEADER_TERMINATOR = b"\r\n\r\n"
+CONTENT_LENGTH = b"content-length"
+
+# Consumed bytes are dropped once they exceed this size and half the buffer
+_COMPACT_THRESHOLD = 64 * 1024
+
+
+class FramingError(ValueError):
+    """Raised for a malformed header; the offending header has been skipped."""
+
+
+def parse_content_length(header: bytes) -> int:
+    """Parse the Content-Length value from a raw header block.
+
+    Parameters
+    ----------
+    header : bytes
+        Header block without the terminating blank line
+
+    Returns
+    -------
+    int
+        Body length in bytes
+
+    Raises
+    ------
+    FramingError
+        If the header is missing or not a non-negative integer
+    """
+    for line in header.split(b"\r\n"):
+        name, sep, value = line.partition(b":")
+        if sep and name.strip().lower() == CONTENT_LENGTH:
+            try:
+                length = int(value.strip())
+            except ValueError:
+                length = -1
+            if length < 0:
+                text = line.decode("utf-8", errors="replace")
+                msg = f"Invalid Content-Length header: {text}"
+                raise FramingError(msg)
+            return length
+    msg = "Missing Content-Length header"
+    raise FramingError(msg)
+
+
+class FrameDecoder:
+    """Resumable decoder yielding message bodies from a Content-Length stream.
+
+    Examples
+    --------
+    >>> decoder = FrameDecoder()
+    >>> decoder.feed(b"Content-Length: 2\\r\\n\\r\\n{}Content-Le")
+    >>> decoder.next_body()
+    b'{}'
+    >>> decoder.next_body() is None
+    True
+    """
+
+    def __init__(self) -> None:
+        self._buffer = bytearray()
+        self._start = 0  # Offset of the first unconsumed byte
+        self._scan_from = 0  # Offset where the terminator scan resumes
+        self._body_start: int | None = None  # Set once a header is parsed
+        self._body_end = 0
+
+    @property
+    def pending(self) -> int:
+        """Number of buffered bytes not yet returned as a body."""
+        return len(self._buffer) - self._start
+
+    def feed(self, data: bytes) -> None:
+        """Append received bytes to the stream.
+
+        Parameters
+        ----------
+        data : bytes
+            Bytes read from the transport
+        """
+        self._buffer += data
+
+    def next_body(self) -> bytes | None:
+        """Return the next complete message body, if one is buffered.
+
+        Returns
+        -------
+        bytes | None
+            Body bytes, or None until more data is fed
+
+        Raises
+        ------
+        FramingError
+            If a header is malformed; the header is dropped so decoding can
+            continue with the following message
+        """
+        if self._body_start is None:
+            header_end = self._buffer.find(HEADER_TERMINATOR, self._scan_from)
+            if header_end == -1:
+                # Resume just before the end in case the terminator is split
+                self._scan_from = max(self._start, len(self._buffer) - 3)
+                return None
+
+            header = bytes(self._buffer[self._start : header_end])
+            body_start = header_end + len(HEADER_TERMINATOR)
+            try:
+                length = parse_content_length(header)
+            except FramingError:
+                self._consume(body_start)
+                raise
+            self._body_start = body_start
+            self._body_end = body_start + length
+
+        # Known-length fast path: no scanning until the body is complete
+        if len(self._buffer) < self._body_end:
+            return None
+
+        with memoryview(self._buffer) as view:
+            body = bytes(view[self._body_start : self._body_end])
+        self._body_start = None
+        self._consume(self._body_end)
+        return body
+
+    def peek(self, size: int) -> bytes:
+        """Return up to ``size`` unconsumed bytes without consuming them."""
+        return bytes(self._buffer[self._start : self._start + size])
+
+    def getvalue(self) -> bytes:
+        """Return all unconsumed bytes."""
+        return bytes(self._buffer[self._start :])
+
+    def clear(self) -> None:
+        """Discard all buffered data and any partially parsed frame."""
+        self._buffer.clear()
+        self._start = 0
+        self._scan_from = 0
+        self._body_start = None
+        self._body_end = 0
+
+    def _consume(self, end: int) -> None:
+        """Mark bytes up to ``end`` as consumed, compacting when worthwhile."""
+        if end >= len(self._buffer):
+            self.clear()
+            return
+
+        self._start = end
+        self._scan_from = end
+        if end > _COMPACT_THRESHOLD and end * 2 > len(self._buffer):
+            del self._buffer[:end]
+            self._start = 0
+            self._scan_from = 0
@@ -0,0 +1,55 @@
+"""Lightweight in-process metrics shared by AIDB components."""
+
+from aidb_common.metrics.histogram import (
+    DEFAULT_PERCENTILES,
+    LatencyHistogram,
+    RollingHistogram,
+)
+from aidb_common.metrics.registry import (
+    BREAKPOINT_BATCH_DURATION,
+    DAP_REQUEST_DURATION,
+    LAUNCH_PHASE_DURATION,
+    LSP_REQUEST_DURATION,
+    OUTCOME_ERROR,
+    OUTCOME_FAILED,
+    OUTCOME_OK,
+    OUTCOME_TIMEOUT,
+    PHASE_BRIDGE_START,
+    PHASE_BRIDGE_WARMUP,
+    PHASE_CLASSPATH,
+    PHASE_COMPILE,
+    PHASE_DAP_CONNECT,
+    PHASE_IMPORT_WAIT,
+    PHASE_PORT_ACQUIRE,
+    PHASE_PRE_LAUNCH,
+    PHASE_RESOLVE_PROJECT,
+    PHASE_START_DEBUG_SESSION,
+    MetricsRegistry,
+    get_metrics_registry,
+)
+
+__all__ = [
+    "BREAKPOINT_BATCH_DURATION",
+    "DAP_REQUEST_DURATION",
+    "DEFAULT_PERCENTILES",
+    "LAUNCH_PHASE_DURATION",
+    "LSP_REQUEST_DURATION",
+    "OUTCOME_ERROR",
+    "OUTCOME_FAILED",
+    "OUTCOME_OK",
+    "OUTCOME_TIMEOUT",
+    "PHASE_BRIDGE_START",
+    "PHASE_BRIDGE_WARMUP",
+    "PHASE_CLASSPATH",
+    "PHASE_COMPILE",
+    "PHASE_DAP_CONNECT",
+    "PHASE_IMPORT_WAIT",
+    "PHASE_PORT_ACQUIRE",
+    "PHASE_PRE_LAUNCH",
+    "PHASE_RESOLVE_PROJECT",
+    "PHASE_START_DEBUG_SESSION",
+    "LatencyHistogram",
+    "MetricsRegistry",
+    "RollingHistogram",
+    "get_metrics_registry",
+]
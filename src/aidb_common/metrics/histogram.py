@@ -0,0 +1,273 @@
+"""Log-bucketed latency histograms with bounded relative error.
+
+Values are recorded in milliseconds and stored as counts per bucket, in the spirit of
+HdrHistogram: values below ``2 * SUB_BUCKETS`` microseconds get an exact bucket, larger
+values share a bucket with neighbours within ``1 / SUB_BUCKETS`` (about 3%) of their
+magnitude. Recording is O(1) and memory grows with the number of distinct magnitudes,
+not with the number of samples, so percentiles stay cheap no matter how many values
+were seen.
+"""
+
+from __future__ import annotations
+
+import math
+import threading
+import time
+from collections.abc import Callable, Iterator
+from typing import Any
+
+SUB_BUCKET_BITS = 5
+SUB_BUCKETS = 1 << SUB_BUCKET_BITS
+_LINEAR_LIMIT = 2 * SUB_BUCKETS
+
+DEFAULT_PERCENTILES = (50.0, 95.0, 99.0)
+
+
+def bucket_index(value_us: int) -> int:
+    """Map a non-negative value in microseconds to its bucket index.
+
+    Parameters
+    ----------
+    value_us : int
+        Value in microseconds
+
+    Returns
+    -------
+    int
+        Bucket index, monotonic in ``value_us``
+    """
+    if value_us < _LINEAR_LIMIT:
+        return max(value_us, 0)
+    shift = value_us.bit_length() - SUB_BUCKET_BITS - 1
+    return _LINEAR_LIMIT + (shift - 1) * SUB_BUCKETS + (value_us >> shift) - SUB_BUCKETS
+
+
+def bucket_bounds(index: int) -> tuple[int, int]:
+    """Get the inclusive microsecond range covered by a bucket.
+
+    Parameters
+    ----------
+    index : int
+        Bucket index from :func:`bucket_index`
+
+    Returns
+    -------
+    tuple[int, int]
+        Lowest and highest value mapped to the bucket
+    """
+    if index < _LINEAR_LIMIT:
+        return index, index
+    offset = index - _LINEAR_LIMIT
+    shift = offset // SUB_BUCKETS + 1
+    sub = offset % SUB_BUCKETS + SUB_BUCKETS
+    return sub << shift, ((sub + 1) << shift) - 1
+
+
+class LatencyHistogram:
+    """Sparse log-bucketed histogram of durations in milliseconds.
+
+    Not synchronized; callers sharing one instance across threads must lock around
+    it (see :class:`RollingHistogram`).
+    """
+
+    __slots__ = ("_counts", "count", "max_ms", "min_ms", "sum_ms")
+
+    def __init__(self) -> None:
+        self._counts: dict[int, int] = {}
+        self.count = 0
+        self.sum_ms = 0.0
+        self.min_ms = 0.0
+        self.max_ms = 0.0
+
+    def record(self, value_ms: float) -> None:
+        """Record one duration.
+
+        Parameters
+        ----------
+        value_ms : float
+            Duration in milliseconds; negative values are clamped to zero
+        """
+        value_ms = max(float(value_ms), 0.0)
+        index = bucket_index(int(value_ms * 1000))
+        self._counts[index] = self._counts.get(index, 0) + 1
+        if self.count == 0:
+            self.min_ms = self.max_ms = value_ms
+        else:
+            self.min_ms = min(self.min_ms, value_ms)
+            self.max_ms = max(self.max_ms, value_ms)
+        self.count += 1
+        self.sum_ms += value_ms
+
+    def merge(self, other: LatencyHistogram) -> None:
+        """Add the samples of another histogram to this one.
+
+        Parameters
+        ----------
+        other : LatencyHistogram
+            Histogram to merge in
+        """
+        if other.count == 0:
+            return
+        for index, count in other._counts.items():
+            self._counts[index] = self._counts.get(index, 0) + count
+        if self.count == 0:
+            self.min_ms, self.max_ms = other.min_ms, other.max_ms
+        else:
+            self.min_ms = min(self.min_ms, other.min_ms)
+            self.max_ms = max(self.max_ms, other.max_ms)
+        self.count += other.count
+        self.sum_ms += other.sum_ms
+
+    def percentile(self, percent: float) -> float:
+        """Estimate the value at a percentile.
+
+        Parameters
+        ----------
+        percent : float
+            Percentile between 0 and 100
+
+        Returns
+        -------
+        float
+            Midpoint of the bucket holding the percentile, clamped to the observed
+            min/max, in milliseconds; 0.0 when empty
+        """
+        if self.count == 0:
+            return 0.0
+        rank = max(1, min(self.count, math.ceil(percent / 100 * self.count)))
+        seen = 0
+        for index in sorted(self._counts):
+            seen += self._counts[index]
+            if seen >= rank:
+                low, high = bucket_bounds(index)
+                value = (low + high) / 2 / 1000
+                return min(max(value, self.min_ms), self.max_ms)
+        return self.max_ms
+
+    def count_at_or_below(self, value_ms: float) -> int:
+        """Count samples whose bucket lies entirely at or below a value.
+
+        Parameters
+        ----------
+        value_ms : float
+            Upper bound in milliseconds
+
+        Returns
+        -------
+        int
+            Number of samples, exact to the bucket resolution
+        """
+        limit_us = value_ms * 1000
+        return sum(
+            count
+            for index, count in self._counts.items()
+            if bucket_bounds(index)[1] <= limit_us
+        )
+
+    def buckets(self) -> Iterator[tuple[float, int]]:
+        """Iterate cumulative counts per bucket upper bound.
+
+        Yields
+        ------
+        tuple[float, int]
+            Upper bound in milliseconds and the number of samples at or below it
+        """
+        seen = 0
+        for index in sorted(self._counts):
+            seen += self._counts[index]
+            yield (bucket_bounds(index)[1] + 1) / 1000, seen
+
+    def summary(
+        self,
+        percentiles: tuple[float, ...] = DEFAULT_PERCENTILES,
+    ) -> dict[str, Any]:
+        """Summarize the histogram.
+
+        Parameters
+        ----------
+        percentiles : tuple[float, ...]
+            Percentiles to include as ``p<N>_ms`` keys
+
+        Returns
+        -------
+        dict[str, Any]
+            Count, mean, min, max and the requested percentiles in milliseconds
+        """
+        result: dict[str, Any] = {
+            "count": self.count,
+            "avg_ms": self.sum_ms / self.count if self.count else 0.0,
+            "min_ms": self.min_ms,
+            "max_ms": self.max_ms,
+        }
+        for percent in percentiles:
+            result[f"p{percent:g}_ms"] = self.percentile(percent)
+        return result
+
+
+class RollingHistogram:
+    """Thread-safe histogram over a sliding time window.
+
+    The window is split into ``slots`` sub-histograms; recording goes to the newest
+    slot and slots older than the window are discarded, so the percentiles reflect
+    roughly the last ``window_s`` seconds.
+
+    Parameters
+    ----------
+    window_s : float
+        Length of the window in seconds
+    slots : int
+        Number of sub-histograms the window is divided into
+    clock : Callable[[], float]
+        Monotonic clock, replaceable in tests
+    """
+
+    def __init__(
+        self,
+        window_s: float,
+        slots: int = 6,
+        clock: Callable[[], float] = time.monotonic,
+    ) -> None:
+        self._slot_s = max(window_s, 0.001) / max(slots, 1)
+        self._slots = max(slots, 1)
+        self._clock = clock
+        self._lock = threading.Lock()
+        # (slot number, histogram), oldest first
+        self._ring: list[tuple[int, LatencyHistogram]] = []
+
+    def _current(self) -> LatencyHistogram:
+        slot = int(self._clock() / self._slot_s)
+        if not self._ring or self._ring[-1][0] != slot:
+            self._ring.append((slot, LatencyHistogram()))
+        self._expire(slot)
+        return self._ring[-1][1]
+
+    def _expire(self, slot: int) -> None:
+        oldest = slot - self._slots + 1
+        while self._ring and self._ring[0][0] < oldest:
+            self._ring.pop(0)
+
+    def record(self, value_ms: float) -> None:
+        """Record one duration in the current slot.
+
+        Parameters
+        ----------
+        value_ms : float
+            Duration in milliseconds
+        """
+        with self._lock:
+            self._current().record(value_ms)
+
+    def snapshot(self) -> LatencyHistogram:
+        """Merge the live slots into a standalone histogram.
+
+        Returns
+        -------
+        LatencyHistogram
+            Samples recorded within the window
+        """
+        merged = LatencyHistogram()
+        with self._lock:
+            self._expire(int(self._clock() / self._slot_s))
+            for _, histogram in self._ring:
+                merged.merge(histogram)
+        return merged
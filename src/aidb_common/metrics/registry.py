@@ -0,0 +1,298 @@
+"""Process-wide registry of labelled latency histograms.
+
+Components record durations under a metric name and a small set of labels (e.g. the
+DAP command); the registry keeps one cumulative :class:`LatencyHistogram` per label
+combination. The contents can be read as a JSON-friendly snapshot (served as an MCP
+resource) or rendered in the Prometheus text exposition format and written to a file
+for a node_exporter textfile collector.
+"""
+
+from __future__ import annotations
+
+import atexit
+import contextlib
+import os
+import threading
+import time
+from collections.abc import Iterator
+from pathlib import Path
+from typing import Any
+
+from aidb_common.metrics.histogram import DEFAULT_PERCENTILES, LatencyHistogram
+from aidb_logging import get_logger
+
+logger = get_logger(__name__)
+
+# Metric names (durations are exported in seconds, Prometheus' base unit)
+DAP_REQUEST_DURATION = "aidb_dap_request_duration_seconds"
+LSP_REQUEST_DURATION = "aidb_lsp_request_duration_seconds"
+LAUNCH_PHASE_DURATION = "aidb_launch_phase_duration_seconds"
+BREAKPOINT_BATCH_DURATION = "aidb_breakpoint_batch_duration_seconds"
+
+METRIC_HELP = {
+    DAP_REQUEST_DURATION: "DAP request round-trip time by command and outcome",
+    LSP_REQUEST_DURATION: "JDT LS request round-trip time by method and outcome",
+    LAUNCH_PHASE_DURATION: "Time spent in each debug launch phase by language",
+    BREAKPOINT_BATCH_DURATION: "Breakpoint batch install time by origin and outcome",
+}
+
+# Fixed Prometheus bucket bounds in seconds, shared by every series
+PROMETHEUS_BUCKETS_S = (
+    0.001,
+    0.005,
+    0.01,
+    0.025,
+    0.05,
+    0.1,
+    0.25,
+    0.5,
+    1.0,
+    2.5,
+    5.0,
+    10.0,
+    30.0,
+    60.0,
+    120.0,
+)
+
+# Request outcomes: answered successfully, answered with an error, timed out, or
+# failed with an exception before a response arrived
+OUTCOME_OK = "ok"
+OUTCOME_FAILED = "failed"
+OUTCOME_TIMEOUT = "timeout"
+OUTCOME_ERROR = "error"
+
+# Launch phases (``phase`` label of LAUNCH_PHASE_DURATION); bridge_start includes
+# import_wait when the bridge had to be started for a Maven/Gradle project. Phases
+# run by a launch pipeline may overlap, so their durations do not add up to the
+# launch time.
+PHASE_COMPILE = "compile"
+PHASE_PORT_ACQUIRE = "port_acquire"
+PHASE_PRE_LAUNCH = "pre_launch"
+PHASE_RESOLVE_PROJECT = "resolve_project"
+PHASE_BRIDGE_WARMUP = "bridge_warmup"
+PHASE_BRIDGE_START = "bridge_start"
+PHASE_IMPORT_WAIT = "import_wait"
+PHASE_CLASSPATH = "classpath"
+PHASE_START_DEBUG_SESSION = "start_debug_session"
+PHASE_DAP_CONNECT = "dap_connect"
+
+LabelKey = tuple[tuple[str, str], ...]
+
+
+def _label_key(labels: dict[str, Any]) -> LabelKey:
+    return tuple(sorted((name, str(value)) for name, value in labels.items()))
+
+
+def _escape(value: str) -> str:
+    return value.replace("\\", "\\\\").replace("\n", "\\n").replace('"', '\\"')
+
+
+def _format_labels(key: LabelKey, extra: tuple[str, str] | None = None) -> str:
+    pairs = [*key, extra] if extra else list(key)
+    if not pairs:
+        return ""
+    return "{" + ",".join(f'{name}="{_escape(value)}"' for name, value in pairs) + "}"
+
+
+class MetricsRegistry:
+    """Thread-safe collection of labelled latency histograms."""
+
+    def __init__(self) -> None:
+        self._lock = threading.Lock()
+        self._metrics: dict[str, dict[LabelKey, LatencyHistogram]] = {}
+        self._dump_thread: threading.Thread | None = None
+
+    def observe(self, name: str, duration_ms: float, **labels: Any) -> None:
+        """Record one duration.
+
+        Parameters
+        ----------
+        name : str
+            Metric name
+        duration_ms : float
+            Duration in milliseconds
+        **labels : Any
+            Label values; converted to strings
+        """
+        key = _label_key(labels)
+        with self._lock:
+            series = self._metrics.setdefault(name, {})
+            histogram = series.get(key)
+            if histogram is None:
+                histogram = series[key] = LatencyHistogram()
+            histogram.record(duration_ms)
+
+    @contextlib.contextmanager
+    def timer(self, name: str, **labels: Any) -> Iterator[dict[str, Any]]:
+        """Time a block; usable around ``await`` expressions.
+
+        The yielded dict holds the labels and may be updated inside the block,
+        e.g. to set ``outcome``. An exception escaping the block sets
+        ``outcome`` to ``error`` unless it was set explicitly.
+
+        Parameters
+        ----------
+        name : str
+            Metric name
+        **labels : Any
+            Initial label values
+
+        Yields
+        ------
+        dict[str, Any]
+            Mutable labels recorded with the duration
+        """
+        start_ns = time.perf_counter_ns()
+        try:
+            yield labels
+        except BaseException:
+            labels.setdefault("outcome", OUTCOME_ERROR)
+            raise
+        finally:
+            elapsed_ms = (time.perf_counter_ns() - start_ns) / 1_000_000
+            self.observe(name, elapsed_ms, **labels)
+
+    def snapshot(
+        self,
+        percentiles: tuple[float, ...] = DEFAULT_PERCENTILES,
+    ) -> dict[str, Any]:
+        """Summarize every series.
+
+        Parameters
+        ----------
+        percentiles : tuple[float, ...]
+            Percentiles to report per series
+
+        Returns
+        -------
+        dict[str, Any]
+            ``{metric: {"help": str, "series": [{"labels": {...}, ...summary}]}}``
+            with durations in milliseconds
+        """
+        with self._lock:
+            metrics = {
+                name: [
+                    (key, histogram.summary(percentiles))
+                    for key, histogram in sorted(series.items())
+                ]
+                for name, series in self._metrics.items()
+            }
+        return {
+            name: {
+                "help": METRIC_HELP.get(name, ""),
+                "series": [{"labels": dict(key), **summary} for key, summary in series],
+            }
+            for name, series in sorted(metrics.items())
+        }
+
+    def to_prometheus(self) -> str:
+        """Render every histogram in the Prometheus text exposition format.
+
+        Returns
+        -------
+        str
+            Exposition text with ``_bucket``, ``_sum`` and ``_count`` samples
+        """
+        lines: list[str] = []
+        with self._lock:
+            for name in sorted(self._metrics):
+                lines.append(f"# HELP {name} {METRIC_HELP.get(name, name)}")
+                lines.append(f"# TYPE {name} histogram")
+                for key, histogram in sorted(self._metrics[name].items()):
+                    for bound_s in PROMETHEUS_BUCKETS_S:
+                        count = histogram.count_at_or_below(bound_s * 1000)
+                        labels = _format_labels(key, ("le", f"{bound_s:g}"))
+                        lines.append(f"{name}_bucket{labels} {count}")
+                    labels = _format_labels(key, ("le", "+Inf"))
+                    lines.append(f"{name}_bucket{labels} {histogram.count}")
+                    labels = _format_labels(key)
+                    lines.append(f"{name}_sum{labels} {histogram.sum_ms / 1000:.6f}")
+                    lines.append(f"{name}_count{labels} {histogram.count}")
+        return "\n".join(lines) + "\n" if lines else ""
+
+    def write_prometheus(self, path: Path) -> None:
+        """Atomically write the exposition text to a file.
+
+        Parameters
+        ----------
+        path : Path
+            Target file; replaced via a temporary sibling so scrapers never read a
+            partial file
+        """
+        path.parent.mkdir(parents=True, exist_ok=True)
+        tmp = path.with_name(f".{path.name}.{os.getpid()}.tmp")
+        tmp.write_text(self.to_prometheus(), encoding="utf-8")
+        tmp.replace(path)
+
+    def start_file_dump(self, path: Path, interval_s: float) -> None:
+        """Periodically write the Prometheus text to a file.
+
+        Also writes once more at interpreter exit. Calling this again while a
+        dump thread is running has no effect.
+
+        Parameters
+        ----------
+        path : Path
+            Target file
+        interval_s : float
+            Seconds between writes
+        """
+        if self._dump_thread is not None:
+            return
+
+        def _dump() -> None:
+            try:
+                self.write_prometheus(path)
+            except OSError as e:
+                logger.debug("Failed to write metrics to %s: %s", path, e)
+
+        def _run() -> None:
+            while True:
+                time.sleep(interval_s)
+                _dump()
+
+        self._dump_thread = threading.Thread(
+            target=_run,
+            daemon=True,
+            name="MetricsFileDump",
+        )
+        self._dump_thread.start()
+        atexit.register(_dump)
+
+    def reset(self) -> None:
+        """Drop all recorded series."""
+        with self._lock:
+            self._metrics.clear()
+
+
+_registry: MetricsRegistry | None = None
+_registry_lock = threading.Lock()
+
+
+def get_metrics_registry() -> MetricsRegistry:
+    """Get the process-wide metrics registry.
+
+    On first use, starts the Prometheus file dump if ``AIDB_METRICS_FILE`` is set.
+
+    Returns
+    -------
+    MetricsRegistry
+        Shared registry
+    """
+    global _registry
+
+    if _registry is None:
+        with _registry_lock:
+            if _registry is None:
+                from aidb_common.config import config
+
+                registry = MetricsRegistry()
+                dump_file = config.get_metrics_file()
+                if dump_file:
+                    registry.start_file_dump(
+                        Path(dump_file),
+                        config.get_metrics_dump_interval_s(),
+                    )
+                _registry = registry
+    return _registry
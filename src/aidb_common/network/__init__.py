@@ -19,6 +19,11 @@ from aidb_common.network.ports import (
     is_port_available,
     reserve_port,
 )
+from aidb_common.network.probe import (
+    parse_listening_ports,
+    probe_connect,
+    read_listening_ports,
+)
 
 __all__ = [
     # Cross-process atomic allocation (preferred)
@@ -31,4 +36,8 @@ __all__ = [
     "get_ephemeral_port",
     "is_port_available",
     "reserve_port",
+    # Listener probes (no process scan)
+    "parse_listening_ports",
+    "probe_connect",
+    "read_listening_ports",
 ]
@@ -8,6 +8,8 @@ Key features:
 - File locking (fcntl.flock) for atomic cross-process operations
 - Socket binding verification to handle TIME_WAIT states
 - Lease mechanism with automatic cleanup for crashed processes
+- Contiguous port blocks leased in one locked operation, for callers that
+  hand out many ports themselves
 - Simple API: allocate_port() and release_port()
 """
 
@@ -40,6 +42,7 @@ DEFAULT_LEASE_TIMEOUT_S = 300.0  # 5 minutes
 # Default port ranges
 DEFAULT_PORT_RANGE_START = 10000
 DEFAULT_PORT_RANGE_SIZE = 1000
+DEFAULT_BLOCK_SIZE = 16
 
 
 class CrossProcessPortAllocator:
@@ -227,11 +230,13 @@ class CrossProcessPortAllocator:
                 candidates.append(preferred)
             candidates.extend(range(range_start, range_start + range_size))
 
+            leased = self._leased_ports(registry)
+
             for port in candidates:
                 port_key = str(port)
 
                 # Skip if already leased (and lease is still valid)
-                if port_key in registry:
+                if port in leased:
                     continue
 
                 # Verify actually bindable (catches TIME_WAIT)
@@ -253,13 +258,96 @@ class CrossProcessPortAllocator:
             )
             raise RuntimeError(msg)
 
+    def allocate_block(
+        self,
+        range_start: int = DEFAULT_PORT_RANGE_START,
+        range_size: int = DEFAULT_PORT_RANGE_SIZE,
+        block_size: int = DEFAULT_BLOCK_SIZE,
+    ) -> int:
+        """Atomically lease a contiguous block of ports.
+
+        Blocks are aligned to ``block_size`` within the range and must not overlap
+        any other lease. The ports are not probed here; the caller verifies each
+        one when it hands it out, so a block costs one locked registry update no
+        matter how many ports it holds.
+
+        Parameters
+        ----------
+        range_start : int
+            Start of the port range
+        range_size : int
+            Number of ports in the range
+        block_size : int
+            Number of ports in the block
+
+        Returns
+        -------
+        int
+            First port of the block; release the block with ``release(start)``
+
+        Raises
+        ------
+        RuntimeError
+            If no free block is left in the range
+        """
+        block_size = max(1, min(block_size, range_size))
+        with self._lock():
+            registry = self._load()
+            self._cleanup_stale(registry)
+            leased = self._leased_ports(registry)
+
+            range_end = range_start + range_size
+            for start in range(range_start, range_end - block_size + 1, block_size):
+                if any(port in leased for port in range(start, start + block_size)):
+                    continue
+
+                registry[str(start)] = {
+                    "pid": os.getpid(),
+                    "timestamp": time.time(),
+                    "size": block_size,
+                }
+                self._save(registry)
+
+                logger.debug(
+                    "Leased port block %d-%d (pid=%d)",
+                    start,
+                    start + block_size - 1,
+                    os.getpid(),
+                )
+                return start
+
+            msg = (
+                f"No free block of {block_size} ports in range "
+                f"{range_start}-{range_end}"
+            )
+            raise RuntimeError(msg)
+
+    def renew(self, ports: list[int]) -> None:
+        """Extend the leases of ports or blocks held by this process.
+
+        Parameters
+        ----------
+        ports : list[int]
+            Allocated ports or block start ports
+        """
+        if not ports:
+            return
+        with self._lock():
+            registry = self._load()
+            now = time.time()
+            for port in ports:
+                info = registry.get(str(port))
+                if info is not None and info.get("pid") == os.getpid():
+                    info["timestamp"] = now
+            self._save(registry)
+
     def release(self, port: int) -> None:
-        """Release a previously allocated port.
+        """Release a previously allocated port or block.
 
         Parameters
         ----------
         port : int
-            Port to release
+            Port to release, or the first port of a block
         """
         with self._lock():
             registry = self._load()
@@ -299,6 +387,26 @@ class CrossProcessPortAllocator:
         except OSError as e:
             logger.warning("Failed to save port registry: %s", e)
 
+    @staticmethod
+    def _leased_ports(registry: dict) -> set[int]:
+        """Expand registry entries into the set of leased ports.
+
+        Parameters
+        ----------
+        registry : dict
+            Registry data; block leases carry a ``size``
+
+        Returns
+        -------
+        set[int]
+            Every port covered by a lease
+        """
+        leased: set[int] = set()
+        for port_key, info in registry.items():
+            start = int(port_key)
+            leased.update(range(start, start + info.get("size", 1)))
+        return leased
+
     def _cleanup_stale(self, registry: dict) -> None:
         """Remove leases older than timeout.
 
@@ -0,0 +1,127 @@
+"""Cheap checks for whether something is listening on a TCP port.
+
+Scanning every process with psutil to find a listener is slow on hosts running
+thousands of processes. These helpers answer the same question with one bulk read of
+the kernel's socket tables (``/proc/net/tcp`` and ``/proc/net/tcp6`` on Linux) or,
+where those are unavailable, with a non-blocking connect.
+"""
+
+import errno
+import select
+import socket
+from pathlib import Path
+
+from aidb_logging import get_logger
+
+logger = get_logger(__name__)
+
+PROC_NET_TCP_FILES = ("tcp", "tcp6")
+
+# Socket state column value for LISTEN in /proc/net/tcp{,6}
+TCP_LISTEN_STATE = "0A"
+
+_CONNECT_IN_PROGRESS = {
+    errno.EINPROGRESS,
+    errno.EWOULDBLOCK,
+    errno.EAGAIN,
+    10035,  # WSAEWOULDBLOCK
+}
+
+
+def parse_listening_ports(table: str) -> set[int]:
+    """Extract the local ports of LISTEN sockets from a /proc/net/tcp table.
+
+    Parameters
+    ----------
+    table : str
+        Contents of ``/proc/net/tcp`` or ``/proc/net/tcp6``
+
+    Returns
+    -------
+    set[int]
+        Local ports with a socket in LISTEN state
+    """
+    ports: set[int] = set()
+    for line in table.splitlines()[1:]:
+        # sl local_address rem_address st ...; local_address is ADDR:PORT in hex
+        fields = line.split(None, 4)
+        if len(fields) < 4 or fields[3] != TCP_LISTEN_STATE:
+            continue
+        _, _, port_hex = fields[1].rpartition(":")
+        try:
+            ports.add(int(port_hex, 16))
+        except ValueError:
+            continue
+    return ports
+
+
+def read_listening_ports(proc_root: Path = Path("/proc")) -> set[int] | None:
+    """Read the set of listening TCP ports from the kernel socket tables.
+
+    Each table is read once, so callers polling a port should take one snapshot per
+    poll iteration.
+
+    Parameters
+    ----------
+    proc_root : Path
+        Mount point of procfs, replaceable in tests
+
+    Returns
+    -------
+    set[int] | None
+        Listening ports over IPv4 and IPv6, or None if no table could be read
+        (e.g. on macOS or Windows)
+    """
+    ports: set[int] = set()
+    readable = False
+    for name in PROC_NET_TCP_FILES:
+        try:
+            table = (proc_root / "net" / name).read_text(encoding="ascii")
+        except OSError:
+            continue
+        readable = True
+        ports |= parse_listening_ports(table)
+    return ports if readable else None
+
+
+def probe_connect(
+    host: str,
+    port: int,
+    timeout: float = 0.1,
+    ipv6: bool = False,
+) -> bool:
+    """Check for a listener by opening and immediately closing a connection.
+
+    Unlike the socket tables this is visible to the listener, which sees a client
+    connect and disconnect. Avoid it for servers that accept only a single client.
+
+    Parameters
+    ----------
+    host : str
+        Host to connect to
+    port : int
+        Port to connect to
+    timeout : float
+        Maximum time to wait for the connection to complete, in seconds
+    ipv6 : bool
+        Whether to connect over IPv6
+
+    Returns
+    -------
+    bool
+        True if the connection was accepted
+    """
+    family = socket.AF_INET6 if ipv6 else socket.AF_INET
+    try:
+        with socket.socket(family, socket.SOCK_STREAM) as sock:
+            sock.setblocking(False)
+            err = sock.connect_ex((host, port))
+            if err in _CONNECT_IN_PROGRESS:
+                _, writable, _ = select.select([], [sock], [], timeout)
+                if not writable:
+                    return False
+                err = sock.getsockopt(socket.SOL_SOCKET, socket.SO_ERROR)
+            return err == 0
+    except OSError as e:
+        logger.debug("Connect probe to %s:%d failed: %s", host, port, e)
+        return False
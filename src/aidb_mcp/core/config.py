@@ -132,6 +132,10 @@ class PerformanceConfig:
     history_size: int = 1000
     span_history_size: int = 1000
 
+    # Span export
+    span_export_interval_ms: float = 500.0
+    span_window_s: float = 300.0
+
     # Token tracking
     token_estimation_method: str = "simple"  # noqa: S105
 
@@ -254,6 +258,8 @@ class MCPConfig:
             slow_threshold_ms=config.get_mcp_slow_threshold_ms(),
             history_size=config.get_mcp_timing_history_size(),
             span_history_size=config.get_mcp_timing_history_size(),
+            span_export_interval_ms=config.get_mcp_timing_export_interval_ms(),
+            span_window_s=config.get_mcp_timing_window_s(),
             token_estimation_method=config.get_mcp_token_estimation_method(),
         )
 
@@ -178,6 +178,7 @@ class VariableAction(Enum):
     GET = "get"
     SET = "set"
     PATCH = "patch"
+    EXPAND = "expand"
 
 
 class InspectTarget(Enum):
@@ -261,6 +262,9 @@ class DebugURI:
     SESSION_PREFIX = "debug://session/"
     BREAKPOINT_PREFIX = "debug://breakpoint/"
     WATCH_PREFIX = "debug://watch/"
+    METRICS_PREFIX = "debug://metrics/"
+    METRICS_LATENCY = "debug://metrics/latency"
+    METRICS_PROMETHEUS = "debug://metrics/prometheus"
 
     @staticmethod
     def event(event_type: str) -> str:
@@ -326,6 +330,9 @@ class ParamName:
     NAME = "name"
     VALUE = "value"
     CODE = "code"
+    START = "start"
+    CURSOR = "cursor"
+    FILTER = "filter"
 
     # Tool-specific parameters
     VERSION = "version"
@@ -250,6 +250,10 @@ def _synchronize_execution_state(
 ) -> None:
     """Synchronize session context with execution state."""
     if session_context and operation_name in ["step", "execute", "run_until"]:
+        # Variable references do not survive resuming execution
+        if hasattr(session_context, "clear_variable_cursors"):
+            session_context.clear_variable_cursors()
+
         # Check for execution state in result data
         if "data" in result:
             data = result["data"]
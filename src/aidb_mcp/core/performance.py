@@ -1,7 +1,8 @@
 """Lightweight performance profiling for MCP operations.
 
 This module provides timing decorators and span-based tracing for MCP operations. Uses
-central configuration via aidb_mcp.core.config.
+central configuration via aidb_mcp.core.config. Spans are kept in an in-memory ring
+buffer and written to the timing file in batches by a background exporter.
 """
 
 from __future__ import annotations
@@ -22,13 +23,15 @@ from aidb_logging import get_mcp_logger as get_logger
 from aidb_logging import get_request_id, set_request_id
 
 from .config import get_config
+from .performance_recorder import SpanExporter, SpanRingBuffer
 from .performance_types import PerformanceSpan, SpanType, TimingFormat
 
 logger = get_logger(__name__)
 
 # In-memory histories (circular buffers)
 _timing_history: deque[dict[str, Any]] = deque(maxlen=1000)
-_span_history: deque[PerformanceSpan] = deque(maxlen=1000)
+_span_history = SpanRingBuffer(1000)
+_span_exporter: SpanExporter | None = None
 _operation_counter = 0
 
 
@@ -46,12 +49,48 @@ def _get_config():
 def _ensure_history_size() -> None:
     """Ensure history buffers match configured size."""
     cfg = _get_config()
-    global _timing_history, _span_history
+    global _timing_history
 
     if _timing_history.maxlen != cfg.history_size:
         _timing_history = deque(_timing_history, maxlen=cfg.history_size)
     if _span_history.maxlen != cfg.span_history_size:
-        _span_history = deque(_span_history, maxlen=cfg.span_history_size)
+        # Resized in place: performance_utils holds a reference to the buffer
+        _span_history.resize(cfg.span_history_size)
+
+
+def _get_span_exporter() -> SpanExporter:
+    """Get the span exporter, starting its thread on first use.
+
+    Returns
+    -------
+    SpanExporter
+        Exporter draining ``_span_history``
+    """
+    global _span_exporter
+
+    if _span_exporter is None:
+        cfg = _get_config()
+        _span_exporter = SpanExporter(
+            _span_history,
+            _write_spans,
+            interval_s=cfg.span_export_interval_ms / 1000,
+            window_s=cfg.span_window_s,
+        )
+        _span_exporter.start()
+    return _span_exporter
+
+
+def flush_spans() -> int:
+    """Export recorded spans now instead of waiting for the next export pass.
+
+    Returns
+    -------
+    int
+        Number of spans written
+    """
+    if _span_exporter is None:
+        return 0
+    return _span_exporter.flush()
 
 
 class TraceSpan:
@@ -139,6 +178,7 @@ class TraceSpan:
 
         self.span.end_ns = time.perf_counter_ns()
         self.span.duration_ms = (self.span.end_ns - self.span.start_ns) / 1_000_000
+        self.span.end_time = time.time()
 
         if exc_type is not None:
             self.span.success = False
@@ -149,7 +189,7 @@ class TraceSpan:
 
 
 def _record_span(span: PerformanceSpan) -> None:
-    """Record a performance span to history and file.
+    """Record a performance span for history and background export.
 
     Parameters
     ----------
@@ -158,75 +198,86 @@ def _record_span(span: PerformanceSpan) -> None:
     """
     _ensure_history_size()
     _span_history.append(span)
+    _get_span_exporter()
 
-    cfg = _get_config()
 
-    try:
-        log_path = Path(cfg.timing_file)
-        log_path.parent.mkdir(parents=True, exist_ok=True)
+def _write_spans(spans: list[PerformanceSpan]) -> None:
+    """Write a batch of spans to the timing file in the configured format.
 
-        fmt = TimingFormat(cfg.timing_format)
+    Parameters
+    ----------
+    spans : list[PerformanceSpan]
+        Spans to write, oldest first
+    """
+    cfg = _get_config()
+    log_path = Path(cfg.timing_file)
+    log_path.parent.mkdir(parents=True, exist_ok=True)
 
-        if fmt == TimingFormat.JSON:
-            _write_span_json(log_path, span)
-        elif fmt == TimingFormat.CSV:
-            _write_span_csv(log_path, span)
-        else:
-            _write_span_text(log_path, span)
+    fmt = TimingFormat(cfg.timing_format)
 
-    except Exception as e:
-        logger.debug("Failed to write span: %s", e)
+    if fmt == TimingFormat.JSON:
+        _write_spans_json(log_path, spans)
+    elif fmt == TimingFormat.CSV:
+        _write_spans_csv(log_path, spans)
+    else:
+        _write_spans_text(log_path, spans)
 
 
-def _write_span_json(log_path: Path, span: PerformanceSpan) -> None:
-    """Write span as JSON line.
+def _write_spans_json(log_path: Path, spans: list[PerformanceSpan]) -> None:
+    """Write spans as JSON lines.
 
     Parameters
     ----------
     log_path : Path
         Path to log file
-    span : PerformanceSpan
-        Span to write
+    spans : list[PerformanceSpan]
+        Spans to write
     """
-    data = {
-        "timestamp": time.time(),
-        **span.to_dict(),
-    }
+    lines = [
+        json.dumps({"timestamp": span.end_time or time.time(), **span.to_dict()})
+        for span in spans
+    ]
 
     with log_path.open("a") as f:
-        f.write(json.dumps(data) + "\n")
+        f.write("\n".join(lines) + "\n")
 
 
-def _write_span_text(log_path: Path, span: PerformanceSpan) -> None:
-    """Write span in human-readable format.
+def _write_spans_text(log_path: Path, spans: list[PerformanceSpan]) -> None:
+    """Write spans in human-readable format.
 
     Parameters
     ----------
     log_path : Path
         Path to log file
-    span : PerformanceSpan
-        Span to write
+    spans : list[PerformanceSpan]
+        Spans to write
     """
     cfg = _get_config()
-    timestamp = time.strftime("%Y-%m-%d %H:%M:%S")
-    slow_marker = " ⚠️" if span.duration_ms > cfg.slow_threshold_ms else ""
-
-    with log_path.open("a") as f:
-        f.write(
+    lines = []
+    for span in spans:
+        timestamp = time.strftime(
+            "%Y-%m-%d %H:%M:%S",
+            time.localtime(span.end_time or None),
+        )
+        slow_marker = " ⚠️" if span.duration_ms > cfg.slow_threshold_ms else ""
+        lines.append(
             f"[{timestamp}] [{span.span_type.value}] {span.operation} - "
             f"{span.duration_ms:.1f}ms{slow_marker}\n",
         )
 
+    with log_path.open("a") as f:
+        f.write("".join(lines))
+
 
-def _write_span_csv(log_path: Path, span: PerformanceSpan) -> None:
-    """Write span as CSV row.
+def _write_spans_csv(log_path: Path, spans: list[PerformanceSpan]) -> None:
+    """Write spans as CSV rows.
 
     Parameters
     ----------
     log_path : Path
         Path to log file
-    span : PerformanceSpan
-        Span to write
+    spans : list[PerformanceSpan]
+        Spans to write
     """
     # Write header if file doesn't exist
     write_header = not log_path.exists()
@@ -247,16 +298,17 @@ def _write_span_csv(log_path: Path, span: PerformanceSpan) -> None:
                 ],
             )
 
-        writer.writerow(
+        writer.writerows(
             [
-                time.time(),
+                span.end_time or time.time(),
                 span.span_id,
                 span.span_type.value,
                 span.operation,
                 span.duration_ms,
                 span.success,
                 span.error or "",
-            ],
+            ]
+            for span in spans
         )
 
 
@@ -427,6 +479,9 @@ def timed(func: F) -> F:
 def get_timing_stats() -> dict[str, Any] | None:
     """Get current timing statistics.
 
+    Includes rolling p50/p95/p99 latencies of traced spans per operation and span
+    type when detailed timing is enabled.
+
     Returns
     -------
     dict[str, Any] | None
@@ -434,11 +489,20 @@ def get_timing_stats() -> dict[str, Any] | None:
     """
     try:
         cfg = _get_config()
-        if not cfg.timing_enabled or not _timing_history:
+        if not cfg.timing_enabled:
             return None
     except Exception:
         return None
 
+    span_percentiles: dict[str, Any] = {}
+    if _span_exporter is not None:
+        # Pick up spans recorded since the last export pass
+        _span_exporter.flush()
+        span_percentiles = _span_exporter.percentiles()
+
+    if not _timing_history and not span_percentiles:
+        return None
+
     ops_stats: dict[str, list[float]] = {}
     for entry in _timing_history:
         op = entry["operation"]
@@ -464,13 +528,18 @@ def get_timing_stats() -> dict[str, Any] | None:
             ),
         }
 
-    return {
+    result: dict[str, Any] = {
         "enabled": cfg.timing_enabled,
         "total_operations": len(_timing_history),
         "operations": stats,
         "slow_threshold_ms": cfg.slow_threshold_ms,
         "log_file": cfg.timing_file,
     }
+    if span_percentiles:
+        result["span_percentiles"] = span_percentiles
+        result["span_window_s"] = cfg.span_window_s
+        result["span_export"] = _span_exporter.stats if _span_exporter else {}
+    return result
 
 
 # Log startup message if enabled
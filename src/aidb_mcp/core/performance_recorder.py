@@ -0,0 +1,276 @@
+"""In-memory span recording and background export.
+
+Recording a span must stay cheap on the request path, so ``TraceSpan`` only stores
+the finished span in a fixed-size ring buffer. A daemon thread periodically picks up
+the spans recorded since its last pass, writes them to the timing file as one batch
+and folds their durations into rolling per-operation histograms.
+"""
+
+from __future__ import annotations
+
+import atexit
+import itertools
+import threading
+from collections.abc import Callable, Iterator
+from typing import Any, overload
+
+from aidb_common.metrics import DEFAULT_PERCENTILES, RollingHistogram
+from aidb_logging import get_mcp_logger as get_logger
+
+from .performance_types import PerformanceSpan
+
+__all__ = [
+    "SpanExporter",
+    "SpanRingBuffer",
+]
+
+logger = get_logger(__name__)
+
+
+class SpanRingBuffer:
+    """Fixed-capacity ring buffer of spans with lock-free appends.
+
+    Writers claim a sequence number from an ``itertools.count`` (atomic under the
+    GIL) and store ``(seq, span)`` in slot ``seq % capacity``; no lock is taken on
+    the append path. Readers rebuild the order from the sequence numbers, and the
+    exporter uses them as a cursor to pick up only new spans.
+
+    The buffer supports the deque operations existing callers rely on (``len``,
+    indexing, iteration oldest first, ``clear`` and ``maxlen``), and is resized in
+    place so that modules holding a reference keep seeing the live history.
+
+    Parameters
+    ----------
+    capacity : int
+        Number of spans retained
+    """
+
+    def __init__(self, capacity: int) -> None:
+        self._capacity = max(1, capacity)
+        self._slots: list[tuple[int, PerformanceSpan] | None] = [None] * self._capacity
+        self._seq = itertools.count()
+        self._resize_lock = threading.Lock()
+
+    @property
+    def maxlen(self) -> int:
+        """Get the buffer capacity."""
+        return self._capacity
+
+    def append(self, span: PerformanceSpan) -> None:
+        """Record a span, overwriting the oldest one when full.
+
+        Parameters
+        ----------
+        span : PerformanceSpan
+            Finished span
+        """
+        seq = next(self._seq)
+        slots = self._slots
+        slots[seq % len(slots)] = (seq, span)
+
+    def _entries(self) -> list[tuple[int, PerformanceSpan]]:
+        entries = sorted(
+            (entry for entry in list(self._slots) if entry is not None),
+            key=lambda entry: entry[0],
+        )
+        # After a resize, slots may briefly hold entries older than the window
+        return entries[-self._capacity :]
+
+    def since(self, cursor: int) -> tuple[list[PerformanceSpan], int, int]:
+        """Get the spans recorded at or after a sequence number.
+
+        Parameters
+        ----------
+        cursor : int
+            First sequence number not seen by the caller yet
+
+        Returns
+        -------
+        tuple[list[PerformanceSpan], int, int]
+            New spans oldest first, the cursor to pass next time, and how many
+            spans were overwritten before the caller picked them up
+        """
+        entries = [entry for entry in self._entries() if entry[0] >= cursor]
+        if not entries:
+            return [], cursor, 0
+        lost = entries[0][0] - cursor
+        return [span for _, span in entries], entries[-1][0] + 1, lost
+
+    def resize(self, capacity: int) -> None:
+        """Change the capacity, keeping the newest spans.
+
+        Parameters
+        ----------
+        capacity : int
+            New number of spans retained
+        """
+        capacity = max(1, capacity)
+        with self._resize_lock:
+            if capacity == self._capacity:
+                return
+            slots: list[tuple[int, PerformanceSpan] | None] = [None] * capacity
+            for seq, span in self._entries()[-capacity:]:
+                slots[seq % capacity] = (seq, span)
+            self._slots = slots
+            self._capacity = capacity
+
+    def clear(self) -> None:
+        """Drop all retained spans; sequence numbers keep increasing."""
+        self._slots = [None] * self._capacity
+
+    def __len__(self) -> int:
+        return len(self._entries())
+
+    def __bool__(self) -> bool:
+        return any(entry is not None for entry in self._slots)
+
+    @overload
+    def __getitem__(self, index: int) -> PerformanceSpan: ...
+
+    @overload
+    def __getitem__(self, index: slice) -> list[PerformanceSpan]: ...
+
+    def __getitem__(
+        self,
+        index: int | slice,
+    ) -> PerformanceSpan | list[PerformanceSpan]:
+        spans = [span for _, span in self._entries()]
+        return spans[index]
+
+    def __iter__(self) -> Iterator[PerformanceSpan]:
+        return iter([span for _, span in self._entries()])
+
+
+class SpanExporter:
+    """Daemon thread exporting spans from a ring buffer in batches.
+
+    Each pass writes all spans recorded since the previous pass through
+    ``write_batch`` and records their durations in per ``(operation, span type)``
+    rolling histograms.
+
+    Parameters
+    ----------
+    buffer : SpanRingBuffer
+        Buffer the spans are recorded into
+    write_batch : Callable[[list[PerformanceSpan]], None]
+        Writes one batch of spans, e.g. to the timing file
+    interval_s : float
+        Seconds between export passes
+    window_s : float
+        Window of the rolling percentile histograms
+    """
+
+    def __init__(
+        self,
+        buffer: SpanRingBuffer,
+        write_batch: Callable[[list[PerformanceSpan]], None],
+        interval_s: float,
+        window_s: float,
+    ) -> None:
+        self._buffer = buffer
+        self._write_batch = write_batch
+        self._interval_s = max(interval_s, 0.01)
+        self._window_s = window_s
+        self._cursor = 0
+        self._export_lock = threading.Lock()
+        self._histograms: dict[tuple[str, str], RollingHistogram] = {}
+        self._histograms_lock = threading.Lock()
+        self._wakeup = threading.Event()
+        self._thread: threading.Thread | None = None
+        self._exported = 0
+        self._lost = 0
+
+    def start(self) -> None:
+        """Start the export thread if it is not running yet."""
+        if self._thread is not None and self._thread.is_alive():
+            return
+        self._thread = threading.Thread(
+            target=self._run,
+            daemon=True,
+            name="SpanExporter",
+        )
+        self._thread.start()
+        atexit.register(self.flush)
+
+    def _run(self) -> None:
+        while True:
+            self._wakeup.wait(self._interval_s)
+            self._wakeup.clear()
+            self.flush()
+
+    def flush(self) -> int:
+        """Export spans recorded since the last pass on the calling thread.
+
+        Returns
+        -------
+        int
+            Number of spans exported
+        """
+        with self._export_lock:
+            spans, self._cursor, lost = self._buffer.since(self._cursor)
+            if lost:
+                self._lost += lost
+                logger.debug("Span buffer overwrote %d unexported spans", lost)
+            if not spans:
+                return 0
+
+            for span in spans:
+                self._histogram(span).record(span.duration_ms)
+            self._exported += len(spans)
+
+            try:
+                self._write_batch(spans)
+            except Exception as e:
+                logger.debug("Failed to write spans: %s", e)
+            return len(spans)
+
+    def _histogram(self, span: PerformanceSpan) -> RollingHistogram:
+        key = (span.operation, span.span_type.value)
+        histogram = self._histograms.get(key)
+        if histogram is None:
+            with self._histograms_lock:
+                histogram = self._histograms.setdefault(
+                    key,
+                    RollingHistogram(self._window_s),
+                )
+        return histogram
+
+    def percentiles(
+        self,
+        percentiles: tuple[float, ...] = DEFAULT_PERCENTILES,
+    ) -> dict[str, dict[str, dict[str, Any]]]:
+        """Get rolling latency percentiles per operation and span type.
+
+        Parameters
+        ----------
+        percentiles : tuple[float, ...]
+            Percentiles to report
+
+        Returns
+        -------
+        dict[str, dict[str, dict[str, Any]]]
+            ``{operation: {span_type: summary}}`` for spans inside the window
+        """
+        with self._histograms_lock:
+            items = list(self._histograms.items())
+
+        result: dict[str, dict[str, dict[str, Any]]] = {}
+        for (operation, span_type), histogram in sorted(items):
+            snapshot = histogram.snapshot()
+            if snapshot.count:
+                result.setdefault(operation, {})[span_type] = snapshot.summary(
+                    percentiles,
+                )
+        return result
+
+    def reset(self) -> None:
+        """Forget the histograms and skip spans that were not exported yet."""
+        with self._export_lock:
+            _, self._cursor, _ = self._buffer.since(self._cursor)
+            with self._histograms_lock:
+                self._histograms.clear()
+
+    @property
+    def stats(self) -> dict[str, int]:
+        """Get the number of exported spans and spans lost to overwrites."""
+        return {"exported": self._exported, "lost": self._lost}
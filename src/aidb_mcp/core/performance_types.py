@@ -73,6 +73,8 @@ class PerformanceSpan:
         End time in nanoseconds
     duration_ms : float
         Duration in milliseconds
+    end_time : float
+        Wall-clock end time (``time.time()``), used when the span is exported
     metadata : dict[str, Any]
         Additional span metadata
     success : bool
@@ -95,6 +97,7 @@ class PerformanceSpan:
     start_ns: int = 0
     end_ns: int = 0
     duration_ms: float = 0.0
+    end_time: float = 0.0
     metadata: dict[str, Any] = field(default_factory=dict)
     success: bool = True
     error: str | None = None
@@ -6,8 +6,11 @@ breakpoints, and execution history.
 
 from __future__ import annotations
 
+import asyncio
+from collections.abc import Awaitable
 from typing import Any
 
+from aidb_common.config import config
 from aidb_logging import get_mcp_logger as get_logger
 
 from ...core.constants import BreakpointStatus
@@ -17,11 +20,18 @@ from .analysis import _analyze_execution_patterns, _calculate_success_rate
 logger = get_logger(__name__)
 
 
+def _variables_to_dicts(variables: Any) -> list[dict[str, Any]]:
+    """Convert a variables collection (by name or as a list) to name/value dicts."""
+    items = variables.values() if isinstance(variables, dict) else variables
+    return [{"name": var.name, "value": var.value} for var in items]
+
+
 async def _build_frame_data(
     frame: Any,
     index: int,
     service: Any,
     verbose: bool,
+    frame_locals: Awaitable[Any] | None = None,
 ) -> dict[str, Any]:
     """Build frame data for a stack frame.
 
@@ -35,6 +45,9 @@ async def _build_frame_data(
         Debug service instance
     verbose : bool
         Whether to include verbose details
+    frame_locals : Awaitable[Any], optional
+        Locals request already in flight for this frame, shared with other
+        consumers; fetched here if not given
 
     Returns
     -------
@@ -67,15 +80,14 @@ async def _build_frame_data(
     if verbose and frame.id:
         try:
             logger.debug("Retrieving locals for frame %d", index)
-            frame_locals = await service.variables.locals(frame.id) if service else None
-            if frame_locals and frame_locals.variables:
-                var_count = len(frame_locals.variables)
+            if frame_locals is None and service:
+                frame_locals = service.variables.locals(frame.id)
+            locals_response = await frame_locals if frame_locals else None
+            if locals_response and locals_response.variables:
+                var_count = len(locals_response.variables)
 
                 # Convert variables to dicts first
-                all_vars = [
-                    {"name": var.name, "value": var.value}
-                    for var in frame_locals.variables
-                ]
+                all_vars = _variables_to_dicts(locals_response.variables)
 
                 # Apply variable limits
                 limited_vars, was_truncated = ResponseLimiter.limit_variables(all_vars)
@@ -185,30 +197,55 @@ async def _build_paused_context(
                 len(limited_frames),
             )
 
-        stack_frames = []
-        for i, frame in enumerate(limited_frames):
-            frame_data = await _build_frame_data(frame, i, service, verbose)
-            stack_frames.append(frame_data)
+        # The current frame's locals serve both its frame entry and the
+        # top-level variables, so they are requested once, up front
+        current_locals: asyncio.Future[Any] | None = None
+        if verbose and current_frame.id and service:
+            current_locals = asyncio.ensure_future(
+                service.variables.locals(current_frame.id),
+            )
+
+        # Frames are built concurrently within a bounded window; DAP responses
+        # to scopes/variables requests are awaited in parallel, and gather keeps
+        # the frames in stack order
+        window = asyncio.Semaphore(max(1, config.get_mcp_context_concurrency()))
+
+        async def build_frame(index: int, frame: Any) -> dict[str, Any]:
+            async with window:
+                return await _build_frame_data(
+                    frame,
+                    index,
+                    service,
+                    verbose,
+                    frame_locals=current_locals if index == 0 else None,
+                )
+
+        try:
+            stack_frames = list(
+                await asyncio.gather(
+                    *(
+                        build_frame(index, frame)
+                        for index, frame in enumerate(limited_frames)
+                    ),
+                ),
+            )
+        except BaseException:
+            if current_locals is not None:
+                current_locals.cancel()
+            raise
 
         context["stack_frames"] = stack_frames
         logger.debug("Built stack trace with %d frames", len(stack_frames))
 
-        if verbose and current_frame.id:
+        if current_locals is not None:
             try:
                 logger.debug("Retrieving current frame variables")
-                locals_response = (
-                    await service.variables.locals(current_frame.id)
-                    if service
-                    else None
-                )
+                locals_response = await current_locals
                 if locals_response and locals_response.variables:
                     var_count = len(locals_response.variables)
 
                     # Convert variables to dicts first
-                    all_vars = [
-                        {"name": var.name, "value": var.value}
-                        for var in locals_response.variables
-                    ]
+                    all_vars = _variables_to_dicts(locals_response.variables)
 
                     # Apply variable limits
                     limited_vars, var_truncated = ResponseLimiter.limit_variables(
@@ -7,19 +7,30 @@ from __future__ import annotations
 
 from typing import Any
 
+from aidb.common.constants import (
+    DEFAULT_VARIABLE_PAGE_SIZE,
+    VARIABLE_FILTER_INDEXED,
+    VARIABLE_FILTER_NAMED,
+)
 from aidb_logging import get_mcp_logger as get_logger
 
 from ...core import ToolName, VariableAction
 from ...core.constants import ParamName
 from ...core.decorators import mcp_tool
-from ...responses import VariableGetResponse, VariableSetResponse
+from ...responses import (
+    VariableExpandResponse,
+    VariableGetResponse,
+    VariableSetResponse,
+)
 from ...responses.errors import InternalError, UnsupportedOperationError
 from ...responses.helpers import (
     internal_error,
+    invalid_parameter,
     is_session_paused,
     missing_parameter,
     not_paused,
 )
+from ...session.context import VariableCursor
 from ...tools.actions import normalize_action
 
 logger = get_logger(__name__)
@@ -149,6 +160,141 @@ async def _handle_set_variable(
     ).to_mcp_response()
 
 
+def _int_param(args: dict[str, Any], name: str, default: int) -> int | None:
+    """Read a non-negative integer parameter, returning None if invalid."""
+    value = args.get(name)
+    if value is None:
+        return default
+    try:
+        number = int(value)
+    except (TypeError, ValueError):
+        return None
+    return number if number >= 0 else None
+
+
+async def _resolve_expand_target(
+    service,
+    args: dict[str, Any],
+) -> VariableCursor | dict[str, Any]:
+    """Build the starting cursor for an expansion, or an error response."""
+    expression = args.get(ParamName.EXPRESSION)
+    if not expression:
+        return missing_parameter(
+            param_name=ParamName.EXPRESSION,
+            param_description=(
+                "Provide 'expression' naming the collection to expand, or a "
+                "'cursor' from a previous expand"
+            ),
+        )
+
+    variable_filter = args.get(ParamName.FILTER)
+    if variable_filter not in (None, VARIABLE_FILTER_INDEXED, VARIABLE_FILTER_NAMED):
+        return invalid_parameter(
+            param_name=ParamName.FILTER,
+            expected_type=f"'{VARIABLE_FILTER_INDEXED}' or '{VARIABLE_FILTER_NAMED}'",
+            received_value=variable_filter,
+        )
+
+    start = _int_param(args, ParamName.START, 0)
+    page_size = _int_param(args, ParamName.COUNT, DEFAULT_VARIABLE_PAGE_SIZE)
+    if start is None or not page_size:
+        bad = ParamName.START if start is None else ParamName.COUNT
+        return invalid_parameter(
+            param_name=bad,
+            expected_type="non-negative integer (count >= 1)",
+            received_value=args.get(bad),
+        )
+
+    frame_param = args.get(ParamName.FRAME, 0) or None
+    result = await service.variables.evaluate(expression, frame_id=frame_param)
+    if not result.variables_reference:
+        return invalid_parameter(
+            param_name=ParamName.EXPRESSION,
+            expected_type="expression with children (object, array, map)",
+            received_value=expression,
+            error_message=f"'{expression}' has no children to expand",
+        )
+
+    return VariableCursor(
+        expression=expression,
+        variables_reference=result.variables_reference,
+        next_start=start,
+        page_size=page_size,
+        variable_filter=variable_filter,
+        indexed_variables=result.indexed_variables,
+        named_variables=result.named_variables,
+    )
+
+
+async def _handle_expand_variable(
+    service,
+    session_id: str | None,
+    args: dict[str, Any],
+) -> dict[str, Any]:
+    """Handle EXPAND variable action.
+
+    Returns one bounded page of children. When more remain, a server-side cursor
+    is returned; passing it back continues where the page ended. Cursors are
+    discarded when execution resumes.
+    """
+    context = args.get("_context")
+    cursor_id = args.get(ParamName.CURSOR)
+
+    if cursor_id:
+        cursor = context.get_variable_cursor(cursor_id) if context else None
+        if cursor is None:
+            return invalid_parameter(
+                param_name=ParamName.CURSOR,
+                expected_type="cursor from the latest expand at this pause",
+                received_value=cursor_id,
+                error_message=(
+                    "Cursor expired (execution resumed or too many open cursors); "
+                    "expand the expression again"
+                ),
+            )
+    else:
+        resolved = await _resolve_expand_target(service, args)
+        if isinstance(resolved, dict):
+            return resolved
+        cursor = resolved
+
+    logger.debug(
+        "Expanding variable page",
+        extra={
+            "action": VariableAction.EXPAND.name,
+            "expression": cursor.expression,
+            "start": cursor.next_start,
+            "count": cursor.page_size,
+        },
+    )
+    page = await service.variables.get_variables_page(
+        cursor.variables_reference,
+        start=cursor.next_start,
+        count=cursor.page_size,
+        variable_filter=cursor.variable_filter,
+        indexed_variables=cursor.indexed_variables,
+        named_variables=cursor.named_variables,
+    )
+
+    next_cursor = None
+    if context is not None:
+        if page.has_more:
+            cursor.next_start = page.next_start
+            cursor.variable_filter = page.variable_filter
+            next_cursor = context.save_variable_cursor(cursor, cursor_id)
+        elif cursor_id:
+            context.drop_variable_cursor(cursor_id)
+
+    return VariableExpandResponse(
+        expression=cursor.expression,
+        children={name: var.to_compact() for name, var in page.variables.items()},
+        start=page.start,
+        total=page.total,
+        cursor=next_cursor,
+        session_id=session_id,
+    ).to_mcp_response()
+
+
 async def _handle_patch_variable(
     _service,
     _session_id: str | None,
@@ -198,6 +344,7 @@ async def handle_variable(args: dict[str, Any]) -> dict[str, Any]:
         VariableAction.GET: _handle_get_variable,
         VariableAction.SET: _handle_set_variable,
         VariableAction.PATCH: _handle_patch_variable,
+        VariableAction.EXPAND: _handle_expand_variable,
     }
 
     # Phase 2: handler_args now includes (service, session_id)
@@ -219,7 +366,11 @@ async def handle_variable(args: dict[str, Any]) -> dict[str, Any]:
 
     # Check paused state for GET and SET actions (Phase 2: using service)
     action_str = normalize_action(raw_action, "variable")
-    if action_str in [VariableAction.GET.value, VariableAction.SET.value]:
+    if action_str in [
+        VariableAction.GET.value,
+        VariableAction.SET.value,
+        VariableAction.EXPAND.value,
+    ]:
         pause_error = _check_paused_state(service, context)
         if pause_error:
             return pause_error
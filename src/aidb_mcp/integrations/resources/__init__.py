@@ -1,4 +1,4 @@
-"""MCP Resources for debugging sessions, breakpoints, and watches.
+"""MCP Resources for debugging sessions, breakpoints, watches, and latency metrics.
 
 This package provides MCP resource definitions that expose debugging state as queryable
 and manageable resources.
@@ -10,6 +10,7 @@ from .deletion import delete_resource
 from .listing import (
     get_all_resources,
     get_breakpoint_resources,
+    get_metrics_resources,
     get_session_resources,
     get_watch_resources,
 )
@@ -22,6 +23,7 @@ class ResourceType:
     SESSION = "session"
     BREAKPOINT = "breakpoint"
     WATCH = "watch"
+    METRICS = "metrics"
 
 
 __all__ = [
@@ -29,6 +31,7 @@ __all__ = [
     "get_session_resources",
     "get_breakpoint_resources",
     "get_watch_resources",
+    "get_metrics_resources",
     "get_all_resources",
     "read_resource",
     "delete_resource",
@@ -214,6 +214,32 @@ def get_watch_resources(session_id: str | None = None) -> list[Resource]:
     return resources
 
 
+def get_metrics_resources() -> list[Resource]:
+    """Get the process-wide latency metrics as MCP resources.
+
+    Returns
+    -------
+    List[Resource]
+        JSON percentile summary and Prometheus text views of the registry
+    """
+    return [
+        Resource(
+            uri=AnyUrl(DebugURI.METRICS_LATENCY),
+            name="Latency metrics",
+            description=(
+                "p50/p95/p99 latency per DAP command, JDT LS method and launch phase"
+            ),
+            mimeType="application/json",
+        ),
+        Resource(
+            uri=AnyUrl(DebugURI.METRICS_PROMETHEUS),
+            name="Latency metrics (Prometheus)",
+            description="Latency histograms in the Prometheus text format",
+            mimeType="text/plain",
+        ),
+    ]
+
+
 def get_all_resources() -> list[Resource]:
     """Get all debugging resources.
 
@@ -227,6 +253,7 @@ def get_all_resources() -> list[Resource]:
     resources.extend(get_session_resources())
     resources.extend(get_breakpoint_resources())
     resources.extend(get_watch_resources())
+    resources.extend(get_metrics_resources())
 
     logger.info(
         "Retrieved all debugging resources",
@@ -9,6 +9,7 @@ import json
 
 from mcp.types import AnyUrl, ResourceContents, TextResourceContents
 
+from aidb_common.metrics import get_metrics_registry
 from aidb_logging import get_mcp_logger as get_logger
 
 from ...core.constants import DebugURI
@@ -242,6 +243,45 @@ def _read_watch_resource(resource_id: str, uri: str) -> ResourceContents:
     )
 
 
+def _read_metrics_resource(resource_id: str, uri: str) -> ResourceContents:
+    """Read a latency metrics resource.
+
+    Parameters
+    ----------
+    resource_id : str
+        ``latency`` for the JSON summary or ``prometheus`` for exposition text
+    uri : str
+        Original URI
+
+    Returns
+    -------
+    ResourceContents
+        Metrics resource content
+
+    Raises
+    ------
+    ValueError
+        If the metrics view is unknown
+    """
+    registry = get_metrics_registry()
+
+    if resource_id == "prometheus":
+        return TextResourceContents(
+            uri=AnyUrl(uri),
+            text=registry.to_prometheus(),
+            mimeType="text/plain",
+        )
+    if resource_id == "latency":
+        return TextResourceContents(
+            uri=AnyUrl(uri),
+            text=json.dumps(registry.snapshot(), indent=2),
+            mimeType="application/json",
+        )
+
+    msg = f"Unknown metrics resource: {resource_id}"
+    raise ValueError(msg)
+
+
 def read_resource(uri: str) -> ResourceContents:
     """Read a debugging resource by URI.
 
@@ -271,6 +311,7 @@ def read_resource(uri: str) -> ResourceContents:
             ResourceType.SESSION: _read_session_resource,
             ResourceType.BREAKPOINT: _read_breakpoint_resource,
             ResourceType.WATCH: _read_watch_resource,
+            ResourceType.METRICS: _read_metrics_resource,
         }
 
         handler = resource_handlers.get(resource_type)
@@ -25,6 +25,7 @@ from .inspection import (
     BreakpointListResponse,
     BreakpointMutationResponse,
     InspectResponse,
+    VariableExpandResponse,
     VariableGetResponse,
     VariableSetResponse,
 )
@@ -55,6 +56,7 @@ __all__ = [
     "RunUntilResponse",
     # Inspection responses
     "InspectResponse",
+    "VariableExpandResponse",
     "VariableGetResponse",
     "VariableSetResponse",
     "BreakpointMutationResponse",
@@ -4,6 +4,7 @@ This module provides response classes for runtime inspection operations:
 - InspectResponse: For inspecting locals, globals, stack, threads, or expressions
 - VariableGetResponse: For retrieving variable values
 - VariableSetResponse: For modifying variable values
+- VariableExpandResponse: For paging through the children of a variable
 - BreakpointMutationResponse: For setting/removing breakpoints
 - BreakpointListResponse: For listing active breakpoints
 
@@ -111,6 +112,27 @@ class VariableGetResponse(Response):
         return response
 
 
+@dataclass
+class VariableExpandResponse(Response):
+    """Response for one page of a variable's children."""
+
+    expression: str = ""
+    children: dict[str, Any] = field(default_factory=dict)
+    start: int = 0
+    total: int | None = None
+    cursor: str | None = None
+
+    def _generate_summary(self) -> str:
+        end = self.start + len(self.children)
+        of_total = f" of {self.total}" if self.total is not None else ""
+        if not self.children:
+            return f"No children of '{self.expression}' at {self.start}{of_total}"
+        more = " (more available)" if self.cursor else ""
+        return (
+            f"Children {self.start}-{end - 1}{of_total} of '{self.expression}'{more}"
+        )
+
+
 @dataclass
 class VariableSetResponse(Response):
     """Response for variable set operation."""
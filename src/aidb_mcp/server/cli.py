@@ -50,6 +50,14 @@ async def _async_main() -> None:
             await shutdown_jdtls_project_pool()
         except Exception as e:  # pragma: no cover - defensive cleanup
             logger.debug("JDT LS project pool shutdown skipped: %s", e)
+        try:
+            from aidb.adapters.lang.java.tooling.compile_server import (
+                shutdown_java_compile_servers,
+            )
+
+            await shutdown_java_compile_servers()
+        except Exception as e:  # pragma: no cover - defensive cleanup
+            logger.debug("Java compile server shutdown skipped: %s", e)
         logger.info("Server shutdown complete")
 
 
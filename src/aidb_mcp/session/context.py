@@ -2,6 +2,8 @@
 
 from __future__ import annotations
 
+import uuid
+from collections import OrderedDict
 from dataclasses import dataclass, field
 from typing import TYPE_CHECKING, Any
 
@@ -16,6 +18,26 @@ if TYPE_CHECKING:
 
 logger = get_logger(__name__)
 
+# Open variable expansion cursors kept per session (oldest are dropped)
+MAX_VARIABLE_CURSORS = 32
+
+
+@dataclass
+class VariableCursor:
+    """Position of an incremental walk over the children of a variable.
+
+    Variable references are only valid while execution stays paused, so cursors
+    are discarded whenever execution resumes.
+    """
+
+    expression: str
+    variables_reference: int
+    next_start: int
+    page_size: int
+    variable_filter: str | None = None
+    indexed_variables: int | None = None
+    named_variables: int | None = None
+
 
 @dataclass
 class MCPSessionContext:
@@ -74,6 +96,11 @@ class MCPSessionContext:
     # Event bridge subscription IDs for cleanup
     event_subscription_ids: list[str] = field(default_factory=list)
 
+    # Open variable expansion cursors, keyed by cursor ID
+    variable_cursors: OrderedDict[str, VariableCursor] = field(
+        default_factory=OrderedDict,
+    )
+
     def reset(self):
         """Reset the context to initial state."""
         logger.debug(
@@ -119,6 +146,8 @@ class MCPSessionContext:
         # Reset event subscription IDs
         self.event_subscription_ids = []
 
+        self.variable_cursors.clear()
+
     def update_position(self, frame: AidbStackFrame | None = None):
         """Update current position from a stack frame."""
         if frame:
@@ -163,3 +192,46 @@ class MCPSessionContext:
         )
 
         self.execution_history.append(step_record)
+
+    def save_variable_cursor(
+        self,
+        cursor: VariableCursor,
+        cursor_id: str | None = None,
+    ) -> str:
+        """Store a variable expansion cursor.
+
+        Parameters
+        ----------
+        cursor : VariableCursor
+            Cursor state
+        cursor_id : str, optional
+            Existing cursor ID to update; a new ID is created if omitted
+
+        Returns
+        -------
+        str
+            The cursor ID to hand back to the client
+        """
+        cursor_id = cursor_id or uuid.uuid4().hex[:12]
+        self.variable_cursors[cursor_id] = cursor
+        self.variable_cursors.move_to_end(cursor_id)
+        while len(self.variable_cursors) > MAX_VARIABLE_CURSORS:
+            self.variable_cursors.popitem(last=False)
+        return cursor_id
+
+    def get_variable_cursor(self, cursor_id: str) -> VariableCursor | None:
+        """Get a stored variable expansion cursor, if still valid."""
+        return self.variable_cursors.get(cursor_id)
+
+    def drop_variable_cursor(self, cursor_id: str) -> None:
+        """Discard a variable expansion cursor."""
+        self.variable_cursors.pop(cursor_id, None)
+
+    def clear_variable_cursors(self) -> None:
+        """Discard all cursors, e.g. when execution resumes."""
+        if self.variable_cursors:
+            logger.debug(
+                "Discarding variable cursors",
+                extra={"cursor_count": len(self.variable_cursors)},
+            )
+            self.variable_cursors.clear()
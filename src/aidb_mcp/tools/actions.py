@@ -109,6 +109,8 @@ ACTION_ALIASES: dict[str, dict[str, str]] = {
         "write": "set",
         "modify": "patch",
         "update": "patch",
+        "children": "expand",
+        "page": "expand",
     },
     ToolName.ADAPTER: {
         "install": "download",
@@ -12,6 +12,12 @@ from __future__ import annotations
 
 from mcp.types import Tool, ToolAnnotations
 
+from aidb.common.constants import (
+    DEFAULT_VARIABLE_PAGE_SIZE,
+    VARIABLE_FILTER_INDEXED,
+    VARIABLE_FILTER_NAMED,
+)
+
 from ..core.constants import (
     DetailLevel,
     LaunchMode,
@@ -528,11 +534,16 @@ def get_all_mcp_tools() -> list[Tool]:
                 + f"- '{VariableAction.SET.value}': Set variable value\n"
                 + (
                     f"- '{VariableAction.PATCH.value}': Live code patching for "
-                    "rapid iteration (replaces aidb.fix)\n\n"
+                    "rapid iteration (replaces aidb.fix)\n"
+                )
+                + (
+                    f"- '{VariableAction.EXPAND.value}': Page through the children "
+                    "of a large collection; pass the returned cursor to continue\n\n"
                 )
                 + "Examples:\n"
                 + "- variable('get', expression='user.name')\n"
                 + "- variable('set', name='debug_mode', value='True')\n"
+                + "- variable('expand', expression='numbers', count=50)\n"
                 + (
                     "- variable('patch', name='calculate_tax', "
                     "code='return amount * 0.08')"
@@ -571,6 +582,30 @@ def get_all_mcp_tools() -> list[Tool]:
                         "type": "string",
                         "description": "New code (for 'patch' action)",
                     },
+                    ParamName.START: {
+                        "type": "integer",
+                        "description": "First child index (for 'expand' action)",
+                        "default": 0,
+                    },
+                    ParamName.COUNT: {
+                        "type": "integer",
+                        "description": "Children per page (for 'expand' action)",
+                        "default": DEFAULT_VARIABLE_PAGE_SIZE,
+                    },
+                    ParamName.FILTER: {
+                        "type": "string",
+                        "enum": [VARIABLE_FILTER_INDEXED, VARIABLE_FILTER_NAMED],
+                        "description": (
+                            "Only indexed (elements) or named (fields) children "
+                            "(for 'expand' action)"
+                        ),
+                    },
+                    ParamName.CURSOR: {
+                        "type": "string",
+                        "description": (
+                            "Cursor from a previous 'expand' to fetch the next page"
+                        ),
+                    },
                     ParamName.FRAME: {
                         "type": "integer",
                         "description": "Stack frame context (0 = current)",
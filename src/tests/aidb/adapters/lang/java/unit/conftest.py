@@ -0,0 +1,165 @@
+"""Pytest configuration and fixtures for Java adapter unit tests.
+
+Auto-loads all unit test fixtures from the shared fixture infrastructure and provides
+fakes shared by the Java tooling and LSP tests.
+"""
+
+import asyncio
+from collections.abc import Callable
+from pathlib import Path
+
+import pytest
+
+from aidb.adapters.lang.java.lsp.lsp_message_handler import LSPMessageHandler
+
+# Re-export all unit fixtures for Java adapter tests
+from tests._fixtures.unit.conftest import *  # noqa: F401, F403
+
+
+class FakeLSPClient:
+    """In-memory stand-in for LSPClient.
+
+    Records executed commands and registered workspace folders. Import futures come
+    from a real LSPMessageHandler, so tests can feed JDT LS notifications through
+    ``message_handler``. Each ``startDebugSession`` returns a new DAP port and
+    records how many were in flight at once.
+
+    Parameters
+    ----------
+    ctx : MagicMock
+        Context for the message handler
+    """
+
+    def __init__(self, ctx) -> None:
+        self.message_handler = LSPMessageHandler(protocol=None, ctx=ctx)
+        self.classpath: list[str] = []
+        self.commands: list[str] = []
+        self.folders: list[tuple[Path, str]] = []
+        self.next_port = 5000
+        self.in_flight = 0
+        self.max_in_flight = 0
+        self.reset_calls = 0
+
+    async def execute_command(self, command, arguments=None, timeout=None):
+        self.commands.append(command)
+        if command == "vscode.java.resolveClasspath":
+            return self.classpath
+        if command == "vscode.java.startDebugSession":
+            self.in_flight += 1
+            self.max_in_flight = max(self.max_in_flight, self.in_flight)
+            await asyncio.sleep(0.01)
+            self.in_flight -= 1
+            self.next_port += 1
+            return self.next_port
+        return []
+
+    async def reset_session_state(self) -> None:
+        self.reset_calls += 1
+
+    async def add_workspace_folder(self, folder_path: Path, name: str) -> None:
+        self.folders.append((folder_path, name))
+
+    def project_import_future(self, project_root: Path) -> asyncio.Future[bool]:
+        return self.message_handler.project_import_future(project_root.as_uri())
+
+    def discard_project_import_future(
+        self,
+        project_root: Path,
+        future: asyncio.Future[bool],
+    ) -> None:
+        self.message_handler.discard_import_future(project_root.as_uri(), future)
+
+
+@pytest.fixture
+def fake_lsp_client(mock_ctx) -> FakeLSPClient:
+    """In-memory LSP client; see :class:`FakeLSPClient`.
+
+    Returns
+    -------
+    FakeLSPClient
+        Client whose commands return empty results until configured
+    """
+    return FakeLSPClient(mock_ctx)
+
+
+@pytest.fixture
+def fake_compile_daemon() -> Callable:
+    """Factory for loopback servers speaking the compile server protocol.
+
+    Each server records the raw job it receives and answers with a canned reply.
+
+    Returns
+    -------
+    Callable
+        ``await factory(reply, received)`` returning the started server
+    """
+
+    async def _start(reply: bytes, received: list[bytes]) -> asyncio.Server:
+        async def handle(reader, writer):
+            received.append(await reader.readuntil(b"END\n"))
+            writer.write(reply)
+            await writer.drain()
+            writer.close()
+
+        return await asyncio.start_server(handle, "127.0.0.1", 0)
+
+    return _start
+
+
+@pytest.fixture
+def class_output() -> Callable:
+    """Factory for javac output directories holding one class file.
+
+    Returns
+    -------
+    Callable
+        ``factory(path, name="Main", size=10)`` returning the created directory
+    """
+
+    def _write(path: Path, name: str = "Main", size: int = 10) -> Path:
+        path.mkdir(parents=True, exist_ok=True)
+        (path / f"{name}.class").write_bytes(b"x" * size)
+        return path
+
+    return _write
+
+
+@pytest.fixture
+def maven_project() -> Callable:
+    """Factory for multi-module Maven project layouts.
+
+    Returns
+    -------
+    Callable
+        ``factory(root, modules=("core",))`` returning the project root, which holds
+        a ``pom.xml`` and one ``<module>/pom.xml`` per module
+    """
+
+    def _create(root: Path, modules: tuple[str, ...] = ("core",)) -> Path:
+        root.mkdir(parents=True, exist_ok=True)
+        (root / "pom.xml").write_text("<project/>")
+        for module in modules:
+            (root / module).mkdir(exist_ok=True)
+            (root / module / "pom.xml").write_text(f"<project>{module}</project>")
+        return root
+
+    return _create
+
+
+@pytest.fixture
+def jdtls_workspace() -> Callable:
+    """Factory for JDT LS ``-data`` workspaces holding a lock and an index file.
+
+    Returns
+    -------
+    Callable
+        ``factory(path, index=b"index")`` returning the workspace directory
+    """
+
+    def _create(path: Path, index: bytes = b"index") -> Path:
+        (path / ".metadata").mkdir(parents=True)
+        (path / ".metadata" / ".lock").write_text("")
+        (path / ".metadata" / "index.bin").write_bytes(index)
+        return path
+
+    return _create
@@ -0,0 +1,95 @@
+"""Unit tests for JavaClassCache.
+
+Tests cache key computation over sources, javac options and the classpath, and the
+atomic store, lookup and LRU eviction of compiled classes.
+"""
+
+import os
+
+from aidb.adapters.lang.java.tooling.class_cache import JavaClassCache
+
+
+class TestJavaClassCacheKey:
+    """Tests for JavaClassCache.make_key()."""
+
+    def test_key_ignores_output_dir_but_tracks_source(self, tmp_path):
+        """The output directory is not part of the key; source and options are."""
+        src = tmp_path / "Main.java"
+        src.write_text("class Main {}")
+        cache = JavaClassCache(tmp_path / "cache", max_bytes=1024)
+
+        key_a = cache.make_key(str(src), ["javac", "-g", "-d", "/tmp/a", str(src)])
+        key_b = cache.make_key(str(src), ["javac", "-g", "-d", "/tmp/b", str(src)])
+        assert key_a == key_b
+
+        key_opts = cache.make_key(str(src), ["javac", "-d", "/tmp/a", str(src)])
+        assert key_opts != key_a
+
+        src.write_text("class Main { int x; }")
+        cmd = ["javac", "-g", "-d", "/tmp/a", str(src)]
+        assert cache.make_key(str(src), cmd) != key_a
+
+    def test_key_tracks_classpath_archives(self, tmp_path):
+        """Rebuilding a JAR on the classpath changes the key."""
+        src = tmp_path / "Main.java"
+        src.write_text("class Main {}")
+        jar = tmp_path / "dep.jar"
+        jar.write_bytes(b"v1")
+        cache = JavaClassCache(tmp_path / "cache", max_bytes=1024)
+        cmd = ["javac", "-g", "-d", "/tmp/a", "-cp", str(jar), str(src)]
+
+        before = cache.make_key(str(src), cmd)
+        jar.write_bytes(b"v2")
+        assert cache.make_key(str(src), cmd) != before
+
+    def test_key_tracks_classpath_directories(self, tmp_path, class_output):
+        """Recompiling a class in a classpath directory changes the key."""
+        src = tmp_path / "Main.java"
+        src.write_text("class Main {}")
+        classes = class_output(tmp_path / "target" / "classes", name="Dep")
+        cache = JavaClassCache(tmp_path / "cache", max_bytes=1024)
+        cmd = ["javac", "-g", "-d", "/tmp/a", "-classpath", str(classes), str(src)]
+
+        before = cache.make_key(str(src), cmd)
+        assert cache.make_key(str(src), cmd) == before
+
+        class_output(classes / "pkg", name="Nested")
+        after_add = cache.make_key(str(src), cmd)
+        assert after_add != before
+
+        nested = classes / "pkg" / "Nested.class"
+        st = nested.stat()
+        os.utime(nested, ns=(st.st_atime_ns, st.st_mtime_ns + 1_000_000))
+        assert cache.make_key(str(src), cmd) != after_add
+
+
+class TestJavaClassCacheStore:
+    """Tests for JavaClassCache.store() and lookup()."""
+
+    def test_store_and_lookup(self, tmp_path, class_output):
+        """Stored output is found by key without leaving staging directories."""
+        cache = JavaClassCache(tmp_path / "cache", max_bytes=1024)
+        out = class_output(tmp_path / "out")
+
+        assert cache.lookup("k1", "Main") is None
+        cache.store("k1", str(out))
+
+        hit = cache.lookup("k1", "Main")
+        assert hit == str(tmp_path / "cache" / "k1" / "Main.class")
+        staging = [p for p in (tmp_path / "cache").iterdir() if p.name.startswith(".")]
+        assert not staging
+
+    def test_evicts_least_recently_used(self, tmp_path, class_output):
+        """Entries beyond the size budget are evicted in LRU order."""
+        cache = JavaClassCache(tmp_path / "cache", max_bytes=25)
+        for i, key in enumerate(("old", "mid")):
+            cache.store(key, str(class_output(tmp_path / key)))
+            os.utime(tmp_path / "cache" / key, (i, i))
+
+        # Touch "old" so "mid" becomes the LRU entry
+        assert cache.lookup("old", "Main")
+        cache.store("new", str(class_output(tmp_path / "new")))
+
+        assert cache.lookup("mid", "Main") is None
+        assert cache.lookup("old", "Main")
+        assert cache.lookup("new", "Main")
@@ -0,0 +1,74 @@
+"""Unit tests for JavaClasspathCache.
+
+Tests that resolved classpaths persist across instances per project, main class and
+project name, and are invalidated by build file, lockfile and archive changes.
+"""
+
+from pathlib import Path
+
+import pytest
+
+from aidb.adapters.lang.java.tooling.classpath_cache import JavaClasspathCache
+
+
+@pytest.fixture
+def project(tmp_path, maven_project) -> tuple[Path, list[str]]:
+    """Maven project with its resolved classpath, one JAR outside the project."""
+    root = maven_project(tmp_path / "app", modules=("module",))
+    jar = tmp_path / "repo" / "dep.jar"
+    jar.parent.mkdir()
+    jar.write_bytes(b"jar")
+    return root, [str(root / "target" / "classes"), str(jar)]
+
+
+class TestJavaClasspathCacheLookup:
+    """Tests for JavaClasspathCache.store() and lookup()."""
+
+    def test_store_and_lookup_until_build_file_changes(self, tmp_path, project):
+        """Entries persist per main class and project until a build file changes."""
+        root, classpath = project
+        cache = JavaClasspathCache(tmp_path / "cache")
+
+        assert cache.lookup(root, "com.example.App", "app") is None
+        cache.store(root, "com.example.App", "app", classpath)
+        assert cache.lookup(root, "com.example.App", "app") == classpath
+
+        # Other main classes and projects have their own entries
+        assert cache.lookup(root, "com.example.Other", "app") is None
+        assert cache.lookup(root, "com.example.App", "other") is None
+
+        # A new instance (another process) sees the persisted entry
+        reloaded = JavaClasspathCache(tmp_path / "cache")
+        assert reloaded.lookup(root, "com.example.App", "app") == classpath
+
+        (root / "module" / "pom.xml").write_text("<project>changed</project>")
+        assert cache.lookup(root, "com.example.App", "app") is None
+
+
+class TestJavaClasspathCacheInvalidation:
+    """Tests for inputs besides build files that invalidate entries."""
+
+    def test_lockfiles_and_maven_config_invalidate(self, tmp_path, project):
+        """Dependency lockfiles and .mvn/maven.config are part of the key."""
+        root, classpath = project
+        (root / "gradle.lockfile").write_text("a:b:1.0=runtimeClasspath")
+        (root / ".mvn").mkdir()
+        (root / ".mvn" / "maven.config").write_text("-Pdev")
+        cache = JavaClasspathCache(tmp_path / "cache")
+        cache.store(root, "App", "app", classpath)
+
+        (root / "gradle.lockfile").write_text("a:b:2.0=runtimeClasspath")
+        assert cache.lookup(root, "App", "app") is None
+
+        cache.store(root, "App", "app", classpath)
+        (root / ".mvn" / "maven.config").write_text("-Pprod")
+        assert cache.lookup(root, "App", "app") is None
+
+    def test_missing_archive_is_a_miss(self, tmp_path, project):
+        """An entry whose JAR was deleted is not returned."""
+        root, classpath = project
+        cache = JavaClasspathCache(tmp_path / "cache")
+        cache.store(root, "App", "app", classpath)
+
+        Path(classpath[1]).unlink()
+        assert cache.lookup(root, "App", "app") is None
@@ -0,0 +1,135 @@
+"""Unit tests for JavaCompileServer.
+
+Tests the job protocol spoken with the warm javac daemon, failure handling when the
+daemon is unreachable, and the process-wide server registry.
+"""
+
+import asyncio
+import os
+from unittest.mock import MagicMock, patch
+
+import pytest
+
+from aidb.adapters.lang.java.compilation import JavaCompilationManager
+from aidb.adapters.lang.java.tooling import compile_server
+from aidb.adapters.lang.java.tooling.compile_server import JavaCompileServer
+from aidb.common.errors import AidbError
+
+
+class TestJavaCompileServerCompile:
+    """Tests for JavaCompileServer.compile()."""
+
+    @pytest.mark.asyncio
+    async def test_compile_sends_options_and_sources(
+        self,
+        mock_ctx,
+        mock_asyncio_process,
+        fake_compile_daemon,
+    ):
+        """A job sends one OPT line per option and one SRC line per source."""
+        received: list[bytes] = []
+        daemon = await fake_compile_daemon(b"OK\n", received)
+        server = JavaCompileServer("javac", mock_ctx)
+        server.process = mock_asyncio_process
+        server.port = daemon.sockets[0].getsockname()[1]
+
+        async with daemon:
+            success, diagnostics = await server.compile(
+                ["-g", "-d", "/tmp/out"],
+                ["/src/Main.java"],
+            )
+
+        assert success
+        assert diagnostics == ""
+        assert server.jobs == 1
+        assert received[0].decode().splitlines() == [
+            "COMPILE",
+            "OPT\t-g",
+            "OPT\t-d",
+            "OPT\t/tmp/out",
+            "SRC\t/src/Main.java",
+            "END",
+        ]
+
+    @pytest.mark.asyncio
+    async def test_compile_failure_returns_diagnostics(
+        self,
+        mock_ctx,
+        mock_asyncio_process,
+        fake_compile_daemon,
+    ):
+        """A FAIL reply is returned with javac's diagnostics."""
+        received: list[bytes] = []
+        daemon = await fake_compile_daemon(
+            b"FAIL\nMain.java:3: error: ';' expected\n",
+            received,
+        )
+        server = JavaCompileServer("javac", mock_ctx)
+        server.process = mock_asyncio_process
+        server.port = daemon.sockets[0].getsockname()[1]
+
+        async with daemon:
+            success, diagnostics = await server.compile(["-g"], ["/src/Main.java"])
+
+        assert not success
+        assert "';' expected" in diagnostics
+
+    @pytest.mark.asyncio
+    async def test_unreachable_daemon_raises_and_resets(
+        self,
+        mock_ctx,
+        mock_asyncio_process,
+    ):
+        """An unreachable daemon is killed so the next job restarts it."""
+        server = JavaCompileServer("javac", mock_ctx)
+        server.process = mock_asyncio_process
+        # Bind and release a port so nothing is listening on it
+        probe = await asyncio.start_server(lambda r, w: None, "127.0.0.1", 0)
+        server.port = probe.sockets[0].getsockname()[1]
+        probe.close()
+        await probe.wait_closed()
+
+        with pytest.raises(AidbError):
+            await server.compile(["-g"], ["/src/Main.java"])
+
+        mock_asyncio_process.kill.assert_called_once()
+        assert not server.is_running
+
+
+class TestJavaCompileServerRegistry:
+    """Tests for the process-wide compile server registry."""
+
+    def test_registry_usable_from_several_event_loops(self, mock_ctx, monkeypatch):
+        """The registry lock is not bound to the first event loop using it."""
+        monkeypatch.setattr(compile_server, "_servers", {})
+
+        with patch.object(JavaCompileServer, "start") as start:
+            first = asyncio.run(
+                compile_server.get_java_compile_server("javac", mock_ctx),
+            )
+            second = asyncio.run(
+                compile_server.get_java_compile_server("javac", mock_ctx),
+            )
+            asyncio.run(compile_server.shutdown_java_compile_servers())
+
+        assert first is second
+        assert start.await_count == 2
+        assert compile_server._servers == {}
+
+
+class TestJavacCommand:
+    """Tests for the javac command sent to the compile server."""
+
+    @pytest.mark.parametrize("classpath", [None, ["/libs/a.jar", "/libs/b.jar"]])
+    def test_classpath_always_explicit(self, mock_ctx, classpath):
+        """Jobs never inherit a classpath from the environment or a previous job."""
+        adapter = MagicMock(ctx=mock_ctx, classpath=classpath)
+        adapter.config.jdk_home = None
+        manager = JavaCompilationManager(adapter)
+
+        with patch.object(manager, "_get_javac_executable", return_value="javac"):
+            cmd = manager._build_javac_command("/src/Main.java", "/tmp/out")
+
+        index = cmd.index("-classpath")
+        assert cmd[index + 1] == os.pathsep.join(classpath or [])
+        assert cmd[-1] == "/src/Main.java"
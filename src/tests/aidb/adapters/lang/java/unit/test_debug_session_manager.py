@@ -0,0 +1,153 @@
+"""Unit tests for DebugSessionManager.
+
+Tests that concurrent debug sessions on a pooled JDT LS get their own DAP server,
+that DAP state is only reset once no session uses it, and main class resolution
+from the main class index.
+"""
+
+import asyncio
+from pathlib import Path
+from unittest.mock import AsyncMock, MagicMock
+
+import pytest
+
+from aidb.adapters.lang.java.lsp import debug_session_manager as manager_mod
+from aidb.adapters.lang.java.lsp.debug_session_manager import DebugSessionManager
+from aidb.adapters.lang.java.tooling.main_class_index import JavaMainClassIndex
+
+
+@pytest.fixture
+def manager(mock_ctx) -> DebugSessionManager:
+    """Debug session manager of a pooled bridge."""
+    manager = DebugSessionManager(ctx=mock_ctx)
+    manager._is_pooled = True
+    return manager
+
+
+class TestConcurrentDebugSessions:
+    """Tests for several debug sessions sharing one JDT LS."""
+
+    @pytest.mark.asyncio
+    async def test_sessions_are_serialized_and_isolated(
+        self,
+        manager,
+        fake_lsp_client,
+    ):
+        """Concurrent starts run one at a time and each gets its own DAP port."""
+        ports = await asyncio.gather(
+            *(
+                manager.start_debug_session(
+                    fake_lsp_client,
+                    f"com.example.Main{i}",
+                    [],
+                    skip_file_opening=True,
+                    session_id=f"s{i}",
+                )
+                for i in range(3)
+            ),
+        )
+
+        assert fake_lsp_client.max_in_flight == 1
+        assert sorted(ports) == [5001, 5002, 5003]
+        assert manager.active_session_count == 3
+        for i, port in enumerate(ports):
+            session = manager.get_session(f"s{i}")
+            assert session.dap_port == port
+            assert session.main_class == f"com.example.Main{i}"
+            assert session.request == "launch"
+
+    @pytest.mark.asyncio
+    async def test_reset_skipped_while_other_sessions_active(
+        self,
+        manager,
+        fake_lsp_client,
+    ):
+        """DAP state is kept while any session still uses it."""
+        for session_id in ("a", "b"):
+            await manager.start_debug_session(
+                fake_lsp_client,
+                "Main",
+                [],
+                skip_file_opening=True,
+                session_id=session_id,
+            )
+
+        assert manager.end_debug_session("a") == 1
+        assert await manager.reset_dap_state(fake_lsp_client) is False
+        assert fake_lsp_client.reset_calls == 0
+        info = manager.get_dap_connection_info(MagicMock())
+        assert info["active_sessions"] == ["b"]
+
+        assert manager.end_debug_session("b") == 0
+        assert await manager.reset_dap_state(fake_lsp_client) is True
+        assert fake_lsp_client.reset_calls == 1
+
+
+class TestResolveMainClass:
+    """Tests for DebugSessionManager.resolve_main_class()."""
+
+    @pytest.fixture
+    def sources(self, tmp_path, maven_project, monkeypatch) -> Path:
+        """Source directory of a Maven project, with the index enabled."""
+        index = JavaMainClassIndex(tmp_path / "cache")
+        monkeypatch.setattr(manager_mod, "get_java_main_class_index", lambda: index)
+        root = maven_project(tmp_path / "app", modules=())
+        src = root / "src" / "main" / "java" / "com" / "example"
+        src.mkdir(parents=True)
+        (src / "Util.java").write_text("package com.example;\nclass Util {}\n")
+        (src / "App.java").write_text(
+            "package com.example;\n"
+            "public class App {\n"
+            "    public static void main(String[] args) {}\n"
+            "}\n",
+        )
+        return src
+
+    @pytest.mark.asyncio
+    async def test_file_without_main_uses_only_project_main(
+        self,
+        manager,
+        fake_lsp_client,
+        sources,
+    ):
+        """A file without main resolves to the project's only main class."""
+        uri = (sources / "Util.java").as_uri()
+
+        assert await manager.resolve_main_class(fake_lsp_client, uri) == (
+            "com.example.App"
+        )
+        assert fake_lsp_client.commands == []
+
+    @pytest.mark.asyncio
+    async def test_ambiguous_project_falls_back_to_jdtls(
+        self,
+        manager,
+        fake_lsp_client,
+        sources,
+    ):
+        """Several main classes in the project are left to JDT LS."""
+        (sources / "Tool.java").write_text(
+            (sources / "App.java").read_text().replace("App", "Tool"),
+        )
+        uri = (sources / "Util.java").as_uri()
+
+        assert await manager.resolve_main_class(fake_lsp_client, uri) is None
+        assert fake_lsp_client.commands == ["vscode.java.resolveMainClass"]
+
+    @pytest.mark.asyncio
+    async def test_jdtls_results_picked_by_file(self, manager, sources, monkeypatch):
+        """Of several JDT LS results, only the one for the file is taken."""
+        monkeypatch.setattr(manager_mod, "get_java_main_class_index", lambda: None)
+        app, tool = sources / "App.java", sources / "Tool.java"
+        lsp_client = MagicMock()
+        lsp_client.execute_command = AsyncMock(
+            return_value=[
+                {"mainClass": "com.example.App", "filePath": str(app)},
+                {"mainClass": "com.example.Tool", "filePath": str(tool)},
+            ],
+        )
+
+        assert await manager.resolve_main_class(lsp_client, tool.as_uri()) == (
+            "com.example.Tool"
+        )
+        assert await manager.resolve_main_class(lsp_client) is None
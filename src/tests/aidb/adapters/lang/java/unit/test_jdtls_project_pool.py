@@ -19,6 +19,9 @@ class FakeBridge:
     async def stop(self, *, force: bool = False):
         self.stopped = True
 
+    def needs_workspace_snapshot(self) -> bool:
+        return False
+
 
 class StubCtx:
     def info(self, *args, **kwargs):
@@ -102,3 +105,257 @@ async def test_per_project_pool_reuse_and_lru(tmp_path, monkeypatch):
 
     # proj1 should still be active (not stopped)
     assert b1.stopped is False
+
+
+class FakeProcess:
+    returncode = None
+
+
+class StandbyFakeBridge(FakeBridge):
+    def __init__(self, *args, **kwargs):
+        super().__init__(*args, **kwargs)
+        self.process = FakeProcess()
+        self.start_kwargs = None
+        self.registered = None
+
+    async def start(self, *args, **kwargs):
+        self.started = True
+        self.start_kwargs = kwargs
+
+    async def register_workspace_folders(self, workspace_folders):
+        self.registered = workspace_folders
+
+
+@pytest.mark.asyncio
+async def test_standby_bridge_bound_on_miss_and_replenished(tmp_path, monkeypatch):
+    from aidb.adapters.lang.java import jdtls_project_pool as pool_mod
+
+    monkeypatch.setattr(pool_mod, "JavaLSPDAPBridge", StandbyFakeBridge)
+
+    pool = pool_mod.JDTLSProjectPool(ctx=StubCtx(), capacity=3, standby=1)
+    proj1 = tmp_path / "proj1"
+    proj2 = tmp_path / "proj2"
+
+    # No standby yet: first project is a cold start, then a standby is booted
+    b1 = await pool.get_or_start_bridge(
+        project_path=proj1,
+        project_name="p1",
+        jdtls_path=Path("/opt/jdtls"),
+        java_debug_jar=Path("/opt/java-debug.jar"),
+    )
+    assert b1.start_kwargs["project_root"] == proj1
+    await pool._standby_task
+    assert pool.get_pool_stats()["standby"] == 1
+
+    # Second project binds the warm standby instead of starting cold
+    folders = [(proj2, "p2")]
+    b2 = await pool.get_or_start_bridge(
+        project_path=proj2,
+        project_name="p2",
+        jdtls_path=Path("/opt/jdtls"),
+        java_debug_jar=Path("/opt/java-debug.jar"),
+        workspace_folders=folders,
+    )
+    assert b2.start_kwargs["project_root"] is None
+    assert b2.registered == folders
+    assert b2._is_pooled
+
+    # The pool replenishes in the background
+    await pool._standby_task
+    stats = pool.get_pool_stats()
+    assert stats["standby"] == 1
+    assert stats["standby_used"] == 1
+    assert stats["created"] == 3
+
+
+@pytest.mark.asyncio
+async def test_standby_bound_without_folders_registers_project(tmp_path, monkeypatch):
+    from aidb.adapters.lang.java import jdtls_project_pool as pool_mod
+
+    monkeypatch.setattr(pool_mod, "JavaLSPDAPBridge", StandbyFakeBridge)
+
+    pool = pool_mod.JDTLSProjectPool(ctx=StubCtx(), capacity=3, standby=1)
+    await pool.get_or_start_bridge(
+        project_path=tmp_path / "proj1",
+        project_name="p1",
+        jdtls_path=Path("/opt/jdtls"),
+        java_debug_jar=Path("/opt/java-debug.jar"),
+    )
+    await pool._standby_task
+
+    # No build roots were detected, so the project root becomes the folder
+    bridge = await pool.get_or_start_bridge(
+        project_path=tmp_path / "proj2",
+        project_name="p2",
+        jdtls_path=Path("/opt/jdtls"),
+        java_debug_jar=Path("/opt/java-debug.jar"),
+        workspace_folders=None,
+    )
+    assert bridge.start_kwargs["project_root"] is None
+    assert bridge.registered == [(tmp_path / "proj2", "p2")]
+
+
+@pytest.mark.asyncio
+async def test_memory_budget_evicts_lru_and_tracks_stats(tmp_path, monkeypatch):
+    from aidb.adapters.lang.java import jdtls_project_pool as pool_mod
+
+    monkeypatch.setattr(pool_mod, "JavaLSPDAPBridge", FakeBridge)
+    # Every JDT LS reports 600 MB resident
+    monkeypatch.setattr(
+        pool_mod.JDTLSProjectPool,
+        "_measure_rss_mb",
+        staticmethod(lambda bridge: 600.0),
+    )
+
+    pool = pool_mod.JDTLSProjectPool(ctx=StubCtx(), capacity=5, memory_budget_mb=1000)
+    bridges = {}
+    for name in ("p1", "p2", "p1"):
+        proj = tmp_path / name
+        proj.mkdir(exist_ok=True)
+        bridges[name] = await pool.get_or_start_bridge(
+            project_path=proj,
+            project_name=name,
+            jdtls_path=Path("/opt/jdtls"),
+            java_debug_jar=Path("/opt/java-debug.jar"),
+        )
+
+    # p2 pushed the pool over budget, so the LRU entry (p1) was evicted and the
+    # final p1 lookup started a fresh bridge, evicting p2 in turn
+    stats = pool.get_pool_stats(include_memory=True)
+    p1 = str((tmp_path / "p1").resolve())
+    p2 = str((tmp_path / "p2").resolve())
+    assert stats["active"] == 1
+    assert stats["memory_rss_mb"] == 600.0
+    assert stats["entries"][p1]["misses"] == 2
+    assert stats["entries"][p1]["evictions"] == 1
+    assert stats["entries"][p2]["evictions"] == 1
+    assert stats["entries"][p2]["active"] is False
+
+
+@pytest.mark.asyncio
+async def test_memory_budget_counts_standby_and_samples_on_demand(
+    tmp_path,
+    monkeypatch,
+):
+    from aidb.adapters.lang.java import jdtls_project_pool as pool_mod
+
+    monkeypatch.setattr(pool_mod, "JavaLSPDAPBridge", StandbyFakeBridge)
+    samples = []
+
+    def measure(bridge):
+        samples.append(bridge)
+        return 600.0
+
+    monkeypatch.setattr(
+        pool_mod.JDTLSProjectPool,
+        "_measure_rss_mb",
+        staticmethod(measure),
+    )
+
+    pool = pool_mod.JDTLSProjectPool(
+        ctx=StubCtx(),
+        capacity=5,
+        standby=1,
+        memory_budget_mb=1000,
+    )
+    projects = [tmp_path / "a" / "app", tmp_path / "b" / "app"]
+    for proj in projects:
+        proj.mkdir(parents=True)
+    b1 = await pool.get_or_start_bridge(
+        project_path=projects[0],
+        project_name="app",
+        jdtls_path=Path("/opt/jdtls"),
+        java_debug_jar=Path("/opt/java-debug.jar"),
+    )
+    await pool._standby_task
+
+    # One pooled and one standby JDT LS exceed the budget together
+    assert pool._over_memory_budget()
+
+    # Cache hits and plain stats calls do not sample memory
+    samples.clear()
+    assert await pool.get_or_start_bridge(
+        project_path=projects[0],
+        project_name="app",
+        jdtls_path=Path("/opt/jdtls"),
+        java_debug_jar=Path("/opt/java-debug.jar"),
+    ) is b1
+    assert pool.get_pool_stats()["standby_rss_mb"] == 600.0
+    assert samples == []
+
+    stats = pool.get_pool_stats(include_memory=True)
+    assert len(samples) == 2
+    assert stats["memory_rss_mb"] == 1200.0
+
+    # Projects with the same directory name are reported separately
+    await pool.get_or_start_bridge(
+        project_path=projects[1],
+        project_name="app",
+        jdtls_path=Path("/opt/jdtls"),
+        java_debug_jar=Path("/opt/java-debug.jar"),
+    )
+    assert set(pool.get_pool_stats()["entries"]) == {
+        str(proj.resolve()) for proj in projects
+    }
+
+
+def test_heap_sized_from_project_shape(tmp_path):
+    from aidb.adapters.lang.java.jdtls_project_pool import JDTLSProjectPool
+
+    pool = JDTLSProjectPool(ctx=StubCtx(), heap_mb=1024)
+
+    standalone = tmp_path / "standalone"
+    standalone.mkdir()
+    assert pool._heap_for_project(standalone) == "512m"
+
+    single = tmp_path / "single"
+    single.mkdir()
+    (single / "pom.xml").write_text("<project/>")
+    assert pool._heap_for_project(single) == "1024m"
+
+    multi = tmp_path / "multi"
+    for module in ("", "a", "b"):
+        (multi / module).mkdir(parents=True, exist_ok=True)
+        (multi / module / "pom.xml").write_text("<project/>")
+    assert pool._heap_for_project(multi) == "2048m"
+
+    budgeted = JDTLSProjectPool(ctx=StubCtx(), heap_mb=1024, memory_budget_mb=1500)
+    assert budgeted._heap_for_project(multi) == "750m"
+
+
+@pytest.mark.asyncio
+async def test_eviction_spares_bridges_with_active_sessions(tmp_path, monkeypatch):
+    from aidb.adapters.lang.java import jdtls_project_pool as pool_mod
+
+    monkeypatch.setattr(pool_mod, "JavaLSPDAPBridge", FakeBridge)
+
+    pool = pool_mod.JDTLSProjectPool(ctx=StubCtx(), capacity=1)
+    bridges = {}
+    for name in ("p1", "p2"):
+        proj = tmp_path / name
+        proj.mkdir()
+        bridges[name] = await pool.get_or_start_bridge(
+            project_path=proj,
+            project_name=name,
+            jdtls_path=Path("/opt/jdtls"),
+            java_debug_jar=Path("/opt/java-debug.jar"),
+        )
+        # Each project has a debug session running on its bridge
+        bridges[name].active_session_count = 1
+
+    # Over capacity, but the LRU bridge still serves a session
+    assert bridges["p1"].stopped is False
+    assert pool.get_pool_stats()["active"] == 2
+
+    # Once its session ends, the next lookup evicts it
+    bridges["p1"].active_session_count = 0
+    proj3 = tmp_path / "p3"
+    proj3.mkdir()
+    await pool.get_or_start_bridge(
+        project_path=proj3,
+        project_name="p3",
+        jdtls_path=Path("/opt/jdtls"),
+        java_debug_jar=Path("/opt/java-debug.jar"),
+    )
+    assert bridges["p1"].stopped is True
+    assert bridges["p2"].stopped is False
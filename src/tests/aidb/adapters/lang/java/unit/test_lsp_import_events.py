@@ -0,0 +1,146 @@
+"""Unit tests for JDT LS project import detection.
+
+Tests how LSPMessageHandler resolves import futures from ProjectsImported events,
+import progress and build status notifications, and how WorkspaceManager waits on
+them before falling back to polling.
+"""
+
+import asyncio
+from pathlib import Path
+from unittest.mock import AsyncMock, patch
+
+import pytest
+
+from aidb.adapters.lang.java.lsp.lsp_message_handler import LSPMessageHandler
+from aidb.adapters.lang.java.lsp.lsp_protocol import LSPMessage
+from aidb.adapters.lang.java.lsp.workspace_manager import WorkspaceManager
+
+
+def notify(handler: LSPMessageHandler, method: str, params: dict) -> None:
+    """Feed a JDT LS notification to the handler."""
+    handler._handle_notification(LSPMessage(method=method, params=params))
+
+
+class TestProjectImportFuture:
+    """Tests for LSPMessageHandler.project_import_future()."""
+
+    @pytest.mark.asyncio
+    async def test_projects_imported_event_resolves_matching_future(self, mock_ctx):
+        """A ProjectsImported event resolves waiters for the project and parents."""
+        handler = LSPMessageHandler(protocol=None, ctx=mock_ctx)
+        root = Path("/work/app")
+        future = handler.project_import_future(root.as_uri())
+        other = handler.project_import_future(Path("/work/other").as_uri())
+
+        # JDT LS reports URIs as file:/ with a trailing slash; sub-modules count too
+        notify(
+            handler,
+            "language/eventNotification",
+            {"eventType": 200, "data": ["file:/work/app/core/"]},
+        )
+
+        assert future.done() and future.result() is True
+        assert not other.done()
+        assert handler.is_project_imported("file:///work/app/core")
+        assert not handler.is_project_imported(root.as_uri())
+
+    @pytest.mark.asyncio
+    async def test_already_imported_project_resolves_immediately(self, mock_ctx):
+        """Futures for an already imported project are created resolved."""
+        handler = LSPMessageHandler(protocol=None, ctx=mock_ctx)
+        notify(
+            handler,
+            "language/eventNotification",
+            {"eventType": 200, "data": ["file:///work/app"]},
+        )
+
+        assert handler.project_import_future("file:/work/app/").done()
+
+    @pytest.mark.asyncio
+    async def test_import_progress_end_and_project_status_resolve_waiters(
+        self,
+        mock_ctx,
+    ):
+        """Workspace-wide completion signals resolve every pending waiter."""
+        handler = LSPMessageHandler(protocol=None, ctx=mock_ctx)
+        by_progress = handler.project_import_future("file:///work/a")
+        notify(
+            handler,
+            "$/progress",
+            {
+                "token": "t1",
+                "value": {"kind": "begin", "title": "Importing Maven project(s)"},
+            },
+        )
+        assert not by_progress.done()
+        notify(handler, "$/progress", {"token": "t1", "value": {"kind": "end"}})
+        assert by_progress.done()
+
+        by_status = handler.project_import_future("file:///work/b")
+        notify(handler, "language/status", {"type": "Starting", "message": "Init"})
+        assert not by_status.done()
+        notify(handler, "language/status", {"type": "ProjectStatus", "message": "OK"})
+        assert by_status.done()
+
+    @pytest.mark.asyncio
+    async def test_discarded_future_is_no_longer_tracked(self, mock_ctx):
+        """Discarding a future removes it without touching other waiters."""
+        handler = LSPMessageHandler(protocol=None, ctx=mock_ctx)
+        first = handler.project_import_future("file:///work/app")
+        second = handler.project_import_future("file:///work/app")
+
+        handler.discard_import_future("file:/work/app/", first)
+        assert handler._import_waiters == {"file:///work/app": [second]}
+
+        handler.discard_import_future("file:///work/app", second)
+        handler.discard_import_future("file:///work/app", second)
+        assert handler._import_waiters == {}
+
+
+class TestWorkspaceManagerImportWait:
+    """Tests for WorkspaceManager waiting on import notifications."""
+
+    @pytest.mark.asyncio
+    async def test_wait_for_project_import_uses_event_before_polling(
+        self,
+        mock_ctx,
+        fake_lsp_client,
+    ):
+        """A reported import is verified with one classpath request, no polling."""
+        manager = WorkspaceManager(ctx=mock_ctx)
+        fake_lsp_client.classpath = ["/work/app/target/classes"]
+        future = asyncio.get_running_loop().create_future()
+        asyncio.get_running_loop().call_later(0.01, future.set_result, True)
+
+        ready = await manager.wait_for_project_import(
+            lsp_client=fake_lsp_client,
+            project_name="app",
+            project_root=Path("/work/app"),
+            timeout=5.0,
+            import_future=future,
+        )
+
+        assert ready
+        assert fake_lsp_client.commands == ["vscode.java.resolveClasspath"]
+
+    @pytest.mark.asyncio
+    async def test_register_discards_future_after_timed_out_wait(
+        self,
+        mock_ctx,
+        fake_lsp_client,
+    ):
+        """Waiters do not pile up when JDT LS never reports the import."""
+        manager = WorkspaceManager(ctx=mock_ctx)
+
+        with patch.object(
+            manager,
+            "wait_for_project_import",
+            AsyncMock(return_value=False),
+        ):
+            await manager.register_workspace_folders(
+                fake_lsp_client,
+                [(Path("/work/app"), "app")],
+            )
+
+        assert fake_lsp_client.folders == [(Path("/work/app"), "app")]
+        assert fake_lsp_client.message_handler._import_waiters == {}
@@ -0,0 +1,160 @@
+"""Unit tests for JavaMainClassIndex.
+
+Tests classification of Java sources as main or JUnit test classes, incremental
+refreshes of a project, and caching of JAR manifest main classes.
+"""
+
+import os
+import zipfile
+from pathlib import Path
+from unittest.mock import patch
+
+import pytest
+
+from aidb.adapters.lang.java.tooling.main_class_index import (
+    JavaMainClassIndex,
+    scan_java_source,
+)
+
+MAIN_SOURCE = """package com.example;
+
+public class App {
+    public static void main(String[] args) {}
+}
+"""
+
+TEST_SOURCE = """package com.example;
+
+import org.junit.jupiter.api.Test;
+
+class AppTest {
+    @Test
+    void works() {}
+}
+"""
+
+
+@pytest.fixture
+def project(tmp_path, maven_project) -> tuple[Path, Path]:
+    """Maven project with a main class, a plain class and a JUnit test.
+
+    Returns
+    -------
+    tuple[Path, Path]
+        Project root and its ``com/example`` main source directory
+    """
+    root = maven_project(tmp_path / "app", modules=())
+    src = root / "src" / "main" / "java" / "com" / "example"
+    test = root / "src" / "test" / "java" / "com" / "example"
+    src.mkdir(parents=True)
+    test.mkdir(parents=True)
+    (src / "App.java").write_text(MAIN_SOURCE)
+    (src / "Util.java").write_text("package com.example;\nclass Util {}\n")
+    (test / "AppTest.java").write_text(TEST_SOURCE)
+    # Build output is never indexed
+    (root / "target" / "generated").mkdir(parents=True)
+    (root / "target" / "generated" / "Gen.java").write_text(MAIN_SOURCE)
+    return root, src
+
+
+class TestScanJavaSource:
+    """Tests for scan_java_source()."""
+
+    def test_top_level_main(self):
+        """A main in the file's top-level class makes it a main class."""
+        assert scan_java_source(MAIN_SOURCE, "App") == ("com.example.App", True, False)
+        assert scan_java_source(TEST_SOURCE, "AppTest")[1:] == (False, True)
+
+    @pytest.mark.parametrize(
+        "body",
+        [
+            "// public static void main(String[] args) {}",
+            "/* public static void main(String[] args) {} */",
+            'String s = "static void main(String[] args) {";',
+            'String s = """\n    static void main(String[] args) {}\n""";',
+            "static class Inner { public static void main(String[] args) {} }",
+            "Runnable r = new Runnable() { static void main(String[] a) {} };",
+        ],
+    )
+    def test_main_outside_top_level_body_is_ignored(self, body):
+        """Commented, quoted and nested mains do not make the class launchable."""
+        source = f"package com.example;\n\npublic class App {{\n    {body}\n}}\n"
+
+        assert scan_java_source(source, "App") == ("com.example.App", False, False)
+
+    def test_main_of_other_top_level_type_is_ignored(self):
+        """A main in a secondary top-level type is not the file's main class."""
+        source = (
+            "package com.example;\n"
+            "class Helper { public static void main(String[] args) {} }\n"
+            "public class App {}\n"
+        )
+
+        assert not scan_java_source(source, "App")[1]
+
+
+class TestJavaMainClassIndexProject:
+    """Tests for project refreshes and lookups."""
+
+    def test_indexes_main_and_test_classes_incrementally(self, tmp_path, project):
+        """Only new or changed sources are re-read on refresh."""
+        root, src = project
+        index = JavaMainClassIndex(tmp_path / "cache")
+
+        assert index.main_classes(root) == ["com.example.App"]
+        classes = index.refresh(root)
+        assert classes["com.example.AppTest"].is_test
+        assert "com.example.Util" not in classes
+
+        # Unchanged sources are not re-read, by this or another process' instance
+        with patch("pathlib.Path.read_text") as read_text:
+            index.refresh(root)
+            JavaMainClassIndex(tmp_path / "cache").refresh(root)
+        read_text.assert_not_called()
+
+        (src / "Tool.java").write_text(MAIN_SOURCE.replace("App", "Tool"))
+        (src / "App.java").unlink()
+        assert index.main_classes(root) == ["com.example.Tool"]
+
+    def test_classify_source_rereads_changed_file(self, tmp_path, project):
+        """A source changed since it was indexed is classified again."""
+        _root, src = project
+        index = JavaMainClassIndex(tmp_path / "cache")
+        source = src / "Util.java"
+
+        assert not index.classify_source(source).is_main
+
+        source.write_text(MAIN_SOURCE.replace("App", "Util"))
+        stat = source.stat()
+        os.utime(source, ns=(stat.st_atime_ns, stat.st_mtime_ns + 1_000_000))
+        indexed = index.classify_source(source)
+        assert indexed.name == "com.example.Util"
+        assert indexed.is_main
+
+
+class TestJavaMainClassIndexJars:
+    """Tests for JAR manifest lookups."""
+
+    def test_jar_manifest_cached_until_jar_changes(self, tmp_path):
+        """Manifests are re-read only when the JAR changes."""
+        jar = tmp_path / "app.jar"
+        with zipfile.ZipFile(jar, "w") as zf:
+            zf.writestr("META-INF/MANIFEST.MF", "Manifest-Version: 1.0\r\n")
+        index = JavaMainClassIndex(tmp_path / "cache")
+        assert index.jar_main_class(str(jar)) is None
+
+        with zipfile.ZipFile(jar, "w") as zf:
+            zf.writestr(
+                "META-INF/MANIFEST.MF",
+                "Manifest-Version: 1.0\r\nMain-Class: com.example.very.long.package\r\n"
+                " .name.App\r\n",
+            )
+        main_class = "com.example.very.long.package.name.App"
+        assert index.jar_main_class(str(jar)) == main_class
+
+        with patch(
+            "aidb.adapters.lang.java.tooling.main_class_index.read_manifest_main_class",
+        ) as read_manifest:
+            cached = JavaMainClassIndex(tmp_path / "cache").jar_main_class(str(jar))
+        read_manifest.assert_not_called()
+        assert cached == main_class
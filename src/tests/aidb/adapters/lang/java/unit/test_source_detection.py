@@ -2,11 +2,17 @@
 
 from __future__ import annotations
 
+import os
+import time
 from pathlib import Path  # noqa: TC003 - used at runtime via pytest fixtures
 
 import pytest
 
-from aidb.adapters.lang.java.source_detection import detect_java_source_paths
+from aidb.adapters.lang.java.source_detection import (
+    JavaSourceRootIndex,
+    detect_java_source_paths,
+    expand_java_source_paths,
+)
 
 
 class TestDetectJavaSourcePaths:
@@ -152,3 +158,87 @@ class TestDetectJavaSourcePaths:
 
         # Check no duplicates
         assert len(result) == len(set(result))
+
+
+def _age_tree(root: Path) -> None:
+    """Backdate every directory so cached listings are trusted."""
+    old = time.time_ns() - 60_000_000_000
+    for dirpath, _, _ in os.walk(root):
+        os.utime(dirpath, ns=(old, old))
+
+
+class TestJavaSourceRootIndex:
+    """Tests for the cached, concurrent source root scanner."""
+
+    def test_skips_gitignored_directories(self, tmp_path: Path) -> None:
+        """Test that directories matched by a .gitignore are not scanned."""
+        (tmp_path / "pom.xml").touch()
+        (tmp_path / ".gitignore").write_text("# generated\ngenerated/\n/vendor\n")
+        for module in ("app", "generated", "vendor", "lib/vendor"):
+            (tmp_path / module / "pom.xml").parent.mkdir(parents=True)
+            (tmp_path / module / "pom.xml").touch()
+            (tmp_path / module / "src" / "main" / "java").mkdir(parents=True)
+
+        result = JavaSourceRootIndex().source_roots(tmp_path)
+
+        # "/vendor" is anchored to the root, so lib/vendor is still scanned
+        assert result == [
+            str(tmp_path / "app" / "src" / "main" / "java"),
+            str(tmp_path / "lib" / "vendor" / "src" / "main" / "java"),
+        ]
+
+    def test_rescan_only_lists_changed_directories(self, tmp_path: Path) -> None:
+        """Test that a repeat scan reuses unchanged listings and sees new modules."""
+        (tmp_path / "pom.xml").touch()
+        for module in ("a", "b", "c"):
+            (tmp_path / module / "src" / "main" / "java").mkdir(parents=True)
+            (tmp_path / module / "pom.xml").touch()
+        _age_tree(tmp_path)
+        index = JavaSourceRootIndex()
+
+        assert len(index.source_roots(tmp_path)) == 3
+        listed = index.listed_dirs
+
+        assert len(index.source_roots(tmp_path)) == 3
+        assert index.listed_dirs == listed
+
+        (tmp_path / "d" / "src" / "test" / "java").mkdir(parents=True)
+        (tmp_path / "d" / "pom.xml").touch()
+        result = index.source_roots(tmp_path)
+
+        assert str(tmp_path / "d" / "src" / "test" / "java") in result
+        # Only the root and the new module's directories were listed again
+        assert index.listed_dirs - listed == 4
+
+    def test_honours_gitignore_negations(self, tmp_path: Path) -> None:
+        """Test that directories re-included by a negated pattern are scanned."""
+        (tmp_path / "pom.xml").touch()
+        for module in ("modules/keep", "modules/drop", "tools", "lib/tools"):
+            (tmp_path / module / "pom.xml").parent.mkdir(parents=True)
+            (tmp_path / module / "pom.xml").touch()
+            (tmp_path / module / "src" / "main" / "java").mkdir(parents=True)
+        (tmp_path / ".gitignore").write_text("modules/*\n!modules/keep/\ntools/\n")
+        (tmp_path / "lib" / ".gitignore").write_text("!/tools\n")
+
+        result = JavaSourceRootIndex().source_roots(tmp_path)
+
+        # The deeper .gitignore comes last, so it re-includes lib/tools
+        assert result == [
+            str(tmp_path / "lib" / "tools" / "src" / "main" / "java"),
+            str(tmp_path / "modules" / "keep" / "src" / "main" / "java"),
+        ]
+
+    def test_expand_keeps_project_roots(self, tmp_path: Path) -> None:
+        """Test that project roots are kept and followed by their source roots."""
+        (tmp_path / "pom.xml").touch()
+        (tmp_path / "src" / "main" / "java").mkdir(parents=True)
+        plain = tmp_path / "sources"
+        plain.mkdir()
+
+        result = expand_java_source_paths([str(plain), str(tmp_path)])
+
+        assert result == [
+            str(plain),
+            str(tmp_path),
+            str(tmp_path / "src" / "main" / "java"),
+        ]
@@ -0,0 +1,174 @@
+"""Unit tests for JDT LS workspace snapshots.
+
+Tests snapshot keys over build files, saving and restoring workspaces with LRU
+eviction, and when imported workspaces are snapshotted by bridges and the project
+pool.
+"""
+
+import os
+from pathlib import Path
+from unittest.mock import AsyncMock, patch
+
+import pytest
+
+from aidb.adapters.lang.java import jdtls_project_pool as pool_mod
+from aidb.adapters.lang.java.lsp.lsp_bridge import JavaLSPDAPBridge
+from aidb.adapters.lang.java.tooling.workspace_snapshots import (
+    SNAPSHOT_MARKER,
+    JDTLSWorkspaceSnapshots,
+)
+
+
+class TestJDTLSWorkspaceSnapshotStore:
+    """Tests for JDTLSWorkspaceSnapshots."""
+
+    def test_key_tracks_build_files_only(self, tmp_path, maven_project):
+        """Only build files outside build output affect the key."""
+        root = maven_project(tmp_path / "app")
+        (root / "core" / "target").mkdir()
+        (root / "core" / "target" / "pom.xml").write_text("generated")
+        store = JDTLSWorkspaceSnapshots(tmp_path / "snapshots", max_entries=4)
+        jdtls = tmp_path / "jdtls"
+
+        key = store.make_key(root, jdtls)
+        assert [p.name for p in store.find_build_files(root)] == ["pom.xml", "pom.xml"]
+
+        (root / "Main.java").write_text("class Main {}")
+        (root / "core" / "target" / "pom.xml").write_text("regenerated")
+        assert store.make_key(root, jdtls) == key
+
+        (root / "core" / "pom.xml").write_text("<project>changed</project>")
+        assert store.make_key(root, jdtls) != key
+
+        assert store.make_key(tmp_path / "empty", jdtls) is None
+
+    def test_save_and_restore_into_stale_workspace(self, tmp_path, jdtls_workspace):
+        """Saved workspaces are restored over stale ones, never overwritten."""
+        store = JDTLSWorkspaceSnapshots(tmp_path / "snapshots", max_entries=4)
+        source = jdtls_workspace(tmp_path / "ws-a")
+
+        assert store.save("k1", source)
+        assert (source / SNAPSHOT_MARKER).read_text() == "k1"
+        assert not (tmp_path / "snapshots" / "k1" / ".metadata" / ".lock").exists()
+        assert not store.save("k1", source)
+
+        target = jdtls_workspace(tmp_path / "ws-b", index=b"stale")
+        assert store.restore("k1", target)
+        assert (target / ".metadata" / "index.bin").read_bytes() == b"index"
+        assert store.workspace_key(target) == "k1"
+
+        # Up-to-date workspaces are left alone
+        assert not store.restore("k1", target)
+        assert not store.restore("missing", target)
+
+    def test_evicts_least_recently_used_snapshots(self, tmp_path, jdtls_workspace):
+        """Snapshots beyond max_entries are evicted in LRU order."""
+        store = JDTLSWorkspaceSnapshots(tmp_path / "snapshots", max_entries=2)
+        for i, key in enumerate(("old", "mid")):
+            store.save(key, jdtls_workspace(tmp_path / f"ws-{key}"))
+            os.utime(tmp_path / "snapshots" / key, (i, i))
+
+        # Restoring "old" refreshes it, so "mid" is evicted next
+        assert store.restore("old", tmp_path / "fresh")
+        store.save("new", jdtls_workspace(tmp_path / "ws-new"))
+
+        assert sorted(p.name for p in (tmp_path / "snapshots").iterdir()) == [
+            "new",
+            "old",
+        ]
+
+
+class TestWorkspaceSnapshotOnStop:
+    """Tests for snapshotting imported workspaces when JDT LS stops."""
+
+    @pytest.fixture
+    def snapshot_dir(self, tmp_path, monkeypatch) -> Path:
+        """Snapshot store directory configured for this test."""
+        monkeypatch.setenv("AIDB_JAVA_JDTLS_SNAPSHOT_DIR", str(tmp_path / "snapshots"))
+        return tmp_path / "snapshots"
+
+    @pytest.mark.asyncio
+    async def test_bound_standby_is_marked_imported(
+        self,
+        tmp_path,
+        mock_ctx,
+        fake_lsp_client,
+        maven_project,
+        snapshot_dir,
+    ):
+        """Registering folders on a running bridge keys and marks its workspace."""
+        root = maven_project(tmp_path / "app")
+        bridge = JavaLSPDAPBridge(
+            jdtls_path=tmp_path / "jdtls",
+            java_debug_jar=tmp_path / "java-debug.jar",
+            ctx=mock_ctx,
+        )
+        bridge.lsp_client = fake_lsp_client
+
+        with patch.object(
+            bridge.workspace_manager,
+            "wait_for_project_import",
+            AsyncMock(return_value=True),
+        ):
+            await bridge.register_workspace_folders([(root, "app")])
+
+        store = JDTLSWorkspaceSnapshots(snapshot_dir, max_entries=8)
+        assert bridge.process_manager.workspace_imported
+        assert bridge.process_manager.snapshot_key == store.make_key(
+            root,
+            tmp_path / "jdtls",
+        )
+
+    @pytest.mark.asyncio
+    async def test_pool_eviction_snapshots_unsaved_workspaces(
+        self,
+        tmp_path,
+        mock_ctx,
+        maven_project,
+        jdtls_workspace,
+        snapshot_dir,
+        monkeypatch,
+    ):
+        """Evicted bridges stop gracefully only while their snapshot is missing."""
+
+        class ImportedBridge(JavaLSPDAPBridge):
+            """Bridge whose start imports the project without launching JDT LS."""
+
+            async def start(self, project_root=None, **kwargs):
+                workspace = tmp_path / "workspaces" / f"{project_root.name}-{id(self)}"
+                self.process_manager.workspace = jdtls_workspace(workspace)
+                await self.process_manager.mark_workspace_imported(project_root)
+
+            async def stop(self, *, force: bool = False) -> None:
+                self.forced = force
+                await super().stop(force=force)
+
+        monkeypatch.setattr(pool_mod, "JavaLSPDAPBridge", ImportedBridge)
+        pool = pool_mod.JDTLSProjectPool(ctx=mock_ctx, capacity=1)
+        projects = {
+            name: maven_project(tmp_path / name, modules=(name,))
+            for name in ("p1", "p2")
+        }
+
+        async def use(name: str) -> JavaLSPDAPBridge:
+            return await pool.get_or_start_bridge(
+                project_path=projects[name],
+                project_name=name,
+                jdtls_path=tmp_path / "jdtls",
+                java_debug_jar=tmp_path / "java-debug.jar",
+            )
+
+        first = await use("p1")
+        assert first.needs_workspace_snapshot()
+        await use("p2")
+        assert first.forced is False
+        assert first.process_manager.snapshot_key in os.listdir(snapshot_dir)
+
+        # p1 is snapshotted now, so its next bridge is killed outright
+        second = await use("p1")
+        assert not second.needs_workspace_snapshot()
+        await use("p2")
+        assert second.forced is True
+
+        await pool.shutdown()
+        assert len(os.listdir(snapshot_dir)) == 2
@@ -0,0 +1,135 @@
+"""Unit tests for LaunchPipeline.
+
+Tests stage scheduling, failure propagation and critical path reporting.
+"""
+
+import asyncio
+from unittest.mock import MagicMock
+
+import pytest
+
+from aidb.adapters.base.components.launch_pipeline import (
+    STAGE_OK,
+    STAGE_SKIPPED,
+    LaunchPipeline,
+)
+from aidb_common.metrics import LAUNCH_PHASE_DURATION, MetricsRegistry
+
+
+@pytest.fixture
+def pipeline(mock_ctx: MagicMock) -> LaunchPipeline:
+    """Create a pipeline recording into an isolated metrics registry."""
+    return LaunchPipeline(language="java", ctx=mock_ctx, metrics=MetricsRegistry())
+
+
+def _sleeper(delay: float, value=None, log: list | None = None, name: str = ""):
+    async def run():
+        if log is not None:
+            log.append(f"start:{name}")
+        await asyncio.sleep(delay)
+        if log is not None:
+            log.append(f"end:{name}")
+        return value
+
+    return run
+
+
+class TestLaunchPipeline:
+    """Tests for LaunchPipeline."""
+
+    @pytest.mark.asyncio
+    async def test_independent_stages_overlap(self, pipeline: LaunchPipeline):
+        """Stages without dependencies run concurrently."""
+        log: list[str] = []
+        pipeline.add_stage("compile", _sleeper(0.05, "A.class", log, "compile"))
+        pipeline.add_stage("bridge", _sleeper(0.05, None, log, "bridge"))
+        pipeline.add_stage(
+            "session",
+            _sleeper(0, 5005, log, "session"),
+            after=("compile", "bridge"),
+        )
+
+        results = await pipeline.run()
+
+        assert results == {"compile": "A.class", "bridge": None, "session": 5005}
+        assert log[:2] == ["start:compile", "start:bridge"]
+        assert log[-2:] == ["start:session", "end:session"]
+        # Both 50ms stages overlapped
+        assert pipeline.total_ms < 95
+
+    @pytest.mark.asyncio
+    async def test_critical_path_follows_slowest_dependency(
+        self,
+        mock_ctx: MagicMock,
+    ):
+        """The critical path goes through the dependency that finished last."""
+        metrics = MetricsRegistry()
+        pipeline = LaunchPipeline(language="java", ctx=mock_ctx, metrics=metrics)
+        pipeline.add_stage("compile", _sleeper(0.01))
+        pipeline.add_stage("bridge", _sleeper(0.06))
+        pipeline.add_stage("classpath", _sleeper(0), after=("compile",))
+        pipeline.add_stage("session", _sleeper(0), after=("bridge", "classpath"))
+
+        await pipeline.run()
+
+        assert pipeline.critical_path() == ["bridge", "session"]
+        summary = pipeline.summary()
+        assert summary["stages"]["classpath"]["outcome"] == STAGE_OK
+        assert summary["stages"]["bridge"]["duration_ms"] >= 50
+        phases = {
+            series["labels"]["phase"]
+            for series in metrics.snapshot()[LAUNCH_PHASE_DURATION]["series"]
+        }
+        assert phases == {"compile", "bridge", "classpath", "session"}
+
+    @pytest.mark.asyncio
+    async def test_wait_records_runtime_dependency(self, pipeline: LaunchPipeline):
+        """Stages may wait for another stage's result while running."""
+
+        async def classpath():
+            bridge = await pipeline.wait("bridge")
+            return [bridge]
+
+        pipeline.add_stage("bridge", _sleeper(0.02, "jdtls"))
+        pipeline.add_stage("classpath", classpath)
+
+        results = await pipeline.run()
+
+        assert results["classpath"] == ["jdtls"]
+        assert pipeline.critical_path() == ["bridge", "classpath"]
+
+    @pytest.mark.asyncio
+    async def test_failure_cancels_running_stages(self, pipeline: LaunchPipeline):
+        """The first failure is re-raised and other stages are stopped."""
+        cancelled = asyncio.Event()
+
+        async def fail():
+            await asyncio.sleep(0.01)
+            msg = "javac failed"
+            raise RuntimeError(msg)
+
+        async def slow():
+            try:
+                await asyncio.sleep(5)
+            except asyncio.CancelledError:
+                cancelled.set()
+                raise
+
+        pipeline.add_stage("compile", fail)
+        pipeline.add_stage("bridge", slow)
+        pipeline.add_stage("session", _sleeper(0), after=("compile",))
+
+        with pytest.raises(RuntimeError, match="javac failed"):
+            await pipeline.run()
+
+        assert pipeline.failed_stage == "compile"
+        assert cancelled.is_set()
+        assert pipeline.summary()["stages"]["session"]["outcome"] in (
+            STAGE_SKIPPED,
+            "cancelled",
+        )
+
+    def test_rejects_unknown_dependency(self, pipeline: LaunchPipeline):
+        """Dependencies must be added before the stages that use them."""
+        with pytest.raises(ValueError, match="unknown stages"):
+            pipeline.add_stage("session", _sleeper(0), after=("bridge",))
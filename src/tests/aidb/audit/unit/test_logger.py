@@ -3,6 +3,7 @@
 import asyncio
 import json
 import os
+import time
 from datetime import datetime, timedelta, timezone
 from pathlib import Path
 from unittest.mock import AsyncMock, MagicMock, Mock, call, patch
@@ -627,3 +628,166 @@ class TestAuditLoggerOperations:
 
             finally:
                 await logger.shutdown()
+
+
+class TestAuditLoggerBatching:
+    """Test group commit, durability modes and backpressure."""
+
+    def setup_method(self):
+        """Reset singleton before each test."""
+        AuditLogger._reset_singleton()
+
+    def teardown_method(self):
+        """Clean up singleton after each test."""
+        AuditLogger._reset_singleton()
+
+    @staticmethod
+    def _env(temp_audit_dir: Path, **overrides: str) -> dict[str, str]:
+        return {
+            "AIDB_AUDIT_LOG": "true",
+            "AIDB_AUDIT_ENABLED": "true",
+            "AIDB_AUDIT_LOG_PATH": str(temp_audit_dir / "audit.log"),
+            **overrides,
+        }
+
+    @pytest.mark.asyncio
+    async def test_events_are_group_committed(self, temp_audit_dir):
+        """Test that a burst of events is written in few flushed batches."""
+        with patch.dict(os.environ, self._env(temp_audit_dir)):
+            logger = AuditLogger()
+
+            try:
+                for event in AuditEventFactory.create_batch(50):
+                    logger.log(event)
+                await wait_for_queue_processing(logger)
+
+                stats = logger.get_stats()
+                assert stats["written"] == 50
+                assert stats["batches"] < 50
+                assert stats["flushes"] == stats["batches"]
+                entries = AuditLogParser.parse_log_file(temp_audit_dir / "audit.log")
+                assert len(entries) == 50
+
+            finally:
+                await logger.shutdown()
+
+    @pytest.mark.asyncio
+    async def test_event_durability_flushes_every_event(self, temp_audit_dir):
+        """Test that per-event durability keeps one flush per event."""
+        env = self._env(temp_audit_dir, AIDB_AUDIT_DURABILITY="event")
+        with patch.dict(os.environ, env):
+            logger = AuditLogger()
+
+            try:
+                for event in AuditEventFactory.create_batch(10):
+                    logger.log(event)
+                await wait_for_queue_processing(logger)
+
+                stats = logger.get_stats()
+                assert stats["durability"] == "event"
+                assert stats["written"] == 10
+                assert stats["flushes"] == 10
+
+            finally:
+                await logger.shutdown()
+
+    @pytest.mark.asyncio
+    async def test_async_durability_flushes_on_shutdown(self, temp_audit_dir):
+        """Test that async durability defers flushing but loses nothing."""
+        env = self._env(temp_audit_dir, AIDB_AUDIT_DURABILITY="async")
+        with patch.dict(os.environ, env):
+            logger = AuditLogger()
+
+            for event in AuditEventFactory.create_batch(20):
+                logger.log(event)
+            await wait_for_queue_processing(logger)
+            assert logger.get_stats()["flushes"] == 0
+
+            await logger.shutdown()
+
+            entries = AuditLogParser.parse_log_file(temp_audit_dir / "audit.log")
+            assert len(entries) == 20
+
+    @pytest.mark.asyncio
+    async def test_full_queue_drops_and_counts(self, temp_audit_dir):
+        """Test that events beyond the queue bound are dropped and counted."""
+        env = self._env(
+            temp_audit_dir,
+            AIDB_AUDIT_QUEUE_SIZE="5",
+            AIDB_AUDIT_ENQUEUE_TIMEOUT_MS="0",
+        )
+        with patch.dict(os.environ, env):
+            logger = AuditLogger()
+
+            try:
+                # Producers running an event loop never wait for the worker
+                for event in AuditEventFactory.create_batch(20):
+                    logger.log(event)
+                assert logger.get_stats()["dropped"] == 15
+
+                await wait_for_queue_processing(logger)
+                stats = logger.get_stats()
+                assert stats["written"] == 5
+                assert stats["pending"] == 0
+
+            finally:
+                await logger.shutdown()
+
+    @pytest.mark.asyncio
+    async def test_full_queue_never_blocks_running_loop(self, temp_audit_dir):
+        """Test that producers on an event loop drop instead of waiting."""
+        env = self._env(
+            temp_audit_dir,
+            AIDB_AUDIT_QUEUE_SIZE="2",
+            AIDB_AUDIT_ENQUEUE_TIMEOUT_MS="2000",
+        )
+        with patch.dict(os.environ, env):
+            # Created off this loop, the logger runs its own loop thread, as when
+            # a worker thread logs first
+            logger = await asyncio.to_thread(AuditLogger)
+
+            try:
+                first = AuditEventFactory.create_batch(1)[0]
+                await asyncio.to_thread(logger.log, first)
+                await wait_for_queue_processing(logger)
+                assert logger._loop is not asyncio.get_running_loop()
+                logger._pending = logger._queue_size
+
+                start = time.monotonic()
+                for event in AuditEventFactory.create_batch(3):
+                    logger.log(event)
+                elapsed = time.monotonic() - start
+
+                assert elapsed < 1.0
+                assert logger.get_stats()["dropped"] == 3
+
+            finally:
+                logger._release(logger._queue_size)
+                await asyncio.to_thread(logger._cleanup_sync)
+
+    @pytest.mark.asyncio
+    async def test_backpressure_blocks_producer_threads(self, temp_audit_dir):
+        """Test that producer threads wait for space instead of dropping."""
+        env = self._env(
+            temp_audit_dir,
+            AIDB_AUDIT_QUEUE_SIZE="2",
+            AIDB_AUDIT_ENQUEUE_TIMEOUT_MS="2000",
+        )
+        with patch.dict(os.environ, env):
+            logger = AuditLogger()
+
+            try:
+
+                def produce() -> None:
+                    for event in AuditEventFactory.create_batch(30):
+                        logger.log(event)
+
+                await asyncio.to_thread(produce)
+                await wait_for_queue_processing(logger)
+
+                stats = logger.get_stats()
+                assert stats["dropped"] == 0
+                assert stats["written"] == 30
+
+            finally:
+                await logger.shutdown()
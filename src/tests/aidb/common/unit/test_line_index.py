@@ -0,0 +1,68 @@
+"""Unit tests for the shared source line index."""
+
+import os
+from unittest.mock import patch
+
+import pytest
+
+from aidb.common.line_index import SourceLineIndex
+
+
+def _touch(path, delta_ns: int = 1_000_000) -> None:
+    st = path.stat()
+    os.utime(path, ns=(st.st_atime_ns, st.st_mtime_ns + delta_ns))
+
+
+class TestSourceLineIndex:
+    """Tests for SourceLineIndex."""
+
+    @pytest.mark.parametrize("use_mmap", [False, True])
+    def test_counts_and_slices_lines(self, tmp_path, use_mmap):
+        """Line counts match file iteration and ranges are clamped to the file."""
+        source = tmp_path / "Main.java"
+        source.write_bytes(b"class Main {\r\n  int x;\n\n}")
+        index = SourceLineIndex(1024 * 1024, use_mmap=use_mmap, mmap_min_bytes=1)
+
+        assert index.line_count(source) == 4
+        assert index.lines(source, 0, 2) == ["class Main {", "  int x;"]
+        assert index.lines(source, 3, 99) == ["", "}"]
+        assert index.lines(source, 7, 9) == []
+
+        empty = tmp_path / "Empty.java"
+        empty.write_bytes(b"")
+        assert index.line_count(empty) == 0
+
+    def test_reindexes_only_changed_files(self, tmp_path):
+        """Unchanged files are served from memory; edits are picked up."""
+        source = tmp_path / "App.java"
+        source.write_text("a\nb\n")
+        index = SourceLineIndex(1024 * 1024)
+        assert index.line_count(source) == 2
+
+        with patch("builtins.open") as mock_open:
+            assert index.lines(source, 2, 2) == ["b"]
+        mock_open.assert_not_called()
+
+        source.write_text("a\nb\nc\n")
+        _touch(source)
+        assert index.line_count(source) == 3
+        assert (index.hits, index.misses) == (1, 2)
+
+    def test_evicts_least_recently_used(self, tmp_path):
+        """Files are evicted in LRU order once the memory budget is exceeded."""
+        paths = []
+        for name in ("A", "B", "C"):
+            path = tmp_path / f"{name}.java"
+            path.write_text("x" * 90 + "\n")
+            paths.append(path)
+        index = SourceLineIndex(max_bytes=250)
+
+        index.line_count(paths[0])
+        index.line_count(paths[1])
+        index.line_count(paths[0])
+        index.line_count(paths[2])
+
+        assert index.misses == 3
+        index.line_count(paths[0])
+        index.line_count(paths[1])
+        assert index.misses == 4
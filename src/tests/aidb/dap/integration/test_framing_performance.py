@@ -0,0 +1,154 @@
+"""Performance tests for DAP stream framing.
+
+Replays a java-debug session trace (stopped event, deep stackTrace, a
+``variables`` expansion of a 3000-element ``int[]`` as in the
+``large_array_operations`` program, interleaved output events) in
+``RECEIVE_BUFFER_SIZE`` chunks, and compares the framing cost of the shared
+FrameDecoder with the previous bytes-concatenation framing (JSON decoding is
+excluded as it is identical for both).
+"""
+
+import json
+import time
+
+import pytest
+
+from aidb.dap.client.transport import RECEIVE_BUFFER_SIZE
+from aidb_common.io.framing import FrameDecoder
+
+
+def _frame(payload: dict) -> bytes:
+    body = json.dumps(payload, separators=(",", ":")).encode()
+    return f"Content-Length: {len(body)}\r\n\r\n".encode() + body
+
+
+def _java_debug_trace() -> list[dict]:
+    """Build messages shaped like java-debug traffic for one stop."""
+    seq = iter(range(1, 10_000))
+    messages: list[dict] = [
+        {
+            "seq": next(seq),
+            "type": "event",
+            "event": "stopped",
+            "body": {"reason": "breakpoint", "threadId": 1, "allThreadsStopped": False},
+        },
+    ]
+    frames = [
+        {
+            "id": 100 + i,
+            "name": f"com.example.Worker.step{i}(int)",
+            "line": 20 + i,
+            "column": 1,
+            "source": {
+                "name": "Worker.java",
+                "path": "/work/app/src/main/java/com/example/Worker.java",
+                "sourceReference": 0,
+            },
+        }
+        for i in range(60)
+    ]
+    messages.append(
+        {
+            "seq": next(seq),
+            "type": "response",
+            "request_seq": 10,
+            "success": True,
+            "command": "stackTrace",
+            "body": {"stackFrames": frames, "totalFrames": len(frames)},
+        },
+    )
+    for i in range(20):
+        messages.append(
+            {
+                "seq": next(seq),
+                "type": "event",
+                "event": "output",
+                "body": {"category": "stdout", "output": f"Processing item {i}\n"},
+            },
+        )
+    variables = [
+        {
+            "name": f"[{i}]",
+            "value": str(i * 7),
+            "type": "int",
+            "variablesReference": 0,
+            "evaluateName": f"numbers[{i}]",
+        }
+        for i in range(3000)
+    ]
+    messages.append(
+        {
+            "seq": next(seq),
+            "type": "response",
+            "request_seq": 12,
+            "success": True,
+            "command": "variables",
+            "body": {"variables": variables},
+        },
+    )
+    return messages
+
+
+def _chunks(stream: bytes) -> list[bytes]:
+    return [
+        stream[i : i + RECEIVE_BUFFER_SIZE]
+        for i in range(0, len(stream), RECEIVE_BUFFER_SIZE)
+    ]
+
+
+def _legacy_replay(chunks: list[bytes]) -> int:
+    """Previous framing: bytes concatenation, full re-scan and slicing."""
+    buffer = b""
+    count = 0
+    for chunk in chunks:
+        buffer += chunk
+        while True:
+            header_end = buffer.find(b"\r\n\r\n")
+            if header_end == -1:
+                break
+            header = buffer[:header_end].decode("utf-8")
+            length = int(header.split(":")[1].strip())
+            body_start = header_end + 4
+            if len(buffer) < body_start + length:
+                break
+            _ = buffer[body_start : body_start + length]
+            buffer = buffer[body_start + length :]
+            count += 1
+    return count
+
+
+def _decoder_replay(chunks: list[bytes]) -> int:
+    decoder = FrameDecoder()
+    count = 0
+    for chunk in chunks:
+        decoder.feed(chunk)
+        while decoder.next_body() is not None:
+            count += 1
+    return count
+
+
+def _best_of(fn, chunks: list[bytes], rounds: int = 5) -> float:
+    best = float("inf")
+    for _ in range(rounds):
+        start = time.perf_counter()
+        fn(chunks)
+        best = min(best, time.perf_counter() - start)
+    return best
+
+
+class TestFramingPerformance:
+    """Framing cost on large java-debug payloads."""
+
+    @pytest.mark.performance
+    def test_decoder_outperforms_bytes_concatenation(self):
+        """FrameDecoder is faster than re-slicing bytes on large payloads."""
+        messages = _java_debug_trace()
+        chunks = _chunks(b"".join(_frame(m) for m in messages))
+
+        assert _decoder_replay(chunks) == _legacy_replay(chunks) == len(messages)
+
+        legacy = _best_of(_legacy_replay, chunks)
+        decoder = _best_of(_decoder_replay, chunks)
+        assert decoder < legacy, (
+            f"decoder={decoder * 1000:.2f}ms legacy={legacy * 1000:.2f}ms"
+        )
@@ -0,0 +1,98 @@
+"""Performance tests for precompiled DAP protocol decoders.
+
+Compares the generated decoders in ``aidb.dap.protocol._decoders`` with the
+reflective ``SerializableMixin.from_dict`` path on large java-debug responses.
+"""
+
+import time
+from unittest.mock import patch
+
+import pytest
+
+from aidb.dap import serialization
+from aidb.dap.protocol.responses import StackTraceResponse, VariablesResponse
+
+
+def _reflective(cls, payload: dict):
+    """Decode with every class, including nested ones, on the reflective path."""
+    with patch.object(serialization, "_decoders", {}):
+        return cls.from_dict(payload)
+
+
+def _stack_trace(frames: int) -> dict:
+    return {
+        "seq": 7,
+        "type": "response",
+        "request_seq": 3,
+        "success": True,
+        "command": "stackTrace",
+        "body": {
+            "stackFrames": [
+                {
+                    "id": 100 + i,
+                    "name": f"com.example.Worker.step{i}(int)",
+                    "line": 20 + i,
+                    "column": 1,
+                    "source": {
+                        "name": "Worker.java",
+                        "path": "/work/src/main/java/com/example/Worker.java",
+                        "sourceReference": 0,
+                    },
+                }
+                for i in range(frames)
+            ],
+            "totalFrames": frames,
+        },
+    }
+
+
+def _variables(count: int) -> dict:
+    return {
+        "seq": 9,
+        "type": "response",
+        "request_seq": 5,
+        "success": True,
+        "command": "variables",
+        "body": {
+            "variables": [
+                {
+                    "name": f"[{i}]",
+                    "value": str(i * 7),
+                    "type": "int",
+                    "variablesReference": 0,
+                    "evaluateName": f"numbers[{i}]",
+                    "presentationHint": {"kind": "data", "attributes": ["readOnly"]},
+                }
+                for i in range(count)
+            ],
+        },
+    }
+
+
+def _best_of(fn, payload: dict, rounds: int = 5) -> float:
+    best = float("inf")
+    for _ in range(rounds):
+        start = time.perf_counter()
+        fn(payload)
+        best = min(best, time.perf_counter() - start)
+    return best
+
+
+class TestDecoderPerformance:
+    """Decoding cost of large stackTrace and variables responses."""
+
+    @pytest.mark.performance
+    @pytest.mark.parametrize(
+        ("cls", "payload"),
+        [
+            (StackTraceResponse, _stack_trace(frames=200)),
+            (VariablesResponse, _variables(count=3000)),
+        ],
+    )
+    def test_fast_path_outperforms_reflection(self, cls, payload):
+        """Precompiled decoders are faster than the reflective path."""
+        reflective = _best_of(lambda p: _reflective(cls, p), payload)
+        fast = _best_of(cls.from_dict, payload)
+        assert fast < reflective, (
+            f"fast={fast * 1000:.2f}ms reflective={reflective * 1000:.2f}ms"
+        )
@@ -0,0 +1,96 @@
+"""Tests for lazily decoded DAP response lists."""
+
+import json
+
+import pytest
+
+from aidb.dap.lazy import LazyDecodedList, defer_list_field
+from aidb.dap.protocol.responses import VariablesResponse
+from aidb.dap.protocol.types import Variable
+
+
+def _raw_variables(count: int) -> list[dict]:
+    return [
+        {"name": f"[{i}]", "value": str(i), "type": "int", "variablesReference": 0}
+        for i in range(count)
+    ]
+
+
+class TestLazyDecodedList:
+    """Tests for LazyDecodedList."""
+
+    def test_decodes_only_accessed_items(self):
+        """Test that items are typed on first access and cached."""
+        lazy = LazyDecodedList(_raw_variables(10), Variable.from_dict)
+
+        assert len(lazy) == 10
+        assert lazy.decoded_count == 0
+
+        first = lazy[0]
+        assert isinstance(first, Variable)
+        assert lazy[0] is first
+        assert lazy[-1].name == "[9]"
+        assert lazy.decoded_count == 2
+
+    def test_equals_eagerly_decoded_list(self):
+        """Test that the lazy list compares equal to the eager result."""
+        raw = _raw_variables(5)
+        lazy = LazyDecodedList(raw, Variable.from_dict)
+
+        assert lazy == [Variable.from_dict(item) for item in raw]
+        assert list(lazy[1:3]) == [Variable.from_dict(item) for item in raw[1:3]]
+
+    def test_pages(self):
+        """Test paged access and page streaming."""
+        lazy = LazyDecodedList(_raw_variables(25), Variable.from_dict)
+
+        page = lazy.page(10, 5)
+        assert [v.name for v in page] == [f"[{i}]" for i in range(10, 15)]
+        assert lazy.decoded_count == 5
+        assert lazy.page(24, 10)[0].name == "[24]"
+        assert lazy.page(30, 10) == []
+
+        sizes = [len(p) for p in lazy.iter_pages(10)]
+        assert sizes == [10, 10, 5]
+
+    def test_index_out_of_range(self):
+        """Test that out-of-range indexes raise IndexError."""
+        lazy = LazyDecodedList(_raw_variables(1), Variable.from_dict)
+
+        with pytest.raises(IndexError):
+            lazy[1]
+
+
+class TestDeferListField:
+    """Tests for defer_list_field and typed responses holding lazy lists."""
+
+    def test_small_lists_stay_eager(self):
+        """Test that lists below the threshold are not wrapped."""
+        body = {"variables": _raw_variables(3)}
+
+        assert defer_list_field(body, "variables", Variable.from_dict, 10) is body
+
+    def test_typed_response_round_trips(self):
+        """Test that a typed response keeps the lazy list and serializes it."""
+        raw = _raw_variables(20)
+        body = defer_list_field(
+            {"variables": raw},
+            "variables",
+            Variable.from_dict,
+            10,
+        )
+        response = VariablesResponse.from_dict(
+            {
+                "seq": 1,
+                "type": "response",
+                "request_seq": 1,
+                "success": True,
+                "command": "variables",
+                "body": body,
+            },
+        )
+
+        assert isinstance(response.body.variables, LazyDecodedList)
+        assert response.body.variables.decoded_count == 0
+        serialized = json.loads(response.to_json())
+        assert serialized["body"]["variables"] == raw
@@ -9,9 +9,13 @@ from unittest.mock import AsyncMock, MagicMock, patch
 
 import pytest
 
+from aidb.common.constants import LAZY_DECODE_MIN_ITEMS
 from aidb.common.errors import DebugConnectionError, DebugTimeoutError
 from aidb.dap.client.request_handler import RequestHandler
+from aidb.dap.lazy import LazyDecodedList
 from aidb.dap.protocol.base import Request, Response
+from aidb.dap.protocol.responses import VariablesResponse
+from aidb_common.metrics import DAP_REQUEST_DURATION, MetricsRegistry
 
 
 class TestRequestHandlerInit:
@@ -125,6 +129,44 @@ class TestSendRequest:
         assert response.command == "test"
         mock_transport.send_message.assert_called_once()
 
+    @pytest.mark.asyncio
+    async def test_send_request_records_latency(self, mock_ctx, mock_transport):
+        """send_request records latency per command and outcome."""
+        mock_transport.is_connected.return_value = True
+        mock_transport.send_message = AsyncMock()
+        registry = MetricsRegistry()
+
+        handler = RequestHandler(transport=mock_transport, ctx=mock_ctx)
+
+        async def simulate_response():
+            await asyncio.sleep(0.01)
+            await handler.handle_response(
+                {
+                    "seq": 1,
+                    "request_seq": 1,
+                    "success": False,
+                    "command": "evaluate",
+                    "type": "response",
+                }
+            )
+
+        with patch(
+            "aidb.dap.client.request_handler.get_metrics_registry",
+            return_value=registry,
+        ):
+            asyncio.create_task(simulate_response())
+            await handler.send_request(Request(seq=0, command="evaluate"), timeout=1.0)
+
+            with pytest.raises(DebugTimeoutError):
+                await handler.send_request(Request(seq=0, command="next"), timeout=0.05)
+
+        series = {
+            (s["labels"]["command"], s["labels"]["outcome"]): s
+            for s in registry.snapshot()[DAP_REQUEST_DURATION]["series"]
+        }
+        assert series[("evaluate", "failed")]["count"] == 1
+        assert series[("next", "timeout")]["min_ms"] >= 50
+
     @pytest.mark.asyncio
     async def test_send_request_not_connected_raises(self, mock_ctx, mock_transport):
         """send_request raises DebugConnectionError when not connected."""
@@ -160,6 +202,101 @@ class TestSendRequest:
         with pytest.raises(DebugConnectionError, match="Failed to send"):
             await handler.send_request(request)
 
+    @pytest.mark.asyncio
+    async def test_inspection_requests_are_pipelined(self, mock_ctx, mock_transport):
+        """Read-only inspection requests do not wait for each other's responses."""
+        mock_transport.is_connected.return_value = True
+        mock_transport.send_message = AsyncMock()
+
+        handler = RequestHandler(transport=mock_transport, ctx=mock_ctx)
+
+        first = asyncio.create_task(
+            handler.send_request(Request(seq=0, command="scopes"), timeout=1.0),
+        )
+        second = asyncio.create_task(
+            handler.send_request(Request(seq=0, command="variables"), timeout=1.0),
+        )
+        await asyncio.sleep(0.01)
+
+        # Both were sent before either was answered
+        assert mock_transport.send_message.await_count == 2
+        for seq, command in ((2, "variables"), (1, "scopes")):
+            await handler.handle_response(
+                {
+                    "seq": 10 + seq,
+                    "request_seq": seq,
+                    "success": True,
+                    "command": command,
+                    "type": "response",
+                },
+            )
+        assert (await first).command == "scopes"
+        assert (await second).command == "variables"
+
+    @pytest.mark.asyncio
+    async def test_other_requests_stay_serialized(self, mock_ctx, mock_transport):
+        """Requests outside the inspection set wait for the previous response."""
+        mock_transport.is_connected.return_value = True
+        mock_transport.send_message = AsyncMock()
+
+        handler = RequestHandler(transport=mock_transport, ctx=mock_ctx)
+
+        first = asyncio.create_task(
+            handler.send_request(Request(seq=0, command="evaluate"), timeout=1.0),
+        )
+        second = asyncio.create_task(
+            handler.send_request(Request(seq=0, command="evaluate"), timeout=1.0),
+        )
+        await asyncio.sleep(0.01)
+        assert mock_transport.send_message.await_count == 1
+
+        for seq in (1, 2):
+            await handler.handle_response(
+                {
+                    "seq": 10 + seq,
+                    "request_seq": seq,
+                    "success": True,
+                    "command": "evaluate",
+                    "type": "response",
+                },
+            )
+            await asyncio.sleep(0.01)
+        await asyncio.gather(first, second)
+        assert mock_transport.send_message.await_count == 2
+
+    @pytest.mark.asyncio
+    async def test_send_requests_sends_batch_before_responses(
+        self,
+        mock_ctx,
+        mock_transport,
+    ):
+        """A batch is sent back to back; results keep request order."""
+        mock_transport.is_connected.return_value = True
+        mock_transport.send_message = AsyncMock()
+
+        handler = RequestHandler(transport=mock_transport, ctx=mock_ctx)
+        requests = [Request(seq=0, command="setBreakpoints") for _ in range(3)]
+
+        batch = asyncio.create_task(handler.send_requests(requests, timeout=0.2))
+        await asyncio.sleep(0.01)
+
+        # All were sent before any was answered
+        assert mock_transport.send_message.await_count == 3
+        for seq in (3, 1):
+            await handler.handle_response(
+                {
+                    "seq": 10 + seq,
+                    "request_seq": seq,
+                    "success": seq == 1,
+                    "command": "setBreakpoints",
+                    "type": "response",
+                },
+            )
+        first, second, third = await batch
+        assert first.success
+        assert isinstance(second, DebugTimeoutError)
+        assert not third.success
+
 
 class TestSendRequestNoWait:
     """Tests for send_request_no_wait method."""
@@ -339,6 +476,41 @@ class TestHandleResponse:
         assert result.success is False
         assert result.message == "Test error"
 
+    @pytest.mark.asyncio
+    async def test_handle_response_large_variables_decoded_lazily(
+        self, mock_ctx, mock_transport
+    ):
+        """handle_response keeps large variables lists raw until accessed."""
+        mock_transport.is_connected.return_value = True
+        mock_transport.send_message = AsyncMock()
+
+        handler = RequestHandler(transport=mock_transport, ctx=mock_ctx)
+        seq = await handler.send_request_no_wait(Request(seq=0, command="variables"))
+        raw = [
+            {"name": f"[{i}]", "value": str(i), "type": "int", "variablesReference": 0}
+            for i in range(LAZY_DECODE_MIN_ITEMS)
+        ]
+
+        await handler.handle_response(
+            {
+                "seq": 1,
+                "request_seq": seq,
+                "success": True,
+                "command": "variables",
+                "type": "response",
+                "body": {"variables": raw},
+            }
+        )
+
+        result = handler._pending_requests[seq].result()
+        assert isinstance(result, VariablesResponse)
+        variables = result.body.variables
+        assert isinstance(variables, LazyDecodedList)
+        assert len(variables) == LAZY_DECODE_MIN_ITEMS
+        assert variables.decoded_count == 0
+        assert variables[5].value == "5"
+        assert variables.decoded_count == 1
+
 
 class TestClearPendingRequests:
     """Tests for clear_pending_requests method."""
@@ -0,0 +1,130 @@
+"""Tests for precompiled DAP protocol decoders.
+
+Generated decoders in ``aidb.dap.protocol._decoders`` must produce the same objects
+as the reflective ``SerializableMixin.from_dict`` path.
+"""
+
+from unittest.mock import patch
+
+import pytest
+
+from aidb.dap import serialization
+from aidb.dap.protocol._decoders import DECODERS
+from aidb.dap.protocol.bodies import OutputEventBody, StoppedEventBody
+from aidb.dap.protocol.events import StoppedEvent
+from aidb.dap.protocol.responses import StackTraceResponse, VariablesResponse
+from aidb.dap.protocol.types import Source, StackFrame, Variable
+
+
+def _reflective(cls, payload: dict):
+    """Decode with every class, including nested ones, on the reflective path."""
+    with patch.object(serialization, "_decoders", {}):
+        return cls.from_dict(payload)
+
+
+def _stack_trace(frames: int = 60) -> dict:
+    return {
+        "seq": 7,
+        "type": "response",
+        "request_seq": 3,
+        "success": True,
+        "command": "stackTrace",
+        "body": {
+            "stackFrames": [
+                {
+                    "id": 100 + i,
+                    "name": f"com.example.Worker.step{i}(int)",
+                    "line": 20 + i,
+                    "column": 1,
+                    "source": {
+                        "name": "Worker.java",
+                        "path": "/work/src/main/java/com/example/Worker.java",
+                        "sourceReference": 0,
+                        "checksums": [{"algorithm": "SHA256", "checksum": "ab"}],
+                    },
+                    "presentationHint": "normal",
+                    "unknownField": "ignored",
+                }
+                for i in range(frames)
+            ],
+            "totalFrames": frames,
+        },
+    }
+
+
+def _variables(count: int = 500) -> dict:
+    return {
+        "seq": 9,
+        "type": "response",
+        "request_seq": 5,
+        "success": True,
+        "command": "variables",
+        "body": {
+            "variables": [
+                {
+                    "name": f"[{i}]",
+                    "value": str(i * 7),
+                    "type": "int",
+                    "variablesReference": 0,
+                    "evaluateName": f"numbers[{i}]",
+                    "presentationHint": {"kind": "data", "attributes": ["readOnly"]},
+                }
+                for i in range(count)
+            ],
+        },
+    }
+
+
+class TestDecoderEquivalence:
+    """Generated decoders match the reflective from_dict path."""
+
+    @pytest.mark.parametrize(
+        ("cls", "payload"),
+        [
+            (StackTraceResponse, _stack_trace()),
+            (VariablesResponse, _variables()),
+            (
+                StoppedEventBody,
+                {"reason": "breakpoint", "threadId": 1, "hitBreakpointIds": [2]},
+            ),
+            (
+                OutputEventBody,
+                {"category": "stdout", "output": "hi\n", "source": {"path": "/a"}},
+            ),
+        ],
+    )
+    def test_fast_path_matches_reflective(self, cls, payload):
+        """Test that both paths build equal objects with nested types."""
+        assert cls in DECODERS
+
+        assert cls.from_dict(payload) == _reflective(cls, payload)
+
+    def test_nested_types_are_decoded(self):
+        """Test that nested dataclasses are built, not left as dicts."""
+        response = StackTraceResponse.from_dict(_stack_trace(frames=1))
+
+        frame = response.body.stackFrames[0]
+        assert isinstance(frame, StackFrame)
+        assert isinstance(frame.source, Source)
+
+    def test_none_and_non_dict_values_pass_through(self):
+        """Test that None and unexpected value shapes are preserved."""
+        payload = _variables(count=1)
+        payload["body"]["variables"].append("not-a-variable")
+        payload["message"] = None
+
+        response = VariablesResponse.from_dict(payload)
+
+        assert isinstance(response.body.variables[0], Variable)
+        assert response.body.variables[1] == "not-a-variable"
+        assert response.message is None
+        assert response == _reflective(VariablesResponse, payload)
+
+    def test_event_override_keeps_reflective_path(self):
+        """Test that classes overriding from_dict are not precompiled."""
+        assert StoppedEvent not in DECODERS
+
+        event = StoppedEvent.from_dict(
+            {"seq": 1, "type": "event", "event": "stopped", "body": {"reason": "step"}},
+        )
+        assert isinstance(event.body, StoppedEventBody)
@@ -0,0 +1,126 @@
+"""Unit tests for StopSnapshotCache.
+
+Tests memoization of inspection responses per stop epoch, request coalescing and
+invalidation by events and state-changing requests.
+"""
+
+import asyncio
+from unittest.mock import AsyncMock, MagicMock
+
+import pytest
+
+from aidb.dap.client.events import EventProcessor
+from aidb.dap.client.snapshot_cache import StopSnapshotCache
+from aidb.dap.client.state import SessionState
+from aidb.dap.protocol.base import Event, Request, Response
+from aidb.dap.protocol.bodies import StackTraceArguments, VariablesArguments
+from aidb.dap.protocol.requests import StackTraceRequest, VariablesRequest
+
+
+def _stopped_state() -> SessionState:
+    state = SessionState()
+    state.stopped = True
+    return state
+
+
+def _stack_trace(thread_id: int = 1) -> StackTraceRequest:
+    return StackTraceRequest(seq=0, arguments=StackTraceArguments(threadId=thread_id))
+
+
+def _response(command: str, success: bool = True) -> Response:
+    return Response(seq=1, request_seq=1, command=command, success=success)
+
+
+class TestStopSnapshotCache:
+    """Tests for per-stop memoization."""
+
+    @pytest.mark.asyncio
+    async def test_repeated_requests_hit_cache(self):
+        """Identical requests at one stop are sent once; other arguments miss."""
+        cache = StopSnapshotCache(_stopped_state())
+        send = AsyncMock(side_effect=lambda: _response("stackTrace"))
+
+        first = await cache.fetch(_stack_trace(), send)
+        second = await cache.fetch(_stack_trace(), send)
+        await cache.fetch(_stack_trace(thread_id=2), send)
+
+        assert second is first
+        assert send.await_count == 2
+        assert cache.get_stats()["hits"] == 1
+
+    @pytest.mark.asyncio
+    async def test_concurrent_requests_share_one_fetch(self):
+        """Concurrent identical requests wait for a single in-flight request."""
+        cache = StopSnapshotCache(_stopped_state())
+        release = asyncio.Event()
+
+        async def send():
+            await release.wait()
+            return _response("variables")
+
+        request = VariablesRequest(
+            seq=0,
+            arguments=VariablesArguments(variablesReference=7),
+        )
+        tasks = [asyncio.create_task(cache.fetch(request, send)) for _ in range(3)]
+        await asyncio.sleep(0)
+        release.set()
+        responses = await asyncio.gather(*tasks)
+
+        assert all(response is responses[0] for response in responses)
+        assert cache.get_stats() == {
+            "hits": 2,
+            "misses": 1,
+            "entries": 1,
+            "stop_epoch": 0,
+        }
+
+    @pytest.mark.asyncio
+    async def test_not_cached_when_running_failed_or_stale(self):
+        """Running sessions, failures and stops ending mid-request bypass the cache."""
+        state = SessionState()
+        cache = StopSnapshotCache(state)
+        send = AsyncMock(side_effect=lambda: _response("stackTrace"))
+
+        await cache.fetch(_stack_trace(), send)
+        await cache.fetch(_stack_trace(), send)
+        assert send.await_count == 2
+
+        state.stopped = True
+        failing = AsyncMock(return_value=_response("stackTrace", success=False))
+        await cache.fetch(_stack_trace(), failing)
+        await cache.fetch(_stack_trace(), failing)
+        assert failing.await_count == 2
+
+        async def resumed_while_sending():
+            state.stop_epoch += 1
+            return _response("stackTrace")
+
+        await cache.fetch(_stack_trace(), resumed_while_sending)
+        assert cache.get_stats()["entries"] == 0
+
+        # Commands other than inspection requests are never cached
+        evaluate = AsyncMock(return_value=_response("evaluate"))
+        await cache.fetch(Request(seq=0, command="evaluate"), evaluate)
+        await cache.fetch(Request(seq=0, command="evaluate"), evaluate)
+        assert evaluate.await_count == 2
+
+    @pytest.mark.asyncio
+    async def test_events_start_new_epoch(self):
+        """Stopped, continued and invalidated events discard cached responses."""
+        state = _stopped_state()
+        cache = StopSnapshotCache(state)
+        processor = EventProcessor(state, MagicMock())
+        send = AsyncMock(side_effect=lambda: _response("stackTrace"))
+
+        await cache.fetch(_stack_trace(), send)
+        for event_type in ("invalidated", "stopped"):
+            processor.process_event(Event(seq=1, event=event_type))
+            await cache.fetch(_stack_trace(), send)
+            await cache.fetch(_stack_trace(), send)
+
+        assert send.await_count == 3
+
+        cache.invalidate()
+        await cache.fetch(_stack_trace(), send)
+        assert send.await_count == 4
@@ -39,7 +39,7 @@ class TestDAPTransportInit:
         """DAPTransport initializes receive buffer empty."""
         transport = DAPTransport(host="127.0.0.1", port=5678, ctx=mock_ctx)
 
-        assert transport._receive_buffer == b""
+        assert transport._decoder.pending == 0
 
 
 class TestConnect:
@@ -217,7 +217,7 @@ class TestReceiveMessage:
 
         body = json.dumps({"type": "response", "command": "test"}).encode()
         header = f"Content-Length: {len(body)}\r\n\r\n".encode()
-        transport._receive_buffer = header + body
+        transport._decoder.feed(header + body)
 
         result = await transport.receive_message()
 
@@ -252,7 +252,7 @@ class TestTryParseMessage:
     def test_try_parse_message_incomplete_header(self, mock_ctx):
         """_try_parse_message returns None for incomplete header."""
         transport = DAPTransport("127.0.0.1", 5678, mock_ctx)
-        transport._receive_buffer = b"Content-Length: 10"
+        transport._decoder.feed(b"Content-Length: 10")
 
         result = transport._try_parse_message()
 
@@ -261,7 +261,7 @@ class TestTryParseMessage:
     def test_try_parse_message_incomplete_body(self, mock_ctx):
         """_try_parse_message returns None for incomplete body."""
         transport = DAPTransport("127.0.0.1", 5678, mock_ctx)
-        transport._receive_buffer = b"Content-Length: 100\r\n\r\n{}"
+        transport._decoder.feed(b"Content-Length: 100\r\n\r\n{}")
 
         result = transport._try_parse_message()
 
@@ -272,12 +272,12 @@ class TestTryParseMessage:
         transport = DAPTransport("127.0.0.1", 5678, mock_ctx)
         body = b'{"type":"response"}'
         header = f"Content-Length: {len(body)}\r\n\r\n".encode()
-        transport._receive_buffer = header + body
+        transport._decoder.feed(header + body)
 
         result = transport._try_parse_message()
 
         assert result == {"type": "response"}
-        assert transport._receive_buffer == b""
+        assert transport._decoder.pending == 0
 
     def test_try_parse_message_preserves_remaining(self, mock_ctx):
         """_try_parse_message preserves remaining data in buffer."""
@@ -286,7 +286,7 @@ class TestTryParseMessage:
         body2 = b'{"seq":2}'
         header1 = f"Content-Length: {len(body1)}\r\n\r\n".encode()
         header2 = f"Content-Length: {len(body2)}\r\n\r\n".encode()
-        transport._receive_buffer = header1 + body1 + header2 + body2
+        transport._decoder.feed(header1 + body1 + header2 + body2)
 
         result1 = transport._try_parse_message()
         result2 = transport._try_parse_message()
@@ -299,42 +299,93 @@ class TestTryParseMessage:
         transport = DAPTransport("127.0.0.1", 5678, mock_ctx)
         body = b"not valid json"
         header = f"Content-Length: {len(body)}\r\n\r\n".encode()
-        transport._receive_buffer = header + body
+        transport._decoder.feed(header + body)
 
         result = transport._try_parse_message()
 
         assert result is None
 
 
-class TestParseContentLength:
-    """Tests for _parse_content_length method."""
+class TestChunkedFraming:
+    """Tests for framing messages that arrive split across reads."""
+
+    @staticmethod
+    def _frame(payload: dict) -> bytes:
+        body = json.dumps(payload).encode()
+        return f"Content-Length: {len(body)}\r\n\r\n".encode() + body
+
+    def test_large_response_split_across_reads(self, mock_ctx):
+        """Messages spanning many reads are decoded whole and in order."""
+        variables = [
+            {"name": f"[{i}]", "value": str(i * 7), "variablesReference": 0}
+            for i in range(3000)
+        ]
+        messages = [
+            {"seq": 1, "type": "event", "event": "stopped", "body": {"threadId": 1}},
+            {"seq": 2, "type": "response", "body": {"variables": variables}},
+            {"seq": 3, "type": "event", "event": "output", "body": {"output": "x"}},
+        ]
+        stream = b"".join(self._frame(m) for m in messages)
+        transport = DAPTransport("127.0.0.1", 5678, mock_ctx)
+
+        received = []
+        for i in range(0, len(stream), RECEIVE_BUFFER_SIZE):
+            transport._decoder.feed(stream[i : i + RECEIVE_BUFFER_SIZE])
+            while (message := transport._try_parse_message()) is not None:
+                received.append(message)
+
+        assert len(stream) > 20 * RECEIVE_BUFFER_SIZE
+        assert received == messages
+        assert transport._decoder.pending == 0
 
-    def test_parse_content_length_success(self, mock_ctx):
-        """_parse_content_length extracts length from header."""
+    def test_header_split_across_reads(self, mock_ctx):
+        """A message fed one byte at a time is decoded once complete."""
+        stream = self._frame({"seq": 1}) + self._frame({"seq": 2})
         transport = DAPTransport("127.0.0.1", 5678, mock_ctx)
-        transport._receive_buffer = b"Content-Length: 42\r\n\r\nbody"
 
-        result = transport._parse_content_length("Content-Length: 42", 18)
+        received = []
+        for i in range(len(stream)):
+            transport._decoder.feed(stream[i : i + 1])
+            while (message := transport._try_parse_message()) is not None:
+                received.append((i, message))
 
-        assert result == 42
+        first_end = len(self._frame({"seq": 1})) - 1
+        assert received == [(first_end, {"seq": 1}), (len(stream) - 1, {"seq": 2})]
 
-    def test_parse_content_length_missing(self, mock_ctx):
-        """_parse_content_length returns None for missing header."""
+
+class TestMalformedHeaders:
+    """Tests for Content-Length header handling in _try_parse_message."""
+
+    def test_content_length_case_insensitive(self, mock_ctx):
+        """Content-Length header name is matched case-insensitively."""
         transport = DAPTransport("127.0.0.1", 5678, mock_ctx)
-        transport._receive_buffer = b"Other-Header: value\r\n\r\n"
+        transport._decoder.feed(b"content-length: 2\r\n\r\n{}")
 
-        result = transport._parse_content_length("Other-Header: value", 19)
+        result = transport._try_parse_message()
 
-        assert result is None
+        assert result == {}
 
-    def test_parse_content_length_invalid(self, mock_ctx):
-        """_parse_content_length returns None for invalid value."""
+    def test_missing_content_length_skipped(self, mock_ctx):
+        """Headers without Content-Length are skipped and logged."""
         transport = DAPTransport("127.0.0.1", 5678, mock_ctx)
-        transport._receive_buffer = b"Content-Length: abc\r\n\r\n"
+        transport._decoder.feed(
+            b"Other-Header: value\r\n\r\nContent-Length: 9\r\n\r\n{\"seq\":1}"
+        )
+
+        assert transport._try_parse_message() is None
+        mock_ctx.error.assert_called_once()
+        assert transport._try_parse_message() == {"seq": 1}
 
-        result = transport._parse_content_length("Content-Length: abc", 19)
+    def test_invalid_content_length_skipped(self, mock_ctx):
+        """Non-numeric Content-Length values are skipped and logged."""
+        transport = DAPTransport("127.0.0.1", 5678, mock_ctx)
+        transport._decoder.feed(b"Content-Length: abc\r\n\r\n")
+
+        result = transport._try_parse_message()
 
         assert result is None
+        assert "Invalid Content-Length" in mock_ctx.error.call_args[0][0]
+        assert transport._decoder.pending == 0
 
 
 class TestIsConnected:
@@ -371,11 +422,11 @@ class TestClearBuffer:
     def test_clear_buffer_empties(self, mock_ctx):
         """clear_buffer empties the receive buffer."""
         transport = DAPTransport("127.0.0.1", 5678, mock_ctx)
-        transport._receive_buffer = b"some data in buffer"
+        transport._decoder.feed(b"some data in buffer")
 
         transport.clear_buffer()
 
-        assert transport._receive_buffer == b""
+        assert transport._decoder.pending == 0
 
 
 class TestConstants:
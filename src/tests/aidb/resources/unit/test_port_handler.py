@@ -6,6 +6,11 @@ from unittest.mock import MagicMock, patch
 import psutil
 import pytest
 
+from aidb.common.constants import (
+    PORT_PROBE_AUTO,
+    PORT_PROBE_CONNECT,
+    PORT_PROBE_PSUTIL,
+)
 from aidb.common.errors import AidbError
 from aidb.resources.ports import DEFAULT_HOST, PortHandler
 
@@ -15,11 +20,11 @@ class TestPortHandlerWaitForPort:
 
     @pytest.fixture
     def port_handler(self) -> PortHandler:
-        """Create a PortHandler instance with mocked context."""
+        """Create a PortHandler in psutil mode with mocked context."""
         mock_ctx = MagicMock()
         mock_ctx.debug = MagicMock()
         mock_ctx.error = MagicMock()
-        return PortHandler(ctx=mock_ctx)
+        return PortHandler(ctx=mock_ctx, probe=PORT_PROBE_PSUTIL)
 
     @pytest.fixture
     def mock_process(self) -> MagicMock:
@@ -162,6 +167,7 @@ class TestPortHandlerInit:
         assert handler.host == DEFAULT_HOST
         assert handler.ipv6 is False
         assert handler.timeout == 1.0
+        assert handler.probe == PORT_PROBE_AUTO
 
     def test_custom_initialization(self) -> None:
         """Test initialization with custom values."""
@@ -672,11 +678,11 @@ class TestPortHandlerDetachedProcessFallback:
 
     @pytest.fixture
     def port_handler(self) -> PortHandler:
-        """Create a PortHandler instance with mocked context."""
+        """Create a PortHandler in psutil mode with mocked context."""
         mock_ctx = MagicMock()
         mock_ctx.debug = MagicMock()
         mock_ctx.error = MagicMock()
-        return PortHandler(ctx=mock_ctx)
+        return PortHandler(ctx=mock_ctx, probe=PORT_PROBE_PSUTIL)
 
     @pytest.fixture
     def mock_process(self) -> MagicMock:
@@ -773,6 +779,136 @@ class TestPortHandlerDetachedProcessFallback:
         assert result is False
 
 
+class TestPortHandlerFastProbe:
+    """Tests for the socket-table and connect probes."""
+
+    @pytest.fixture
+    def mock_process(self) -> MagicMock:
+        """Create a mock asyncio subprocess."""
+        proc = MagicMock(spec=asyncio.subprocess.Process)
+        proc.pid = 12345
+        proc.returncode = None
+        return proc
+
+    def _handler(self, probe: str) -> PortHandler:
+        mock_ctx = MagicMock()
+        mock_ctx.is_debug_enabled.return_value = False
+        return PortHandler(ctx=mock_ctx, probe=probe)
+
+    @pytest.mark.asyncio
+    async def test_skips_process_scans_until_port_listens(
+        self,
+        mock_process: MagicMock,
+    ) -> None:
+        """A port missing from the socket tables never triggers psutil scans."""
+        port_handler = self._handler(PORT_PROBE_AUTO)
+        with (
+            patch(
+                "aidb.resources.ports.read_listening_ports",
+                return_value={5678},
+            ),
+            patch.object(port_handler, "_check_specific_process_port") as specific,
+            patch.object(port_handler, "_check_named_processes_for_port") as named,
+        ):
+            result = await port_handler._wait_for_port_iteration(
+                port=7000,
+                proc=mock_process,
+                attempt=1,
+                detached_process_names=["python"],
+            )
+
+        assert result is False
+        specific.assert_not_called()
+        named.assert_not_called()
+
+    @pytest.mark.asyncio
+    async def test_confirms_owner_once_port_listens(
+        self,
+        mock_process: MagicMock,
+    ) -> None:
+        """A listening port is still attributed to the launched process."""
+        port_handler = self._handler(PORT_PROBE_AUTO)
+        with (
+            patch(
+                "aidb.resources.ports.read_listening_ports",
+                return_value={7000},
+            ),
+            patch.object(
+                port_handler,
+                "_check_specific_process_port",
+                return_value=True,
+            ) as specific,
+        ):
+            result = await port_handler._wait_for_port_iteration(
+                port=7000,
+                proc=mock_process,
+                attempt=1,
+            )
+
+        assert result is True
+        specific.assert_called_once_with(mock_process, 7000)
+
+    @pytest.mark.asyncio
+    async def test_attach_mode_uses_socket_tables(self) -> None:
+        """Without a process, the socket tables answer without psutil."""
+        port_handler = self._handler(PORT_PROBE_AUTO)
+        with (
+            patch(
+                "aidb.resources.ports.read_listening_ports",
+                return_value={7000},
+            ),
+            patch.object(port_handler, "_check_all_processes_for_port") as scan,
+        ):
+            result = await port_handler._wait_for_port_iteration(
+                port=7000,
+                proc=None,
+                attempt=1,
+            )
+
+        assert result is True
+        scan.assert_not_called()
+
+    @pytest.mark.asyncio
+    async def test_attach_mode_falls_back_to_connect(self) -> None:
+        """Without readable socket tables, a connect probe is used."""
+        port_handler = self._handler(PORT_PROBE_AUTO)
+        with (
+            patch("aidb.resources.ports.read_listening_ports", return_value=None),
+            patch(
+                "aidb.resources.ports.probe_connect",
+                return_value=True,
+            ) as connect,
+        ):
+            result = await port_handler._wait_for_port_iteration(
+                port=7000,
+                proc=None,
+                attempt=1,
+            )
+
+        assert result is True
+        assert connect.call_args.args == (DEFAULT_HOST, 7000)
+
+    def test_connect_mode_ignores_socket_tables(self) -> None:
+        """Connect mode probes even when the tables are readable."""
+        port_handler = self._handler(PORT_PROBE_CONNECT)
+        with patch(
+            "aidb.resources.ports.probe_connect",
+            return_value=False,
+        ) as connect:
+            assert port_handler._check_port_listening(7000, {7000}) is False
+
+        connect.assert_called_once()
+
+    def test_attributes_owner_when_debug_logging(self) -> None:
+        """psutil is used to name the owner only when debug logs are on."""
+        port_handler = self._handler(PORT_PROBE_AUTO)
+        port_handler.ctx.is_debug_enabled.return_value = True
+        with patch.object(port_handler, "_check_all_processes_for_port") as scan:
+            assert port_handler._check_port_listening(7000, {7000}) is True
+
+        scan.assert_called_once_with(7000)
+
+
 class TestPortHandlerWaitForPortTimeout:
     """Tests for PortHandler.wait_for_port timeout behavior."""
 
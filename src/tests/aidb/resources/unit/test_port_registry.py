@@ -3,6 +3,7 @@
 import socket
 import tempfile
 import threading
+from collections.abc import Generator
 from pathlib import Path
 from unittest.mock import MagicMock, patch
 
@@ -178,3 +179,116 @@ class TestPortRegistryGetPortCount:
         count = registry.get_port_count()
 
         assert count == 0
+
+
+class TestPortRegistryBlocks:
+    """Tests for handing out ports from leased blocks."""
+
+    @pytest.fixture(autouse=True)
+    def reset_singleton(self) -> Generator[None, None, None]:
+        """Give each test its own registry."""
+        PortRegistry.reset()
+        yield
+        PortRegistry.reset()
+
+    @pytest.fixture
+    def registry(self, reset_singleton: None) -> PortRegistry:
+        """Create a PortRegistry with blocks of 4 ports and no socket binding."""
+        ctx = MagicMock()
+        temp_dir = tempfile.mkdtemp()
+        ctx.get_storage_path = lambda *args: Path(temp_dir) / "/".join(args)
+        with patch(
+            "aidb.resources.ports.config.get_port_block_size",
+            return_value=4,
+        ):
+            registry = PortRegistry(session_id="s1", ctx=ctx)
+        registry._reserve_socket = MagicMock(return_value=True)
+        registry._start_reclaimer = MagicMock()
+        return registry
+
+    async def _acquire(self, registry: PortRegistry, session_id: str) -> int:
+        return await registry.acquire_port(
+            "java",
+            session_id=session_id,
+            default_port=5005,
+            fallback_ranges=[40000],
+        )
+
+    @pytest.mark.asyncio
+    async def test_sessions_share_one_block_lease(
+        self,
+        registry: PortRegistry,
+    ) -> None:
+        """Ports come from one leased block until it runs out."""
+        with patch.object(
+            registry._allocator,
+            "allocate_block",
+            wraps=registry._allocator.allocate_block,
+        ) as allocate_block:
+            ports = [await self._acquire(registry, f"s{i}") for i in range(5)]
+
+        assert ports == [40000, 40001, 40002, 40003, 40004]
+        assert allocate_block.call_count == 2
+        assert registry.get_port_count("s4") == 1
+
+    @pytest.mark.asyncio
+    async def test_skips_ports_that_cannot_be_reserved(
+        self,
+        registry: PortRegistry,
+    ) -> None:
+        """Block ports are verified lazily, when they are handed out."""
+        registry._reserve_socket.side_effect = lambda port: port != 40000
+
+        assert await self._acquire(registry, "s1") == 40001
+
+    @pytest.mark.asyncio
+    async def test_released_port_returns_to_block(
+        self,
+        registry: PortRegistry,
+    ) -> None:
+        """Releasing keeps the block lease and requeues the port last."""
+        port = await self._acquire(registry, "s1")
+        with patch.object(registry._allocator, "release") as release:
+            assert registry.release_port(port, "s1") is True
+
+        release.assert_not_called()
+        block = registry._shards[(40000, 100)].blocks[0]
+        assert list(block.free) == [40001, 40002, 40003, 40000]
+
+    @pytest.mark.asyncio
+    async def test_cleanup_reclaims_idle_blocks_and_renews_busy_ones(
+        self,
+        registry: PortRegistry,
+    ) -> None:
+        """Idle blocks go back to the allocator, busy ones are renewed."""
+        ports = [await self._acquire(registry, f"s{i}") for i in range(5)]
+        registry.release_port(ports[4], "s4")
+        idle_block = registry._shards[(40000, 100)].blocks[1]
+        idle_block.idle_since -= 3600
+
+        with (
+            patch.object(registry._allocator, "release") as release,
+            patch.object(registry._allocator, "renew") as renew,
+        ):
+            assert registry.cleanup_stale_allocations() == 1
+
+        release.assert_called_once_with(40004)
+        renew.assert_called_once_with([40000])
+
+    @pytest.mark.asyncio
+    async def test_preferred_port_is_allocated_individually(
+        self,
+        registry: PortRegistry,
+    ) -> None:
+        """A requested port bypasses the blocks."""
+        with patch.object(registry._allocator, "allocate_block") as allocate_block:
+            port = await registry.acquire_port(
+                "java",
+                session_id="s1",
+                preferred=40150,
+                default_port=5005,
+                fallback_ranges=[40000],
+            )
+
+        assert port == 40150
+        allocate_block.assert_not_called()
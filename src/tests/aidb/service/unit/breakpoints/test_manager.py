@@ -102,6 +102,51 @@ class TestBreakpointServiceSet:
         mock_service_session.dap.send_request.assert_called_once_with(request)
         assert isinstance(result, AidbBreakpointsResponse)
 
+    @pytest.mark.asyncio
+    async def test_set_many_sends_one_batch_and_updates_store_once(
+        self,
+        mock_service_session: MagicMock,
+        mock_ctx: MagicMock,
+    ) -> None:
+        """Test that set_many batches requests and merges all results at once."""
+        from aidb.dap.protocol.bodies import SetBreakpointsArguments
+        from aidb.dap.protocol.requests import SetBreakpointsRequest
+        from aidb.dap.protocol.types import Source, SourceBreakpoint
+
+        def make_response(bp_id: int) -> MagicMock:
+            response = MagicMock()
+            response.ensure_success = MagicMock()
+            response.body.breakpoints = [
+                MagicMock(id=bp_id, line=10, verified=True, message=None),
+            ]
+            return response
+
+        mock_service_session.dap.send_requests = AsyncMock(
+            return_value=[make_response(1), make_response(2)],
+        )
+        mock_service_session._update_breakpoints_from_responses = AsyncMock()
+        service = BreakpointService(mock_service_session, mock_ctx)
+
+        requests = [
+            SetBreakpointsRequest(
+                seq=0,
+                arguments=SetBreakpointsArguments(
+                    source=Source(path=path),
+                    breakpoints=[SourceBreakpoint(line=10)],
+                ),
+            )
+            for path in ("/test/a.py", "/test/b.py")
+        ]
+
+        results = await service.set_many(requests)
+
+        mock_service_session.dap.send_requests.assert_awaited_once_with(requests)
+        mock_service_session.dap.send_request.assert_not_called()
+        assert len(results) == 2
+        update = mock_service_session._update_breakpoints_from_responses
+        update.assert_awaited_once()
+        assert list(update.await_args.args[0]) == ["/test/a.py", "/test/b.py"]
+
 
 class TestBreakpointServiceClear:
     """Test BreakpointService.clear method."""
@@ -143,6 +188,38 @@ class TestBreakpointServiceClear:
 
         assert isinstance(result, AidbBreakpointsResponse)
 
+    @pytest.mark.asyncio
+    async def test_clear_all_sends_one_batch(
+        self,
+        mock_service_session: MagicMock,
+        mock_ctx: MagicMock,
+    ) -> None:
+        """Test that clearing all files sends one batch of empty requests."""
+        mock_service_session._breakpoint_store = {
+            1: MagicMock(source_path="/test/b.py"),
+            2: MagicMock(source_path="/test/a.py"),
+            3: MagicMock(source_path="/test/b.py"),
+        }
+        mock_response = MagicMock()
+        mock_response.ensure_success = MagicMock()
+        mock_response.body.breakpoints = []
+        mock_service_session.dap.send_requests = AsyncMock(
+            return_value=[mock_response, mock_response],
+        )
+        mock_service_session._update_breakpoints_from_responses = AsyncMock()
+        service = BreakpointService(mock_service_session, mock_ctx)
+
+        await service.clear(clear_all=True)
+
+        mock_service_session.dap.send_request.assert_not_called()
+        requests = mock_service_session.dap.send_requests.await_args.args[0]
+        assert [r.arguments.source.path for r in requests] == [
+            "/test/a.py",
+            "/test/b.py",
+        ]
+        assert all(r.arguments.breakpoints == [] for r in requests)
+        assert mock_service_session._breakpoint_store == {}
+
     @pytest.mark.asyncio
     async def test_clear_requires_argument(
         self,
@@ -4,6 +4,7 @@ from unittest.mock import AsyncMock, MagicMock
 
 import pytest
 
+from aidb.dap.protocol.types import Variable
 from aidb.models import (
     AidbVariablesResponse,
     EvaluationResult,
@@ -322,6 +323,70 @@ class TestVariableServiceGetVariables:
         assert result["key1"].value == "value1"
 
 
+def _variables_response(names: list[str]) -> MagicMock:
+    response = MagicMock()
+    response.ensure_success = MagicMock()
+    response.body.variables = [
+        Variable(name=name, value=name.upper(), variablesReference=0, type="int")
+        for name in names
+    ]
+    return response
+
+
+class TestVariableServiceGetVariablesPage:
+    """Test VariableService.get_variables_page method."""
+
+    @pytest.mark.asyncio
+    async def test_pages_indexed_children_on_adapter(
+        self,
+        mock_service_session: MagicMock,
+        mock_ctx: MagicMock,
+    ) -> None:
+        """Test that indexed children are paged by the adapter."""
+        mock_service_session.has_capability = MagicMock(return_value=False)
+        mock_service_session.dap.send_request = AsyncMock(
+            return_value=_variables_response(["[10]", "[11]"]),
+        )
+        service = VariableService(mock_service_session, mock_ctx)
+
+        page = await service.get_variables_page(
+            7,
+            start=10,
+            count=2,
+            indexed_variables=3000,
+        )
+
+        args = mock_service_session.dap.send_request.call_args[0][0].arguments
+        assert (args.start, args.count, args.filter) == (10, 2, "indexed")
+        assert list(page.variables) == ["[10]", "[11]"]
+        assert page.total == 3000
+        assert page.next_start == 12
+        assert page.has_more
+
+    @pytest.mark.asyncio
+    async def test_slices_when_adapter_cannot_page(
+        self,
+        mock_service_session: MagicMock,
+        mock_ctx: MagicMock,
+    ) -> None:
+        """Test that children are sliced locally without paging support."""
+        mock_service_session.has_capability = MagicMock(return_value=False)
+        names = [f"field{i}" for i in range(5)]
+        mock_service_session.dap.send_request = AsyncMock(
+            return_value=_variables_response(names),
+        )
+        service = VariableService(mock_service_session, mock_ctx)
+
+        page = await service.get_variables_page(7, start=3, count=10)
+
+        args = mock_service_session.dap.send_request.call_args[0][0].arguments
+        assert args.start is None
+        assert args.count is None
+        assert list(page.variables) == ["field3", "field4"]
+        assert page.total == 5
+        assert not page.has_more
+
+
 class TestDetermineVariableType:
     """Test _determine_variable_type helper method."""
 
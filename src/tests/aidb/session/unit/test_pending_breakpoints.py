@@ -0,0 +1,72 @@
+"""Unit tests for PendingBreakpointIndex."""
+
+from aidb.models import AidbBreakpoint, BreakpointState
+from aidb.session.pending_breakpoints import PendingBreakpointIndex, class_key
+
+
+def make_breakpoint(
+    bp_id: int,
+    source_path: str,
+    verified: bool = False,
+) -> AidbBreakpoint:
+    """Helper to create AidbBreakpoint instances."""
+    return AidbBreakpoint(
+        id=bp_id,
+        source_path=source_path,
+        line=10,
+        verified=verified,
+        state=BreakpointState.VERIFIED if verified else BreakpointState.PENDING,
+    )
+
+
+class TestPendingBreakpointIndex:
+    """Tests for PendingBreakpointIndex."""
+
+    def test_class_key(self) -> None:
+        """Paths, file names and class names map to the top-level class."""
+        assert class_key("/src/com/example/Foo.java") == "Foo"
+        assert class_key("Foo.java") == "Foo"
+        assert class_key("com.example.Foo$Inner") == "Foo"
+        assert class_key("C:\\src\\app.py") == "app"
+
+    def test_lookup_by_path_and_class_name(self) -> None:
+        """Only sources with unverified breakpoints are found."""
+        index = PendingBreakpointIndex()
+        index.set_source(
+            "/src/com/example/Foo.java",
+            [
+                make_breakpoint(1, "/src/com/example/Foo.java"),
+                make_breakpoint(2, "/src/com/example/Foo.java", verified=True),
+            ],
+        )
+        index.set_source(
+            "/src/com/example/Bar.java",
+            [make_breakpoint(3, "/src/com/example/Bar.java", verified=True)],
+        )
+
+        assert len(index) == 1
+        assert index.lookup("/src/com/example/./Foo.java") == [
+            "/src/com/example/Foo.java",
+        ]
+        assert index.lookup(None, "com.example.Foo$Inner") == [
+            "/src/com/example/Foo.java",
+        ]
+        assert index.lookup("/app.jar/com/example/Foo.java") == [
+            "/src/com/example/Foo.java",
+        ]
+        assert index.lookup("/src/com/example/Bar.java", "Bar.java") == []
+
+    def test_update_removes_verified_breakpoints(self) -> None:
+        """Verifying the last pending breakpoint of a source drops the source."""
+        index = PendingBreakpointIndex()
+        bp = make_breakpoint(1, "/src/Foo.java")
+        index.set_source("/src/Foo.java", [bp])
+
+        index.update(make_breakpoint(1, "/src/Foo.java", verified=True))
+        assert index.lookup("/src/Foo.java", "Foo") == []
+
+        index.update(bp)
+        assert index.lookup(None, "Foo") == ["/src/Foo.java"]
+
+        index.clear_source("/src/Foo.java")
+        assert len(index) == 0
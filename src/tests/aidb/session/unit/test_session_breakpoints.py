@@ -5,7 +5,6 @@ state synchronization.
 """
 
 import asyncio
-import time
 from dataclasses import replace
 from typing import Any
 from unittest.mock import AsyncMock, MagicMock, patch
@@ -13,6 +12,7 @@ from unittest.mock import AsyncMock, MagicMock, patch
 import pytest
 
 from aidb.models import AidbBreakpoint, AidbBreakpointsResponse, BreakpointState
+from aidb.session.pending_breakpoints import PendingBreakpointIndex
 
 
 class TestableBreakpointsMixin:
@@ -32,6 +32,9 @@ class TestableBreakpointsMixin:
     _clear_breakpoints_for_source: Any
     _update_breakpoint_from_event: Any
     _update_breakpoints_from_response: Any
+    _update_breakpoints_from_responses: Any
+    _schedule_rebind: Any
+    _cancel_pending_rebinds: Any
 
     # Type stubs for attributes set by fixture
     ctx: Any
@@ -42,7 +45,8 @@ class TestableBreakpointsMixin:
     _breakpoint_store: dict[int, AidbBreakpoint]
     _breakpoint_store_lock: Any
     _breakpoint_update_tasks: set[Any]
-    _last_rebind_times: dict[str, float]
+    _pending_breakpoints: PendingBreakpointIndex
+    _pending_rebinds: dict[str, Any]
     _initial_breakpoints_set: bool
 
     def __init__(self) -> None:
@@ -76,7 +80,8 @@ def breakpoints_mixin(mock_ctx: MagicMock) -> TestableBreakpointsMixin:
     mixin._breakpoint_store = {}
     mixin._breakpoint_store_lock = asyncio.Lock()
     mixin._breakpoint_update_tasks = set()
-    mixin._last_rebind_times = {}
+    mixin._pending_breakpoints = PendingBreakpointIndex()
+    mixin._pending_rebinds = {}
     mixin.breakpoints = []
     mixin._initial_breakpoints_set = False
 
@@ -85,6 +90,11 @@ def breakpoints_mixin(mock_ctx: MagicMock) -> TestableBreakpointsMixin:
     mixin.dap.is_terminated = False
     mixin.dap.is_connected = True
     mixin.dap.send_request = AsyncMock()
+
+    async def send_requests(requests: list[Any], timeout: Any = None) -> list[Any]:
+        return [await mixin.dap.send_request(request) for request in requests]
+
+    mixin.dap.send_requests = AsyncMock(side_effect=send_requests)
     mixin.dap.events = MagicMock()
     mixin.dap.events.subscribe_to_event = AsyncMock(return_value="sub-id")
 
@@ -506,6 +516,10 @@ class TestSessionBreakpointsLoadedSourceEvent:
         breakpoints_mixin: TestableBreakpointsMixin,
     ) -> None:
         """asyncio.create_task should be called for rebind."""
+        breakpoints_mixin._pending_breakpoints.set_source(
+            "/path/to/file.py",
+            [make_breakpoint(bp_id=1, source_path="/path/to/file.py")],
+        )
         event = make_loaded_source_event(reason="new")
 
         with patch("asyncio.create_task") as mock_create_task:
@@ -513,6 +527,80 @@ class TestSessionBreakpointsLoadedSourceEvent:
 
             mock_create_task.assert_called_once()
 
+    def test_on_loaded_source_event_skips_sources_without_pending(
+        self,
+        breakpoints_mixin: TestableBreakpointsMixin,
+    ) -> None:
+        """Loads of sources without unverified breakpoints are dropped."""
+        bp = make_breakpoint(
+            bp_id=1,
+            verified=True,
+            state=BreakpointState.VERIFIED,
+        )
+        breakpoints_mixin._pending_breakpoints.set_source("/path/to/file.py", [bp])
+
+        with patch("asyncio.create_task") as mock_create_task:
+            breakpoints_mixin._on_loaded_source_event(make_loaded_source_event())
+            breakpoints_mixin._on_loaded_source_event(
+                make_loaded_source_event(source_path="/path/to/other.py"),
+            )
+
+            mock_create_task.assert_not_called()
+
+    @pytest.mark.asyncio
+    async def test_on_loaded_source_event_coalesces_rebinds(
+        self,
+        breakpoints_mixin: TestableBreakpointsMixin,
+    ) -> None:
+        """Repeated loads within the debounce window share one rebind."""
+        breakpoints_mixin._pending_breakpoints.set_source(
+            "/src/com/example/Foo.java",
+            [make_breakpoint(bp_id=1, source_path="/src/com/example/Foo.java")],
+        )
+        breakpoints_mixin._rebind_breakpoints_for_source = AsyncMock()
+
+        for path in ("/src/com/example/Foo.java", "/jar/com/example/Foo.java"):
+            breakpoints_mixin._on_loaded_source_event(
+                make_loaded_source_event(source_path=path),
+            )
+        breakpoints_mixin._on_loaded_source_event(
+            make_loaded_source_event(source_path="/path/to/file.py", reason="changed"),
+        )
+        await asyncio.gather(*breakpoints_mixin._pending_rebinds.values())
+
+        breakpoints_mixin._rebind_breakpoints_for_source.assert_awaited_once_with(
+            "/src/com/example/Foo.java",
+        )
+        assert breakpoints_mixin._pending_rebinds == {}
+
+    @pytest.mark.asyncio
+    async def test_running_rebind_stays_pending_until_done(
+        self,
+        breakpoints_mixin: TestableBreakpointsMixin,
+    ) -> None:
+        """A rebind in progress stays referenced and absorbs new load events."""
+        started = asyncio.Event()
+        release = asyncio.Event()
+
+        async def rebind(_source_path: str) -> None:
+            started.set()
+            await release.wait()
+
+        breakpoints_mixin._rebind_breakpoints_for_source = AsyncMock(
+            side_effect=rebind,
+        )
+        breakpoints_mixin._schedule_rebind("/path/to/file.py")
+        await started.wait()
+
+        assert len(breakpoints_mixin._pending_rebinds) == 1
+        task = next(iter(breakpoints_mixin._pending_rebinds.values()))
+        breakpoints_mixin._schedule_rebind("/path/to/file.py")
+        release.set()
+        await task
+
+        breakpoints_mixin._rebind_breakpoints_for_source.assert_awaited_once()
+        assert breakpoints_mixin._pending_rebinds == {}
+
     def test_on_loaded_source_event_skips_terminated_session(
         self,
         breakpoints_mixin: TestableBreakpointsMixin,
@@ -603,6 +691,23 @@ class TestSessionBreakpointsOnTerminatedEvent:
         # Should log preservation message
         breakpoints_mixin.ctx.debug.assert_called()
 
+    @pytest.mark.asyncio
+    async def test_on_terminated_event_cancels_pending_rebinds(
+        self,
+        breakpoints_mixin: TestableBreakpointsMixin,
+    ) -> None:
+        """Scheduled rebinds are cancelled once the session terminates."""
+        breakpoints_mixin._rebind_breakpoints_for_source = AsyncMock()
+        breakpoints_mixin._schedule_rebind("/path/to/file.py")
+        task = next(iter(breakpoints_mixin._pending_rebinds.values()))
+
+        breakpoints_mixin._on_terminated_event(MagicMock())
+        await asyncio.gather(task, return_exceptions=True)
+
+        assert task.cancelled()
+        assert breakpoints_mixin._pending_rebinds == {}
+        breakpoints_mixin._rebind_breakpoints_for_source.assert_not_awaited()
+
 
 class TestSessionBreakpointsRebindForSource:
     """Tests for SessionBreakpointsMixin._rebind_breakpoints_for_source()."""
@@ -626,26 +731,6 @@ class TestSessionBreakpointsRebindForSource:
 
         breakpoints_mixin.dap.send_request.assert_awaited_once()
 
-    @pytest.mark.asyncio
-    async def test_rebind_breakpoints_debounces(
-        self,
-        breakpoints_mixin: TestableBreakpointsMixin,
-    ) -> None:
-        """Verify rapid rebinds are debounced (100ms window)."""
-        bp = make_breakpoint(bp_id=1, source_path="/path/to/file.py", line=10)
-        breakpoints_mixin._breakpoint_store = {1: bp}
-
-        # Set recent rebind time
-        from aidb_common.path import normalize_path
-
-        normalized = normalize_path("/path/to/file.py")
-        breakpoints_mixin._last_rebind_times[normalized] = time.time()
-
-        await breakpoints_mixin._rebind_breakpoints_for_source("/path/to/file.py")
-
-        # Should be debounced - no request sent
-        breakpoints_mixin.dap.send_request.assert_not_awaited()
-
     @pytest.mark.asyncio
     async def test_rebind_breakpoints_skips_terminated_session(
         self,
@@ -692,6 +777,45 @@ class TestSessionBreakpointsRebindForSource:
 
         breakpoints_mixin.ctx.warning.assert_called()
 
+    @pytest.mark.asyncio
+    async def test_rebind_breakpoints_skips_verified_source(
+        self,
+        breakpoints_mixin: TestableBreakpointsMixin,
+    ) -> None:
+        """When every breakpoint of the source is verified, skip rebind."""
+        breakpoints_mixin._breakpoint_store = {
+            1: make_breakpoint(bp_id=1, verified=True, state=BreakpointState.VERIFIED),
+        }
+
+        await breakpoints_mixin._rebind_breakpoints_for_source("/path/to/file.py")
+
+        breakpoints_mixin.dap.send_request.assert_not_awaited()
+
+    @pytest.mark.asyncio
+    async def test_rebind_breakpoints_updates_store_from_response(
+        self,
+        breakpoints_mixin: TestableBreakpointsMixin,
+    ) -> None:
+        """Breakpoints verified by the rebind leave the pending index."""
+        bp = make_breakpoint(bp_id=1, condition="x > 1")
+        await breakpoints_mixin._update_breakpoints_from_response(
+            "/path/to/file.py",
+            [bp],
+        )
+
+        dap_bp = MagicMock(id=1, line=10, verified=True, message="")
+        mock_response = MagicMock()
+        mock_response.success = True
+        mock_response.body.breakpoints = [dap_bp]
+        breakpoints_mixin.dap.send_request.return_value = mock_response
+
+        await breakpoints_mixin._rebind_breakpoints_for_source("/path/to/file.py")
+
+        stored = breakpoints_mixin._breakpoint_store[1]
+        assert stored.verified is True
+        assert stored.condition == "x > 1"
+        assert len(breakpoints_mixin._pending_breakpoints) == 0
+
 
 class TestSessionBreakpointsSetInitialBreakpoints:
     """Tests for SessionBreakpointsMixin._set_initial_breakpoints()."""
@@ -840,6 +964,52 @@ class TestSessionBreakpointsSetInitialBreakpoints:
         assert request.arguments.breakpoints[0].condition == "x > 5"
 
 
+    @pytest.mark.asyncio
+    async def test_set_initial_breakpoints_sends_one_batch(
+        self,
+        breakpoints_mixin: TestableBreakpointsMixin,
+    ) -> None:
+        """All sources are sent as one batch and merged into the store at once."""
+        breakpoints_mixin.breakpoints = [
+            make_breakpoint(bp_id=0, source_path="/a.py", line=1),
+            make_breakpoint(bp_id=0, source_path="/b.py", line=2),
+            make_breakpoint(bp_id=0, source_path="/a.py", line=3),
+        ]
+
+        def make_response(*bp_ids: int) -> MagicMock:
+            response = MagicMock()
+            response.success = True
+            response.body.breakpoints = [
+                MagicMock(id=bp_id, verified=True, line=None, message="")
+                for bp_id in bp_ids
+            ]
+            return response
+
+        breakpoints_mixin.dap.send_requests = AsyncMock(
+            return_value=[make_response(1, 2), ConnectionError("lost")],
+        )
+        updates: list[dict[str, list[AidbBreakpoint]]] = []
+        original_update = breakpoints_mixin._update_breakpoints_from_responses
+
+        async def record_update(responses_by_source):
+            updates.append(responses_by_source)
+            await original_update(responses_by_source)
+
+        breakpoints_mixin._update_breakpoints_from_responses = record_update
+
+        await breakpoints_mixin._set_initial_breakpoints()
+
+        breakpoints_mixin.dap.send_requests.assert_awaited_once()
+        requests = breakpoints_mixin.dap.send_requests.await_args.args[0]
+        assert [r.arguments.source.path for r in requests] == ["/a.py", "/b.py"]
+        assert [len(r.arguments.breakpoints) for r in requests] == [2, 1]
+        assert len(updates) == 1
+        assert list(updates[0]) == ["/a.py"]
+        assert [bp.line for bp in updates[0]["/a.py"]] == [1, 3]
+        assert set(breakpoints_mixin._breakpoint_store) == {1, 2}
+        breakpoints_mixin.ctx.error.assert_called()
+
+
 class TestSessionBreakpointsClearForSource:
     """Tests for SessionBreakpointsMixin._clear_breakpoints_for_source()."""
 
@@ -0,0 +1,93 @@
+"""Tests for aidb_common.io.framing module."""
+
+import json
+
+import pytest
+
+from aidb_common.io.framing import (
+    FrameDecoder,
+    FramingError,
+    parse_content_length,
+)
+
+
+def _frame(payload: dict) -> bytes:
+    body = json.dumps(payload).encode()
+    return f"Content-Length: {len(body)}\r\n\r\n".encode() + body
+
+
+class TestParseContentLength:
+    """Tests for parse_content_length function."""
+
+    def test_parses_case_insensitively(self):
+        """Test that the header name is case-insensitive."""
+        header = b"Content-Type: application/json\r\ncontent-length: 42"
+        assert parse_content_length(header) == 42
+
+    def test_raises_on_missing_header(self):
+        """Test that a missing Content-Length raises FramingError."""
+        with pytest.raises(FramingError, match="Missing"):
+            parse_content_length(b"Other-Header: value")
+
+    def test_raises_on_invalid_value(self):
+        """Test that a non-numeric value raises FramingError."""
+        with pytest.raises(FramingError, match="Invalid"):
+            parse_content_length(b"Content-Length: abc")
+
+
+class TestFrameDecoder:
+    """Tests for FrameDecoder class."""
+
+    def test_decodes_byte_by_byte(self):
+        """Test that frames split at every byte boundary decode intact."""
+        stream = _frame({"seq": 1}) + _frame({"seq": 2, "text": "é"})
+        decoder = FrameDecoder()
+        bodies = []
+        for i in range(len(stream)):
+            decoder.feed(stream[i : i + 1])
+            body = decoder.next_body()
+            if body is not None:
+                bodies.append(json.loads(body))
+
+        assert bodies == [{"seq": 1}, {"seq": 2, "text": "é"}]
+        assert decoder.pending == 0
+
+    def test_multiple_frames_in_one_chunk(self):
+        """Test that one chunk carrying several frames yields them in order."""
+        decoder = FrameDecoder()
+        decoder.feed(_frame({"seq": 1}) + _frame({"seq": 2}) + b"Content-Len")
+
+        assert json.loads(decoder.next_body()) == {"seq": 1}
+        assert json.loads(decoder.next_body()) == {"seq": 2}
+        assert decoder.next_body() is None
+        assert decoder.getvalue() == b"Content-Len"
+
+    def test_malformed_header_is_skipped(self):
+        """Test that decoding continues after a malformed header."""
+        decoder = FrameDecoder()
+        decoder.feed(b"Content-Length: x\r\n\r\n" + _frame({"ok": True}))
+
+        with pytest.raises(FramingError):
+            decoder.next_body()
+        assert json.loads(decoder.next_body()) == {"ok": True}
+
+    def test_compacts_consumed_prefix(self):
+        """Test that consumed bytes are released for long-lived streams."""
+        big = _frame({"data": "x" * 100_000})
+        decoder = FrameDecoder()
+        decoder.feed(big + big[:10])
+
+        assert decoder.next_body() is not None
+        assert len(decoder._buffer) == 10
+        assert decoder.peek(4) == b"Cont"
+
+    def test_clear_discards_partial_frame(self):
+        """Test that clear resets a partially received frame."""
+        decoder = FrameDecoder()
+        decoder.feed(b"Content-Length: 100\r\n\r\n{")
+        assert decoder.next_body() is None
+
+        decoder.clear()
+        decoder.feed(_frame({"seq": 3}))
+
+        assert json.loads(decoder.next_body()) == {"seq": 3}
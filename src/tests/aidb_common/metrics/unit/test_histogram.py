@@ -0,0 +1,88 @@
+"""Tests for aidb_common.metrics.histogram module."""
+
+import pytest
+
+from aidb_common.metrics.histogram import (
+    LatencyHistogram,
+    RollingHistogram,
+    bucket_bounds,
+    bucket_index,
+)
+
+
+class TestBuckets:
+    """Tests for the bucket mapping."""
+
+    def test_every_value_falls_inside_its_bucket(self):
+        """Test that bucket bounds contain the values mapped to them."""
+        previous = -1
+        for value in [*range(200), 1_000, 65_535, 65_536, 12_345_678]:
+            index = bucket_index(value)
+            low, high = bucket_bounds(index)
+            assert low <= value <= high
+            assert index >= previous
+            previous = index
+
+    def test_relative_error_is_bounded(self):
+        """Test that bucket width stays within ~3% of the value."""
+        for value in (100, 5_000, 250_000, 9_000_000):
+            low, high = bucket_bounds(bucket_index(value))
+            assert (high - low) / value <= 1 / 32
+
+
+class TestLatencyHistogram:
+    """Tests for LatencyHistogram."""
+
+    def test_percentiles_of_uniform_samples(self):
+        """Test percentile estimates against exact nearest-rank values."""
+        histogram = LatencyHistogram()
+        for value in range(1, 1001):
+            histogram.record(float(value))
+
+        summary = histogram.summary()
+        assert summary["count"] == 1000
+        assert summary["avg_ms"] == pytest.approx(500.5)
+        assert summary["min_ms"] == 1.0
+        assert summary["max_ms"] == 1000.0
+        assert summary["p50_ms"] == pytest.approx(500, rel=0.03)
+        assert summary["p95_ms"] == pytest.approx(950, rel=0.03)
+        assert summary["p99_ms"] == pytest.approx(990, rel=0.03)
+
+    def test_empty_histogram(self):
+        """Test that an empty histogram reports zeros."""
+        assert LatencyHistogram().summary()["p99_ms"] == 0.0
+
+    def test_merge(self):
+        """Test that merging combines counts and extremes."""
+        fast, slow = LatencyHistogram(), LatencyHistogram()
+        for _ in range(90):
+            fast.record(1.0)
+        for _ in range(10):
+            slow.record(200.0)
+
+        fast.merge(slow)
+
+        assert fast.count == 100
+        assert fast.max_ms == 200.0
+        assert fast.percentile(50) == pytest.approx(1.0, rel=0.03)
+        assert fast.percentile(95) == pytest.approx(200.0, rel=0.03)
+        assert list(fast.buckets())[-1][1] == 100
+
+
+class TestRollingHistogram:
+    """Tests for RollingHistogram."""
+
+    def test_old_samples_leave_the_window(self):
+        """Test that samples older than the window are discarded."""
+        now = [0.0]
+        histogram = RollingHistogram(window_s=60, slots=6, clock=lambda: now[0])
+
+        histogram.record(500.0)
+        now[0] = 30.0
+        histogram.record(5.0)
+        assert histogram.snapshot().count == 2
+
+        now[0] = 65.0
+        snapshot = histogram.snapshot()
+        assert snapshot.count == 1
+        assert snapshot.max_ms == 5.0
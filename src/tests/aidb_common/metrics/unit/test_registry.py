@@ -0,0 +1,68 @@
+"""Tests for aidb_common.metrics.registry module."""
+
+import pytest
+
+from aidb_common.metrics.registry import (
+    LAUNCH_PHASE_DURATION,
+    LSP_REQUEST_DURATION,
+    MetricsRegistry,
+)
+
+
+class TestMetricsRegistry:
+    """Tests for MetricsRegistry."""
+
+    def test_series_are_split_by_labels(self):
+        """Test that each label combination gets its own histogram."""
+        registry = MetricsRegistry()
+        registry.observe(LSP_REQUEST_DURATION, 10.0, method="initialize", outcome="ok")
+        registry.observe(LSP_REQUEST_DURATION, 30.0, method="initialize", outcome="ok")
+        registry.observe(LSP_REQUEST_DURATION, 5.0, method="shutdown", outcome="ok")
+
+        series = registry.snapshot()[LSP_REQUEST_DURATION]["series"]
+
+        assert [s["labels"]["method"] for s in series] == ["initialize", "shutdown"]
+        assert series[0]["count"] == 2
+        assert series[0]["max_ms"] == 30.0
+        assert "p99_ms" in series[0]
+
+    def test_timer_marks_exceptions_as_errors(self):
+        """Test that an exception escaping the timer is labelled as an error."""
+        registry = MetricsRegistry()
+
+        with pytest.raises(RuntimeError):
+            with registry.timer(LAUNCH_PHASE_DURATION, language="java", phase="x"):
+                raise RuntimeError
+
+        labels = registry.snapshot()[LAUNCH_PHASE_DURATION]["series"][0]["labels"]
+        assert labels == {"language": "java", "outcome": "error", "phase": "x"}
+
+    def test_prometheus_exposition(self):
+        """Test the text format: cumulative buckets, +Inf, sum and count."""
+        registry = MetricsRegistry()
+        for duration_ms in (2.0, 40.0, 3000.0):
+            registry.observe(LAUNCH_PHASE_DURATION, duration_ms, phase='a"b')
+
+        text = registry.to_prometheus()
+        lines = text.splitlines()
+
+        assert f"# TYPE {LAUNCH_PHASE_DURATION} histogram" in lines
+        buckets = [
+            int(line.rsplit(" ", 1)[1]) for line in lines if "_bucket{" in line
+        ]
+        assert buckets == sorted(buckets)
+        assert buckets[-1] == 3
+        assert f'{LAUNCH_PHASE_DURATION}_bucket{{phase="a\\"b",le="0.05"}} 2' in lines
+        assert f'{LAUNCH_PHASE_DURATION}_count{{phase="a\\"b"}} 3' in lines
+        assert f'{LAUNCH_PHASE_DURATION}_sum{{phase="a\\"b"}} 3.042000' in lines
+
+    def test_write_prometheus_replaces_file(self, tmp_path):
+        """Test that the dump writes the exposition text to the target file."""
+        registry = MetricsRegistry()
+        registry.observe(LSP_REQUEST_DURATION, 1.0, method="m")
+        target = tmp_path / "metrics" / "aidb.prom"
+
+        registry.write_prometheus(target)
+
+        assert target.read_text() == registry.to_prometheus()
+        assert list(target.parent.iterdir()) == [target]
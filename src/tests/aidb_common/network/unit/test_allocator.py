@@ -338,6 +338,63 @@ class TestCrossProcessPortAllocatorAllocate:
                 allocator.allocate(range_start=10000, range_size=5)
 
 
+class TestCrossProcessPortAllocatorBlocks:
+    """Tests for leasing port blocks."""
+
+    def test_allocate_block_skips_overlapping_leases(
+        self, allocator: CrossProcessPortAllocator
+    ) -> None:
+        """Blocks are aligned and never overlap existing leases."""
+        registry_data = {"10005": {"pid": 1234, "timestamp": time.time()}}
+        allocator.registry_file.write_text(json.dumps(registry_data))
+
+        first = allocator.allocate_block(range_start=10000, range_size=32, block_size=8)
+        second = allocator.allocate_block(
+            range_start=10000, range_size=32, block_size=8
+        )
+
+        assert (first, second) == (10008, 10016)
+        registry = json.loads(allocator.registry_file.read_text())
+        assert registry["10008"]["size"] == 8
+
+    def test_allocate_skips_ports_inside_blocks(
+        self, allocator: CrossProcessPortAllocator
+    ) -> None:
+        """Single allocations do not hand out ports covered by a block."""
+        allocator.allocate_block(range_start=10000, range_size=32, block_size=8)
+
+        with patch.object(allocator, "_is_port_bindable", return_value=True):
+            port = allocator.allocate(range_start=10000, range_size=32)
+
+        assert port == 10008
+
+    def test_allocate_block_raises_on_exhaustion(
+        self, allocator: CrossProcessPortAllocator
+    ) -> None:
+        """RuntimeError raised when no whole block is free."""
+        allocator.allocate_block(range_start=10000, range_size=16, block_size=8)
+        allocator.allocate_block(range_start=10000, range_size=16, block_size=8)
+
+        with pytest.raises(RuntimeError, match="No free block"):
+            allocator.allocate_block(range_start=10000, range_size=16, block_size=8)
+
+    def test_renew_refreshes_own_leases_only(
+        self, allocator: CrossProcessPortAllocator
+    ) -> None:
+        """Renewal updates timestamps of this process's leases."""
+        registry_data = {
+            "10000": {"pid": os.getpid(), "timestamp": 1.0, "size": 8},
+            "10008": {"pid": os.getpid() + 1, "timestamp": 1.0, "size": 8},
+        }
+        allocator.registry_file.write_text(json.dumps(registry_data))
+
+        allocator.renew([10000, 10008])
+
+        registry = json.loads(allocator.registry_file.read_text())
+        assert registry["10000"]["timestamp"] > 1.0
+        assert registry["10008"]["timestamp"] == 1.0
+
+
 class TestCrossProcessPortAllocatorRelease:
     """Tests for release method."""
 
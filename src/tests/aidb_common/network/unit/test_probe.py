@@ -0,0 +1,76 @@
+"""Unit tests for listener probes."""
+
+import socket
+from pathlib import Path
+
+from aidb_common.network.probe import (
+    parse_listening_ports,
+    probe_connect,
+    read_listening_ports,
+)
+
+TCP_TABLE = """\
+  sl  local_address rem_address   st tx_queue rx_queue tr tm->when retrnsmt   uid
+   0: 0100007F:1F90 00000000:0000 0A 00000000:00000000 00:00000000 00000000  1000
+   1: 0100007F:162E 0100007F:D4C2 01 00000000:00000000 00:00000000 00000000  1000
+"""
+
+TCP6_TABLE = """\
+  sl  local_address                         remote_address                        st
+   0: 00000000000000000000000001000000:2344 00000000000000000000000000000000:0000 0A
+"""
+
+
+class TestParseListeningPorts:
+    """Tests for parse_listening_ports."""
+
+    def test_only_listen_sockets_are_reported(self):
+        """Test that established sockets are ignored."""
+        assert parse_listening_ports(TCP_TABLE) == {8080}
+
+    def test_ipv6_addresses(self):
+        """Test that the port is taken after the last colon."""
+        assert parse_listening_ports(TCP6_TABLE) == {9028}
+
+    def test_malformed_lines_are_skipped(self):
+        """Test that short or garbled lines do not raise."""
+        table = "header\n 0: garbage\n 1: 0100007F:ZZZZ 0:0 0A\n"
+
+        assert parse_listening_ports(table) == set()
+
+
+class TestReadListeningPorts:
+    """Tests for read_listening_ports."""
+
+    def test_merges_ipv4_and_ipv6_tables(self, tmp_path: Path):
+        """Test that both tables are read in one snapshot."""
+        (tmp_path / "net").mkdir()
+        (tmp_path / "net" / "tcp").write_text(TCP_TABLE)
+        (tmp_path / "net" / "tcp6").write_text(TCP6_TABLE)
+
+        assert read_listening_ports(tmp_path) == {8080, 9028}
+
+    def test_missing_tables_return_none(self, tmp_path: Path):
+        """Test that platforms without procfs report no snapshot."""
+        assert read_listening_ports(tmp_path) is None
+
+
+class TestProbeConnect:
+    """Tests for probe_connect."""
+
+    def test_detects_listener(self):
+        """Test that an accepting socket is detected."""
+        with socket.socket(socket.AF_INET, socket.SOCK_STREAM) as server:
+            server.bind(("127.0.0.1", 0))
+            server.listen(1)
+            port = server.getsockname()[1]
+
+            assert probe_connect("127.0.0.1", port) is True
+
+    def test_closed_port(self):
+        """Test that a refused connection reports no listener."""
+        with socket.socket(socket.AF_INET, socket.SOCK_STREAM) as sock:
+            sock.bind(("127.0.0.1", 0))
+            port = sock.getsockname()[1]
+
+        assert probe_connect("127.0.0.1", port) is False
@@ -152,11 +152,14 @@ def clear_span_history():
     None
     """
     import aidb_mcp.core.config as config_module
+    from aidb_mcp.core import performance
     from aidb_mcp.core.performance import _span_history, _timing_history
 
     # Clear performance history
     _span_history.clear()
     _timing_history.clear()
+    if performance._span_exporter is not None:
+        performance._span_exporter.reset()
 
     # Reset config so test fixtures can set it up fresh
     config_module._config = None
@@ -0,0 +1,122 @@
+"""Tests for the span ring buffer and background span exporter."""
+
+import json
+import time
+from pathlib import Path
+
+from aidb_mcp.core import performance
+from aidb_mcp.core.performance import TraceSpan, flush_spans, get_timing_stats
+from aidb_mcp.core.performance_recorder import SpanExporter, SpanRingBuffer
+from aidb_mcp.core.performance_types import PerformanceSpan, SpanType
+
+
+def _span(operation: str, duration_ms: float = 1.0) -> PerformanceSpan:
+    return PerformanceSpan(
+        span_id=f"c:{operation}",
+        span_type=SpanType.HANDLER_EXECUTION,
+        operation=operation,
+        duration_ms=duration_ms,
+    )
+
+
+class TestSpanRingBuffer:
+    """Tests for SpanRingBuffer."""
+
+    def test_keeps_newest_spans_in_order(self):
+        """Test that the buffer overwrites the oldest spans when full."""
+        buffer = SpanRingBuffer(3)
+        for i in range(5):
+            buffer.append(_span(f"op{i}"))
+
+        assert len(buffer) == 3
+        assert [s.operation for s in buffer] == ["op2", "op3", "op4"]
+        assert buffer[-1].operation == "op4"
+
+    def test_since_reports_overwritten_spans(self):
+        """Test cursor-based reads and the count of spans lost to overwrites."""
+        buffer = SpanRingBuffer(2)
+        buffer.append(_span("a"))
+        spans, cursor, lost = buffer.since(0)
+        assert [s.operation for s in spans] == ["a"]
+        assert lost == 0
+
+        for name in ("b", "c", "d"):
+            buffer.append(_span(name))
+        spans, cursor, lost = buffer.since(cursor)
+        assert [s.operation for s in spans] == ["c", "d"]
+        assert lost == 1
+        assert buffer.since(cursor) == ([], cursor, 0)
+
+    def test_resize_in_place(self):
+        """Test that resizing keeps the newest spans and the same object."""
+        buffer = SpanRingBuffer(4)
+        for i in range(4):
+            buffer.append(_span(f"op{i}"))
+
+        buffer.resize(2)
+
+        assert buffer.maxlen == 2
+        assert [s.operation for s in buffer] == ["op2", "op3"]
+
+
+class TestSpanExporter:
+    """Tests for SpanExporter."""
+
+    def test_flush_writes_one_batch_and_records_percentiles(self):
+        """Test that pending spans are written together and histogrammed."""
+        buffer = SpanRingBuffer(100)
+        batches: list[list[PerformanceSpan]] = []
+        exporter = SpanExporter(buffer, batches.append, interval_s=60, window_s=60)
+
+        for i in range(1, 21):
+            buffer.append(_span("step", float(i)))
+
+        assert exporter.flush() == 20
+        assert exporter.flush() == 0
+        assert len(batches) == 1
+
+        stats = exporter.percentiles()["step"]["handler"]
+        assert stats["count"] == 20
+        assert stats["p50_ms"] <= stats["p95_ms"] <= stats["p99_ms"] <= 20.0
+
+
+class TestTraceSpanExport:
+    """Tests for exporting TraceSpan output through the performance module."""
+
+    def test_spans_are_written_by_exporter(
+        self,
+        enable_json_timing,
+        clear_span_history,
+    ):
+        """Test that recorded spans reach the timing file once exported."""
+        log_file = Path(enable_json_timing)
+        flush_spans()
+        start_size = log_file.stat().st_size if log_file.exists() else 0
+
+        for i in range(5):
+            with TraceSpan(SpanType.HANDLER_EXECUTION, f"batched_{i}"):
+                pass
+
+        assert performance._span_exporter is not None
+        flush_spans()
+        lines = log_file.read_bytes()[start_size:].decode().splitlines()
+        assert [json.loads(line)["operation"] for line in lines] == [
+            f"batched_{i}" for i in range(5)
+        ]
+
+    def test_timing_stats_include_span_percentiles(
+        self,
+        enable_timing,
+        clear_span_history,
+    ):
+        """Test that get_timing_stats reports rolling span percentiles."""
+        for _ in range(3):
+            with TraceSpan(SpanType.MCP_CALL, "inspect"):
+                time.sleep(0.001)
+
+        stats = get_timing_stats()
+
+        assert stats is not None
+        inspect = stats["span_percentiles"]["inspect"]["mcp_call"]
+        assert inspect["count"] == 3
+        assert inspect["p99_ms"] >= 1.0
@@ -316,3 +316,63 @@ class TestHandleContext:
         assert context_data["execution_state"] == "terminated"
         assert context_data["status"] == "inactive"
         assert context_data["breakpoints"]["status"] == "inactive"
+
+
+class TestBuildPausedContext:
+    """Tests for concurrent paused-context assembly."""
+
+    @pytest.mark.asyncio
+    async def test_frames_fetched_concurrently_in_order(self, monkeypatch):
+        """Frames should be inspected concurrently, bounded, and kept in order."""
+        import asyncio
+
+        from aidb_mcp.handlers.context.context_building import _build_paused_context
+
+        monkeypatch.setenv("AIDB_MCP_MAX_STACK_FRAMES", "10")
+        monkeypatch.setenv("AIDB_MCP_CONTEXT_CONCURRENCY", "3")
+
+        frames = []
+        for i in range(6):
+            frame = Mock()
+            frame.id = i + 1
+            frame.name = f"f{i}"
+            frame.line = i
+            frame.source.path = "App.java"
+            frames.append(frame)
+
+        in_flight = 0
+        peak = 0
+        calls: list[int] = []
+
+        async def fake_locals(frame_id):
+            nonlocal in_flight, peak
+            calls.append(frame_id)
+            in_flight += 1
+            peak = max(peak, in_flight)
+            # Later frames answer first
+            await asyncio.sleep(0.01 * (7 - frame_id))
+            in_flight -= 1
+            var = Mock()
+            var.name = "x"
+            var.value = str(frame_id)
+            return Mock(variables={"x": var})
+
+        service = Mock()
+        service.stack.get_current_thread_id = AsyncMock(return_value=1)
+        service.stack.callstack = AsyncMock(return_value=Mock(frames=frames))
+        service.variables.locals = fake_locals
+
+        context: dict = {}
+        await _build_paused_context(context, service, verbose=True)
+
+        assert [f["function"] for f in context["stack_frames"]] == [
+            f"f{i}" for i in range(6)
+        ]
+        assert [f["locals"]["x"] for f in context["stack_frames"]] == [
+            str(i + 1) for i in range(6)
+        ]
+        # The current frame's locals are fetched once and shared
+        assert calls.count(1) == 1
+        assert context["variables"]["locals"] == {"x": "1"}
+        # Window of 3 frames plus the shared current-frame request
+        assert 1 < peak <= 4
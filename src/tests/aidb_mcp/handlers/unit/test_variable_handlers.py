@@ -0,0 +1,125 @@
+"""Unit tests for paged variable expansion in the variable handler."""
+
+from unittest.mock import AsyncMock, MagicMock
+
+import pytest
+
+from aidb.models import AidbVariable, EvaluationResult, VariablePage, VariableType
+from aidb_mcp.core.constants import ParamName
+from aidb_mcp.handlers.inspection.variables import _handle_expand_variable
+from aidb_mcp.session.context import MCPSessionContext
+
+
+def _page(start: int, size: int, total: int) -> VariablePage:
+    end = min(start + size, total)
+    return VariablePage(
+        variables={
+            f"[{i}]": AidbVariable(
+                name=f"[{i}]",
+                value=str(i),
+                type_name="int",
+                var_type=VariableType.PRIMITIVE,
+            )
+            for i in range(start, end)
+        },
+        variables_reference=42,
+        start=start,
+        total=total,
+        variable_filter="indexed",
+    )
+
+
+@pytest.fixture
+def service() -> MagicMock:
+    """Service whose ``numbers`` expression is an int[5]."""
+    service = MagicMock()
+    service.variables.evaluate = AsyncMock(
+        return_value=EvaluationResult(
+            expression="numbers",
+            result="int[5]",
+            type_name="int[]",
+            var_type=VariableType.ARRAY,
+            has_children=True,
+            variables_reference=42,
+            indexed_variables=5,
+        ),
+    )
+    service.variables.get_variables_page = AsyncMock(
+        side_effect=lambda ref, start, count, **_: _page(start, count, 5),
+    )
+    return service
+
+
+class TestExpandVariable:
+    """Tests for the expand action."""
+
+    @pytest.mark.asyncio
+    async def test_walks_collection_with_cursor(self, service):
+        """Test that pages continue from the server-side cursor."""
+        context = MCPSessionContext()
+        args = {
+            ParamName.EXPRESSION: "numbers",
+            ParamName.COUNT: 2,
+            "_context": context,
+        }
+
+        first = await _handle_expand_variable(service, "s1", args)
+        data = first["data"]
+        assert list(data["children"]) == ["[0]", "[1]"]
+        assert data["total"] == 5
+        cursor = data["cursor"]
+
+        kwargs = service.variables.get_variables_page.call_args.kwargs
+        assert kwargs["indexed_variables"] == 5
+
+        seen = list(data["children"])
+        while cursor:
+            page = await _handle_expand_variable(
+                service,
+                "s1",
+                {ParamName.CURSOR: cursor, "_context": context},
+            )
+            seen.extend(page["data"]["children"])
+            cursor = page["data"].get("cursor")
+
+        assert seen == [f"[{i}]" for i in range(5)]
+        assert service.variables.evaluate.await_count == 1
+        assert not context.variable_cursors
+
+    @pytest.mark.asyncio
+    async def test_cursor_invalid_after_resume(self, service):
+        """Test that cursors are discarded when execution resumes."""
+        context = MCPSessionContext()
+        first = await _handle_expand_variable(
+            service,
+            "s1",
+            {ParamName.EXPRESSION: "numbers", ParamName.COUNT: 2, "_context": context},
+        )
+
+        context.clear_variable_cursors()
+        result = await _handle_expand_variable(
+            service,
+            "s1",
+            {ParamName.CURSOR: first["data"]["cursor"], "_context": context},
+        )
+
+        assert result["success"] is False
+
+    @pytest.mark.asyncio
+    async def test_rejects_leaf_values(self, service):
+        """Test that expressions without children are rejected."""
+        service.variables.evaluate.return_value = EvaluationResult(
+            expression="count",
+            result="3",
+            type_name="int",
+            var_type=VariableType.PRIMITIVE,
+        )
+
+        result = await _handle_expand_variable(
+            service,
+            "s1",
+            {ParamName.EXPRESSION: "count", "_context": MCPSessionContext()},
+        )
+
+        assert result["success"] is False
+        service.variables.get_variables_page.assert_not_called()